@@ -58,6 +58,8 @@ public final class DBeaverPreferences
     public static final String SCRIPT_COMMIT_LINES = "script.commit.lines"; //$NON-NLS-1$
     public static final String SCRIPT_ERROR_HANDLING = "script.error.handling"; //$NON-NLS-1$
     public static final String SCRIPT_FETCH_RESULT_SETS = "script.fetch.resultset"; //$NON-NLS-1$
+    // Maximum number of consecutive DML statements sent in one batch. 0 or 1 disables batching
+    public static final String SCRIPT_BATCH_SIZE = "script.batch.size"; //$NON-NLS-1$
 
     public static final String STATEMENT_INVALIDATE_BEFORE_EXECUTE = "statement.invalidate.before.execute"; //$NON-NLS-1$
     public static final String STATEMENT_TIMEOUT = "statement.timeout"; //$NON-NLS-1$
@@ -140,6 +142,7 @@ public final class DBeaverPreferences
     public static final String RESULT_SET_PRESENTATION = "resultset.presentation.active"; //$NON-NLS-1$
     public static final String RESULT_SET_STRING_USE_CONTENT_EDITOR = "resultset.string.use.content.editor"; //$NON-NLS-1$
     public static final String RESULT_SET_USE_NAVIGATOR_FILTERS = "resultset.filter.use.navigator"; //$NON-NLS-1$
+    public static final String RESULT_SET_PAGE_CACHE_SIZE = "resultset.page.cache.size"; //$NON-NLS-1$
 
     public static final String RESULT_TEXT_TAB_SIZE = "resultset.text.tab.size"; //$NON-NLS-1$
     public static final String RESULT_TEXT_MAX_COLUMN_SIZE = "resultset.text.max.column.size"; //$NON-NLS-1$
@@ -300,6 +300,7 @@ public class CoreMessages extends NLS {
 	public static String controls_resultset_viewer_status_rows;
 	public static String controls_resultset_viewer_status_rows_fetched;
 	public static String controls_resultset_viewer_status_rows_size;
+	public static String controls_resultset_viewer_status_cached;
 	public static String controls_resultset_viewer_value;
 	public static String controls_resultset_viewer_calculate_row_count;
 	public static String controls_resultset_viewer_hide_column_x;
@@ -883,6 +884,8 @@ public class CoreMessages extends NLS {
 	public static String pref_page_sql_editor_group_parameters;
 	public static String pref_page_sql_editor_group_delimiters;
 	public static String pref_page_sql_editor_label_commit_after_line;
+	public static String pref_page_sql_editor_label_batch_size;
+	public static String pref_page_sql_editor_label_batch_size_tip;
 	public static String pref_page_sql_editor_label_commit_type;
 	public static String pref_page_sql_editor_label_error_handling;
     public static String pref_page_sql_editor_label_invalidate_before_execute;
@@ -1024,6 +1027,8 @@ public class CoreMessages extends NLS {
 	public static String pref_page_database_resultsets_label_read_metadata_tip;
 	public static String pref_page_database_resultsets_label_read_references_tip;
 	public static String pref_page_database_resultsets_label_fetch_size_tip;
+	public static String pref_page_database_resultsets_label_page_cache_size;
+	public static String pref_page_database_resultsets_label_page_cache_size_tip;
 	// ResultSetPresentation
 	public static String pref_page_database_resultsets_group_common;
 	public static String pref_page_database_resultsets_label_switch_mode_on_rows;
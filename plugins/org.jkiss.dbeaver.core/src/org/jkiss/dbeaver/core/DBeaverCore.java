@@ -107,6 +107,7 @@ public class DBeaverCore implements DBPPlatform {
     private DBACertificateStorage certificateStorage;
 
     private final List<IPluginService> activatedServices = new ArrayList<>();
+    private final StartupProfile startupProfile = new StartupProfile();
 
     private static boolean disposed = false;
 
@@ -146,6 +147,14 @@ public class DBeaverCore implements DBPPlatform {
         }
     }
 
+    /**
+     * Timing profile of core initialization
+     */
+    @NotNull
+    public StartupProfile getStartupProfile() {
+        return startupProfile;
+    }
+
     public static String getCorePluginID() {
         return DBeaverActivator.getInstance().getBundle().getSymbolicName();
     }
@@ -178,11 +187,10 @@ public class DBeaverCore implements DBPPlatform {
     }
 
     private void initialize() {
-        long startTime = System.currentTimeMillis();
         log.debug("Initialize Core...");
 
         // Validate that UI was initialized
-        DBeaverUI.getInstance();
+        startupProfile.runStep("UI", DBeaverUI::getInstance);
 
         DBPPreferenceStore prefsStore = getGlobalPreferenceStore();
         //' Global pref events forwarder
@@ -193,28 +201,37 @@ public class DBeaverCore implements DBPPlatform {
             }
         });
 
+        this.localSystem = new OSDescriptor(Platform.getOS(), Platform.getOSArch());
+
+        // Independent steps run in parallel
+        List<Thread> parallelSteps = new ArrayList<>();
+        parallelSteps.add(startParallelStep("Providers registry", () -> {
+            // Drivers are loaded lazily. Load them here, otherwise projects loading will do it serially
+            DataSourceProviderRegistry.getInstance().checkDriversLoaded();
+        }));
         if (prefsStore.getBoolean(DBeaverPreferences.SECURITY_USE_BOUNCY_CASTLE)) {
             // Register BC security provider
-            SecurityProviderUtils.registerSecurityProvider();
+            parallelSteps.add(startParallelStep("Security provider", SecurityProviderUtils::registerSecurityProvider));
         }
 
-        // Register properties adapter
-        this.workspace = new DBeaverWorkspace(this, ResourcesPlugin.getWorkspace());
+        startupProfile.runStep("Workspace", () -> {
+            // Register properties adapter
+            this.workspace = new DBeaverWorkspace(this, ResourcesPlugin.getWorkspace());
 
-        this.localSystem = new OSDescriptor(Platform.getOS(), Platform.getOSArch());
-        {
             this.language = PlatformLanguageRegistry.getInstance().getLanguage(Locale.getDefault());
             if (this.language == null) {
                 log.debug("Language for locale '" + Locale.getDefault() + "' not found. Use default.");
                 this.language = PlatformLanguageRegistry.getInstance().getLanguage(Locale.ENGLISH);
             }
-        }
+        });
 
-        QMUtils.initApplication(this);
-        this.queryManager = new QMControllerImpl();
+        startupProfile.runStep("Query manager", () -> {
+            QMUtils.initApplication(this);
+            this.queryManager = new QMControllerImpl();
 
-        this.qmLogWriter = new QMLogFileWriter();
-        this.queryManager.registerMetaListener(qmLogWriter);
+            this.qmLogWriter = new QMLogFileWriter();
+            this.queryManager.registerMetaListener(qmLogWriter);
+        });
 
         // Init default network settings
         ProxySelector.setDefault(new GlobalProxySelector(ProxySelector.getDefault()));
@@ -222,33 +239,65 @@ public class DBeaverCore implements DBPPlatform {
         this.certificateStorage = new DefaultCertificateStorage(
             new File(DBeaverActivator.getInstance().getStateLocation().toFile(), "security"));
 
-        // Init project registry
-        this.projectRegistry = new ProjectRegistry(workspace.getEclipseWorkspace());
+        // Projects load datasources so they need providers registry
+        waitForSteps(parallelSteps);
 
-        // Projects registry
-        initializeProjects();
+        startupProfile.runStep("Projects", () -> {
+            // Init project registry
+            this.projectRegistry = new ProjectRegistry(workspace.getEclipseWorkspace());
 
-        // Navigator model
-        this.navigatorModel = new DBNModel(this);
-        this.navigatorModel.initialize();
+            // Projects registry
+            initializeProjects();
+        });
+
+        startupProfile.runStep("Navigator", () -> {
+            // Navigator model
+            this.navigatorModel = new DBNModel(this);
+            this.navigatorModel.initialize();
+        });
 
         // Activate proxy service
         activateProxyService();
 
-        // Activate plugin services
-        for (IPluginService pluginService : PluginServiceRegistry.getInstance().getServices()) {
-            try {
-                pluginService.activateService();
-                activatedServices.add(pluginService);
-            } catch (Throwable e) {
-                log.error("Error activating plugin service", e);
+        startupProfile.runStep("Plugin services", () -> {
+            // Activate plugin services
+            for (IPluginService pluginService : PluginServiceRegistry.getInstance().getServices()) {
+                try {
+                    pluginService.activateService();
+                    activatedServices.add(pluginService);
+                } catch (Throwable e) {
+                    log.error("Error activating plugin service", e);
+                }
             }
-        }
+        });
 
         // Keep-alive job
         new KeepAliveJob(this).scheduleMonitor();
 
-        log.debug("Core initialized (" + (System.currentTimeMillis() - startTime) + "ms)");
+        startupProfile.finish();
+        log.debug("Core initialized (" + startupProfile.getTotalTime() + "ms): " + startupProfile);
+    }
+
+    private Thread startParallelStep(String name, Runnable step) {
+        Thread stepThread = new Thread(() -> {
+            try {
+                startupProfile.runStep(name, step);
+            } catch (Throwable e) {
+                log.error("Error in initialization step '" + name + "'", e);
+            }
+        }, "Core initialization: " + name);
+        stepThread.start();
+        return stepThread;
+    }
+
+    private static void waitForSteps(List<Thread> steps) {
+        for (Thread step : steps) {
+            try {
+                step.join();
+            } catch (InterruptedException e) {
+                log.debug(e);
+            }
+        }
     }
 
     private void activateProxyService() {
@@ -0,0 +1,90 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.core;
+
+import org.jkiss.code.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Startup timing profile.
+ * Keeps durations of core initialization steps (in order of their completion).
+ * Steps may be executed in parallel.
+ */
+public class StartupProfile {
+
+    private final Map<String, Long> stepTimes = new LinkedHashMap<>();
+    private final long startTime = System.currentTimeMillis();
+    private long totalTime = -1;
+
+    public void runStep(@NotNull String name, @NotNull Runnable step)
+    {
+        long stepStartTime = System.currentTimeMillis();
+        try {
+            step.run();
+        } finally {
+            addStep(name, System.currentTimeMillis() - stepStartTime);
+        }
+    }
+
+    public synchronized void addStep(@NotNull String name, long time)
+    {
+        stepTimes.put(name, time);
+    }
+
+    /**
+     * Step duration (ms) or -1 if step wasn't executed
+     */
+    public synchronized long getStepTime(@NotNull String name)
+    {
+        Long time = stepTimes.get(name);
+        return time == null ? -1 : time;
+    }
+
+    @NotNull
+    public synchronized Map<String, Long> getStepTimes()
+    {
+        return new LinkedHashMap<>(stepTimes);
+    }
+
+    /**
+     * Total initialization time (ms) or -1 if initialization isn't finished yet
+     */
+    public synchronized long getTotalTime()
+    {
+        return totalTime;
+    }
+
+    synchronized void finish()
+    {
+        totalTime = System.currentTimeMillis() - startTime;
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        StringBuilder str = new StringBuilder();
+        for (Map.Entry<String, Long> step : stepTimes.entrySet()) {
+            if (str.length() > 0) str.append(", ");
+            str.append(step.getKey()).append("=").append(step.getValue()).append("ms");
+        }
+        return str.toString();
+    }
+
+}
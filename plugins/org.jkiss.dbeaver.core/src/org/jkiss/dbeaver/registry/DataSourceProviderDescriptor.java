@@ -36,6 +36,7 @@ import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.SecurityUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -61,7 +62,9 @@ public class DataSourceProviderDescriptor extends AbstractDescriptor
     private final Map<String, DBXTreeNode> treeNodeMap = new HashMap<>();
     private boolean driversManagable;
     private final List<DBPPropertyDescriptor> driverProperties = new ArrayList<>();
-    private final List<DriverDescriptor> drivers = new ArrayList<>();
+    // Drivers are created on first access
+    private final List<IConfigurationElement> driverConfigs = new ArrayList<>();
+    private List<DriverDescriptor> drivers;
     private final List<NativeClientDescriptor> nativeClients = new ArrayList<>();
 
     public DataSourceProviderDescriptor(DataSourceProviderRegistry registry, IConfigurationElement config)
@@ -122,13 +125,7 @@ public class DataSourceProviderDescriptor extends AbstractDescriptor
             for (IConfigurationElement driversElement : config.getChildren(RegistryConstants.TAG_DRIVERS)) {
                 this.driversManagable = driversElement.getAttribute(RegistryConstants.ATTR_MANAGABLE) == null ||
                     CommonUtils.getBoolean(driversElement.getAttribute(RegistryConstants.ATTR_MANAGABLE));
-                for (IConfigurationElement driverElement : driversElement.getChildren(RegistryConstants.TAG_DRIVER)) {
-                    try {
-                        this.drivers.add(loadDriver(driverElement));
-                    } catch (Exception e) {
-                        log.error("Error loading driver", e);
-                    }
-                }
+                Collections.addAll(this.driverConfigs, driversElement.getChildren(RegistryConstants.TAG_DRIVER));
             }
         }
 
@@ -144,7 +141,11 @@ public class DataSourceProviderDescriptor extends AbstractDescriptor
 
     public void dispose()
     {
-        drivers.clear();
+        synchronized (driverConfigs) {
+            if (drivers != null) {
+                drivers.clear();
+            }
+        }
         instance = null;
     }
 
@@ -226,13 +227,36 @@ public class DataSourceProviderDescriptor extends AbstractDescriptor
 
     public List<DriverDescriptor> getDrivers()
     {
-        return drivers;
+        // Custom drivers configuration must be applied before drivers are used
+        registry.checkDriversLoaded();
+        return getDriversList();
+    }
+
+    /**
+     * Returns drivers list. Creates drivers from the plugin configuration on the first call.
+     */
+    List<DriverDescriptor> getDriversList()
+    {
+        synchronized (driverConfigs) {
+            if (drivers == null) {
+                drivers = new ArrayList<>(driverConfigs.size());
+                for (IConfigurationElement driverElement : driverConfigs) {
+                    try {
+                        drivers.add(loadDriver(driverElement));
+                    } catch (Exception e) {
+                        log.error("Error loading driver", e);
+                    }
+                }
+                driverConfigs.clear();
+            }
+            return drivers;
+        }
     }
 
     public List<DriverDescriptor> getEnabledDrivers()
     {
         List<DriverDescriptor> eDrivers = new ArrayList<>();
-        for (DriverDescriptor driver : drivers) {
+        for (DriverDescriptor driver : getDrivers()) {
             if (!driver.isDisabled() && driver.getReplacedBy() == null && driver.isSupportedByLocalSystem()) {
                 eDrivers.add(driver);
             }
@@ -242,7 +266,7 @@ public class DataSourceProviderDescriptor extends AbstractDescriptor
 
     public DriverDescriptor getDriver(String id)
     {
-        for (DriverDescriptor driver : drivers) {
+        for (DriverDescriptor driver : getDrivers()) {
             if (driver.getId().equals(id)) {
                 while (driver.getReplacedBy() != null) {
                     driver = driver.getReplacedBy();
@@ -270,7 +294,7 @@ public class DataSourceProviderDescriptor extends AbstractDescriptor
 
     public void addDriver(DriverDescriptor driver)
     {
-        this.drivers.add(driver);
+        getDrivers().add(driver);
     }
 
     public boolean removeDriver(DriverDescriptor driver)
@@ -280,7 +304,7 @@ public class DataSourceProviderDescriptor extends AbstractDescriptor
             driver.setModified(true);
             return true;
         } else {
-            return this.drivers.remove(driver);
+            return getDrivers().remove(driver);
         }
     }
 
@@ -494,7 +518,7 @@ public class DataSourceProviderDescriptor extends AbstractDescriptor
         if (category != null && category.isEmpty()) {
             category = null;
         }
-        for (DriverDescriptor driver : drivers) {
+        for (DriverDescriptor driver : getDrivers()) {
             if (CommonUtils.equalObjects(category, driver.getCategory()) && CommonUtils.equalObjects(name, driver.getName())) {
                 return driver;
             }
@@ -59,6 +59,8 @@ public class DataSourceProviderRegistry
     private final List<DBPRegistryListener> registryListeners = new ArrayList<>();
     private final Map<String, DBPConnectionType> connectionTypes = new LinkedHashMap<>();
     private final Map<String, ExternalResourceDescriptor> resourceContributions = new HashMap<>();
+    private volatile boolean driversLoaded;
+    private boolean driversLoading;
 
     private DataSourceProviderRegistry()
     {
@@ -93,37 +95,7 @@ public class DataSourceProviderRegistry
             });
         }
 
-        // Load drivers
-        File driversConfig = DBeaverActivator.getConfigurationFile(RegistryConstants.DRIVERS_FILE_NAME);
-        if (driversConfig.exists()) {
-            loadDrivers(driversConfig);
-        }
-
-        // Resolve all driver replacements
-        {
-            List<DriverDescriptor> allDrivers = new ArrayList<>();
-            for (DataSourceProviderDescriptor provider : dataSourceProviders) {
-                allDrivers.addAll(provider.getDrivers());
-            }
-            for (DriverDescriptor driver1 : allDrivers) {
-                for (DriverDescriptor driver2 : allDrivers) {
-                    if (driver1 != driver2 && driver1.replaces(driver2)) {
-                        driver2.setReplacedBy(driver1);
-                    }
-                }
-            }
-        }
-
-        int driverCount = 0, customDriverCount = 0;
-        for (DataSourceProviderDescriptor pd : dataSourceProviders) {
-            for (DriverDescriptor dd : pd.getDrivers()) {
-                if (!dd.isDisabled() && dd.getReplacedBy() == null) {
-                    driverCount++;
-                    if (dd.isCustom()) customDriverCount++;
-                }
-            }
-        }
-        log.debug("Total database drivers: " + driverCount + " (" + (driverCount - customDriverCount) + ")");
+        // Drivers are loaded on first access (see checkDriversLoaded)
 
         // Load connection types
         {
@@ -152,6 +124,63 @@ public class DataSourceProviderRegistry
 
     }
 
+    /**
+     * Creates drivers of all providers and applies custom drivers configuration.
+     * Drivers are not needed for registry initialization so they are loaded on first access.
+     * Core initialization calls it in parallel with other startup steps.
+     */
+    public void checkDriversLoaded()
+    {
+        if (driversLoaded) {
+            return;
+        }
+        synchronized (this) {
+            if (driversLoaded || driversLoading) {
+                // Loaded or being loaded by this thread (drivers config parser accesses provider drivers)
+                return;
+            }
+            driversLoading = true;
+            try {
+                long startTime = System.currentTimeMillis();
+
+                // Load drivers
+                File driversConfig = DBeaverActivator.getConfigurationFile(RegistryConstants.DRIVERS_FILE_NAME);
+                if (driversConfig.exists()) {
+                    loadDrivers(driversConfig);
+                }
+
+                // Resolve all driver replacements
+                {
+                    List<DriverDescriptor> allDrivers = new ArrayList<>();
+                    for (DataSourceProviderDescriptor provider : dataSourceProviders) {
+                        allDrivers.addAll(provider.getDriversList());
+                    }
+                    for (DriverDescriptor driver1 : allDrivers) {
+                        for (DriverDescriptor driver2 : allDrivers) {
+                            if (driver1 != driver2 && driver1.replaces(driver2)) {
+                                driver2.setReplacedBy(driver1);
+                            }
+                        }
+                    }
+                }
+
+                int driverCount = 0, customDriverCount = 0;
+                for (DataSourceProviderDescriptor pd : dataSourceProviders) {
+                    for (DriverDescriptor dd : pd.getDriversList()) {
+                        if (!dd.isDisabled() && dd.getReplacedBy() == null) {
+                            driverCount++;
+                            if (dd.isCustom()) customDriverCount++;
+                        }
+                    }
+                }
+                log.debug("Total database drivers: " + driverCount + " (" + (driverCount - customDriverCount) + "), loaded in " + (System.currentTimeMillis() - startTime) + "ms");
+            } finally {
+                driversLoaded = true;
+                driversLoading = false;
+            }
+        }
+    }
+
     public void dispose()
     {
         synchronized (registryListeners) {
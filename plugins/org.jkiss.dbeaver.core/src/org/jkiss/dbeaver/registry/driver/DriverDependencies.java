@@ -16,14 +16,20 @@
  */
 package org.jkiss.dbeaver.registry.driver;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.connection.DBPDriverDependencies;
 import org.jkiss.dbeaver.model.connection.DBPDriverLibrary;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * DriverDependencies
@@ -32,6 +38,8 @@ public class DriverDependencies implements DBPDriverDependencies
 {
     private static final Log log = Log.getLog(DriverDependencies.class);
 
+    private static final int MAX_RESOLVE_WORKERS = 4;
+
     private final List<DBPDriverLibrary> rootLibraries;
     private final List<DependencyNode> rootNodes = new ArrayList<>();
     private final List<DependencyNode> libraryList = new ArrayList<>();
@@ -46,6 +54,8 @@ public class DriverDependencies implements DBPDriverDependencies
         {
             rootNodes.clear();
 
+            prefetchDependencies(monitor);
+
             final Map<String, DependencyNode> libMap = new LinkedHashMap<>();
             for (DBPDriverLibrary library : rootLibraries) {
                 DependencyNode node = new DependencyNode(null, library);
@@ -92,6 +102,35 @@ public class DriverDependencies implements DBPDriverDependencies
         }
     }
 
+    /**
+     * Resolves the whole dependencies graph level by level, independent libraries are resolved concurrently.
+     * Results are kept in libraries (Maven registry) caches, so the following ordered traversal doesn't
+     * wait for remote repositories. Errors are ignored here - they are reported by the traversal.
+     */
+    private void prefetchDependencies(DBRProgressMonitor monitor) {
+        Set<String> processedLibraries = new HashSet<>();
+        List<DBPDriverLibrary> level = new ArrayList<>();
+        for (DBPDriverLibrary library : rootLibraries) {
+            if (processedLibraries.add(library.getId())) {
+                level.add(library);
+            }
+        }
+        while (!level.isEmpty() && !monitor.isCanceled()) {
+            List<DBPDriverLibrary> nextLevel = new ArrayList<>();
+            for (Collection<? extends DBPDriverLibrary> dependencies : new DependenciesResolver(level).resolve(monitor)) {
+                if (dependencies == null) {
+                    continue;
+                }
+                for (DBPDriverLibrary dep : dependencies) {
+                    if (processedLibraries.add(dep.getId())) {
+                        nextLevel.add(dep);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+    }
+
     private void dumpNode(DependencyNode node, int level) {
         if (node.duplicate) {
             return;
@@ -140,6 +179,67 @@ public class DriverDependencies implements DBPDriverDependencies
         return rootNodes;
     }
 
+    private static class DependenciesResolver {
+        private final List<DBPDriverLibrary> libraries;
+        private final AtomicReferenceArray<Collection<? extends DBPDriverLibrary>> dependencies;
+        private final AtomicInteger nextLibrary = new AtomicInteger();
+
+        DependenciesResolver(List<DBPDriverLibrary> libraries) {
+            this.libraries = libraries;
+            this.dependencies = new AtomicReferenceArray<>(libraries.size());
+        }
+
+        List<Collection<? extends DBPDriverLibrary>> resolve(DBRProgressMonitor monitor) {
+            if (libraries.size() == 1) {
+                resolveLibraries(monitor, monitor);
+            } else {
+                List<ResolveWorker> workers = new ArrayList<>();
+                for (int i = 0; i < Math.min(MAX_RESOLVE_WORKERS, libraries.size()); i++) {
+                    ResolveWorker worker = new ResolveWorker(i + 1, monitor);
+                    worker.schedule();
+                    workers.add(worker);
+                }
+                RuntimeUtils.joinJobs(monitor, workers);
+            }
+            List<Collection<? extends DBPDriverLibrary>> result = new ArrayList<>(libraries.size());
+            for (int i = 0; i < libraries.size(); i++) {
+                result.add(dependencies.get(i));
+            }
+            return result;
+        }
+
+        private void resolveLibraries(DBRProgressMonitor monitor, DBRProgressMonitor ownerMonitor) {
+            while (!monitor.isCanceled() && !ownerMonitor.isCanceled()) {
+                int index = nextLibrary.getAndIncrement();
+                if (index >= libraries.size()) {
+                    break;
+                }
+                DBPDriverLibrary library = libraries.get(index);
+                try {
+                    dependencies.set(index, library.getDependencies(monitor));
+                } catch (Exception e) {
+                    log.debug("Error resolving library '" + library.getDisplayName() + "' dependencies: " + e.getMessage());
+                }
+            }
+        }
+
+        private class ResolveWorker extends AbstractJob {
+            private final DBRProgressMonitor ownerMonitor;
+
+            ResolveWorker(int workerNumber, DBRProgressMonitor ownerMonitor) {
+                super("Driver dependencies resolver " + workerNumber);
+                this.ownerMonitor = ownerMonitor;
+                setSystem(true);
+            }
+
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                resolveLibraries(monitor, ownerMonitor);
+                return Status.OK_STATUS;
+            }
+        }
+    }
+
     public void changeLibrary(DBPDriverLibrary oldLibrary, DBPDriverLibrary newLibrary) {
         int index = rootLibraries.indexOf(oldLibrary);
         if (index == -1) {
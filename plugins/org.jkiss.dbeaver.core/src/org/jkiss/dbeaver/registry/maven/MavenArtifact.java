@@ -24,6 +24,7 @@ import org.jkiss.dbeaver.registry.driver.DriverUtils;
 import org.jkiss.dbeaver.registry.maven.versioning.DefaultArtifactVersion;
 import org.jkiss.dbeaver.registry.maven.versioning.VersionRange;
 import org.jkiss.dbeaver.runtime.WebUtils;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.IOUtils;
 import org.jkiss.utils.xml.SAXListener;
@@ -32,8 +33,10 @@ import org.jkiss.utils.xml.XMLException;
 import org.xml.sax.Attributes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -75,12 +78,27 @@ public class MavenArtifact implements IMavenIdentifier
         this.classifier = classifier;
     }
 
-    public void loadMetadata(DBRProgressMonitor monitor) throws IOException {
+    public synchronized void loadMetadata(DBRProgressMonitor monitor) throws IOException {
         latestVersion = null;
         releaseVersion = null;
         versions.clear();
         lastUpdate = null;
 
+        MavenRepositoryIndex index = repository.getMetadataIndex();
+        String indexKey = MavenRepositoryIndex.makeKey(groupId, artifactId);
+        if (index != null) {
+            MavenRepositoryIndex.MetadataInfo metadataInfo = index.getMetadata(indexKey);
+            if (metadataInfo != null) {
+                versions.addAll(metadataInfo.versions);
+                latestVersion = metadataInfo.latestVersion;
+                releaseVersion = metadataInfo.releaseVersion;
+                lastUpdate = metadataInfo.lastUpdate;
+                removeIgnoredVersions();
+                metadataLoaded = true;
+                return;
+            }
+        }
+
         String metadataPath = getBaseArtifactURL() + MAVEN_METADATA_XML;
         monitor.subTask("Load metadata " + this + "");
 
@@ -90,12 +108,21 @@ public class MavenArtifact implements IMavenIdentifier
             log.warn("Error parsing artifact metadata", e);
         } catch (IOException e) {
             // Metadata xml not found. It happens in rare cases. Let's try to get directory listing
-            try (InputStream dirStream = WebUtils.openConnection(getBaseArtifactURL(), getRepository().getAuthInfo(), null).getInputStream()) {
-                parseDirectory(dirStream);
-            } catch (XMLException e1) {
-                log.warn("Error parsing artifact directory", e);
+            if (repository.isFileRepository()) {
+                readLocalDirectory();
+            } else {
+                try (InputStream dirStream = WebUtils.openConnection(getBaseArtifactURL(), getRepository().getAuthInfo(), null).getInputStream()) {
+                    parseDirectory(dirStream);
+                } catch (XMLException e1) {
+                    log.warn("Error parsing artifact directory", e);
+                }
             }
         } finally {
+            if (index != null && !versions.isEmpty()) {
+                index.putMetadata(
+                    indexKey,
+                    new MavenRepositoryIndex.MetadataInfo(System.currentTimeMillis(), new ArrayList<>(versions), latestVersion, releaseVersion, lastUpdate));
+            }
             removeIgnoredVersions();
             monitor.worked(1);
         }
@@ -133,6 +160,17 @@ public class MavenArtifact implements IMavenIdentifier
         }
     }
 
+    private void readLocalDirectory() throws IOException {
+        File artifactDir = RuntimeUtils.getLocalFileFromURL(new URL(getBaseArtifactURL()));
+        File[] versionDirs = artifactDir.listFiles(File::isDirectory);
+        if (versionDirs == null) {
+            throw new IOException("Artifact folder '" + artifactDir.getAbsolutePath() + "' not found");
+        }
+        for (File versionDir : versionDirs) {
+            versions.add(versionDir.getName());
+        }
+    }
+
     private void parseMetadata(InputStream mdStream) throws IOException, XMLException {
         SAXReader reader = new SAXReader(mdStream);
         reader.parse(new SAXListener() {
@@ -201,7 +239,7 @@ public class MavenArtifact implements IMavenIdentifier
     }
 
     @Nullable
-    public Collection<String> getAvailableVersions(DBRProgressMonitor monitor, String versionSpec) throws IOException {
+    public synchronized Collection<String> getAvailableVersions(DBRProgressMonitor monitor, String versionSpec) throws IOException {
         if (CommonUtils.isEmpty(versions) && !metadataLoaded) {
             loadMetadata(monitor);
         }
@@ -278,7 +316,7 @@ public class MavenArtifact implements IMavenIdentifier
 //    }
 
     @Nullable
-    public MavenArtifactVersion getVersion(String versionStr) {
+    public synchronized MavenArtifactVersion getVersion(String versionStr) {
         for (MavenArtifactVersion version : localVersions) {
             if (version.getVersion().equals(versionStr)) {
                 return version;
@@ -290,8 +328,16 @@ public class MavenArtifact implements IMavenIdentifier
     private MavenArtifactVersion makeLocalVersion(DBRProgressMonitor monitor, String versionStr, boolean setActive) throws IllegalArgumentException, IOException {
         MavenArtifactVersion version = getVersion(versionStr);
         if (version == null) {
-            version = new MavenArtifactVersion(monitor, this, versionStr);
-            localVersions.add(version);
+            // Load POM without artifact lock: it resolves other artifacts (parent, imports) which may be
+            // resolved by other threads at the same time.
+            MavenArtifactVersion newVersion = new MavenArtifactVersion(monitor, this, versionStr);
+            synchronized (this) {
+                version = getVersion(versionStr);
+                if (version == null) {
+                    version = newVersion;
+                    localVersions.add(version);
+                }
+            }
         }
         return version;
     }
@@ -306,51 +352,9 @@ public class MavenArtifact implements IMavenIdentifier
             versionRef.equals(MavenArtifactReference.VERSION_PATTERN_SNAPSHOT);
         boolean lookupVersion = predefinedVersion || isVersionPattern(versionRef);
 
-        if (lookupVersion && !metadataLoaded) {
-            loadMetadata(monitor);
-        }
-
         String versionInfo;
         if (lookupVersion) {
-            List<String> allVersions = versions;
-            switch (versionRef) {
-                case MavenArtifactReference.VERSION_PATTERN_RELEASE:
-                    versionInfo = releaseVersion;
-                    if (!CommonUtils.isEmpty(versionInfo) && DriverUtils.isBetaVersion(versionInfo)) {
-                        versionInfo = null;
-                    }
-                    break;
-                case MavenArtifactReference.VERSION_PATTERN_LATEST:
-                    versionInfo = latestVersion;
-                    break;
-                default:
-                    if (versionRef.startsWith("{") && versionRef.endsWith("}")) {
-                        // Regex - find most recent version matching this pattern
-                        String regex = versionRef.substring(1, versionRef.length() - 1);
-                        try {
-                            Pattern versionPattern = Pattern.compile(regex);
-                            List<String> versions = new ArrayList<>(allVersions);
-                            for (Iterator<String> iter = versions.iterator(); iter.hasNext(); ) {
-                                if (!versionPattern.matcher(iter.next()).matches()) {
-                                    iter.remove();
-                                }
-                            }
-                            versionInfo = DriverUtils.findLatestVersion(versions);
-                        } catch (Exception e) {
-                            throw new IOException("Bad version pattern: " + regex);
-                        }
-                    } else {
-                        versionInfo = getVersionFromSpec(versionRef);
-                    }
-                    break;
-            }
-            if (versionInfo == null) {
-                if (allVersions.isEmpty()) {
-                    throw new IOException("Artifact '" + this + "' has empty version list");
-                }
-                // Use latest version
-                versionInfo = DriverUtils.findLatestVersion(allVersions);
-            }
+            versionInfo = resolveVersionPattern(monitor, versionRef);
         } else {
             if (versionRef.startsWith("[") || versionRef.startsWith("(")) {
                 versionInfo = getVersionFromSpec(versionRef);
@@ -372,6 +376,54 @@ public class MavenArtifact implements IMavenIdentifier
         return localVersion;
     }
 
+    private synchronized String resolveVersionPattern(DBRProgressMonitor monitor, String versionRef) throws IOException {
+        if (!metadataLoaded) {
+            loadMetadata(monitor);
+        }
+
+        String versionInfo;
+        List<String> allVersions = versions;
+        switch (versionRef) {
+            case MavenArtifactReference.VERSION_PATTERN_RELEASE:
+                versionInfo = releaseVersion;
+                if (!CommonUtils.isEmpty(versionInfo) && DriverUtils.isBetaVersion(versionInfo)) {
+                    versionInfo = null;
+                }
+                break;
+            case MavenArtifactReference.VERSION_PATTERN_LATEST:
+                versionInfo = latestVersion;
+                break;
+            default:
+                if (versionRef.startsWith("{") && versionRef.endsWith("}")) {
+                    // Regex - find most recent version matching this pattern
+                    String regex = versionRef.substring(1, versionRef.length() - 1);
+                    try {
+                        Pattern versionPattern = Pattern.compile(regex);
+                        List<String> versions = new ArrayList<>(allVersions);
+                        for (Iterator<String> iter = versions.iterator(); iter.hasNext(); ) {
+                            if (!versionPattern.matcher(iter.next()).matches()) {
+                                iter.remove();
+                            }
+                        }
+                        versionInfo = DriverUtils.findLatestVersion(versions);
+                    } catch (Exception e) {
+                        throw new IOException("Bad version pattern: " + regex);
+                    }
+                } else {
+                    versionInfo = getVersionFromSpec(versionRef);
+                }
+                break;
+        }
+        if (versionInfo == null) {
+            if (allVersions.isEmpty()) {
+                throw new IOException("Artifact '" + this + "' has empty version list");
+            }
+            // Use latest version
+            versionInfo = DriverUtils.findLatestVersion(allVersions);
+        }
+        return versionInfo;
+    }
+
     public static boolean versionMatches(String version, String versionSpec) {
         try {
             if (versionSpec.startsWith("{") && versionSpec.endsWith("}")) {
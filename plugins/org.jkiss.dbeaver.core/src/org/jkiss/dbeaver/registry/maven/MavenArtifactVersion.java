@@ -228,8 +228,20 @@ public class MavenArtifactVersion implements IMavenIdentifier {
                 throw new IOException("Can't create cache folder '" + folder.getAbsolutePath() + "'");
             }
 
-            try (OutputStream os = new FileOutputStream(localPOM)) {
-                IOUtils.fastCopy(is, os);
+            // Write to temporary file first. The same POM may be downloaded by several threads
+            // (artifacts with different classifiers) and must never be read half-written.
+            File tmpPOM = File.createTempFile(localPOM.getName(), ".tmp", folder);
+            try {
+                try (OutputStream os = new FileOutputStream(tmpPOM)) {
+                    IOUtils.fastCopy(is, os);
+                }
+                if (!tmpPOM.renameTo(localPOM) && !localPOM.exists()) {
+                    throw new IOException("Can't save POM file '" + localPOM.getAbsolutePath() + "'");
+                }
+            } finally {
+                if (tmpPOM.exists() && !tmpPOM.delete()) {
+                    log.debug("Can't delete temporary file '" + tmpPOM.getAbsolutePath() + "'");
+                }
             }
         }
     }
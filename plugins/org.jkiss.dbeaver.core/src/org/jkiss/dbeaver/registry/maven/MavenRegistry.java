@@ -62,7 +62,9 @@ public class MavenRegistry
     private final List<MavenRepository> repositories = new ArrayList<>();
     private MavenRepository localRepository;
     // Cache for not found artifact ids. Avoid multiple remote metadata reading
-    private final Set<String> notFoundArtifacts = new HashSet<>();
+    private final Set<String> notFoundArtifacts = Collections.synchronizedSet(new HashSet<String>());
+    // Metadata indexes of remote repositories (by index file path). Shared by all repository instances with the same cache folder
+    private final Map<String, MavenRepositoryIndex> repositoryIndexes = new HashMap<>();
 
     private static final PasswordEncrypter ENCRYPTOR = new SimpleStringEncrypter();
 
@@ -251,6 +253,18 @@ public class MavenRegistry
         return null;
     }
 
+    @NotNull
+    synchronized MavenRepositoryIndex getRepositoryIndex(@NotNull MavenRepository repository) {
+        File indexFile = new File(repository.getLocalCacheDir(), MavenRepositoryIndex.INDEX_FILE_NAME);
+        String indexPath = indexFile.getAbsolutePath();
+        MavenRepositoryIndex index = repositoryIndexes.get(indexPath);
+        if (index == null) {
+            index = new MavenRepositoryIndex(indexFile);
+            repositoryIndexes.put(indexPath, index);
+        }
+        return index;
+    }
+
     public MavenRepository findRepository(String id) {
         for (MavenRepository repository : repositories) {
             if (repository.getId().equals(id)) {
@@ -31,9 +31,9 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Maven repository manager.
@@ -64,7 +64,8 @@ public class MavenRepository
     private String description;
     private final DBAAuthInfo authInfo = new DBAAuthInfo();
 
-    private Map<String, MavenArtifact> cachedArtifacts = new LinkedHashMap<>();
+    // Artifacts may be resolved by several threads at once (see DriverDependencies)
+    private Map<String, MavenArtifact> cachedArtifacts = new ConcurrentHashMap<>();
 
     public MavenRepository(IConfigurationElement config)
     {
@@ -178,32 +179,55 @@ public class MavenRepository
         if (type == RepositoryType.LOCAL || type == RepositoryType.CUSTOM) {
             return true;
         }
-        return url.startsWith("https");
+        return url.startsWith("https") || isFileRepository();
+    }
+
+    /**
+     * Repository located in local file system (file:// URL). Doesn't need metadata index.
+     */
+    public boolean isFileRepository() {
+        return url.startsWith("file:");
     }
 
     @Nullable
-    public synchronized MavenArtifactVersion findArtifact(DBRProgressMonitor monitor, @NotNull MavenArtifactReference ref) {
+    public MavenArtifactVersion findArtifact(DBRProgressMonitor monitor, @NotNull MavenArtifactReference ref) {
         boolean newArtifact = false;
         MavenArtifact artifact = cachedArtifacts.get(ref.getId());
         if (artifact == null) {
             artifact = new MavenArtifact(this, ref.getGroupId(), ref.getArtifactId(), ref.getClassifier());
-            newArtifact = true;
+            MavenArtifact prevArtifact = cachedArtifacts.putIfAbsent(ref.getId(), artifact);
+            if (prevArtifact != null) {
+                artifact = prevArtifact;
+            } else {
+                newArtifact = true;
+            }
         }
         try {
-            MavenArtifactVersion version = artifact.resolveVersion(monitor, ref.getVersion());
+            return artifact.resolveVersion(monitor, ref.getVersion());
+        } catch (IOException e) {
             if (newArtifact) {
-                cachedArtifacts.put(ref.getId(), artifact);
+                cachedArtifacts.remove(ref.getId(), artifact);
             }
-            return version;
-        } catch (IOException e) {
             // Generally it is ok. Artifact not present in this repository
             log.debug("Maven artifact '" + ref + "' not found in repository '" + this + "': " + e.getMessage());
             return null;
         }
     }
 
-    synchronized void resetArtifactCache(@NotNull MavenArtifactReference artifactReference) {
+    void resetArtifactCache(@NotNull MavenArtifactReference artifactReference) {
         cachedArtifacts.remove(artifactReference.getId());
+        MavenRepositoryIndex index = getMetadataIndex();
+        if (index != null) {
+            index.removeMetadata(MavenRepositoryIndex.makeKey(artifactReference.getGroupId(), artifactReference.getArtifactId()));
+        }
+    }
+
+    @Nullable
+    MavenRepositoryIndex getMetadataIndex() {
+        if (type == RepositoryType.LOCAL || isFileRepository()) {
+            return null;
+        }
+        return MavenRegistry.getInstance().getRepositoryIndex(this);
     }
 
     File getLocalCacheDir()
@@ -0,0 +1,228 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.registry.maven;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.CommonUtils;
+import org.jkiss.utils.xml.XMLBuilder;
+import org.jkiss.utils.xml.XMLException;
+import org.jkiss.utils.xml.XMLUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Local index of remote repository artifacts metadata.
+ * Keeps artifact versions lists between launches so they are not downloaded and parsed again each time
+ * some version pattern (RELEASE, LATEST, ranges) has to be resolved.
+ * Changes are saved by a delayed job, so resolution of many artifacts produces a single write.
+ */
+class MavenRepositoryIndex
+{
+    private static final Log log = Log.getLog(MavenRepositoryIndex.class);
+
+    static final String INDEX_FILE_NAME = "maven-index.xml";
+
+    // Metadata is refreshed once a day
+    private static final long EXPIRE_PERIOD = 24L * 60 * 60 * 1000;
+    // Changes made during this period are saved together
+    private static final long SAVE_DELAY = 1000;
+
+    static class MetadataInfo {
+        final long loadTime;
+        final List<String> versions;
+        final String latestVersion;
+        final String releaseVersion;
+        final Date lastUpdate;
+
+        MetadataInfo(long loadTime, @NotNull List<String> versions, @Nullable String latestVersion, @Nullable String releaseVersion, @Nullable Date lastUpdate) {
+            this.loadTime = loadTime;
+            this.versions = versions;
+            this.latestVersion = latestVersion;
+            this.releaseVersion = releaseVersion;
+            this.lastUpdate = lastUpdate;
+        }
+    }
+
+    private final File indexFile;
+    private Map<String, MetadataInfo> entries;
+    private boolean dirty;
+    private final AbstractJob saveJob = new AbstractJob("Save Maven repository index") {
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            flush();
+            return Status.OK_STATUS;
+        }
+    };
+
+    MavenRepositoryIndex(@NotNull File indexFile) {
+        this.indexFile = indexFile;
+        this.saveJob.setSystem(true);
+    }
+
+    static String makeKey(@NotNull String groupId, @NotNull String artifactId) {
+        return groupId + ":" + artifactId;
+    }
+
+    @Nullable
+    synchronized MetadataInfo getMetadata(@NotNull String key) {
+        loadIndex();
+        MetadataInfo info = entries.get(key);
+        if (info == null || System.currentTimeMillis() - info.loadTime > EXPIRE_PERIOD) {
+            return null;
+        }
+        return info;
+    }
+
+    synchronized void putMetadata(@NotNull String key, @NotNull MetadataInfo info) {
+        loadIndex();
+        entries.put(key, info);
+        scheduleSave();
+    }
+
+    synchronized void removeMetadata(@NotNull String key) {
+        loadIndex();
+        if (entries.remove(key) != null) {
+            scheduleSave();
+        }
+    }
+
+    /**
+     * Saves pending changes immediately
+     */
+    synchronized void flush() {
+        if (dirty) {
+            dirty = false;
+            saveIndex();
+        }
+    }
+
+    private void scheduleSave() {
+        if (!dirty) {
+            dirty = true;
+            saveJob.schedule(SAVE_DELAY);
+        }
+    }
+
+    private void loadIndex() {
+        if (entries != null) {
+            return;
+        }
+        entries = new LinkedHashMap<>();
+        if (!indexFile.exists()) {
+            return;
+        }
+        try {
+            Document document = XMLUtils.parseDocument(indexFile);
+            for (Element artifactElement : XMLUtils.getChildElementList(document.getDocumentElement(), "artifact")) {
+                String key = artifactElement.getAttribute("id");
+                if (CommonUtils.isEmpty(key)) {
+                    continue;
+                }
+                List<String> versions = new ArrayList<>();
+                for (Element versionElement : XMLUtils.getChildElementList(artifactElement, "version")) {
+                    versions.add(XMLUtils.getElementBody(versionElement));
+                }
+                String lastUpdate = artifactElement.getAttribute("lastUpdate");
+                entries.put(key, new MetadataInfo(
+                    CommonUtils.toLong(artifactElement.getAttribute("loadTime")),
+                    versions,
+                    getOptionalAttribute(artifactElement, "latest"),
+                    getOptionalAttribute(artifactElement, "release"),
+                    CommonUtils.isEmpty(lastUpdate) ? null : new Date(CommonUtils.toLong(lastUpdate))));
+            }
+        } catch (XMLException e) {
+            log.debug("Error reading Maven repository index '" + indexFile.getAbsolutePath() + "': " + e.getMessage());
+        }
+    }
+
+    @Nullable
+    private static String getOptionalAttribute(Element element, String name) {
+        String value = element.getAttribute(name);
+        return CommonUtils.isEmpty(value) ? null : value;
+    }
+
+    private void saveIndex() {
+        File folder = indexFile.getParentFile();
+        if (!folder.exists() && !folder.mkdirs()) {
+            log.warn("Can't create Maven repository index folder '" + folder.getAbsolutePath() + "'");
+            return;
+        }
+        // Write to temporary file first, so readers never see partially written index
+        File tmpFile = new File(folder, INDEX_FILE_NAME + ".tmp");
+        try (OutputStream os = new FileOutputStream(tmpFile)) {
+            XMLBuilder xml = new XMLBuilder(os, GeneralUtils.UTF8_ENCODING);
+            xml.setButify(true);
+            try (final XMLBuilder.Element e1 = xml.startElement("index")) {
+                for (Map.Entry<String, MetadataInfo> entry : entries.entrySet()) {
+                    MetadataInfo info = entry.getValue();
+                    try (final XMLBuilder.Element e2 = xml.startElement("artifact")) {
+                        xml.addAttribute("id", entry.getKey());
+                        xml.addAttribute("loadTime", info.loadTime);
+                        if (info.latestVersion != null) {
+                            xml.addAttribute("latest", info.latestVersion);
+                        }
+                        if (info.releaseVersion != null) {
+                            xml.addAttribute("release", info.releaseVersion);
+                        }
+                        if (info.lastUpdate != null) {
+                            xml.addAttribute("lastUpdate", info.lastUpdate.getTime());
+                        }
+                        for (String version : info.versions) {
+                            try (final XMLBuilder.Element e3 = xml.startElement("version")) {
+                                xml.addText(version);
+                            }
+                        }
+                    }
+                }
+            }
+            xml.flush();
+        } catch (IOException e) {
+            log.warn("Error saving Maven repository index '" + indexFile.getAbsolutePath() + "'", e);
+            if (tmpFile.exists() && !tmpFile.delete()) {
+                log.debug("Can't delete temporary file '" + tmpFile.getAbsolutePath() + "'");
+            }
+            return;
+        }
+        try {
+            try {
+                Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Error replacing Maven repository index '" + indexFile.getAbsolutePath() + "'", e);
+        }
+    }
+
+}
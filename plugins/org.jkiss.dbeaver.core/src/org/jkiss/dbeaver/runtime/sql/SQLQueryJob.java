@@ -40,18 +40,26 @@ import org.jkiss.dbeaver.model.connection.DBPConnectionType;
 import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.exec.trace.DBCTrace;
+import org.jkiss.dbeaver.model.exec.trace.DBCTracePhase;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCResultSetImpl;
 import org.jkiss.dbeaver.model.impl.local.StatResultSet;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.sql.parser.SQLSemanticProcessor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSObjectSelector;
 import org.jkiss.dbeaver.registry.DataSourceProviderRegistry;
 import org.jkiss.dbeaver.ui.editors.sql.registry.SQLCommandHandlerDescriptor;
 import org.jkiss.dbeaver.ui.editors.sql.registry.SQLCommandsRegistry;
 import org.jkiss.dbeaver.runtime.jobs.DataSourceJob;
+import org.jkiss.dbeaver.runtime.sql.commands.SQLCommandParallel;
 import org.jkiss.dbeaver.ui.UIConfirmation;
 import org.jkiss.dbeaver.ui.UITask;
 import org.jkiss.dbeaver.ui.UIUtils;
@@ -62,9 +70,13 @@ import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * SQLQueryJob
@@ -92,6 +104,14 @@ public class SQLQueryJob extends DataSourceJob
     private boolean fetchResultSets;
     private long rsOffset;
     private long rsMaxRows;
+    private int batchSize;
+
+    // State of the last statements batch (JDBC batch or parallel section).
+    // Statements which weren't executed in batch are executed one by one
+    private int batchStart;
+    private boolean[] batchExecuted;
+    private boolean[] batchSkipped;
+    private Throwable[] batchErrors;
 
     private DBCStatement curStatement;
     private final List<DBCResultSet> curResultSets = new ArrayList<>();
@@ -129,6 +149,7 @@ public class SQLQueryJob extends DataSourceJob
             this.errorHandling = SQLScriptErrorHandling.valueOf(preferenceStore.getString(DBeaverPreferences.SCRIPT_ERROR_HANDLING));
             this.fetchResultSets = queries.size() == 1 || preferenceStore.getBoolean(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS);
             this.rsMaxRows = preferenceStore.getInt(DBeaverPreferences.RESULT_SET_MAX_ROWS);
+            this.batchSize = queries.size() > 1 ? preferenceStore.getInt(DBeaverPreferences.SCRIPT_BATCH_SIZE) : 0;
         }
     }
 
@@ -200,7 +221,40 @@ public class SQLQueryJob extends DataSourceJob
                     SQLScriptElement query = queries.get(queryNum);
 
                     fetchResultSetNumber = resultSetNumber;
-                    boolean runNext = executeSingleQuery(session, query, true);
+                    boolean runNext;
+                    if (batchExecuted != null && queryNum >= batchStart && queryNum < batchStart + batchExecuted.length) {
+                        int batchIndex = queryNum - batchStart;
+                        if (batchExecuted[batchIndex] || (batchSkipped != null && batchSkipped[batchIndex])) {
+                            // Already executed in batch (or batch failed and its state is unknown)
+                            monitor.worked(1);
+                            queryNum++;
+                            continue;
+                        }
+                        if (batchErrors[batchIndex] != null) {
+                            // Report batch error for the query which caused it
+                            runNext = reportBatchError(session, (SQLQuery) query, batchIndex);
+                        } else {
+                            runNext = executeSingleQuery(session, query, true);
+                        }
+                    } else {
+                        int parallelCount = getParallelQueryCount(session, queryNum);
+                        if (parallelCount > 1) {
+                            executeQueriesParallel(session, queryNum, parallelCount);
+                            if (monitor.isCanceled()) {
+                                break;
+                            }
+                            continue;
+                        }
+                        int batchCount = getBatchQueryCount(session, queryNum);
+                        if (batchCount > 1) {
+                            executeQueryBatch(session, queryNum, batchCount);
+                            if (monitor.isCanceled()) {
+                                break;
+                            }
+                            continue;
+                        }
+                        runNext = executeSingleQuery(session, query, true);
+                    }
                     if (!runNext) {
                         if (lastError == null) {
                             // Execution cancel
@@ -518,6 +572,381 @@ public class SQLQueryJob extends DataSourceJob
         }
     }
 
+    /**
+     * Counts consecutive DML queries (starting from the specified one) which can be executed in one batch.
+     * Queries with parameters are never batched - parameters are resolved for each query separately.
+     * Batches are used only if errors are ignored: some drivers (e.g. MySQL, SQL Server) continue batch execution
+     * after the failed query, so queries following the failed one may be already executed (and even committed).
+     */
+    private int getBatchQueryCount(@NotNull DBCSession session, int firstQuery) {
+        if (batchSize <= 1 ||
+            errorHandling != SQLScriptErrorHandling.IGNORE ||
+            !(session instanceof JDBCSession) ||
+            (dataFilter != null && dataFilter.hasFilters()) ||
+            (!skipConfirmation && getDataSourceContainer().getConnectionConfiguration().getConnectionType().isConfirmExecute()) ||
+            !session.getDataSource().getInfo().supportsBatchUpdates())
+        {
+            return 0;
+        }
+        int count = 0;
+        for (int i = firstQuery; i < queries.size() && count < batchSize; i++) {
+            SQLScriptElement element = queries.get(i);
+            if (!(element instanceof SQLQuery) || !CommonUtils.isEmpty(((SQLQuery) element).getParameters())) {
+                break;
+            }
+            SQLQueryType queryType = ((SQLQuery) element).getType();
+            if (queryType != SQLQueryType.INSERT && queryType != SQLQueryType.UPDATE && queryType != SQLQueryType.DELETE) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Executes queries in one JDBC batch.
+     * Queries which weren't executed (driver stopped on error) are then executed one by one. Batch error is reported
+     * for each query marked as failed by the driver, failed queries are never executed again.
+     * If the state of batch queries is unknown they are reported as failed and never executed again.
+     */
+    private void executeQueryBatch(@NotNull DBCSession session, int firstQuery, int count) {
+        batchStart = firstQuery;
+        batchExecuted = new boolean[count];
+        batchSkipped = new boolean[count];
+        batchErrors = new Throwable[count];
+
+        final SQLQuery lastQuery = (SQLQuery) queries.get(firstQuery + count - 1);
+        final SQLQueryResult curResult = new SQLQueryResult(lastQuery);
+        if (listener != null) {
+            try {
+                listener.onStartQuery(session, lastQuery);
+            } catch (Exception e) {
+                log.error(e);
+            }
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            closeStatement();
+            session.getProgressMonitor().subTask("Execute batch of " + count + " queries");
+
+            int[] updateCounts;
+            try (JDBCStatement dbStat = ((JDBCSession) session).createStatement()) {
+                // Make batch cancelable
+                curStatement = dbStat;
+                int statementTimeout = getDataSourceContainer().getPreferenceStore().getInt(DBeaverPreferences.STATEMENT_TIMEOUT);
+                if (statementTimeout > 0) {
+                    try {
+                        dbStat.setStatementTimeout(statementTimeout);
+                    } catch (Throwable e) {
+                        log.debug("Can't set statement timeout:" + e.getMessage());
+                    }
+                }
+                for (int i = 0; i < count; i++) {
+                    dbStat.addBatch(queries.get(firstQuery + i).getText());
+                }
+                try {
+                    updateCounts = dbStat.executeBatch();
+                } catch (BatchUpdateException e) {
+                    // Some drivers stop on the first error, others execute all queries and mark failed ones
+                    updateCounts = e.getUpdateCounts();
+                    if (updateCounts == null) {
+                        throw e;
+                    }
+                    boolean hasFailed = false;
+                    for (int i = 0; i < count && i < updateCounts.length; i++) {
+                        if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                            batchErrors[i] = new DBCException(e, session.getDataSource());
+                            hasFailed = true;
+                        }
+                    }
+                    if (!hasFailed && updateCounts.length < count) {
+                        // Driver stopped on error: it was caused by the first query which wasn't executed
+                        batchErrors[updateCounts.length] = new DBCException(e, session.getDataSource());
+                    }
+                } finally {
+                    curStatement = null;
+                }
+            }
+            if (updateCounts != null) {
+                long rowsUpdated = 0;
+                for (int i = 0; i < count && i < updateCounts.length; i++) {
+                    if (updateCounts[i] != Statement.EXECUTE_FAILED) {
+                        batchExecuted[i] = true;
+                        statistics.addStatementsCount();
+                        if (updateCounts[i] > 0) {
+                            rowsUpdated += updateCounts[i];
+                        }
+                    }
+                }
+                statistics.addRowsUpdated(rowsUpdated);
+                curResult.addExecuteResult(false).setUpdateCount(rowsUpdated);
+            }
+            statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+        } catch (Throwable e) {
+            // We don't know which queries were executed. Don't execute them again (it may duplicate changes):
+            // report error for the first query and skip the rest.
+            log.debug("Error executing queries batch: " + e.getMessage());
+            batchErrors = new Throwable[count];
+            batchErrors[0] = new DBCException("Batch execution failed. State of " + count + " batch queries is unknown, they won't be executed again", e);
+            for (int i = 1; i < count; i++) {
+                batchSkipped[i] = true;
+            }
+        } finally {
+            curResult.setQueryTime(System.currentTimeMillis() - startTime);
+            if (listener != null) {
+                try {
+                    listener.onEndQuery(session, curResult);
+                } catch (Exception e) {
+                    log.error(e);
+                }
+            }
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            if (batchExecuted[i]) {
+                lastGoodQuery = (SQLQuery) queries.get(firstQuery + i);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Counts consecutive queries (starting from the specified one) of the script section marked as parallel
+     * (see {@link SQLCommandParallel}). Control commands and queries with parameters end the section.
+     * Result sets of parallel queries are not fetched, so SELECT queries are never executed in parallel.
+     * Queries are executed in parallel only in auto-commit mode: workers don't see uncommitted changes
+     * of the main context and may be blocked by its locks.
+     */
+    private int getParallelQueryCount(@NotNull DBCSession session, int firstQuery) {
+        Object workers = scriptContext.getPragmas().get(SQLCommandParallel.PRAGMA_PARALLEL_WORKERS);
+        if (!(workers instanceof Integer) || (Integer) workers <= 1 ||
+            (dataFilter != null && dataFilter.hasFilters()) ||
+            (!skipConfirmation && getDataSourceContainer().getConnectionConfiguration().getConnectionType().isConfirmExecute()))
+        {
+            return 0;
+        }
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
+        try {
+            if (txnManager != null && !txnManager.isAutoCommit()) {
+                log.debug("Parallel script section is executed sequentially in manual commit mode");
+                return 0;
+            }
+        } catch (DBCException e) {
+            log.debug("Can't check auto-commit state: " + e.getMessage());
+            return 0;
+        }
+        int count = 0;
+        for (int i = firstQuery; i < queries.size(); i++) {
+            SQLScriptElement element = queries.get(i);
+            if (!(element instanceof SQLQuery) ||
+                !CommonUtils.isEmpty(((SQLQuery) element).getParameters()) ||
+                ((SQLQuery) element).getType() == SQLQueryType.SELECT)
+            {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Executes independent queries concurrently. Each worker opens its own isolated context and takes
+     * next query from the shared queue. Results are reported in script order when all workers are finished,
+     * so the execution log looks the same as for sequential execution.
+     * Failed queries are reported after the section. Queries which weren't executed (e.g. after
+     * error or if isolated context can't be opened) are then executed one by one in the main context.
+     */
+    private void executeQueriesParallel(@NotNull DBCSession session, int firstQuery, int count) {
+        batchStart = firstQuery;
+        batchExecuted = new boolean[count];
+        batchSkipped = new boolean[count];
+        batchErrors = new Throwable[count];
+        closeStatement();
+
+        final DBRProgressMonitor monitor = session.getProgressMonitor();
+        // Isolated contexts get active catalog/schema of the data source.
+        // Script may have changed it in the main context so refresh it before opening workers.
+        DBSObjectSelector objectSelector = DBUtils.getAdapter(DBSObjectSelector.class, session.getDataSource());
+        if (objectSelector != null) {
+            try {
+                objectSelector.refreshDefaultObject(session);
+            } catch (DBException e) {
+                log.debug("Can't refresh active object: " + e.getMessage());
+            }
+        }
+        final ParallelSection section = new ParallelSection(firstQuery, count);
+        final int workersCount = Math.min((Integer) scriptContext.getPragmas().get(SQLCommandParallel.PRAGMA_PARALLEL_WORKERS), count);
+        final List<ParallelQueryWorker> workers = new ArrayList<>(workersCount);
+        for (int i = 0; i < workersCount; i++) {
+            ParallelQueryWorker worker = new ParallelQueryWorker(section, i + 1);
+            worker.schedule();
+            workers.add(worker);
+        }
+
+        long startTime = System.currentTimeMillis();
+        monitor.subTask("Execute " + count + " queries in " + workersCount + " workers");
+        // Cancel of the script cancels workers and their running statements
+        RuntimeUtils.joinJobs(monitor, workers);
+        for (int i = 0; i < count; i++) {
+            SQLQueryResult result = section.results.get(i);
+            if (result != null) {
+                reportParallelResult(session, i, result);
+            }
+        }
+        statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+    }
+
+    private void reportParallelResult(@NotNull DBCSession session, int index, @NotNull SQLQueryResult result) {
+        if (result.hasError()) {
+            batchErrors[index] = result.getError();
+            return;
+        }
+        batchExecuted[index] = true;
+        statistics.addStatementsCount();
+        for (SQLQueryResult.ExecuteResult executeResult : result.getExecuteResults()) {
+            if (executeResult.getUpdateCount() != null) {
+                statistics.addRowsUpdated(executeResult.getUpdateCount());
+            }
+        }
+        lastGoodQuery = (SQLQuery) queries.get(batchStart + index);
+        if (listener != null) {
+            try {
+                listener.onStartQuery(session, result.getStatement());
+                listener.onEndQuery(session, result);
+            } catch (Exception e) {
+                log.error(e);
+            }
+        }
+    }
+
+    @NotNull
+    private SQLQueryResult executeIsolatedQuery(@NotNull DBCSession session, @NotNull SQLQuery query, @NotNull ParallelQueryWorker worker) {
+        final SQLQuery sqlQuery = new SQLQuery(session.getDataSource(), query.getText(), query);
+        final SQLQueryResult curResult = new SQLQueryResult(sqlQuery);
+        long startTime = System.currentTimeMillis();
+        try {
+            DBCExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), partSite.getPart(), sqlQuery);
+            DBCStatement dbcStatement = DBUtils.makeStatement(
+                source,
+                session,
+                DBCStatementType.SCRIPT,
+                sqlQuery,
+                0, 0);
+            try {
+                int statementTimeout = getDataSourceContainer().getPreferenceStore().getInt(DBeaverPreferences.STATEMENT_TIMEOUT);
+                if (statementTimeout > 0) {
+                    try {
+                        dbcStatement.setStatementTimeout(statementTimeout);
+                    } catch (Throwable e) {
+                        log.debug("Can't set statement timeout:" + e.getMessage());
+                    }
+                }
+                if (worker.section.stopped) {
+                    // Canceled while statement was prepared
+                    throw new DBCException("Query execution canceled");
+                }
+                boolean hasResultSet = dbcStatement.executeStatement();
+                // Result sets are not fetched in parallel mode
+                curResult.setHasResultSet(hasResultSet);
+                if (!hasResultSet) {
+                    long updateCount = dbcStatement.getUpdateRowCount();
+                    if (updateCount >= 0) {
+                        curResult.addExecuteResult(false).setUpdateCount(updateCount);
+                    }
+                }
+                curResult.addWarnings(dbcStatement.getStatementWarnings());
+            } finally {
+                dbcStatement.close();
+            }
+        } catch (Throwable e) {
+            if (!(e instanceof DBException)) {
+                log.error("Unexpected error while processing SQL", e);
+            }
+            curResult.setError(e);
+        } finally {
+            curResult.setQueryTime(System.currentTimeMillis() - startTime);
+        }
+        return curResult;
+    }
+
+    private boolean reportBatchError(@NotNull DBCSession session, @NotNull SQLQuery query, int batchIndex) {
+        lastError = batchErrors[batchIndex];
+        batchErrors[batchIndex] = null;
+        final SQLQueryResult curResult = new SQLQueryResult(query);
+        curResult.setError(lastError);
+        if (listener != null) {
+            try {
+                listener.onStartQuery(session, query);
+                listener.onEndQuery(session, curResult);
+            } catch (Exception e) {
+                log.error(e);
+            }
+        }
+        return errorHandling == SQLScriptErrorHandling.IGNORE;
+    }
+
+    private static class ParallelSection {
+        private final int firstQuery;
+        private final int count;
+        private final AtomicInteger nextQuery = new AtomicInteger();
+        private final AtomicReferenceArray<SQLQueryResult> results;
+        private volatile boolean stopped;
+
+        ParallelSection(int firstQuery, int count) {
+            this.firstQuery = firstQuery;
+            this.count = count;
+            this.results = new AtomicReferenceArray<>(count);
+        }
+    }
+
+    private class ParallelQueryWorker extends AbstractJob {
+        private final ParallelSection section;
+
+        ParallelQueryWorker(ParallelSection section, int workerNumber) {
+            super("SQL script worker " + workerNumber);
+            this.section = section;
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            // Use instance of the editor context (it may differ from the default one)
+            try (DBCExecutionContext context = SQLQueryJob.this.getExecutionContext().getOwnerInstance().openIsolatedContext(monitor, getName())) {
+                // Independent queries can't share transaction
+                DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+                if (txnManager != null && !txnManager.isAutoCommit()) {
+                    txnManager.setAutoCommit(monitor, true);
+                }
+                try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.USER_SCRIPT, getName())) {
+                    while (!section.stopped && !monitor.isCanceled()) {
+                        int index = section.nextQuery.getAndIncrement();
+                        if (index >= section.count) {
+                            break;
+                        }
+                        SQLQuery query = (SQLQuery) queries.get(section.firstQuery + index);
+                        monitor.subTask(CommonUtils.truncateString(query.getText(), 200));
+                        SQLQueryResult result = executeIsolatedQuery(session, query, this);
+                        if (result.hasError() && errorHandling != SQLScriptErrorHandling.IGNORE) {
+                            section.stopped = true;
+                        }
+                        section.results.set(index, result);
+                    }
+                }
+            } catch (Throwable e) {
+                // Queries not executed by workers will be executed in the main context
+                log.debug("Error in SQL script worker: " + e.getMessage());
+            }
+            return Status.OK_STATUS;
+        }
+
+        @Override
+        protected void canceling() {
+            section.stopped = true;
+            // Running statement is canceled asynchronously
+            super.canceling();
+        }
+    }
+
     private boolean executeControlCommand(SQLControlCommand command) throws DBException {
         if (command.isEmptyCommand()) {
             return true;
@@ -713,6 +1142,7 @@ public class SQLQueryJob extends DataSourceJob
                 executeResult.setResultSetName(sourceName);
             }
             long fetchStartTime = System.currentTimeMillis();
+            DBCTrace trace = resultSet instanceof DBCResultSetTrace ? ((DBCResultSetTrace) resultSet).getExecutionTrace() : null;
 
             // Fetch all rows
             while ((!hasLimits() || rowCount < rsMaxRows) && resultSet.nextRow()) {
@@ -726,10 +1156,19 @@ public class SQLQueryJob extends DataSourceJob
                     monitor.worked(100);
                 }
 
-                dataReceiver.fetchRow(session, resultSet);
+                if (trace == null) {
+                    dataReceiver.fetchRow(session, resultSet);
+                } else {
+                    long receiveStartTime = System.nanoTime();
+                    dataReceiver.fetchRow(session, resultSet);
+                    trace.addPhaseTime(DBCTracePhase.RECEIVE, System.nanoTime() - receiveStartTime);
+                }
             }
             if (updateStatistics) {
                 statistics.addFetchTime(System.currentTimeMillis() - fetchStartTime);
+                if (resultSet instanceof JDBCResultSetImpl) {
+                    ((JDBCResultSetImpl) resultSet).collectFetchStatistics(statistics);
+                }
             }
         }
         finally {
@@ -0,0 +1,62 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.runtime.sql.commands;
+
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.sql.SQLControlCommand;
+import org.jkiss.dbeaver.model.sql.SQLScriptContext;
+import org.jkiss.dbeaver.runtime.sql.SQLControlCommandHandler;
+import org.jkiss.utils.CommonUtils;
+
+/**
+ * Marks following script queries as independent.
+ * Syntax: @parallel [workers count|off]
+ * Independent queries are executed concurrently in isolated contexts, each worker uses its own connection.
+ */
+public class SQLCommandParallel implements SQLControlCommandHandler {
+
+    public static final String PRAGMA_PARALLEL_WORKERS = "parallel.workers";
+
+    public static final int DEFAULT_WORKERS = 4;
+    public static final int MAX_WORKERS = 16;
+
+    @Override
+    public boolean handleCommand(SQLControlCommand command, SQLScriptContext scriptContext) throws DBException {
+        String parameter = CommonUtils.notEmpty(command.getParameter()).trim();
+        int workers;
+        if (parameter.isEmpty()) {
+            workers = DEFAULT_WORKERS;
+        } else if (parameter.equalsIgnoreCase("off")) {
+            workers = 0;
+        } else {
+            try {
+                workers = Integer.parseInt(parameter);
+            } catch (NumberFormatException e) {
+                throw new DBCException("Bad parallel syntax. Expected syntax:\n@parallel [workers count|off]");
+            }
+        }
+        if (workers > 1) {
+            scriptContext.getPragmas().put(PRAGMA_PARALLEL_WORKERS, Math.min(workers, MAX_WORKERS));
+        } else {
+            scriptContext.getPragmas().remove(PRAGMA_PARALLEL_WORKERS);
+        }
+
+        return true;
+    }
+
+}
@@ -27,6 +27,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Grid column info.
@@ -41,6 +42,15 @@ class GridColumn {
 	 */
 	private static final int DEFAULT_WIDTH = 10;
 
+    /**
+     * Number of rows taken from the head and from the tail of the grid for width calculation.
+     */
+    private static final int SAMPLE_EDGE_ROWS = 20;
+    /**
+     * Number of rows randomly sampled (one per stratum) from the rest of the grid.
+     */
+    private static final int SAMPLE_RANDOM_ROWS = 60;
+
     private static final int topMargin = 6;
     private static final int bottomMargin = 6;
     private static final int leftMargin = 6;
@@ -254,15 +264,21 @@ class GridColumn {
 	void pack(boolean reflect) {
 		int newWidth = computeHeaderWidth();
         if (CommonUtils.isEmpty(children)) {
-            // Calculate width of visible cells
+            // Calculate width of visible cells and of sampled rows.
+            // Sample size doesn't depend on row count so packing cost remains the same for huge result sets
+            int itemCount = grid.getItemCount();
             int topIndex = grid.getTopIndex();
             int bottomIndex = grid.getBottomIndex();
             if (topIndex >= 0 && bottomIndex >= topIndex) {
-                int itemCount = grid.getItemCount();
                 for (int i = topIndex; i <= bottomIndex && i < itemCount; i++) {
                     newWidth = Math.max(newWidth, computeCellWidth(element, grid.getRowElement(i)));
                 }
             }
+            for (int i : getSampleRows(itemCount)) {
+                if (i < topIndex || i > bottomIndex) {
+                    newWidth = Math.max(newWidth, computeCellWidth(element, grid.getRowElement(i)));
+                }
+            }
         } else {
             int childrenWidth = 0;
             for (GridColumn child : children) {
@@ -284,6 +300,35 @@ class GridColumn {
         }
 	}
 
+    /**
+     * Stratified row sample: first and last rows plus one random row from each of equal strata in between.
+     * Random generator is seeded with row count so the same data always produces the same widths.
+     */
+    private static int[] getSampleRows(int itemCount) {
+        if (itemCount <= SAMPLE_EDGE_ROWS * 2 + SAMPLE_RANDOM_ROWS) {
+            int[] rows = new int[itemCount];
+            for (int i = 0; i < itemCount; i++) {
+                rows[i] = i;
+            }
+            return rows;
+        }
+        int[] rows = new int[SAMPLE_EDGE_ROWS * 2 + SAMPLE_RANDOM_ROWS];
+        int pos = 0;
+        for (int i = 0; i < SAMPLE_EDGE_ROWS; i++) {
+            rows[pos++] = i;
+            rows[pos++] = itemCount - i - 1;
+        }
+        Random random = new Random(itemCount);
+        int middleStart = SAMPLE_EDGE_ROWS;
+        int middleCount = itemCount - SAMPLE_EDGE_ROWS * 2;
+        for (int i = 0; i < SAMPLE_RANDOM_ROWS; i++) {
+            long strataStart = (long) middleCount * i / SAMPLE_RANDOM_ROWS;
+            long strataEnd = (long) middleCount * (i + 1) / SAMPLE_RANDOM_ROWS;
+            rows[pos++] = middleStart + (int) strataStart + random.nextInt((int) Math.max(1, strataEnd - strataStart));
+        }
+        return rows;
+    }
+
     private int computeCellWidth(Object col, Object row) {
         int x = 0;
 
@@ -302,7 +347,7 @@ class GridColumn {
             x += imageBounds.width + insideMargin;
         }
 
-        x += grid.sizingGC.textExtent(cellText).x + rightMargin;
+        x += grid.textExtentCache.getTextWidth(cellText) + rightMargin;
         return x;
     }
 
@@ -0,0 +1,83 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.lightgrid;
+
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontMetrics;
+import org.eclipse.swt.graphics.GC;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of text widths measured with grid's sizing GC.
+ * Cache is bound to the GC font and is cleared when font changes.
+ * Very long texts are not measured at all - their width is estimated from average char width
+ * (they are wider than any sane column anyway).
+ */
+class GridTextExtentCache {
+
+    private static final int MAX_CACHE_SIZE = 10000;
+    private static final int MAX_MEASURED_TEXT_LENGTH = 200;
+
+    private final GC gc;
+    private Font font;
+    private FontMetrics fontMetrics;
+
+    private final Map<String, Integer> widthCache = new LinkedHashMap<String, Integer>(256, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    GridTextExtentCache(GC gc) {
+        this.gc = gc;
+        this.font = gc.getFont();
+        this.fontMetrics = gc.getFontMetrics();
+    }
+
+    int getTextWidth(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        checkFont();
+        if (text.length() > MAX_MEASURED_TEXT_LENGTH) {
+            return fontMetrics.getAverageCharWidth() * text.length();
+        }
+        Integer width = widthCache.get(text);
+        if (width == null) {
+            width = gc.textExtent(text).x;
+            widthCache.put(text, width);
+        }
+        return width;
+    }
+
+    void clear() {
+        widthCache.clear();
+    }
+
+    private void checkFont() {
+        Font gcFont = gc.getFont();
+        if (gcFont != font) {
+            font = gcFont;
+            fontMetrics = gc.getFontMetrics();
+            widthCache.clear();
+        }
+    }
+
+}
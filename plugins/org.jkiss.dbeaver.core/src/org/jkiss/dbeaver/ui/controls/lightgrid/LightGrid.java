@@ -278,6 +278,7 @@ public abstract class LightGrid extends Canvas {
     private Listener disposeListener;
 
     GC sizingGC;
+    GridTextExtentCache textExtentCache;
     FontMetrics fontMetrics;
     Font normalFont;
 
@@ -387,6 +388,7 @@ public abstract class LightGrid extends Canvas {
         super(parent, checkStyle(style));
 
         sizingGC = new GC(this);
+        textExtentCache = new GridTextExtentCache(sizingGC);
         fontMetrics = sizingGC.getFontMetrics();
         normalFont = getFont();
         columnHeaderRenderer = new GridColumnRenderer(this);
@@ -4191,6 +4193,7 @@ public abstract class LightGrid extends Canvas {
     {
         super.setFont(font);
         sizingGC.setFont(font);
+        textExtentCache.clear();
         fontMetrics = sizingGC.getFontMetrics();
         normalFont = font;
     }
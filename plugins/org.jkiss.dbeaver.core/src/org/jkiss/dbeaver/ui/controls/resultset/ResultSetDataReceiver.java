@@ -20,10 +20,14 @@ import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDAttributeBindingMeta;
 import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
 import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.exec.trace.DBCTrace;
+import org.jkiss.dbeaver.model.exec.trace.DBCTracePhase;
 import org.jkiss.dbeaver.model.impl.data.DBDValueError;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 import org.jkiss.dbeaver.ui.UIUtils;
 
 import java.util.ArrayList;
@@ -41,6 +45,10 @@ class ResultSetDataReceiver implements DBDDataReceiver {
     private ResultSetViewer resultSetViewer;
     private int columnsCount;
     private DBDAttributeBindingMeta[] metaColumns;
+    // Column readers resolved once per fetch
+    private DBDValueHandler[] valueHandlers;
+    private DBSTypedObject[] valueTypes;
+    private int[] valueIndexes;
     private List<Object[]> rows = new ArrayList<>();
     private boolean hasMoreData;
     private boolean nextSegmentRead;
@@ -53,6 +61,7 @@ class ResultSetDataReceiver implements DBDDataReceiver {
     private List<Throwable> errorList = new ArrayList<>();
     private int focusRow;
     private DBSDataContainer targetDataContainer;
+    private DBCTrace trace;
 
     ResultSetDataReceiver(ResultSetViewer resultSetViewer)
     {
@@ -91,6 +100,7 @@ class ResultSetDataReceiver implements DBDDataReceiver {
         this.rows.clear();
         this.offset = offset;
         this.maxRows = maxRows;
+        this.trace = resultSet instanceof DBCResultSetTrace ? ((DBCResultSetTrace) resultSet).getExecutionTrace() : null;
 
         if (!nextSegmentRead) {
             // Get columns metadata
@@ -110,20 +120,29 @@ class ResultSetDataReceiver implements DBDDataReceiver {
 
             resultSetViewer.setMetaData(resultSet, metaColumns);
         }
+        valueHandlers = new DBDValueHandler[columnsCount];
+        valueTypes = new DBSTypedObject[columnsCount];
+        valueIndexes = new int[columnsCount];
+        for (int i = 0; i < columnsCount; i++) {
+            valueHandlers[i] = metaColumns[i].getValueHandler();
+            valueTypes[i] = metaColumns[i].getAttribute();
+            valueIndexes[i] = metaColumns[i].getOrdinalPosition();
+        }
     }
 
     @Override
     public void fetchRow(DBCSession session, DBCResultSet resultSet)
         throws DBCException
     {
+        long startTime = trace == null ? 0 : System.nanoTime();
         Object[] row = new Object[columnsCount];
         for (int i = 0; i < columnsCount; i++) {
             try {
-                row[i] = metaColumns[i].getValueHandler().fetchValueObject(
+                row[i] = valueHandlers[i].fetchValueObject(
                     session,
                     resultSet,
-                    metaColumns[i].getAttribute(),
-                    metaColumns[i].getOrdinalPosition());
+                    valueTypes[i],
+                    valueIndexes[i]);
             }
             catch (Throwable e) {
                 // Do not reports the same error multiple times
@@ -148,6 +167,10 @@ class ResultSetDataReceiver implements DBDDataReceiver {
                 }
             }
         }
+        if (trace != null) {
+            trace.addPhaseTime(DBCTracePhase.CONVERT, System.nanoTime() - startTime);
+            trace.addRowValues(row);
+        }
         rows.add(row);
     }
 
@@ -172,6 +195,7 @@ class ResultSetDataReceiver implements DBDDataReceiver {
         final List<Object[]> tmpRows = rows;
 
         final boolean nextSegmentRead = this.nextSegmentRead;
+        long startTime = trace == null ? 0 : System.nanoTime();
         UIUtils.syncExec(() -> {
             // Push data into viewer
             if (!nextSegmentRead) {
@@ -187,12 +211,16 @@ class ResultSetDataReceiver implements DBDDataReceiver {
             // Check for more data
             hasMoreData = maxRows > 0 && tmpRows.size() >= maxRows;
         });
+        if (trace != null) {
+            trace.addPhaseTime(DBCTracePhase.UI, System.nanoTime() - startTime);
+        }
     }
 
     @Override
     public void close()
     {
         nextSegmentRead = false;
+        trace = null;
 
         attrErrors.clear();
         rows = new ArrayList<>();
@@ -0,0 +1,245 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDAttributeConstraint;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.model.exec.DBCLogicalOperator;
+import org.jkiss.utils.CommonUtils;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Client-side data filter.
+ * Compiles attribute constraints of data filter into predicates over fetched rows.
+ *
+ * Filter can be evaluated locally only if fetched rows contain all rows which may match it:
+ * all conditions of the filter used to fetch data must be present in the new filter and
+ * all additional conditions must be operator-based constraints over values which equality and order are the same
+ * on the client and on the server (integral numbers, dates, booleans).
+ * Strings (collations), decimals (scale), floating point numbers, custom criteria, WHERE expressions and
+ * custom ORDER expressions depend on server semantics so they are always evaluated by server.
+ */
+class ResultSetLocalFilter {
+
+    private static final int PARALLEL_FILTER_THRESHOLD = 10000;
+
+    private static class AttributePredicate {
+        private final DBDAttributeBinding binding;
+        private final DBCLogicalOperator operator;
+        private final boolean reverse;
+        private final Object[] arguments;
+
+        AttributePredicate(DBDAttributeBinding binding, DBCLogicalOperator operator, boolean reverse, Object[] arguments) {
+            this.binding = binding;
+            this.operator = operator;
+            this.reverse = reverse;
+            this.arguments = arguments;
+        }
+
+        boolean evaluate(ResultSetModel model, ResultSetRow row) {
+            Object value = model.getCellValue(binding, row);
+            if (DBUtils.isNullValue(value)) {
+                value = null;
+            }
+            if (arguments == null) {
+                // IS [NOT] NULL
+                return (value == null) != reverse;
+            }
+            if (value == null) {
+                // NULL never matches comparison (neither direct nor reversed)
+                return false;
+            }
+            return operator.evaluate(value, arguments) != reverse;
+        }
+    }
+
+    private final ResultSetModel model;
+    private final boolean anyConstraint;
+    private final List<AttributePredicate> predicates;
+
+    private ResultSetLocalFilter(ResultSetModel model, boolean anyConstraint, List<AttributePredicate> predicates) {
+        this.model = model;
+        this.anyConstraint = anyConstraint;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Compiles data filter.
+     *
+     * @param model         result set model
+     * @param fetchedRows   all rows fetched from server
+     * @param fetchFilter   filter which was used to fetch rows
+     * @param filter        new filter
+     * @return compiled filter or null if filter can't be evaluated on the client side
+     */
+    @Nullable
+    static ResultSetLocalFilter compile(
+        @NotNull ResultSetModel model,
+        @NotNull List<ResultSetRow> fetchedRows,
+        @NotNull DBDDataFilter fetchFilter,
+        @NotNull DBDDataFilter filter)
+    {
+        if (!CommonUtils.isEmpty(fetchFilter.getWhere()) || !CommonUtils.isEmpty(filter.getWhere())) {
+            if (!CommonUtils.equalObjects(fetchFilter.getWhere(), filter.getWhere())) {
+                return null;
+            }
+        }
+        if (!CommonUtils.notEmpty(fetchFilter.getOrder()).equals(CommonUtils.notEmpty(filter.getOrder()))) {
+            // Custom ORDER expression
+            return null;
+        }
+        // All server-side conditions must remain in the new filter
+        for (DBDAttributeConstraint fetchConstraint : fetchFilter.getConstraints()) {
+            if (fetchConstraint.hasCondition()) {
+                DBDAttributeConstraint constraint = filter.getConstraint(fetchConstraint.getAttribute(), true);
+                if (constraint == null || !constraint.equalFilters(fetchConstraint, false)) {
+                    return null;
+                }
+            }
+        }
+        List<AttributePredicate> predicates = new ArrayList<>();
+        for (DBDAttributeConstraint constraint : filter.getConstraints()) {
+            if (!constraint.hasCondition()) {
+                continue;
+            }
+            DBDAttributeConstraint fetchConstraint = fetchFilter.getConstraint(constraint.getAttribute(), true);
+            if (fetchConstraint != null && fetchConstraint.equalFilters(constraint, false)) {
+                // Already applied by server
+                continue;
+            }
+            AttributePredicate predicate = compileConstraint(model, fetchedRows, constraint);
+            if (predicate == null) {
+                return null;
+            }
+            predicates.add(predicate);
+        }
+        if (!predicates.isEmpty() && fetchFilter.hasConditions() &&
+            (filter.isAnyConstraint() || fetchFilter.isAnyConstraint()))
+        {
+            // OR-ed conditions may match rows which weren't fetched
+            return null;
+        }
+        return new ResultSetLocalFilter(model, filter.isAnyConstraint(), predicates);
+    }
+
+    @Nullable
+    private static AttributePredicate compileConstraint(ResultSetModel model, List<ResultSetRow> fetchedRows, DBDAttributeConstraint constraint) {
+        DBCLogicalOperator operator = constraint.getOperator();
+        if (operator == null) {
+            // Custom criteria
+            return null;
+        }
+        DBDAttributeBinding binding = model.getAttributeBinding(constraint.getAttribute());
+        if (binding == null) {
+            return null;
+        }
+        Object value = constraint.getValue();
+        if (DBUtils.isNullValue(value)) {
+            if (operator.getArgumentCount() == 0) {
+                return new AttributePredicate(binding, operator, operator == DBCLogicalOperator.IS_NOT_NULL, null);
+            }
+            return new AttributePredicate(binding, operator, constraint.isReverseOperator(), null);
+        }
+        Object[] arguments;
+        switch (operator) {
+            case EQUALS:
+            case NOT_EQUALS:
+            case GREATER:
+            case GREATER_EQUALS:
+            case LESS:
+            case LESS_EQUALS:
+                arguments = new Object[] { value };
+                break;
+            case IN:
+                if (!(value instanceof Object[])) {
+                    return null;
+                }
+                arguments = (Object[]) value;
+                break;
+            default:
+                // LIKE and other pattern operators have dialect-specific semantics
+                return null;
+        }
+        if (arguments.length == 0) {
+            return null;
+        }
+        Class<?> valueClass = null;
+        for (Object arg : arguments) {
+            if (!isLocalValue(arg) || (valueClass != null && arg.getClass() != valueClass)) {
+                return null;
+            }
+            valueClass = arg.getClass();
+        }
+        // All cell values must be of the same type as arguments
+        for (ResultSetRow row : fetchedRows) {
+            Object cellValue = model.getCellValue(binding, row);
+            if (cellValue != null && cellValue.getClass() != valueClass) {
+                return null;
+            }
+        }
+        return new AttributePredicate(binding, operator, constraint.isReverseOperator(), arguments);
+    }
+
+    private static boolean isLocalValue(Object value) {
+        return value != null && !(value instanceof DBDValue) &&
+            (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ||
+                value instanceof BigInteger || value instanceof Date || value instanceof Boolean);
+    }
+
+    boolean matches(@NotNull ResultSetRow row) {
+        if (predicates.isEmpty()) {
+            return true;
+        }
+        for (AttributePredicate predicate : predicates) {
+            boolean result = predicate.evaluate(model, row);
+            if (anyConstraint && result) {
+                return true;
+            } else if (!anyConstraint && !result) {
+                return false;
+            }
+        }
+        return !anyConstraint;
+    }
+
+    @NotNull
+    List<ResultSetRow> filterRows(@NotNull List<ResultSetRow> rows) {
+        if (predicates.isEmpty()) {
+            return new ArrayList<>(rows);
+        }
+        if (rows.size() >= PARALLEL_FILTER_THRESHOLD) {
+            return rows.parallelStream().filter(this::matches).collect(Collectors.toList());
+        }
+        List<ResultSetRow> result = new ArrayList<>();
+        for (ResultSetRow row : rows) {
+            if (matches(row)) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+}
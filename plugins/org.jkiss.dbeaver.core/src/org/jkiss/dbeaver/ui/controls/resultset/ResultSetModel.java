@@ -58,6 +58,12 @@ public class ResultSetModel {
 
     // Data
     private List<ResultSetRow> curRows = new ArrayList<>();
+    // All fetched rows. Not null only if client-side filter is applied (curRows contains filtered rows then)
+    @Nullable
+    private List<ResultSetRow> fetchedRows;
+    // Filter which was used to fetch data from server
+    @Nullable
+    private DBDDataFilter fetchFilter;
     private Long totalRowCount = null;
     private int changesCount = 0;
     private volatile boolean hasData = false;
@@ -448,8 +454,6 @@ public class ResultSetModel {
      * @param newAttributes attributes metadata
      */
     public void setMetaData(@NotNull DBCResultSet resultSet, @NotNull DBDAttributeBinding[] newAttributes) {
-
-        boolean update = false;
         DBCStatement sourceStatement = resultSet.getSourceStatement();
         if (sourceStatement != null) {
             this.executionSource = sourceStatement.getStatementSource();
@@ -461,7 +465,23 @@ public class ResultSetModel {
         } else {
             this.trace = null;
         }
+        updateMetaData(newAttributes);
+    }
+
+    /**
+     * Sets metadata of previously fetched result set (see {@link ResultSetPageCache}).
+     *
+     * @param executionSource source of the viewer which shows cached data
+     * @param newAttributes attributes metadata
+     */
+    void setCachedMetaData(@NotNull DBCExecutionSource executionSource, @NotNull DBDAttributeBinding[] newAttributes) {
+        this.executionSource = executionSource;
+        this.trace = null;
+        updateMetaData(newAttributes);
+    }
 
+    private void updateMetaData(@NotNull DBDAttributeBinding[] newAttributes) {
+        boolean update = false;
         if (this.attributes == null || this.attributes.length == 0 || this.attributes.length != newAttributes.length || isDynamicMetadata()) {
             update = true;
         } else {
@@ -522,6 +542,7 @@ public class ResultSetModel {
     public void setData(@NotNull List<Object[]> rows) {
         // Clear previous data
         this.clearData();
+        this.fetchFilter = null;
 
         {
             // Extract nested attributes from single top-level attribute
@@ -687,11 +708,14 @@ public class ResultSetModel {
 
     @NotNull
     ResultSetRow addNewRow(int rowNum, @NotNull Object[] data) {
-        ResultSetRow newRow = new ResultSetRow(curRows.size(), data);
+        ResultSetRow newRow = new ResultSetRow(fetchedRows != null ? fetchedRows.size() : curRows.size(), data);
         newRow.setVisualNumber(rowNum);
         newRow.setState(ResultSetRow.STATE_ADDED);
         shiftRows(newRow, 1);
         curRows.add(rowNum, newRow);
+        if (fetchedRows != null) {
+            fetchedRows.add(newRow);
+        }
         changesCount++;
         return newRow;
     }
@@ -718,6 +742,9 @@ public class ResultSetModel {
     void cleanupRow(@NotNull ResultSetRow row) {
         row.release();
         this.curRows.remove(row.getVisualNumber());
+        if (this.fetchedRows != null) {
+            this.fetchedRows.remove(row);
+        }
         this.shiftRows(row, -1);
     }
 
@@ -740,6 +767,8 @@ public class ResultSetModel {
             if (row.getVisualNumber() >= relative.getVisualNumber()) {
                 row.setVisualNumber(row.getVisualNumber() + delta);
             }
+        }
+        for (ResultSetRow row : fetchedRows != null ? fetchedRows : curRows) {
             if (row.getRowNumber() >= relative.getRowNumber()) {
                 row.setRowNumber(row.getRowNumber() + delta);
             }
@@ -747,8 +776,9 @@ public class ResultSetModel {
     }
 
     private void releaseAll() {
-        final List<ResultSetRow> oldRows = curRows;
+        final List<ResultSetRow> oldRows = fetchedRows != null ? fetchedRows : curRows;
         this.curRows = new ArrayList<>();
+        this.fetchedRows = null;
         this.totalRowCount = null;
 
         // Cleanup in separate job.
@@ -806,6 +836,38 @@ public class ResultSetModel {
         return false;
     }
 
+    /**
+     * Remembers current data filter as the filter which was used to fetch data from server.
+     */
+    void updateFetchFilter() {
+        this.fetchFilter = new DBDDataFilter(dataFilter);
+    }
+
+    /**
+     * Filters fetched rows on the client side.
+     * Data filter itself isn't changed.
+     *
+     * @param filter new data filter
+     * @return true if filter was applied or false if it can't be evaluated locally and data must be re-read from server
+     */
+    boolean applyLocalFilter(@NotNull DBDDataFilter filter) {
+        if (!hasData || fetchFilter == null) {
+            return false;
+        }
+        if (filter.equalFilters(dataFilter, true)) {
+            // The same filter applied again - refresh data from server
+            return false;
+        }
+        final List<ResultSetRow> allRows = fetchedRows != null ? fetchedRows : curRows;
+        final ResultSetLocalFilter localFilter = ResultSetLocalFilter.compile(this, allRows, fetchFilter, filter);
+        if (localFilter == null) {
+            return false;
+        }
+        fetchedRows = allRows;
+        curRows = localFilter.filterRows(allRows);
+        return true;
+    }
+
     void updateDataFilter(DBDDataFilter filter) {
         this.visibleAttributes.clear();
         Collections.addAll(this.visibleAttributes, this.attributes);
@@ -863,42 +925,22 @@ public class ResultSetModel {
 
     public void resetOrdering() {
         final boolean hasOrdering = dataFilter.hasOrdering();
-        // Sort locally
-        final List<DBDAttributeConstraint> orderConstraints = dataFilter.getOrderConstraints();
-        curRows.sort((row1, row2) -> {
-            if (!hasOrdering) {
-                return row1.getRowNumber() - row2.getRowNumber();
-            }
-            int result = 0;
+        if (!hasOrdering) {
+            curRows.sort(Comparator.comparingInt(ResultSetRow::getRowNumber));
+        } else {
+            // Sort locally
+            final List<DBDAttributeConstraint> orderConstraints = dataFilter.getOrderConstraints();
+            final List<DBDAttributeBinding> orderAttributes = new ArrayList<>(orderConstraints.size());
+            final boolean[] orderDescending = new boolean[orderConstraints.size()];
             for (DBDAttributeConstraint co : orderConstraints) {
                 final DBDAttributeBinding binding = getAttributeBinding(co.getAttribute());
-                if (binding == null) {
-                    continue;
-                }
-                Object cell1 = getCellValue(binding, row1);
-                Object cell2 = getCellValue(binding, row2);
-                if (cell1 == cell2) {
-                    result = 0;
-                } else if (DBUtils.isNullValue(cell1)) {
-                    result = 1;
-                } else if (DBUtils.isNullValue(cell2)) {
-                    result = -1;
-                } else if (cell1 instanceof Comparable) {
-                    result = ((Comparable) cell1).compareTo(cell2);
-                } else {
-                    String str1 = String.valueOf(cell1);
-                    String str2 = String.valueOf(cell2);
-                    result = str1.compareTo(str2);
-                }
-                if (co.isOrderDescending()) {
-                    result = -result;
-                }
-                if (result != 0) {
-                    break;
+                if (binding != null) {
+                    orderDescending[orderAttributes.size()] = co.isOrderDescending();
+                    orderAttributes.add(binding);
                 }
             }
-            return result;
-        });
+            new ResultSetSorter(this).sortRows(curRows, orderAttributes, orderDescending);
+        }
         for (int i = 0; i < curRows.size(); i++) {
             curRows.get(i).setVisualNumber(i);
         }
@@ -0,0 +1,309 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBeaverPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBPEvent;
+import org.jkiss.dbeaver.model.DBPEventListener;
+import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDAttributeBindingMeta;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+
+import java.util.*;
+
+/**
+ * LRU cache of recently fetched result set pages.
+ * Pages are shared between viewers, so another viewer of the same table may show the data without query execution.
+ * Page keeps only row values and a copy of metadata: it never references viewers or execution contexts.
+ * Page is removed when the last viewer which used it is disposed and when its data source is disconnected or removed.
+ * Cache is limited by approximate memory size of cached values.
+ * Pages with complex values (LOBs, structures, etc) are not cached - these values are released with the model.
+ */
+class ResultSetPageCache implements DBPEventListener {
+
+    private static final ResultSetPageCache instance = new ResultSetPageCache();
+
+    static ResultSetPageCache getInstance() {
+        return instance;
+    }
+
+    static class Page {
+        private final DBPDataSource dataSource;
+        private final DBDAttributeBindingMeta[] attributes;
+        private final List<Object[]> rows;
+        private final List<ResultSetPresentationDescriptor> presentations;
+        private final boolean hasMoreData;
+        private final long cacheTime;
+        private final long size;
+        private final Set<Object> owners = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private Page(DBPDataSource dataSource, DBDAttributeBindingMeta[] attributes, List<Object[]> rows, List<ResultSetPresentationDescriptor> presentations, boolean hasMoreData, long size) {
+            this.dataSource = dataSource;
+            this.attributes = attributes;
+            this.rows = rows;
+            this.presentations = presentations;
+            this.hasMoreData = hasMoreData;
+            this.cacheTime = System.currentTimeMillis();
+            this.size = size;
+        }
+
+        /**
+         * Model modifies bindings (e.g. late binding, transformers) so each viewer gets its own copy
+         */
+        @NotNull
+        DBDAttributeBinding[] copyAttributes() {
+            return copyBindings(attributes);
+        }
+
+        int getRowCount() {
+            return rows.size();
+        }
+
+        /**
+         * Model modifies row values in place so each viewer gets its own copy
+         */
+        @NotNull
+        List<Object[]> copyRows() {
+            List<Object[]> result = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                result.add(row.clone());
+            }
+            return result;
+        }
+
+        @NotNull
+        List<ResultSetPresentationDescriptor> getPresentations() {
+            return presentations;
+        }
+
+        boolean isHasMoreData() {
+            return hasMoreData;
+        }
+
+        long getCacheTime() {
+            return cacheTime;
+        }
+    }
+
+    private static class PageKey {
+        private final DBSDataContainer dataContainer;
+        private final DBDDataFilter dataFilter;
+
+        PageKey(DBSDataContainer dataContainer, DBDDataFilter dataFilter) {
+            this.dataContainer = dataContainer;
+            this.dataFilter = dataFilter;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(dataContainer);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof PageKey)) {
+                return false;
+            }
+            PageKey key = (PageKey) obj;
+            if (dataContainer != key.dataContainer) {
+                return false;
+            }
+            boolean hasFilters = dataFilter != null && dataFilter.hasFilters();
+            boolean keyHasFilters = key.dataFilter != null && key.dataFilter.hasFilters();
+            if (!hasFilters || !keyHasFilters) {
+                return hasFilters == keyHasFilters;
+            }
+            return dataFilter.equalFilters(key.dataFilter, true);
+        }
+    }
+
+    private final Map<PageKey, Page> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<DBPDataSourceRegistry> registries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long totalSize;
+
+    private ResultSetPageCache() {
+    }
+
+    /**
+     * Returns cached page and registers the owner as its user
+     */
+    @Nullable
+    synchronized Page getPage(@NotNull DBSDataContainer dataContainer, @Nullable DBDDataFilter dataFilter, @NotNull Object owner) {
+        final PageKey key = new PageKey(dataContainer, dataFilter);
+        final Page page = pages.get(key);
+        if (page == null) {
+            return null;
+        }
+        if (page.dataSource != dataContainer.getDataSource()) {
+            // Reconnected
+            removePage(key);
+            return null;
+        }
+        page.owners.add(owner);
+        return page;
+    }
+
+    /**
+     * Caches current model data.
+     * Model shouldn't contain unsaved changes.
+     */
+    synchronized void putPage(
+        @NotNull DBSDataContainer dataContainer,
+        @NotNull ResultSetModel model,
+        @NotNull List<ResultSetPresentationDescriptor> presentations,
+        boolean hasMoreData,
+        @NotNull Object owner)
+    {
+        final DBPDataSource dataSource = dataContainer.getDataSource();
+        if (dataSource == null) {
+            return;
+        }
+        final long maxSize = getMaxSize(dataSource.getContainer());
+        final PageKey key = new PageKey(dataContainer, new DBDDataFilter(model.getDataFilter()));
+        removePage(key);
+        if (maxSize <= 0) {
+            return;
+        }
+        final DBDAttributeBinding[] modelAttributes = model.getAttributes();
+        final DBDAttributeBindingMeta[] attributes = new DBDAttributeBindingMeta[modelAttributes.length];
+        for (int i = 0; i < modelAttributes.length; i++) {
+            if (!(modelAttributes[i] instanceof DBDAttributeBindingMeta) || modelAttributes[i].hasNestedBindings()) {
+                return;
+            }
+            attributes[i] = (DBDAttributeBindingMeta) modelAttributes[i];
+        }
+        final List<ResultSetRow> modelRows = model.getAllRows();
+        final List<Object[]> rows = new ArrayList<>(modelRows.size());
+        long size = 0;
+        for (ResultSetRow row : modelRows) {
+            size += 16 + row.values.length * 8;
+            for (Object value : row.values) {
+                if (value instanceof DBDValue) {
+                    return;
+                }
+                size += getValueSize(value);
+            }
+            rows.add(row.values.clone());
+        }
+        if (size > maxSize / 4) {
+            // Do not let one huge page flush the whole cache
+            return;
+        }
+        final Page page = new Page(dataSource, copyBindings(attributes), rows, presentations, hasMoreData, size);
+        page.owners.add(owner);
+        pages.put(key, page);
+        totalSize += size;
+        if (registries.add(dataSource.getContainer().getRegistry())) {
+            dataSource.getContainer().getRegistry().addDataSourceListener(this);
+        }
+
+        for (Iterator<Page> iter = pages.values().iterator(); totalSize > maxSize && iter.hasNext(); ) {
+            totalSize -= iter.next().size;
+            iter.remove();
+        }
+    }
+
+    /**
+     * Removes all cached pages of the specified container (e.g. after data modification)
+     */
+    synchronized void invalidatePages(@NotNull DBSDataContainer dataContainer) {
+        for (Iterator<Map.Entry<PageKey, Page>> iter = pages.entrySet().iterator(); iter.hasNext(); ) {
+            Map.Entry<PageKey, Page> entry = iter.next();
+            if (entry.getKey().dataContainer == dataContainer) {
+                totalSize -= entry.getValue().size;
+                iter.remove();
+            }
+        }
+    }
+
+    /**
+     * Owner (viewer) was disposed. Removes pages which aren't used by other owners.
+     */
+    synchronized void releaseOwner(@NotNull Object owner) {
+        for (Iterator<Page> iter = pages.values().iterator(); iter.hasNext(); ) {
+            Page page = iter.next();
+            if (page.owners.remove(owner) && page.owners.isEmpty()) {
+                totalSize -= page.size;
+                iter.remove();
+            }
+        }
+    }
+
+    @Override
+    public void handleDataSourceEvent(DBPEvent event) {
+        if (!(event.getObject() instanceof DBPDataSourceContainer)) {
+            return;
+        }
+        if (event.getAction() == DBPEvent.Action.OBJECT_REMOVE ||
+            (event.getAction() == DBPEvent.Action.OBJECT_UPDATE && Boolean.FALSE.equals(event.getEnabled())))
+        {
+            // Data source was disconnected or removed
+            invalidateDataSource((DBPDataSourceContainer) event.getObject());
+        }
+    }
+
+    private synchronized void invalidateDataSource(@NotNull DBPDataSourceContainer dataSourceContainer) {
+        for (Iterator<Page> iter = pages.values().iterator(); iter.hasNext(); ) {
+            Page page = iter.next();
+            if (page.dataSource.getContainer() == dataSourceContainer) {
+                totalSize -= page.size;
+                iter.remove();
+            }
+        }
+    }
+
+    private void removePage(PageKey key) {
+        Page oldPage = pages.remove(key);
+        if (oldPage != null) {
+            totalSize -= oldPage.size;
+        }
+    }
+
+    private static DBDAttributeBindingMeta[] copyBindings(DBDAttributeBindingMeta[] bindings) {
+        DBDAttributeBindingMeta[] result = new DBDAttributeBindingMeta[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            result[i] = bindings[i].copyBinding();
+        }
+        return result;
+    }
+
+    private static long getMaxSize(@NotNull DBPDataSourceContainer dataSourceContainer) {
+        return dataSourceContainer.getPreferenceStore().getInt(DBeaverPreferences.RESULT_SET_PAGE_CACHE_SIZE) * 1024L * 1024L;
+    }
+
+    private static long getValueSize(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return 40 + ((String) value).length() * 2;
+        } else if (value instanceof byte[]) {
+            return 16 + ((byte[]) value).length;
+        } else if (value instanceof Number || value instanceof Boolean) {
+            return 24;
+        } else {
+            return 48;
+        }
+    }
+
+}
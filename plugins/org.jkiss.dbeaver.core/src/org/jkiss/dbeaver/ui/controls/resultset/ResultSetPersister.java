@@ -43,6 +43,9 @@ import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
@@ -52,6 +55,11 @@ class ResultSetPersister {
 
     private static final Log log = Log.getLog(ResultSetPersister.class);
 
+    // Max number of rows in one update batch
+    private static final int MAX_BATCH_SIZE = 1000;
+    // Max number of keys in one refresh query
+    private static final int MAX_REFRESH_KEYS = 100;
+
     /**
      * Data update listener
      */
@@ -522,86 +530,84 @@ class ResultSetPersister {
                 }
             }
             try {
-                for (DataStatementInfo statement : ResultSetPersister.this.deleteStatements) {
+                for (List<DataStatementInfo> group : groupStatements(ResultSetPersister.this.deleteStatements)) {
                     if (monitor.isCanceled()) break;
+                    DataStatementInfo firstStatement = group.get(0);
                     try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
+                        DBSDataManipulator dataContainer = getDataManipulator(firstStatement.entity);
                         try (DBSDataManipulator.ExecuteBatch batch = dataContainer.deleteData(
                             session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
+                            DBDAttributeValue.getAttributes(firstStatement.keyAttributes),
                             new ExecutionSource(dataContainer)))
                         {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script);
-                            } else {
-                                deleteStats.accumulate(batch.execute(session));
+                            for (DataStatementInfo statement : group) {
+                                batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
                             }
+                            executeBatch(session, batch, group, deleteStats);
                         }
-                        processStatementChanges(statement);
+                        processStatementChanges(group);
                     } catch (DBException e) {
-                        processStatementError(statement, session);
+                        processStatementError(group, session, e);
                         return e;
                     }
-                    monitor.worked(1);
+                    monitor.worked(group.size());
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.insertStatements) {
+                for (List<DataStatementInfo> group : groupStatements(ResultSetPersister.this.insertStatements)) {
                     if (monitor.isCanceled()) break;
+                    DataStatementInfo firstStatement = group.get(0);
                     try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
+                        DBSDataManipulator dataContainer = getDataManipulator(firstStatement.entity);
+                        // Statements which need generated keys are never grouped
                         try (DBSDataManipulator.ExecuteBatch batch = dataContainer.insertData(
                             session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            statement.needKeys() ? new KeyDataReceiver(statement) : null,
+                            DBDAttributeValue.getAttributes(firstStatement.keyAttributes),
+                            firstStatement.needKeys() ? new KeyDataReceiver(firstStatement) : null,
                             new ExecutionSource(dataContainer)))
                         {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script);
-                            } else {
-                                insertStats.accumulate(batch.execute(session));
+                            for (DataStatementInfo statement : group) {
+                                batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
                             }
+                            executeBatch(session, batch, group, insertStats);
                         }
-                        processStatementChanges(statement);
+                        processStatementChanges(group);
                     } catch (DBException e) {
-                        processStatementError(statement, session);
+                        processStatementError(group, session, e);
                         return e;
                     }
-                    monitor.worked(1);
+                    monitor.worked(group.size());
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.updateStatements) {
+                for (List<DataStatementInfo> group : groupStatements(ResultSetPersister.this.updateStatements)) {
                     if (monitor.isCanceled()) break;
+                    DataStatementInfo firstStatement = group.get(0);
                     try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
+                        DBSDataManipulator dataContainer = getDataManipulator(firstStatement.entity);
                         try (DBSDataManipulator.ExecuteBatch batch = dataContainer.updateData(
                             session,
-                            DBDAttributeValue.getAttributes(statement.updateAttributes),
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
+                            DBDAttributeValue.getAttributes(firstStatement.updateAttributes),
+                            DBDAttributeValue.getAttributes(firstStatement.keyAttributes),
                             null,
                             new ExecutionSource(dataContainer)))
                         {
-                            // Make single array of values
-                            Object[] attributes = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
-                            for (int i = 0; i < statement.updateAttributes.size(); i++) {
-                                attributes[i] = statement.updateAttributes.get(i).getValue();
-                            }
-                            for (int i = 0; i < statement.keyAttributes.size(); i++) {
-                                attributes[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
+                            for (DataStatementInfo statement : group) {
+                                // Make single array of values
+                                Object[] attributes = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
+                                for (int i = 0; i < statement.updateAttributes.size(); i++) {
+                                    attributes[i] = statement.updateAttributes.get(i).getValue();
+                                }
+                                for (int i = 0; i < statement.keyAttributes.size(); i++) {
+                                    attributes[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
+                                }
+                                batch.add(attributes);
                             }
                             // Execute
-                            batch.add(attributes);
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script);
-                            } else {
-                                updateStats.accumulate(batch.execute(session));
-                            }
+                            executeBatch(session, batch, group, updateStats);
                         }
-                        processStatementChanges(statement);
+                        processStatementChanges(group);
                     } catch (DBException e) {
-                        processStatementError(statement, session);
+                        processStatementError(group, session, e);
                         return e;
                     }
-                    monitor.worked(1);
+                    monitor.worked(group.size());
                 }
 
                 return null;
@@ -617,26 +623,72 @@ class ResultSetPersister {
             }
         }
 
-        private void processStatementChanges(DataStatementInfo statement)
+        /**
+         * Splits statements into groups which may be executed by single batch.
+         * Only adjacent statements are grouped so execution order remains the same.
+         */
+        private List<List<DataStatementInfo>> groupStatements(List<DataStatementInfo> statements)
         {
-            statement.executed = true;
+            List<List<DataStatementInfo>> groups = new ArrayList<>();
+            List<DataStatementInfo> curGroup = null;
+            for (DataStatementInfo statement : statements) {
+                if (curGroup == null || curGroup.size() >= MAX_BATCH_SIZE || !curGroup.get(0).isBatchCompatible(statement)) {
+                    curGroup = new ArrayList<>();
+                    groups.add(curGroup);
+                }
+                curGroup.add(statement);
+            }
+            return groups;
         }
 
-        private void processStatementError(DataStatementInfo statement, DBCSession session)
+        private void executeBatch(DBCSession session, DBSDataManipulator.ExecuteBatch batch, List<DataStatementInfo> statements, DBCStatistics statistics)
+            throws DBCException
         {
-            statement.executed = false;
+            if (generateScript) {
+                batch.generatePersistActions(session, script);
+            } else {
+                try {
+                    statistics.accumulate(batch.execute(session));
+                } catch (DBCException e) {
+                    // Remember rows executed before (or after) the failed one
+                    for (int i = 0; i < statements.size(); i++) {
+                        statements.get(i).executed = batch.isRowExecuted(i);
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        private void processStatementChanges(List<DataStatementInfo> statements)
+        {
+            for (DataStatementInfo statement : statements) {
+                statement.executed = true;
+            }
+        }
+
+        private void processStatementError(List<DataStatementInfo> statements, DBCSession session, DBException error)
+        {
+            boolean rolledBack = generateScript;
             if (!generateScript) {
                 DBCTransactionManager txnManager = DBUtils.getTransactionManager(getExecutionContext());
                 if (txnManager != null) {
                     try {
                         if (!txnManager.isAutoCommit()) {
                             txnManager.rollback(session, savepoint);
+                            rolledBack = true;
                         }
                     } catch (Throwable e) {
                         log.debug("Error during transaction rollback", e);
                     }
                 }
             }
+            // In auto-commit mode rows executed before (or after) the failed one remain in database.
+            // They must not be marked as changed otherwise they will be saved again.
+            if (rolledBack) {
+                for (DataStatementInfo statement : statements) {
+                    statement.executed = false;
+                }
+            }
         }
 
     }
@@ -751,11 +803,28 @@ class ResultSetPersister {
             }
             return false;
         }
+
+        /**
+         * Checks whether statements may be executed in the same batch.
+         * Statements must modify the same entity and the same set of attributes.
+         */
+        boolean isBatchCompatible(DataStatementInfo statement)
+        {
+            if (type != statement.type || entity != statement.entity) {
+                return false;
+            }
+            if (type == DBSManipulationType.INSERT && (needKeys() || statement.needKeys())) {
+                // Generated keys are read after each insert
+                return false;
+            }
+            return Arrays.equals(DBDAttributeValue.getAttributes(keyAttributes), DBDAttributeValue.getAttributes(statement.keyAttributes)) &&
+                Arrays.equals(DBDAttributeValue.getAttributes(updateAttributes), DBDAttributeValue.getAttributes(statement.updateAttributes));
+        }
     }
 
     class RowDataReceiver implements DBDDataReceiver {
         private final DBDAttributeBinding[] curAttributes;
-        private Object[] rowValues;
+        private final List<Object[]> rows = new ArrayList<>();
         public RowDataReceiver(DBDAttributeBinding[] curAttributes) {
             this.curAttributes = curAttributes;
         }
@@ -785,13 +854,14 @@ class ResultSetPersister {
                 }
             }
 
-            rowValues = new Object[curAttributes.length];
+            Object[] rowValues = new Object[curAttributes.length];
             for (int i = 0; i < curAttributes.length; i++) {
                 final DBDAttributeBinding attr = curAttributes[i];
                 DBDValueHandler valueHandler = attr.getValueHandler();
                 Object attrValue = valueHandler.fetchValueObject(session, resultSet, attr, i);
                 rowValues[i] = attrValue;
             }
+            rows.add(rowValues);
 
         }
 
@@ -833,30 +903,81 @@ class ResultSetPersister {
                     return Status.OK_STATUS;
                 }
                 try (DBCSession session = getExecutionContext().openSession(monitor, DBCExecutionPurpose.UTIL, "Refresh row(s) after insert/update")) {
-                    for (int i = 0; i < rows.size(); i++) {
-                        ResultSetRow row = rows.get(i);
-                        List<DBDAttributeConstraint> constraints = new ArrayList<>();
-                        boolean hasKey = true;
-                        for (DBDAttributeBinding keyAttr : idAttributes) {
-                            final Object keyValue = row.values[keyAttr.getOrdinalPosition()];
-                            if (DBUtils.isNullValue(keyValue)) {
-                                hasKey = false;
+                    if (idAttributes.size() == 1) {
+                        // Single key - read rows in chunks using IN condition
+                        final DBDAttributeBinding keyAttr = idAttributes.get(0);
+                        final int keyIndex = keyAttr.getOrdinalPosition();
+                        // Several rows may have the same key (e.g. the same row was inserted twice)
+                        final Map<Object, List<Integer>> rowIndexes = new HashMap<>();
+                        for (int i = 0; i < rows.size(); i++) {
+                            if (monitor.isCanceled()) {
                                 break;
                             }
-                            final DBDAttributeConstraint constraint = new DBDAttributeConstraint(keyAttr);
-                            constraint.setOperator(DBCLogicalOperator.EQUALS);
-                            constraint.setValue(keyValue);
-                            constraints.add(constraint);
-                        }
-                        if (!hasKey) {
-                            // No key value for this row
-                            continue;
+                            final Object keyValue = rows.get(i).values[keyIndex];
+                            if (!DBUtils.isNullValue(keyValue)) {
+                                final Object key = makeKey(keyValue);
+                                List<Integer> keyRows = rowIndexes.get(key);
+                                if (keyRows == null) {
+                                    keyRows = new ArrayList<>(1);
+                                    rowIndexes.put(key, keyRows);
+                                }
+                                keyRows.add(i);
+                            }
+                            if (!rowIndexes.isEmpty() && (rowIndexes.size() >= MAX_REFRESH_KEYS || i == rows.size() - 1)) {
+                                Object[] keyValues = new Object[rowIndexes.size()];
+                                int keyCount = 0;
+                                for (List<Integer> keyRows : rowIndexes.values()) {
+                                    keyValues[keyCount++] = rows.get(keyRows.get(0)).values[keyIndex];
+                                }
+                                final DBDAttributeConstraint constraint = new DBDAttributeConstraint(keyAttr);
+                                constraint.setOperator(DBCLogicalOperator.IN);
+                                constraint.setValue(keyValues);
+                                DBDDataFilter filter = new DBDDataFilter(Collections.singletonList(constraint));
+
+                                RowDataReceiver dataReceiver = new RowDataReceiver(curAttributes);
+                                dataContainer.readData(executionSource, session, dataReceiver, filter, 0, 0, DBSDataContainer.FLAG_NONE);
+                                for (Object[] rowValues : dataReceiver.rows) {
+                                    List<Integer> keyRows = rowIndexes.get(makeKey(rowValues[keyIndex]));
+                                    if (keyRows != null) {
+                                        for (Integer rowIndex : keyRows) {
+                                            refreshValues[rowIndex] = rowValues;
+                                        }
+                                    }
+                                }
+                                rowIndexes.clear();
+                            }
                         }
-                        DBDDataFilter filter = new DBDDataFilter(constraints);
+                    } else {
+                        for (int i = 0; i < rows.size(); i++) {
+                            if (monitor.isCanceled()) {
+                                break;
+                            }
+                            ResultSetRow row = rows.get(i);
+                            List<DBDAttributeConstraint> constraints = new ArrayList<>();
+                            boolean hasKey = true;
+                            for (DBDAttributeBinding keyAttr : idAttributes) {
+                                final Object keyValue = row.values[keyAttr.getOrdinalPosition()];
+                                if (DBUtils.isNullValue(keyValue)) {
+                                    hasKey = false;
+                                    break;
+                                }
+                                final DBDAttributeConstraint constraint = new DBDAttributeConstraint(keyAttr);
+                                constraint.setOperator(DBCLogicalOperator.EQUALS);
+                                constraint.setValue(keyValue);
+                                constraints.add(constraint);
+                            }
+                            if (!hasKey) {
+                                // No key value for this row
+                                continue;
+                            }
+                            DBDDataFilter filter = new DBDDataFilter(constraints);
 
-                        RowDataReceiver dataReceiver = new RowDataReceiver(curAttributes);
-                        final DBCStatistics stats = dataContainer.readData(executionSource, session, dataReceiver, filter, 0, 0, DBSDataContainer.FLAG_NONE);
-                        refreshValues[i] = dataReceiver.rowValues;
+                            RowDataReceiver dataReceiver = new RowDataReceiver(curAttributes);
+                            dataContainer.readData(executionSource, session, dataReceiver, filter, 0, 0, DBSDataContainer.FLAG_NONE);
+                            if (!dataReceiver.rows.isEmpty()) {
+                                refreshValues[i] = dataReceiver.rows.get(0);
+                            }
+                        }
                     }
                 }
 
@@ -891,6 +1012,36 @@ class ResultSetPersister {
             }
             return Status.OK_STATUS;
         }
+
+        /**
+         * Key values of inserted rows may have different type than values read from database
+         * (e.g. Integer and Long, BigDecimal with different scale, Date and Timestamp, binary arrays).
+         */
+        private Object makeKey(Object keyValue) {
+            if (keyValue instanceof Number) {
+                try {
+                    BigDecimal decimal;
+                    if (keyValue instanceof BigDecimal) {
+                        decimal = (BigDecimal) keyValue;
+                    } else if (keyValue instanceof BigInteger) {
+                        decimal = new BigDecimal((BigInteger) keyValue);
+                    } else if (keyValue instanceof Long || keyValue instanceof Integer || keyValue instanceof Short || keyValue instanceof Byte) {
+                        decimal = BigDecimal.valueOf(((Number) keyValue).longValue());
+                    } else {
+                        decimal = new BigDecimal(keyValue.toString());
+                    }
+                    return decimal.stripTrailingZeros();
+                } catch (NumberFormatException e) {
+                    // NaN or some custom number
+                    return keyValue;
+                }
+            } else if (keyValue instanceof Date) {
+                return ((Date) keyValue).getTime();
+            } else if (keyValue instanceof byte[]) {
+                return ByteBuffer.wrap((byte[]) keyValue);
+            }
+            return keyValue;
+        }
     }
 
 }
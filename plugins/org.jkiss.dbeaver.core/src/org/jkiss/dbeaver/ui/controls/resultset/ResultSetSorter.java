@@ -0,0 +1,291 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Local result set sorter.
+ * Extracts sort keys of each ordering column once (primitive arrays for numbers, strings for texts)
+ * and then sorts primitive row index permutation with parallel merge sort. Comparison doesn't touch model or bindings.
+ * Sort is stable - rows with equal keys keep their current order.
+ */
+class ResultSetSorter {
+
+    // Ranges shorter than this are sorted in the current thread
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private interface RowComparator {
+        int compare(int pos1, int pos2);
+    }
+
+    private enum KeyKind {
+        LONG,
+        DOUBLE,
+        STRING,
+        OBJECT
+    }
+
+    private static class SortKey {
+        private final boolean descending;
+        private final BitSet nulls;
+        private KeyKind kind;
+        private long[] longKeys;
+        private double[] doubleKeys;
+        private Object[] objectKeys;
+
+        SortKey(boolean descending, int rowCount) {
+            this.descending = descending;
+            this.nulls = new BitSet(rowCount);
+        }
+
+        int compare(int pos1, int pos2) {
+            boolean null1 = nulls.get(pos1), null2 = nulls.get(pos2);
+            int result;
+            if (null1 && null2) {
+                result = 0;
+            } else if (null1) {
+                result = 1;
+            } else if (null2) {
+                result = -1;
+            } else {
+                switch (kind) {
+                    case LONG:
+                        result = Long.compare(longKeys[pos1], longKeys[pos2]);
+                        break;
+                    case DOUBLE:
+                        result = Double.compare(doubleKeys[pos1], doubleKeys[pos2]);
+                        break;
+                    case STRING:
+                        result = ((String) objectKeys[pos1]).compareTo((String) objectKeys[pos2]);
+                        break;
+                    default:
+                        result = compareObjects(objectKeys[pos1], objectKeys[pos2]);
+                        break;
+                }
+            }
+            return descending ? -result : result;
+        }
+    }
+
+    private final ResultSetModel model;
+
+    ResultSetSorter(@NotNull ResultSetModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Sorts rows by specified attributes.
+     * @param rows         rows to sort. Sorted in place.
+     * @param attributes   ordering attributes
+     * @param descending   descending flags for each ordering attribute
+     */
+    void sortRows(@NotNull List<ResultSetRow> rows, @NotNull List<DBDAttributeBinding> attributes, @NotNull boolean[] descending) {
+        final int rowCount = rows.size();
+        if (rowCount < 2 || attributes.isEmpty()) {
+            return;
+        }
+        final SortKey[] keys = new SortKey[attributes.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = extractKeys(rows, attributes.get(i), descending[i]);
+        }
+
+        final int[] permutation = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            permutation[i] = i;
+        }
+        final RowComparator comparator = (pos1, pos2) -> {
+            for (SortKey key : keys) {
+                int result = key.compare(pos1, pos2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+        final int[] buffer = new int[rowCount];
+        if (rowCount <= PARALLEL_THRESHOLD) {
+            mergeSort(permutation, buffer, 0, rowCount, comparator);
+        } else {
+            ForkJoinPool.commonPool().invoke(new MergeSortTask(permutation, buffer, 0, rowCount, comparator));
+        }
+
+        List<ResultSetRow> sortedRows = new ArrayList<>(rowCount);
+        for (int pos : permutation) {
+            sortedRows.add(rows.get(pos));
+        }
+        for (int i = 0; i < rowCount; i++) {
+            rows.set(i, sortedRows.get(i));
+        }
+    }
+
+    private SortKey extractKeys(List<ResultSetRow> rows, DBDAttributeBinding attribute, boolean descending) {
+        final int rowCount = rows.size();
+        final SortKey key = new SortKey(descending, rowCount);
+        final Object[] values = new Object[rowCount];
+        boolean allIntegers = true, allNumbers = true, allStrings = true;
+        for (int i = 0; i < rowCount; i++) {
+            Object value = model.getCellValue(attribute, rows.get(i));
+            if (DBUtils.isNullValue(value)) {
+                key.nulls.set(i);
+                continue;
+            }
+            values[i] = value;
+            if (allIntegers && !isIntegerValue(value)) {
+                allIntegers = false;
+            }
+            if (allNumbers && !(value instanceof Float || value instanceof Double || isIntegerValue(value))) {
+                allNumbers = false;
+            }
+            if (allStrings && !(value instanceof String)) {
+                allStrings = false;
+            }
+        }
+        if (allIntegers) {
+            key.kind = KeyKind.LONG;
+            key.longKeys = new long[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                if (values[i] != null) {
+                    key.longKeys[i] = ((Number) values[i]).longValue();
+                }
+            }
+        } else if (allNumbers) {
+            key.kind = KeyKind.DOUBLE;
+            key.doubleKeys = new double[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                if (values[i] != null) {
+                    key.doubleKeys[i] = ((Number) values[i]).doubleValue();
+                }
+            }
+        } else if (allStrings) {
+            key.kind = KeyKind.STRING;
+            key.objectKeys = values;
+        } else {
+            key.kind = KeyKind.OBJECT;
+            for (int i = 0; i < rowCount; i++) {
+                if (values[i] != null && !(values[i] instanceof Comparable)) {
+                    // Convert to string once instead of doing it on each comparison
+                    values[i] = String.valueOf(values[i]);
+                }
+            }
+            key.objectKeys = values;
+        }
+        return key;
+    }
+
+    private static boolean isIntegerValue(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Values of the same class are compared with their natural order.
+     * Values of different classes are ordered by class name, so the comparison is symmetric and transitive.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareObjects(Object value1, Object value2) {
+        if (value1 == value2) {
+            return 0;
+        }
+        if (value1.getClass() == value2.getClass()) {
+            return ((Comparable) value1).compareTo(value2);
+        }
+        return value1.getClass().getName().compareTo(value2.getClass().getName());
+    }
+
+    /**
+     * Stable merge sort of positions in [from, to). Buffer must have the same size as positions array.
+     */
+    private static void mergeSort(int[] positions, int[] buffer, int from, int to, RowComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(positions, from, to, comparator);
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        mergeSort(positions, buffer, from, mid, comparator);
+        mergeSort(positions, buffer, mid, to, comparator);
+        merge(positions, buffer, from, mid, to, comparator);
+    }
+
+    private static void insertionSort(int[] positions, int from, int to, RowComparator comparator) {
+        for (int i = from + 1; i < to; i++) {
+            final int pos = positions[i];
+            int k = i - 1;
+            while (k >= from && comparator.compare(positions[k], pos) > 0) {
+                positions[k + 1] = positions[k];
+                k--;
+            }
+            positions[k + 1] = pos;
+        }
+    }
+
+    private static void merge(int[] positions, int[] buffer, int from, int mid, int to, RowComparator comparator) {
+        if (comparator.compare(positions[mid - 1], positions[mid]) <= 0) {
+            // Already ordered
+            return;
+        }
+        System.arraycopy(positions, from, buffer, from, mid - from);
+        int left = from, right = mid, dest = from;
+        while (left < mid && right < to) {
+            // Take left one on equal keys to keep sort stable
+            if (comparator.compare(buffer[left], positions[right]) <= 0) {
+                positions[dest++] = buffer[left++];
+            } else {
+                positions[dest++] = positions[right++];
+            }
+        }
+        System.arraycopy(buffer, left, positions, dest, mid - left);
+    }
+
+    private static class MergeSortTask extends RecursiveAction {
+        private final int[] positions;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final RowComparator comparator;
+
+        MergeSortTask(int[] positions, int[] buffer, int from, int to, RowComparator comparator) {
+            this.positions = positions;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                mergeSort(positions, buffer, from, to, comparator);
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            invokeAll(
+                new MergeSortTask(positions, buffer, from, mid, comparator),
+                new MergeSortTask(positions, buffer, mid, to, comparator));
+            merge(positions, buffer, from, mid, to, comparator);
+        }
+    }
+
+}
@@ -97,6 +97,7 @@ import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.util.*;
 import java.util.List;
@@ -470,6 +471,13 @@ public class ResultSetViewer extends Viewer
     }
 
     void updatePresentation(final DBCResultSet resultSet, boolean metadataChanged) {
+        updatePresentation(resultSet, null, metadataChanged);
+    }
+
+    /**
+     * @param cachedPresentations presentations available for cached result set page. If not null then result set is ignored.
+     */
+    private void updatePresentation(@Nullable final DBCResultSet resultSet, @Nullable List<ResultSetPresentationDescriptor> cachedPresentations, boolean metadataChanged) {
         if (getControl().isDisposed()) {
             return;
         }
@@ -502,7 +510,9 @@ public class ResultSetViewer extends Viewer
                         return docAttr == null ? null : docAttr.getValueHandler().getValueContentType(docAttr);
                     }
                 };
-                final List<ResultSetPresentationDescriptor> newPresentations = ResultSetPresentationRegistry.getInstance().getAvailablePresentations(resultSet, context);
+                final List<ResultSetPresentationDescriptor> newPresentations = cachedPresentations != null ?
+                    cachedPresentations :
+                    ResultSetPresentationRegistry.getInstance().getAvailablePresentations(resultSet, context);
                 changed = CommonUtils.isEmpty(this.availablePresentations) || !newPresentations.equals(this.availablePresentations);
                 this.availablePresentations = newPresentations;
                 if (!this.availablePresentations.isEmpty()) {
@@ -1323,6 +1333,7 @@ public class ResultSetViewer extends Viewer
     private void dispose()
     {
         clearData();
+        ResultSetPageCache.getInstance().releaseOwner(this);
 
         for (ToolBarManager tb : toolbarList) {
             try {
@@ -2448,6 +2459,9 @@ public class ResultSetViewer extends Viewer
             return;
         }
         HistoryStateItem state = stateHistory.get(position);
+        if (showCachedPage(state.dataContainer, state.filter, state.rowNumber)) {
+            return;
+        }
         int segmentSize = getSegmentMaxRows();
         if (state.rowNumber >= 0 && state.rowNumber >= segmentSize && segmentSize > 0) {
             segmentSize = (state.rowNumber / segmentSize + 1) * segmentSize;
@@ -2616,6 +2630,66 @@ public class ResultSetViewer extends Viewer
         }
     }
 
+    /**
+     * Shows recently fetched data of the current container (if it is still in the results cache).
+     * Data is not refreshed - status message says that it was taken from cache.
+     *
+     * @param dataFilter data filter. If null then default (empty) filter is used
+     * @return true if data was found in cache
+     */
+    public boolean showCachedData(@Nullable DBDDataFilter dataFilter) {
+        DBSDataContainer dataContainer = getDataContainer();
+        return container.isReadyToRun() && dataContainer != null && showCachedPage(dataContainer, dataFilter, -1);
+    }
+
+    private boolean showCachedPage(@NotNull DBSDataContainer dataContainer, @Nullable DBDDataFilter dataFilter, int focusRow) {
+        if (dataPumpJob != null || getExecutionContext() == null || !isPageCacheEnabled(dataContainer)) {
+            return false;
+        }
+        final ResultSetPageCache.Page page = ResultSetPageCache.getInstance().getPage(dataContainer, dataFilter, this);
+        if (page == null || (page.isHasMoreData() && focusRow >= page.getRowCount())) {
+            return false;
+        }
+        autoRefreshControl.cancelRefresh();
+
+        model.setCachedMetaData(new AbstractExecutionSource(dataContainer, getExecutionContext(), this), page.copyAttributes());
+        activePresentation.clearMetaData();
+        final boolean metadataChanged = model.isMetadataChanged();
+        updatePresentation(null, page.getPresentations(), metadataChanged);
+        setData(page.copyRows(), focusRow);
+        dataReceiver.setHasMoreData(page.isHasMoreData());
+        model.setStatistics(null);
+        activePresentation.refreshData(true, false, !metadataChanged);
+        if (metadataChanged) {
+            activePresentation.updateValueView();
+        }
+        updatePanelsContent(false);
+
+        setNewState(dataContainer, dataFilter);
+        if (dataFilter != null) {
+            model.updateDataFilter(dataFilter);
+            redrawData(true, false);
+        }
+        model.updateFetchFilter();
+
+        setStatus(
+            NLS.bind(CoreMessages.controls_resultset_viewer_status_cached,
+                model.getRowCount(),
+                DateFormat.getTimeInstance(DateFormat.MEDIUM).format(new Date(page.getCacheTime()))),
+            DBPMessageType.INFORMATION);
+        updateFiltersText(true);
+        updateToolbar();
+        fireResultSetLoad();
+        return true;
+    }
+
+    private boolean isPageCacheEnabled(@NotNull DBSDataContainer dataContainer) {
+        // Only entities are cached. Other containers (e.g. custom queries) may change their content.
+        // Cache size may be overridden in connection preferences
+        return dataContainer instanceof DBSEntity && dataContainer.getDataSource() != null &&
+            dataContainer.getDataSource().getContainer().getPreferenceStore().getInt(DBeaverPreferences.RESULT_SET_PAGE_CACHE_SIZE) > 0;
+    }
+
     private DBDDataFilter restoreDataFilter(final DBSDataContainer dataContainer) {
 
         // Restore data filter
@@ -2643,6 +2717,11 @@ public class ResultSetViewer extends Viewer
         }
 
         DBSDataContainer dataContainer = getDataContainer();
+        if (dataContainer != null && !isHasMoreData() && dataPumpJob == null && model.applyLocalFilter(filter)) {
+            // All rows are already fetched - filter them locally
+            filterLocally(dataContainer, filter);
+            return;
+        }
         if (dataContainer != null) {
             dataReceiver.setNextSegmentRead(false);
             runDataPump(
@@ -2657,6 +2736,20 @@ public class ResultSetViewer extends Viewer
         }
     }
 
+    private void filterLocally(@NotNull DBSDataContainer dataContainer, @NotNull DBDDataFilter filter)
+    {
+        model.setDataFilter(filter);
+        model.resetOrdering();
+        curRow = model.getRowCount() > 0 ? model.getRow(0) : null;
+        activePresentation.refreshData(true, false, false);
+        setNewState(dataContainer, filter);
+        updateFiltersText(true);
+        updateStatusMessage();
+        updatePanelsContent(false);
+        updateEditControls();
+        fireResultSetLoad();
+    }
+
     @Override
     public boolean refreshData(@Nullable Runnable onSuccess) {
         if (!checkForChanges()) {
@@ -2865,6 +2958,12 @@ public class ResultSetViewer extends Viewer
                                 // New data filter may have different columns visibility
                                 redrawData(true, false);
                             }
+                            if (error == null) {
+                                model.updateFetchFilter();
+                            }
+                        }
+                        if (error == null && activePresentationDescriptor != null && !model.isDirty() && isPageCacheEnabled(dataContainer)) {
+                            ResultSetPageCache.getInstance().putPage(dataContainer, model, availablePresentations, isHasMoreData(), ResultSetViewer.this);
                         }
                         if (job.getStatistics() == null || !job.getStatistics().isEmpty()) {
                             if (error == null) {
@@ -2925,6 +3024,12 @@ public class ResultSetViewer extends Viewer
                 if (listener != null) {
                     listener.onUpdate(success);
                 }
+                if (success) {
+                    DBSDataContainer dataContainer = getDataContainer();
+                    if (dataContainer != null) {
+                        ResultSetPageCache.getInstance().invalidatePages(dataContainer);
+                    }
+                }
                 if (success && getPreferenceStore().getBoolean(DBeaverPreferences.RS_EDIT_REFRESH_AFTER_UPDATE)) {
                     // Refresh updated rows
                     try {
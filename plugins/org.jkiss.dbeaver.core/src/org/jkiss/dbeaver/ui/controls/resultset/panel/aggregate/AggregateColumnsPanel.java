@@ -32,6 +32,7 @@ import org.jkiss.dbeaver.model.DBPImage;
 import org.jkiss.dbeaver.model.DBValueFormatting;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.aggregate.IAggregateFunction;
+import org.jkiss.dbeaver.model.data.aggregate.IAggregateFunctionMergeable;
 import org.jkiss.dbeaver.registry.functions.AggregateFunctionDescriptor;
 import org.jkiss.dbeaver.registry.functions.FunctionsRegistry;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
@@ -43,6 +44,7 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.util.*;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * RSV value view panel
@@ -59,6 +61,9 @@ public class AggregateColumnsPanel implements IResultSetPanel {
     private static final DecimalFormat DOUBLE_FORMAT = new DecimalFormat("###,###,###,###,###,##0.###");
     private static final DecimalFormat INTEGER_FORMAT = new DecimalFormat("###,###,###,###,###,##0");
 
+    // Minimal number of values in one partition for parallel aggregation
+    private static final int PARALLEL_PARTITION_SIZE = 100000;
+
     private IResultSetPresentation presentation;
     private Tree aggregateTable;
 
@@ -235,9 +240,10 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         }
     }
 
-    private void aggregateValues(TreeItem parentItem, Collection<Object> values) {
+    private void aggregateValues(TreeItem parentItem, List<Object> values) {
         List<AggregateFunctionDescriptor> functions = enabledFunctions;
         Map<IAggregateFunction, TreeItem> funcMap = new IdentityHashMap<>();
+        Map<IAggregateFunction, AggregateFunctionDescriptor> funcDescMap = new IdentityHashMap<>();
         for (AggregateFunctionDescriptor funcDesc : functions) {
             TreeItem funcItem = (parentItem == null) ?
                 new TreeItem(aggregateTable, SWT.NONE) :
@@ -251,6 +257,7 @@ public class AggregateColumnsPanel implements IResultSetPanel {
             try {
                 IAggregateFunction func = funcDesc.createFunction();
                 funcMap.put(func, funcItem);
+                funcDescMap.put(func, funcDesc);
             } catch (DBException e) {
                 log.error(e);
             }
@@ -258,12 +265,11 @@ public class AggregateColumnsPanel implements IResultSetPanel {
 
         IAggregateFunction[] funcs = funcMap.keySet().toArray(new IAggregateFunction[funcMap.size()]);
         int[] funcCount = new int[funcs.length];
-        for (Object element : values) {
-            for (int i = 0; i < funcs.length; i++) {
-                if (funcs[i].accumulate(element)) {
-                    funcCount[i]++;
-                }
-            }
+        int partitionCount = Math.min(Runtime.getRuntime().availableProcessors(), values.size() / PARALLEL_PARTITION_SIZE);
+        if (partitionCount > 1 && isMergeable(funcs)) {
+            aggregateParallel(funcs, funcDescMap, funcCount, values, partitionCount);
+        } else {
+            accumulateValues(funcs, funcCount, values);
         }
         for (int i = 0; i < funcs.length; i++) {
             if (funcCount[i] <= 0) {
@@ -286,6 +292,66 @@ public class AggregateColumnsPanel implements IResultSetPanel {
         }
     }
 
+    private static boolean isMergeable(IAggregateFunction[] funcs) {
+        for (IAggregateFunction func : funcs) {
+            if (!(func instanceof IAggregateFunctionMergeable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void accumulateValues(IAggregateFunction[] funcs, int[] funcCount, List<Object> values) {
+        for (Object element : values) {
+            for (int i = 0; i < funcs.length; i++) {
+                if (funcs[i].accumulate(element)) {
+                    funcCount[i]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Aggregates value partitions in parallel and then merges partial results into the specified functions.
+     */
+    private static void aggregateParallel(
+        IAggregateFunction[] funcs,
+        Map<IAggregateFunction, AggregateFunctionDescriptor> funcDescMap,
+        int[] funcCount,
+        List<Object> values,
+        int partitionCount)
+    {
+        IAggregateFunction[][] partFuncs = new IAggregateFunction[partitionCount][];
+        int[][] partCounts = new int[partitionCount][];
+        partFuncs[0] = funcs;
+        partCounts[0] = funcCount;
+        for (int p = 1; p < partitionCount; p++) {
+            partFuncs[p] = new IAggregateFunction[funcs.length];
+            partCounts[p] = new int[funcs.length];
+            for (int i = 0; i < funcs.length; i++) {
+                try {
+                    partFuncs[p][i] = funcDescMap.get(funcs[i]).createFunction();
+                } catch (DBException e) {
+                    log.error(e);
+                    accumulateValues(funcs, funcCount, values);
+                    return;
+                }
+            }
+        }
+        int partitionSize = values.size() / partitionCount;
+        IntStream.range(0, partitionCount).parallel().forEach(p -> {
+            int fromIndex = p * partitionSize;
+            int toIndex = p == partitionCount - 1 ? values.size() : fromIndex + partitionSize;
+            accumulateValues(partFuncs[p], partCounts[p], values.subList(fromIndex, toIndex));
+        });
+        for (int p = 1; p < partitionCount; p++) {
+            for (int i = 0; i < funcs.length; i++) {
+                ((IAggregateFunctionMergeable) funcs[i]).merge((IAggregateFunctionMergeable) partFuncs[p][i]);
+                funcCount[i] += partCounts[p][i];
+            }
+        }
+    }
+
     public void clearValue()
     {
         aggregateTable.removeAll();
@@ -80,6 +80,8 @@ class GenericFilterValueEdit {
     private boolean isCheckedTable;
 
     private static final int MAX_MULTI_VALUES = 1000;
+    // Maximum number of distinct values kept in cache. Search in columns with more values goes to server.
+    private static final int MAX_CACHED_VALUES = 5000;
     private static final String MULTI_KEY_LABEL = "...";
 
 
@@ -139,6 +141,13 @@ class GenericFilterValueEdit {
 
     void loadValues() {
         if (loadJob != null) {
+            // All values are in cache - filter them locally
+            final ValueEnumerationCache.Entry cachedValues = ValueEnumerationCache.getInstance().getEntry(loadJob.cacheKey);
+            if (cachedValues != null && (cachedValues.isComplete() || filterPattern == null)) {
+                loadJob.cancel();
+                loadMultiValueList(cachedValues.getValues());
+                return;
+            }
             loadJob.schedule(200);
             return;
         }
@@ -154,9 +163,9 @@ class GenericFilterValueEdit {
     }
 
     private void loadConstraintEnum(final DBSEntityReferrer refConstraint) {
-        loadJob = new KeyLoadJob("Load constraint '" + refConstraint.getName() + "' values") {
+        loadJob = new KeyLoadJob("Load constraint '" + refConstraint.getName() + "' values", Arrays.asList(refConstraint, attr.getEntityAttribute())) {
             @Override
-            List<DBDLabelValuePair> readEnumeration(DBCSession session) throws DBException {
+            List<DBDLabelValuePair> readEnumeration(DBCSession session, @Nullable String valuePattern, int maxResults) throws DBException {
                 final DBSEntityAttribute tableColumn = attr.getEntityAttribute();
                 if (tableColumn == null) {
                     return null;
@@ -182,11 +191,11 @@ class GenericFilterValueEdit {
                     return enumConstraint.getKeyEnumeration(
                         session,
                         refColumn,
-                        filterPattern,
+                        valuePattern,
                         null,
                         true,
                         true,
-                        MAX_MULTI_VALUES);
+                        maxResults);
                 }
                 return null;
             }
@@ -198,10 +207,10 @@ class GenericFilterValueEdit {
 
         if (tableViewer.getTable().getColumns().length > 1)
             tableViewer.getTable().getColumn(1).setText("Count");
-        loadJob = new KeyLoadJob("Load '" + attr.getName() + "' values") {
+        loadJob = new KeyLoadJob("Load '" + attr.getName() + "' values", attributeEnumerable) {
             @Override
-            List<DBDLabelValuePair> readEnumeration(DBCSession session) throws DBException {
-                return attributeEnumerable.getValueEnumeration(session, filterPattern, MAX_MULTI_VALUES);
+            List<DBDLabelValuePair> readEnumeration(DBCSession session, @Nullable String valuePattern, int maxResults) throws DBException {
+                return attributeEnumerable.getValueEnumeration(session, valuePattern, maxResults);
             }
         };
         loadJob.schedule();
@@ -307,9 +316,16 @@ class GenericFilterValueEdit {
         }
     }
 
+    /**
+     * Reads all distinct values (up to MAX_CACHED_VALUES) once and puts them in cache.
+     * Server is queried with search pattern only if cache doesn't contain all values.
+     */
     private abstract class KeyLoadJob extends AbstractJob {
-        KeyLoadJob(String name) {
+        private final Object cacheKey;
+
+        KeyLoadJob(String name, Object cacheKey) {
             super(name);
+            this.cacheKey = cacheKey;
         }
 
         @Override
@@ -319,7 +335,21 @@ class GenericFilterValueEdit {
                 return Status.OK_STATUS;
             }
             try (DBCSession session = executionContext.openSession(monitor, DBCExecutionPurpose.UTIL, "Read value enumeration")) {
-                final List<DBDLabelValuePair> valueEnumeration = readEnumeration(session);
+                final String valuePattern = filterPattern;
+                ValueEnumerationCache.Entry cachedValues = ValueEnumerationCache.getInstance().getEntry(cacheKey);
+                if (cachedValues == null) {
+                    final List<DBDLabelValuePair> allValues = readEnumeration(session, null, MAX_CACHED_VALUES);
+                    if (allValues == null) {
+                        return Status.OK_STATUS;
+                    }
+                    cachedValues = ValueEnumerationCache.getInstance().putEntry(cacheKey, allValues, allValues.size() < MAX_CACHED_VALUES);
+                }
+                final List<DBDLabelValuePair> valueEnumeration;
+                if (cachedValues.isComplete() || valuePattern == null) {
+                    valueEnumeration = cachedValues.getValues();
+                } else {
+                    valueEnumeration = readEnumeration(session, valuePattern, MAX_MULTI_VALUES);
+                }
                 if (valueEnumeration == null) {
                     return Status.OK_STATUS;
                 } else {
@@ -333,7 +363,7 @@ class GenericFilterValueEdit {
         }
 
         @Nullable
-        abstract List<DBDLabelValuePair> readEnumeration(DBCSession session) throws DBException;
+        abstract List<DBDLabelValuePair> readEnumeration(DBCSession session, @Nullable String valuePattern, int maxResults) throws DBException;
 
         void populateValues(@NotNull final Collection<DBDLabelValuePair> values) {
             UIUtils.asyncExec(() -> {
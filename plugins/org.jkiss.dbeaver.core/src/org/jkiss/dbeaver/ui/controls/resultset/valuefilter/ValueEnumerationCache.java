@@ -0,0 +1,94 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset.valuefilter;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDLabelValuePair;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of distinct column values (with counts) used by value filter editors.
+ * If all values were read then search is performed locally without server queries.
+ */
+class ValueEnumerationCache {
+
+    private static final int MAX_CACHED_COLUMNS = 50;
+    // Values may be changed by other sessions, so they are kept for a while only
+    private static final long CACHE_TTL = 5 * 60 * 1000;
+
+    private static final ValueEnumerationCache instance = new ValueEnumerationCache();
+
+    static ValueEnumerationCache getInstance() {
+        return instance;
+    }
+
+    static class Entry {
+        private final List<DBDLabelValuePair> values;
+        private final boolean complete;
+        private final long readTime;
+
+        private Entry(List<DBDLabelValuePair> values, boolean complete) {
+            this.values = values;
+            this.complete = complete;
+            this.readTime = System.currentTimeMillis();
+        }
+
+        @NotNull
+        List<DBDLabelValuePair> getValues() {
+            return values;
+        }
+
+        /**
+         * All distinct values were read
+         */
+        boolean isComplete() {
+            return complete;
+        }
+    }
+
+    private final Map<Object, Entry> entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+            return size() > MAX_CACHED_COLUMNS;
+        }
+    };
+
+    private ValueEnumerationCache() {
+    }
+
+    @Nullable
+    synchronized Entry getEntry(@NotNull Object key) {
+        Entry entry = entries.get(key);
+        if (entry != null && System.currentTimeMillis() - entry.readTime > CACHE_TTL) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    @NotNull
+    synchronized Entry putEntry(@NotNull Object key, @NotNull List<DBDLabelValuePair> values, boolean complete) {
+        Entry entry = new Entry(values, complete);
+        entries.put(key, entry);
+        return entry;
+    }
+
+}
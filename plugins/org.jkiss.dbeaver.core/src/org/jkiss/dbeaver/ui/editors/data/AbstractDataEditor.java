@@ -69,10 +69,13 @@ public abstract class AbstractDataEditor<OBJECT_TYPE extends DBSObject> extends
             if (isReadyToRun()) {
                 resultSetView.setStatus(getDataQueryMessage());
                 DBDDataFilter dataFilter = getEditorDataFilter();
-                if (dataFilter == null) {
-                    resultSetView.refresh();
-                } else {
-                    resultSetView.refreshWithFilter(dataFilter);
+                // Recently fetched data may be shown from cache. User may refresh it explicitly.
+                if (!resultSetView.showCachedData(dataFilter)) {
+                    if (dataFilter == null) {
+                        resultSetView.refresh();
+                    } else {
+                        resultSetView.refreshWithFilter(dataFilter);
+                    }
                 }
                 loaded = true;
             }
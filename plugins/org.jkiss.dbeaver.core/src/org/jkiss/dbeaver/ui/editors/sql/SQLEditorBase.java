@@ -61,6 +61,7 @@ import org.jkiss.dbeaver.ui.editors.EditorUtils;
 import org.jkiss.dbeaver.ui.editors.sql.registry.SQLCommandsRegistry;
 import org.jkiss.dbeaver.ui.editors.sql.syntax.SQLCharacterPairMatcher;
 import org.jkiss.dbeaver.ui.editors.sql.syntax.SQLPartitionScanner;
+import org.jkiss.dbeaver.ui.editors.sql.syntax.SQLReconcilingStrategy;
 import org.jkiss.dbeaver.ui.editors.sql.syntax.SQLRuleManager;
 import org.jkiss.dbeaver.ui.editors.sql.syntax.parser.SQLWordDetector;
 import org.jkiss.dbeaver.ui.editors.sql.syntax.rules.SQLVariableRule;
@@ -76,6 +77,7 @@ import org.jkiss.utils.Pair;
 
 import java.io.File;
 import java.util.*;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 
 /**
@@ -122,6 +124,7 @@ public abstract class SQLEditorBase extends BaseTextEditor implements IErrorVisu
     private boolean markOccurrencesForSelection;
     private OccurrencesFinderJob occurrencesFinderJob;
     private OccurrencesFinderJobCanceler occurrencesFinderJobCanceler;
+    private SQLReconcilingStrategy reconcilingStrategy;
 
     public SQLEditorBase()
     {
@@ -253,6 +256,18 @@ public abstract class SQLEditorBase extends BaseTextEditor implements IErrorVisu
         return ruleManager;
     }
 
+    /**
+     * Reconciling strategy which maintains statements index (if folding is enabled)
+     */
+    @Nullable
+    public SQLReconcilingStrategy getReconcilingStrategy() {
+        return reconcilingStrategy;
+    }
+
+    void setReconcilingStrategy(@Nullable SQLReconcilingStrategy reconcilingStrategy) {
+        this.reconcilingStrategy = reconcilingStrategy;
+    }
+
     public ProjectionAnnotationModel getAnnotationModel()
     {
         return annotationModel;
@@ -719,24 +734,30 @@ public abstract class SQLEditorBase extends BaseTextEditor implements IErrorVisu
             }
 
             int lineOffset = document.getLineOffset(currentLine);
-            int firstLine = currentLine;
-            while (firstLine > 0) {
-                if (useBlankLines) {
-                    if (TextUtils.isEmptyLine(document, firstLine) &&
-                        isDefaultPartition(partitioner, document.getLineOffset(firstLine))) {
-                        break;
-                    }
-                } else {
-                    for (String delim : statementDelimiters) {
-                        final int offset = TextUtils.getOffsetOf(document, firstLine, delim);
-                        if (offset >= 0 && isDefaultPartition(partitioner, offset)) {
+            int statementStart = reconcilingStrategy == null ? -1 : reconcilingStrategy.getStatementStart(lineOffset);
+            if (statementStart >= 0) {
+                // Start from the indexed statement instead of scanning document back
+                startPos = statementStart;
+            } else {
+                int firstLine = currentLine;
+                while (firstLine > 0) {
+                    if (useBlankLines) {
+                        if (TextUtils.isEmptyLine(document, firstLine) &&
+                            isDefaultPartition(partitioner, document.getLineOffset(firstLine))) {
                             break;
                         }
+                    } else {
+                        for (String delim : statementDelimiters) {
+                            final int offset = TextUtils.getOffsetOf(document, firstLine, delim);
+                            if (offset >= 0 && isDefaultPartition(partitioner, offset)) {
+                                break;
+                            }
+                        }
                     }
+                    firstLine--;
                 }
-                firstLine--;
+                startPos = document.getLineOffset(firstLine);
             }
-            startPos = document.getLineOffset(firstLine);
 
             // Move currentPos at line begin
             currentPos = lineOffset;
@@ -816,6 +837,15 @@ public abstract class SQLEditorBase extends BaseTextEditor implements IErrorVisu
     }
 
     public List<SQLScriptElement> extractScriptQueries(int startOffset, int length, boolean scriptMode, boolean keepDelimiters, boolean parseParameters)
+    {
+        return extractScriptQueries(startOffset, length, scriptMode, keepDelimiters, parseParameters, null);
+    }
+
+    /**
+     * Extracts script queries.
+     * @param stopCondition if it returns true for parsed query then parsing stops (this query is not included in result)
+     */
+    public List<SQLScriptElement> extractScriptQueries(int startOffset, int length, boolean scriptMode, boolean keepDelimiters, boolean parseParameters, @Nullable Predicate<SQLScriptElement> stopCondition)
     {
         List<SQLScriptElement> queryList = new ArrayList<>();
 
@@ -828,7 +858,7 @@ public abstract class SQLEditorBase extends BaseTextEditor implements IErrorVisu
         try {
             for (int queryOffset = startOffset; ; ) {
                 SQLScriptElement query = parseQuery(document, queryOffset, startOffset + length, queryOffset, scriptMode, keepDelimiters);
-                if (query == null) {
+                if (query == null || (stopCondition != null && stopCondition.test(query))) {
                     break;
                 }
                 queryList.add(query);
@@ -368,6 +368,7 @@ public class SQLEditorSourceViewerConfiguration extends TextSourceViewerConfigur
 
         SQLReconcilingStrategy strategy = new SQLReconcilingStrategy();
         strategy.setEditor(editor);
+        editor.setReconcilingStrategy(strategy);
 
         MonoReconciler reconciler = new MonoReconciler(strategy, true);
 
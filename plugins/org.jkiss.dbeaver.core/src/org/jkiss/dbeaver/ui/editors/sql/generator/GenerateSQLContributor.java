@@ -57,11 +57,13 @@ import org.jkiss.dbeaver.ui.controls.resultset.IResultSetController;
 import org.jkiss.dbeaver.ui.controls.resultset.IResultSetSelection;
 import org.jkiss.dbeaver.ui.controls.resultset.ResultSetModel;
 import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+import org.jkiss.dbeaver.ui.dialogs.DialogUtils;
 import org.jkiss.dbeaver.ui.dialogs.sql.ViewSQLDialog;
 import org.jkiss.dbeaver.ui.navigator.NavigatorUtils;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.File;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
@@ -89,6 +91,7 @@ public class GenerateSQLContributor extends CompoundContributionItem {
         } else {
             List<DBSEntity> entities = new ArrayList<>();
             List<DBPScriptObject> scriptObjects = new ArrayList<>();
+            List<DBSObjectContainer> containers = new ArrayList<>();
             for (Object sel : structuredSelection.toArray()) {
                 final DBSObject object = RuntimeUtils.getObjectAdapter(sel, DBSObject.class);
                 if (object instanceof DBSEntity) {
@@ -96,6 +99,8 @@ public class GenerateSQLContributor extends CompoundContributionItem {
                 }
                 if (object instanceof DBPScriptObject) {
                     scriptObjects.add((DBPScriptObject) object);
+                } else if (object instanceof DBSObjectContainer) {
+                    containers.add((DBSObjectContainer) object);
                 }
             }
             if (!entities.isEmpty()) {
@@ -104,6 +109,9 @@ public class GenerateSQLContributor extends CompoundContributionItem {
             if (!scriptObjects.isEmpty()) {
                 makeScriptContributions(menu, scriptObjects);
             }
+            if (!scriptObjects.isEmpty() || !containers.isEmpty()) {
+                menu.add(makeExportAction(scriptObjects, containers));
+            }
         }
         return menu.toArray(new IContributionItem[menu.size()]);
     }
@@ -171,6 +179,22 @@ public class GenerateSQLContributor extends CompoundContributionItem {
         }));
     }
 
+    private static ContributionItem makeExportAction(final List<DBPScriptObject> scriptObjects, final List<DBSObjectContainer> containers)
+    {
+        return new ActionContributionItem(
+            new Action("DDL to file ...", DBeaverIcons.getImageDescriptor(UIIcon.SAVE_AS)) {
+                @Override
+                public void run()
+                {
+                    String fileName = (containers.size() == 1 ? containers.get(0).getName() : "ddl") + ".sql";
+                    File outputFile = DialogUtils.selectFileForSave(UIUtils.getActiveWorkbenchShell(), "Save DDL", new String[]{"*.sql", "*"}, fileName);
+                    if (outputFile != null) {
+                        new SchemaDDLExportJob(scriptObjects, containers, outputFile).schedule();
+                    }
+                }
+            });
+    }
+
     private void makeResultSetContributions(List<IContributionItem> menu, IResultSetSelection rss)
     {
         final IResultSetController rsv = rss.getController();
@@ -0,0 +1,411 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.editors.sql.generator;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.swt.SWT;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPScriptObject;
+import org.jkiss.dbeaver.model.DBPScriptObjectExt;
+import org.jkiss.dbeaver.model.DBPScriptObjectPrefetcher;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLConstants;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAssociation;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.dbeaver.model.struct.rdb.DBSProcedure;
+import org.jkiss.dbeaver.model.struct.rdb.DBSProcedureContainer;
+import org.jkiss.dbeaver.model.struct.rdb.DBSSequence;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
+import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Exports DDL of many objects (e.g. whole schemas) into a file.
+ * Objects are written in dependency order: sequences, tables (referenced tables first), views, procedures, others.
+ * Definitions are generated by several workers, the result is written as soon as the next object is ready,
+ * so the whole script is never kept in memory.
+ */
+class SchemaDDLExportJob extends AbstractJob {
+
+    private static final Log log = Log.getLog(SchemaDDLExportJob.class);
+
+    private static final int MAX_WORKERS = 4;
+    // Max number of generated definitions which wait for writer
+    private static final int MAX_PENDING_OBJECTS = 200;
+    // Writer is notified about each generated definition. Timeout is used only to check monitor cancel.
+    private static final long CANCEL_CHECK_TIMEOUT = 1000;
+
+    private final List<DBPScriptObject> scriptObjects;
+    private final List<DBSObjectContainer> containers;
+    private final File outputFile;
+
+    private List<DBPScriptObject> objects;
+    private final Map<DBPScriptObjectPrefetcher, List<DBPScriptObject>> prefetchedObjects = new LinkedHashMap<>();
+    private AtomicReferenceArray<String> definitions;
+    private final AtomicInteger nextObject = new AtomicInteger();
+    private final AtomicInteger writtenObjects = new AtomicInteger();
+    private volatile boolean stopped;
+    // Guards workers/writer waits
+    private final Object lock = new Object();
+    private int runningWorkers;
+
+    SchemaDDLExportJob(@NotNull List<DBPScriptObject> scriptObjects, @NotNull List<DBSObjectContainer> containers, @NotNull File outputFile) {
+        super("Export DDL to " + outputFile.getName());
+        this.scriptObjects = scriptObjects;
+        this.containers = containers;
+        this.outputFile = outputFile;
+        setUser(true);
+    }
+
+    @Override
+    protected IStatus run(DBRProgressMonitor monitor) {
+        try {
+            objects = orderObjects(monitor, collectObjects(monitor));
+            prefetchDefinitions(monitor);
+            exportObjects(monitor);
+        } catch (Exception e) {
+            return GeneralUtils.makeExceptionStatus(e);
+        } finally {
+            // Do not keep definitions which weren't written (export failed or canceled)
+            for (Map.Entry<DBPScriptObjectPrefetcher, List<DBPScriptObject>> entry : prefetchedObjects.entrySet()) {
+                entry.getKey().resetObjectDefinitions(entry.getValue());
+            }
+            prefetchedObjects.clear();
+        }
+        if (!monitor.isCanceled()) {
+            UIUtils.asyncExec(() -> UIUtils.showMessageBox(
+                null,
+                "DDL export",
+                "DDL of " + objects.size() + " object(s) saved to " + outputFile.getAbsolutePath(),
+                SWT.ICON_INFORMATION));
+        }
+        return Status.OK_STATUS;
+    }
+
+    private Collection<DBPScriptObject> collectObjects(DBRProgressMonitor monitor) throws DBException {
+        Set<DBPScriptObject> result = new LinkedHashSet<>(scriptObjects);
+        for (DBSObjectContainer container : containers) {
+            monitor.subTask("Read structure of " + container.getName());
+            // Read all metadata in bulk instead of per-object requests
+            container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
+            for (DBSObject child : container.getChildren(monitor)) {
+                if (child instanceof DBPScriptObject) {
+                    result.add((DBPScriptObject) child);
+                }
+            }
+            if (container instanceof DBSProcedureContainer) {
+                Collection<? extends DBSProcedure> procedures = ((DBSProcedureContainer) container).getProcedures(monitor);
+                if (procedures != null) {
+                    for (DBSProcedure procedure : procedures) {
+                        if (procedure instanceof DBPScriptObject) {
+                            result.add((DBPScriptObject) procedure);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<DBPScriptObject> orderObjects(DBRProgressMonitor monitor, Collection<DBPScriptObject> objects) {
+        List<DBPScriptObject> sorted = new ArrayList<>(objects);
+        sorted.sort(Comparator.comparingInt(SchemaDDLExportJob::getObjectRank));
+
+        // Tables go in topological order of foreign keys
+        Set<DBPScriptObject> tables = new LinkedHashSet<>();
+        for (DBPScriptObject object : sorted) {
+            if (getObjectRank(object) == 1) {
+                tables.add(object);
+            }
+        }
+        List<DBPScriptObject> orderedTables = new ArrayList<>(tables.size());
+        Set<DBPScriptObject> visited = new HashSet<>();
+        for (DBPScriptObject table : tables) {
+            addTableWithDependencies(monitor, table, tables, visited, orderedTables);
+        }
+        List<DBPScriptObject> result = new ArrayList<>(sorted.size());
+        for (DBPScriptObject object : sorted) {
+            if (getObjectRank(object) == 1) {
+                if (!orderedTables.isEmpty()) {
+                    result.addAll(orderedTables);
+                    orderedTables.clear();
+                }
+            } else {
+                result.add(object);
+            }
+        }
+        return result;
+    }
+
+    private static void addTableWithDependencies(DBRProgressMonitor monitor, DBPScriptObject table, Set<DBPScriptObject> tables, Set<DBPScriptObject> visited, List<DBPScriptObject> result) {
+        if (!visited.add(table)) {
+            // Already added or cyclic reference
+            return;
+        }
+        try {
+            Collection<? extends DBSEntityAssociation> associations = ((DBSEntity) table).getAssociations(monitor);
+            if (associations != null) {
+                for (DBSEntityAssociation association : associations) {
+                    DBSEntity refEntity = association.getAssociatedEntity();
+                    if (refEntity instanceof DBPScriptObject && refEntity != table && tables.contains(refEntity)) {
+                        addTableWithDependencies(monitor, (DBPScriptObject) refEntity, tables, visited, result);
+                    }
+                }
+            }
+        } catch (DBException e) {
+            log.debug("Error reading table references: " + e.getMessage());
+        }
+        result.add(table);
+    }
+
+    private static int getObjectRank(DBPScriptObject object) {
+        if (object instanceof DBSSequence) {
+            return 0;
+        } else if (object instanceof DBSTable) {
+            return ((DBSTable) object).isView() ? 2 : 1;
+        } else if (object instanceof DBSProcedure) {
+            return 3;
+        } else {
+            return 4;
+        }
+    }
+
+    /**
+     * Let containers read definitions of their objects in bulk (if they can)
+     */
+    private void prefetchDefinitions(DBRProgressMonitor monitor) {
+        for (DBPScriptObject object : objects) {
+            if (object instanceof DBSObject && ((DBSObject) object).getParentObject() instanceof DBPScriptObjectPrefetcher) {
+                prefetchedObjects.computeIfAbsent(
+                    (DBPScriptObjectPrefetcher) ((DBSObject) object).getParentObject(),
+                    k -> new ArrayList<>()).add(object);
+            }
+        }
+        for (Map.Entry<DBPScriptObjectPrefetcher, List<DBPScriptObject>> entry : prefetchedObjects.entrySet()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            try {
+                entry.getKey().prefetchObjectDefinitions(monitor, entry.getValue(), getScriptOptions());
+            } catch (DBException e) {
+                log.debug("Error prefetching objects definitions: " + e.getMessage());
+            }
+        }
+    }
+
+    private void exportObjects(DBRProgressMonitor monitor) throws IOException, DBException {
+        definitions = new AtomicReferenceArray<>(objects.size());
+        List<DefinitionWorker> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(MAX_WORKERS, objects.size()); i++) {
+            workers.add(new DefinitionWorker(i + 1));
+        }
+        synchronized (lock) {
+            runningWorkers = workers.size();
+        }
+        for (DefinitionWorker worker : workers) {
+            worker.schedule();
+        }
+        // Output file is replaced only after successful export, so failed or canceled export leaves no partial script
+        File tempFile = new File(outputFile.getParentFile(), outputFile.getName() + ".tmp");
+        boolean exported = false;
+        monitor.beginTask("Export DDL", objects.size());
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(tempFile), GeneralUtils.DEFAULT_FILE_CHARSET))) {
+                for (int i = 0; i < objects.size(); i++) {
+                    String definition = waitForDefinition(monitor, i);
+                    if (definition == null) {
+                        break;
+                    }
+                    definitions.set(i, "");
+                    synchronized (lock) {
+                        writtenObjects.incrementAndGet();
+                        lock.notifyAll();
+                    }
+                    writer.write(definition);
+                    monitor.worked(1);
+                }
+            } finally {
+                stopWorkers();
+                RuntimeUtils.joinJobs(monitor, workers);
+                monitor.done();
+            }
+            for (DefinitionWorker worker : workers) {
+                if (worker.error instanceof DBException) {
+                    throw (DBException) worker.error;
+                } else if (worker.error != null) {
+                    throw new DBException("Error generating DDL", worker.error);
+                }
+            }
+            if (writtenObjects.get() < objects.size()) {
+                if (monitor.isCanceled()) {
+                    return;
+                }
+                throw new DBException("DDL export stopped after " + writtenObjects.get() + " of " + objects.size() + " object(s)");
+            }
+            Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            exported = true;
+        } finally {
+            if (!exported && tempFile.exists() && !tempFile.delete()) {
+                log.debug("Can't delete temp file " + tempFile.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * Waits until definition of the specified object is generated.
+     * @return definition or null if export was stopped
+     */
+    private String waitForDefinition(DBRProgressMonitor monitor, int index) {
+        synchronized (lock) {
+            String definition;
+            while ((definition = definitions.get(index)) == null) {
+                if (stopped || runningWorkers == 0 || monitor.isCanceled()) {
+                    return null;
+                }
+                try {
+                    lock.wait(CANCEL_CHECK_TIMEOUT);
+                } catch (InterruptedException e) {
+                    return null;
+                }
+            }
+            return definition;
+        }
+    }
+
+    private void stopWorkers() {
+        synchronized (lock) {
+            stopped = true;
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    protected void canceling() {
+        stopWorkers();
+        super.canceling();
+    }
+
+    private static Map<String, Object> getScriptOptions() {
+        Map<String, Object> options = new HashMap<>();
+        options.put(DBPScriptObject.OPTION_FULLY_QUALIFIED_NAMES, true);
+        return options;
+    }
+
+    private static String generateDefinition(DBRProgressMonitor monitor, DBPScriptObject object) throws DBException {
+        StringBuilder sql = new StringBuilder();
+        String definitionText = CommonUtils.notEmpty(object.getObjectDefinitionText(monitor, getScriptOptions())).trim();
+        sql.append(definitionText);
+        if (!definitionText.endsWith(SQLConstants.DEFAULT_STATEMENT_DELIMITER)) {
+            sql.append(SQLConstants.DEFAULT_STATEMENT_DELIMITER);
+        }
+        sql.append("\n");
+        if (object instanceof DBPScriptObjectExt) {
+            String definition2 = CommonUtils.notEmpty(((DBPScriptObjectExt) object).getExtendedDefinitionText(monitor)).trim();
+            sql.append("\n");
+            sql.append(definition2);
+            if (!definition2.endsWith(SQLConstants.DEFAULT_STATEMENT_DELIMITER)) {
+                sql.append(SQLConstants.DEFAULT_STATEMENT_DELIMITER);
+            }
+            sql.append("\n");
+        }
+        sql.append("\n");
+        return sql.toString();
+    }
+
+    private class DefinitionWorker extends AbstractJob {
+        private volatile Throwable error;
+
+        DefinitionWorker(int workerNumber) {
+            super("DDL export worker " + workerNumber);
+            setSystem(true);
+            // Worker may be canceled before it starts, so its end is tracked by job listener
+            addJobChangeListener(new JobChangeAdapter() {
+                @Override
+                public void done(IJobChangeEvent event) {
+                    synchronized (lock) {
+                        runningWorkers--;
+                        lock.notifyAll();
+                    }
+                }
+            });
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            while (!stopped && !monitor.isCanceled()) {
+                int index = nextObject.getAndIncrement();
+                if (index >= objects.size() || !waitForWriter(index)) {
+                    break;
+                }
+                DBPScriptObject object = objects.get(index);
+                try {
+                    definitions.set(index, generateDefinition(monitor, object));
+                    synchronized (lock) {
+                        lock.notifyAll();
+                    }
+                } catch (Throwable e) {
+                    if (!(e instanceof DBException)) {
+                        log.error("Unexpected error generating DDL", e);
+                    }
+                    error = e;
+                    stopWorkers();
+                }
+            }
+            return Status.OK_STATUS;
+        }
+
+        /**
+         * Workers do not go too far ahead of the writer
+         */
+        private boolean waitForWriter(int index) {
+            synchronized (lock) {
+                while (!stopped && index - writtenObjects.get() > MAX_PENDING_OBJECTS) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return false;
+                    }
+                }
+                return !stopped;
+            }
+        }
+
+        @Override
+        protected void canceling() {
+            stopWorkers();
+            super.canceling();
+        }
+    }
+
+}
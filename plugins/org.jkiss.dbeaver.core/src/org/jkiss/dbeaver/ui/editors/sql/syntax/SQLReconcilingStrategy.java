@@ -17,9 +17,7 @@
 package org.jkiss.dbeaver.ui.editors.sql.syntax;
 
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.jface.text.IDocument;
-import org.eclipse.jface.text.IRegion;
-import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.*;
 import org.eclipse.jface.text.reconciler.DirtyRegion;
 import org.eclipse.jface.text.reconciler.IReconcilingStrategy;
 import org.eclipse.jface.text.reconciler.IReconcilingStrategyExtension;
@@ -28,24 +26,50 @@ import org.eclipse.jface.text.source.projection.ProjectionAnnotation;
 import org.eclipse.jface.text.source.projection.ProjectionAnnotationModel;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.sql.SQLScriptElement;
+import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.editors.sql.SQLEditorBase;
-import org.jkiss.dbeaver.ui.editors.sql.SQLPreferenceConstants;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.*;
 
 /**
- * SQLReconcilingStrategy
+ * SQLReconcilingStrategy.
+ * Maintains index of script statements. Statement positions are registered in the document so they are
+ * shifted by the document itself. On each change only the changed region is re-parsed: parsing starts from
+ * the statement preceding the change and stops at the first statement which starts after the change
+ * at the same offset as before.
+ * Script is parsed in the reconciler thread while positions are registered in the document in UI thread
+ * (document is not synchronized, it is modified in UI thread only).
  */
 public class SQLReconcilingStrategy implements IReconcilingStrategy, IReconcilingStrategyExtension
 {
     static protected final Log log = Log.getLog(SQLReconcilingStrategy.class);
 
+    private static final String STATEMENTS_POSITION_CATEGORY = "sql.statements"; //$NON-NLS-1$
+
     private SQLEditorBase editor;
     private IDocument document;
+    private IPositionUpdater positionUpdater;
+
+    // Sorted statement positions
+    private final List<SQLScriptPosition> parsedPositions = new ArrayList<>();
+    private boolean indexValid;
+    // Document region changed since the last reconcile
+    private int dirtyStart = -1;
+    private int dirtyEnd = -1;
+    private long changeCount;
+    private final List<Annotation> deletedAnnotations = new ArrayList<>();
 
-    private int regionOffset;
-    private int regionLength;
+    private final IDocumentListener documentListener = new IDocumentListener() {
+        @Override
+        public void documentAboutToBeChanged(DocumentEvent event) {
+        }
+
+        @Override
+        public void documentChanged(DocumentEvent event) {
+            addDirtyRegion(event.getOffset(), event.getLength(), event.getText() == null ? 0 : event.getText().length());
+        }
+    };
 
     public SQLEditorBase getEditor()
     {
@@ -60,19 +84,41 @@ public class SQLReconcilingStrategy implements IReconcilingStrategy, IReconcilin
     @Override
     public void setDocument(IDocument document)
     {
+        if (this.document != null) {
+            this.document.removeDocumentListener(documentListener);
+            if (positionUpdater != null) {
+                this.document.removePositionUpdater(positionUpdater);
+            }
+            try {
+                this.document.removePositionCategory(STATEMENTS_POSITION_CATEGORY);
+            } catch (BadPositionCategoryException e) {
+                // ignore
+            }
+        }
+        synchronized (this) {
+            parsedPositions.clear();
+            indexValid = false;
+            dirtyStart = dirtyEnd = -1;
+        }
         this.document = document;
+        if (document != null) {
+            document.addPositionCategory(STATEMENTS_POSITION_CATEGORY);
+            positionUpdater = new DefaultPositionUpdater(STATEMENTS_POSITION_CATEGORY);
+            document.addPositionUpdater(positionUpdater);
+            document.addDocumentListener(documentListener);
+        }
     }
 
     @Override
     public void reconcile(DirtyRegion dirtyRegion, IRegion subRegion)
     {
-        calculatePositions(dirtyRegion);
+        calculatePositions(false);
     }
 
     @Override
     public void reconcile(IRegion partition)
     {
-        calculatePositions(partition);
+        calculatePositions(false);
     }
 
     @Override
@@ -83,96 +129,128 @@ public class SQLReconcilingStrategy implements IReconcilingStrategy, IReconcilin
     @Override
     public void initialReconcile()
     {
-        calculatePositions(null);
+        calculatePositions(true);
     }
 
-    private List<SQLScriptPosition> parsedPositions = new ArrayList<>();
+    /**
+     * Finds offset of the indexed statement which contains the specified offset.
+     * Only statements located before modifications which were not reconciled yet are considered.
+     * @return statement start offset or -1 if there is no valid statement
+     */
+    public synchronized int getStatementStart(int offset)
+    {
+        if (!indexValid) {
+            return -1;
+        }
+        // Positions after the changed region may be out of order (deleted positions are not updated)
+        int index = findPosition(dirtyStart < 0 ? offset : Math.min(offset, dirtyStart - 1));
+        while (index >= 0) {
+            SQLScriptPosition sp = parsedPositions.get(index);
+            if (!sp.isDeleted()) {
+                return sp.getOffset();
+            }
+            index--;
+        }
+        return -1;
+    }
+
+    private synchronized boolean isStatementStart(int offset)
+    {
+        int index = findPosition(offset);
+        return index >= 0 && parsedPositions.get(index).getOffset() == offset && !parsedPositions.get(index).isDeleted();
+    }
 
-    protected void calculatePositions(IRegion partition)
+    private synchronized void addDirtyRegion(int offset, int removedLength, int insertedLength)
     {
-        if (!editor.isFoldingEnabled()) {
+        changeCount++;
+        if (dirtyStart < 0) {
+            dirtyStart = offset;
+            dirtyEnd = offset + insertedLength;
             return;
         }
+        if (dirtyEnd > offset) {
+            dirtyEnd = Math.max(offset + insertedLength, dirtyEnd + insertedLength - removedLength);
+        }
+        dirtyStart = Math.min(dirtyStart, offset);
+        dirtyEnd = Math.max(dirtyEnd, offset + insertedLength);
+    }
 
-        List<Annotation> removedAnnotations = null;
-        Map<Annotation, Position> addedAnnotations = null;
-
-        if (partition == null) {
-            regionOffset = 0;
-            regionLength = document.getLength();
-        } else {
-            regionOffset = partition.getOffset();
-            regionLength = partition.getLength();
-
-            for (int i = 0; i < parsedPositions.size(); i++) {
-                SQLScriptPosition sp = parsedPositions.get(i);
-                if (sp.getOffset() <= regionOffset + regionLength && sp.getOffset() + sp.getLength() >= regionOffset + regionLength) {
-                    SQLScriptPosition startPos = i > 0 ? parsedPositions.get(i - 1) : sp;
-                    SQLScriptPosition endPos = i < parsedPositions.size() - 1 ? parsedPositions.get(i + 1) : sp;
-                    regionOffset = i == 0 ? 0 : startPos.getOffset();
-                    regionLength = endPos.getOffset() + endPos.getLength() + regionLength;
-                    break;
-                }
+    /**
+     * Index of the last position which starts before or at the specified offset
+     */
+    private int findPosition(int offset)
+    {
+        int low = 0, high = parsedPositions.size() - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (parsedPositions.get(mid).getOffset() <= offset) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
             }
+        }
+        return result;
+    }
 
-/*
-            if (partition instanceof DirtyRegion) {
-                // Modify positions
-                DirtyRegion dirtyRegion = (DirtyRegion)partition;
-                // Shift parsed positions
-                boolean insert = DirtyRegion.INSERT.equals(dirtyRegion.getType());
-                for (SQLScriptPosition sp : parsedPositions) {
-                    if (dirtyRegion.getOffset() > sp.getOffset() && dirtyRegion.getOffset() < sp.getOffset() + sp.getLength()) {
-                        // In this position
-                        if (insert) {
-                            sp.setLength(sp.getLength() + dirtyRegion.getLength());
-                        } else {
-                            sp.setLength(sp.getLength() - dirtyRegion.getLength());
-                        }
-                    } else if (sp.getOffset() >= dirtyRegion.getOffset()) {
-                        // After this position
-                        if (insert) {
-                            sp.setOffset(sp.getOffset() + dirtyRegion.getLength());
-                        } else {
-                            sp.setOffset(sp.getOffset() - dirtyRegion.getLength());
-                        }
-                    }
-                }
-            }
-*/
+    protected void calculatePositions(boolean fullParse)
+    {
+        if (!editor.isFoldingEnabled() || document == null) {
+            return;
         }
         ProjectionAnnotationModel annotationModel = editor.getAnnotationModel();
         if (annotationModel == null) {
             return;
         }
+
+        final int regionStart, regionEnd;
+        final long reconcileChangeCount;
+        synchronized (this) {
+            if (!fullParse && indexValid && dirtyStart < 0) {
+                // All changes were already reconciled
+                return;
+            }
+            // Positions removed with the text are not updated by document anymore
+            parsedPositions.removeIf(sp -> {
+                if (sp.isDeleted() && sp.isMultiline()) {
+                    deletedAnnotations.add(sp.getFoldingAnnotation());
+                }
+                return sp.isDeleted();
+            });
+            if (fullParse || !indexValid) {
+                regionStart = 0;
+                regionEnd = document.getLength();
+            } else {
+                // Start from the statement before the changed one - change may merge them
+                int index = findPosition(dirtyStart) - 1;
+                regionStart = index < 0 ? 0 : parsedPositions.get(index).getOffset();
+                regionEnd = Math.min(dirtyEnd, document.getLength());
+            }
+            reconcileChangeCount = changeCount;
+            dirtyStart = dirtyEnd = -1;
+        }
+
+        // If parser meets old statement after the changed region then the rest of script is the same
+        final int[] syncOffset = { -1 };
         List<SQLScriptElement> queries;
         try {
-            queries = editor.extractScriptQueries(regionOffset, document.getLength() - regionOffset, false, true, false);
+            queries = editor.extractScriptQueries(regionStart, document.getLength() - regionStart, false, true, false,
+                query -> {
+                    if (!fullParse && query.getOffset() >= regionEnd && isStatementStart(query.getOffset())) {
+                        syncOffset[0] = query.getOffset();
+                        return true;
+                    }
+                    return false;
+                });
         } catch (Exception e) {
             log.error("Error parsing script queries", e);
             return;
         }
+        final int stopOffset = syncOffset[0] >= 0 ? syncOffset[0] : Integer.MAX_VALUE;
 
-        {
-            List<SQLScriptPosition> removedPositions = new ArrayList<>();
-            for (SQLScriptPosition sp : parsedPositions) {
-                if (sp.getOffset() >= regionOffset/* && sp.getOffset() <= regionOffset + regionLength*/) {
-                    removedPositions.add(sp);
-                }
-            }
-            if (!removedPositions.isEmpty()) {
-                parsedPositions.removeAll(removedPositions);
-                removedAnnotations = new ArrayList<>();
-                for (SQLScriptPosition removedPosition : removedPositions) {
-                    if (removedPosition.isMultiline()) {
-                        removedAnnotations.add(removedPosition.getFoldingAnnotation());
-                    }
-                }
-            }
-        }
-
+        List<SQLScriptPosition> addedPositions = new ArrayList<>();
         try {
-            List<SQLScriptPosition> addedPositions = new ArrayList<>();
             int documentLength = document.getLength();
             for (SQLScriptElement se : queries) {
                 int queryOffset = se.getOffset();
@@ -192,35 +270,79 @@ public class SQLReconcilingStrategy implements IReconcilingStrategy, IReconcilin
                 }
                 addedPositions.add(new SQLScriptPosition(queryOffset, queryLength, isMultiline, new ProjectionAnnotation()));
             }
-            if (!addedPositions.isEmpty()) {
-                final int firstQueryPos = addedPositions.get(0).getOffset();
-                int posBeforeFirst = 0;
-                for (int i = 0; i < parsedPositions.size(); i++) {
-                    SQLScriptPosition sp = parsedPositions.get(i);
-                    if (sp.getOffset() >= firstQueryPos) {
-                        break;
-                    }
-                    posBeforeFirst = i;
-                }
-                parsedPositions.addAll(posBeforeFirst, addedPositions);
+        } catch (Exception e) {
+            log.error(e);
+            return;
+        }
 
-                addedAnnotations = new HashMap<>();
-                for (SQLScriptPosition pos : addedPositions) {
-                    if (pos.isMultiline()) {
-                        addedAnnotations.put(pos.getFoldingAnnotation(), pos);
-                    }
+        final IDocument parsedDocument = document;
+        UIUtils.syncExec(() ->
+            applyPositions(parsedDocument, annotationModel, regionStart, regionEnd, stopOffset, reconcileChangeCount, addedPositions));
+    }
+
+    /**
+     * Replaces positions of the re-parsed region with new ones. Must be called in UI thread.
+     */
+    private void applyPositions(IDocument parsedDocument, ProjectionAnnotationModel annotationModel, int regionStart, int regionEnd, int stopOffset, long reconcileChangeCount, List<SQLScriptPosition> addedPositions)
+    {
+        if (document != parsedDocument) {
+            return;
+        }
+        List<Annotation> removedAnnotations;
+        Map<Annotation, Position> addedAnnotations = new HashMap<>();
+        synchronized (this) {
+            if (reconcileChangeCount != changeCount) {
+                // Document was changed during parse so new positions are outdated. Parse this region again.
+                addDirtyRegion(regionStart, 0, Math.max(regionEnd, regionStart) - regionStart);
+                return;
+            }
+            removedAnnotations = new ArrayList<>(deletedAnnotations);
+            deletedAnnotations.clear();
+            // Replace positions in the re-parsed region
+            int firstIndex = findPosition(regionStart - 1) + 1;
+            int lastIndex = firstIndex;
+            while (lastIndex < parsedPositions.size() && parsedPositions.get(lastIndex).getOffset() < stopOffset) {
+                lastIndex++;
+            }
+            List<SQLScriptPosition> removedPositions = parsedPositions.subList(firstIndex, lastIndex);
+            for (SQLScriptPosition sp : removedPositions) {
+                removeDocumentPosition(sp);
+                if (sp.isMultiline()) {
+                    removedAnnotations.add(sp.getFoldingAnnotation());
                 }
             }
-        } catch (Exception e) {
-            log.error(e);
+            removedPositions.clear();
+            for (Iterator<SQLScriptPosition> iter = addedPositions.iterator(); iter.hasNext(); ) {
+                SQLScriptPosition sp = iter.next();
+                try {
+                    document.addPosition(STATEMENTS_POSITION_CATEGORY, sp);
+                } catch (BadLocationException | BadPositionCategoryException e) {
+                    log.debug(e);
+                    iter.remove();
+                    continue;
+                }
+                if (sp.isMultiline()) {
+                    // Annotation model updates its positions itself so it needs its own position instance
+                    addedAnnotations.put(sp.getFoldingAnnotation(), new Position(sp.getOffset(), sp.getLength()));
+                }
+            }
+            parsedPositions.addAll(firstIndex, addedPositions);
+            indexValid = true;
         }
-        if (removedAnnotations != null || !CommonUtils.isEmpty(addedAnnotations)) {
+        if (!removedAnnotations.isEmpty() || !CommonUtils.isEmpty(addedAnnotations)) {
             annotationModel.modifyAnnotations(
-                removedAnnotations == null ? null : removedAnnotations.toArray(new Annotation[removedAnnotations.size()]),
+                removedAnnotations.toArray(new Annotation[removedAnnotations.size()]),
                 addedAnnotations,
                 null);
         }
     }
 
-}
+    private void removeDocumentPosition(SQLScriptPosition sp) {
+        try {
+            document.removePosition(STATEMENTS_POSITION_CATEGORY, sp);
+        } catch (BadPositionCategoryException e) {
+            // ignore
+        }
+    }
 
+}
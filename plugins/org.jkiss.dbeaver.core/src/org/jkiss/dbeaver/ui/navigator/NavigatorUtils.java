@@ -34,6 +34,7 @@ import org.eclipse.ui.menus.UIElement;
 import org.eclipse.ui.part.IPageSite;
 import org.eclipse.ui.services.IServiceLocator;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.DBeaverPreferences;
 import org.jkiss.dbeaver.Log;
@@ -566,7 +567,36 @@ public class NavigatorUtils {
         return children;
     }
 
+    /**
+     * Reads children of a long list and creates nodes for the first page only.
+     * If sorting is on then the whole list is sorted before it is split into pages, so pages aren't sorted again.
+     */
+    public static DBNNode[] getLazyNodeChildren(DBRProgressMonitor monitor, DBNDatabaseNode node, int pageSize) throws DBException {
+        DBNDatabaseNode[] children = node.getChildren(monitor, pageSize, getLazyChildrenOrder());
+        return filterNavigableChildren(children, true, node.getLazyChildrenCount() == 0);
+    }
+
+    /**
+     * Creates nodes for the next page of lazy children
+     */
+    public static DBNNode[] getNextLazyNodeChildren(DBNDatabaseNode node, int pageSize) {
+        return filterNavigableChildren(node.materializeChildren(pageSize), true, false);
+    }
+
+    @Nullable
+    private static Comparator<DBSObject> getLazyChildrenOrder() {
+        if (DBeaverCore.getGlobalPreferenceStore().getBoolean(DBeaverPreferences.NAVIGATOR_SORT_ALPHABETICALLY)) {
+            return ObjectNameComparator.INSTANCE;
+        }
+        return null;
+    }
+
     public static DBNNode[] filterNavigableChildren(DBNNode[] children, boolean forTree)
+    {
+        return filterNavigableChildren(children, forTree, true);
+    }
+
+    private static DBNNode[] filterNavigableChildren(DBNNode[] children, boolean forTree, boolean sort)
     {
         if (ArrayUtils.isEmpty(children)) {
             return children;
@@ -588,7 +618,9 @@ public class NavigatorUtils {
             }
         }
         DBNNode[] result = filtered == null ? children : filtered.toArray(new DBNNode[filtered.size()]);
-        sortNodes(result);
+        if (sort) {
+            sortNodes(result);
+        }
         return result;
     }
 
@@ -640,6 +672,14 @@ public class NavigatorUtils {
         }
     }
 
+    private static class ObjectNameComparator implements Comparator<DBSObject> {
+        static ObjectNameComparator INSTANCE = new ObjectNameComparator();
+        @Override
+        public int compare(DBSObject object1, DBSObject object2) {
+            return CommonUtils.notEmpty(object1.getName()).compareToIgnoreCase(CommonUtils.notEmpty(object2.getName()));
+        }
+    }
+
     private static class NodeFolderComparator implements Comparator<DBNNode> {
         static NodeFolderComparator INSTANCE = new NodeFolderComparator();
         @Override
@@ -114,6 +114,17 @@ class DatabaseNavigatorContentProvider implements IStructuredContentProvider, IT
                 new TreeLoadService("Loading", ((DBNDatabaseNode) parentNode)));
         } else {
             try {
+                int longListFetchSize = DBeaverCore.getGlobalPreferenceStore().getInt(DBeaverPreferences.NAVIGATOR_LONG_LIST_FETCH_SIZE);
+                if (parentNode instanceof DBNDatabaseNode && ((DBNDatabaseNode) parentNode).getLazyChildrenCount() > 0) {
+                    // Show already created nodes. Others will be created on demand
+                    final DBNDatabaseNode databaseNode = (DBNDatabaseNode) parentNode;
+                    DBNNode[] children = NavigatorUtils.getLazyNodeChildren(
+                        new VoidProgressMonitor(), databaseNode, longListFetchSize);
+                    Object[] curChildren = new Object[children.length + 1];
+                    System.arraycopy(children, 0, curChildren, 0, children.length);
+                    curChildren[children.length] = new TreeNodeLazyExpander(databaseNode, children.length);
+                    return curChildren;
+                }
                 // Read children with null monitor cos' it's not a lazy node
                 // and no blocking process will occur
                 DBNNode[] children = NavigatorUtils.getNodeChildrenFiltered(
@@ -121,7 +132,6 @@ class DatabaseNavigatorContentProvider implements IStructuredContentProvider, IT
                 if (ArrayUtils.isEmpty(children)) {
                     return EMPTY_CHILDREN;
                 } else {
-                    int longListFetchSize = DBeaverCore.getGlobalPreferenceStore().getInt(DBeaverPreferences.NAVIGATOR_LONG_LIST_FETCH_SIZE);
                     if (children.length > longListFetchSize) {
                         Object[] curChildren = new Object[longListFetchSize + 1];
                         System.arraycopy(children, 0, curChildren, 0, longListFetchSize);
@@ -16,6 +16,8 @@
  */
 package org.jkiss.dbeaver.ui.navigator.database.load;
 
+import org.jkiss.dbeaver.DBeaverPreferences;
+import org.jkiss.dbeaver.core.DBeaverCore;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.DBNNode;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -46,7 +48,14 @@ public class TreeLoadService extends DatabaseLoadService<Object[]> {
         throws InvocationTargetException, InterruptedException
     {
         try {
-            DBNNode[] children = NavigatorUtils.getNodeChildrenFiltered(monitor, parentNode, true);
+            DBNNode[] children;
+            if (parentNode instanceof DBNDatabaseNode) {
+                // Create nodes for the first page only. Others will be created by lazy expander
+                int longListFetchSize = DBeaverCore.getGlobalPreferenceStore().getInt(DBeaverPreferences.NAVIGATOR_LONG_LIST_FETCH_SIZE);
+                children = NavigatorUtils.getLazyNodeChildren(monitor, (DBNDatabaseNode) parentNode, longListFetchSize);
+            } else {
+                children = NavigatorUtils.getNodeChildrenFiltered(monitor, parentNode, true);
+            }
             return children == null ? new Object[0] : children;
         } catch (Throwable ex) {
             throw new InvocationTargetException(ex);
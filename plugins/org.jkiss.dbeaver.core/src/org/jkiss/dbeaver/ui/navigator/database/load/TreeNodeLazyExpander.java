@@ -20,9 +20,11 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Tree;
 import org.jkiss.dbeaver.DBeaverPreferences;
 import org.jkiss.dbeaver.core.DBeaverCore;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.DBNNode;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
 import org.jkiss.dbeaver.ui.UIIcon;
+import org.jkiss.dbeaver.ui.navigator.NavigatorUtils;
 import org.jkiss.dbeaver.ui.navigator.database.DatabaseNavigatorTree;
 
 
@@ -39,13 +41,25 @@ public class TreeNodeLazyExpander extends TreeNodeSpecial {
         this.visibleChildren = visibleChildren;
     }
 
+    /**
+     * Expander for node with lazy children. Next segment nodes are created on expand.
+     */
+    public TreeNodeLazyExpander(DBNDatabaseNode parent, int visibleChildren) {
+        super(parent);
+        this.allChildren = null;
+        this.visibleChildren = visibleChildren;
+    }
+
     public int getVisibleChildren() {
         return visibleChildren;
     }
 
     @Override
     public String getText(Object element) {
-        return "More ... (" + visibleChildren + "/" + allChildren.length + ")";
+        int totalChildren = allChildren != null ?
+            allChildren.length :
+            visibleChildren + ((DBNDatabaseNode) getParent()).getLazyChildrenCount();
+        return "More ... (" + visibleChildren + "/" + totalChildren + ")";
     }
 
     @Override
@@ -56,6 +70,9 @@ public class TreeNodeLazyExpander extends TreeNodeSpecial {
     @Override
     public boolean handleDefaultAction(DatabaseNavigatorTree tree) {
         int longListFetchSize = DBeaverCore.getGlobalPreferenceStore().getInt(DBeaverPreferences.NAVIGATOR_LONG_LIST_FETCH_SIZE);
+        if (allChildren == null) {
+            return expandLazyChildren(tree, (DBNDatabaseNode) getParent(), longListFetchSize);
+        }
         boolean lastSegment = visibleChildren + longListFetchSize > allChildren.length;
         int nextSegmentSize = lastSegment ? allChildren.length - visibleChildren : longListFetchSize;
         Object[] nodes = new Object[lastSegment ? nextSegmentSize : nextSegmentSize + 1];
@@ -74,4 +91,23 @@ public class TreeNodeLazyExpander extends TreeNodeSpecial {
         return true;
     }
 
+    private boolean expandLazyChildren(DatabaseNavigatorTree tree, DBNDatabaseNode parentNode, int longListFetchSize) {
+        DBNNode[] newChildren = NavigatorUtils.getNextLazyNodeChildren(parentNode, longListFetchSize);
+        boolean lastSegment = parentNode.getLazyChildrenCount() == 0;
+        Object[] nodes = new Object[lastSegment ? newChildren.length : newChildren.length + 1];
+        System.arraycopy(newChildren, 0, nodes, 0, newChildren.length);
+        if (!lastSegment) {
+            nodes[newChildren.length] = new TreeNodeLazyExpander(parentNode, visibleChildren + newChildren.length);
+        }
+        Tree treeControl = tree.getViewer().getTree();
+        treeControl.setRedraw(false);
+        try {
+            tree.getViewer().remove(this);
+            tree.getViewer().add(parentNode, nodes);
+        } finally {
+            treeControl.setRedraw(true);
+        }
+        return true;
+    }
+
 }
\ No newline at end of file
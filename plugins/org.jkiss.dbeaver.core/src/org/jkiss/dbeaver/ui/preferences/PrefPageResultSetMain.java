@@ -56,6 +56,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
     private Button useNavigatorFilters;
 
     private Button advUseFetchSize;
+    private Spinner pageCacheSize;
 
     public PrefPageResultSetMain()
     {
@@ -79,7 +80,8 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.contains(DBeaverPreferences.KEEP_STATEMENT_OPEN) ||
             store.contains(DBeaverPreferences.RESULT_SET_ORDER_SERVER_SIDE) ||            
             store.contains(ModelPreferences.RESULT_SET_USE_FETCH_SIZE) ||
-            store.contains(DBeaverPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS)
+            store.contains(DBeaverPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS) ||
+            store.contains(DBeaverPreferences.RESULT_SET_PAGE_CACHE_SIZE)
             ;
     }
 
@@ -135,9 +137,10 @@ public class PrefPageResultSetMain extends TargetPrefPage
         }
 
         {
-            Group advGroup = UIUtils.createControlGroup(composite, CoreMessages.pref_page_results_group_advanced, 1, GridData.VERTICAL_ALIGN_BEGINNING, 0);
+            Group advGroup = UIUtils.createControlGroup(composite, CoreMessages.pref_page_results_group_advanced, 2, GridData.VERTICAL_ALIGN_BEGINNING, 0);
 
-            advUseFetchSize = UIUtils.createCheckbox(advGroup, CoreMessages.pref_page_database_resultsets_label_fetch_size, CoreMessages.pref_page_database_resultsets_label_fetch_size_tip, false, 1);
+            advUseFetchSize = UIUtils.createCheckbox(advGroup, CoreMessages.pref_page_database_resultsets_label_fetch_size, CoreMessages.pref_page_database_resultsets_label_fetch_size_tip, false, 2);
+            pageCacheSize = UIUtils.createLabelSpinner(advGroup, CoreMessages.pref_page_database_resultsets_label_page_cache_size, CoreMessages.pref_page_database_resultsets_label_page_cache_size_tip, 0, 0, 1024);
         }
 
         return composite;
@@ -167,6 +170,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
             useNavigatorFilters.setSelection(store.getBoolean(DBeaverPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS));
 
             advUseFetchSize.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE));
+            pageCacheSize.setSelection(store.getInt(DBeaverPreferences.RESULT_SET_PAGE_CACHE_SIZE));
 
             updateOptionsEnablement();
         } catch (Exception e) {
@@ -194,6 +198,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
             store.setValue(DBeaverPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS, useNavigatorFilters.getSelection());
 
             store.setValue(ModelPreferences.RESULT_SET_USE_FETCH_SIZE, advUseFetchSize.getSelection());
+            store.setValue(DBeaverPreferences.RESULT_SET_PAGE_CACHE_SIZE, pageCacheSize.getSelection());
         } catch (Exception e) {
             log.warn(e);
         }
@@ -219,6 +224,7 @@ public class PrefPageResultSetMain extends TargetPrefPage
         store.setToDefault(DBeaverPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS);
 
         store.setToDefault(ModelPreferences.RESULT_SET_USE_FETCH_SIZE);
+        store.setToDefault(DBeaverPreferences.RESULT_SET_PAGE_CACHE_SIZE);
 
         updateOptionsEnablement();
     }
@@ -48,6 +48,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
     private Combo commitTypeCombo;
     private Combo errorHandlingCombo;
     private Spinner commitLinesText;
+    private Spinner batchSizeSpinner;
     private Button fetchResultSetsCheck;
     private Button resetCursorCheck;
     private Button maxEditorCheck;
@@ -81,6 +82,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
             store.contains(DBeaverPreferences.SCRIPT_ERROR_HANDLING) ||
             store.contains(DBeaverPreferences.SCRIPT_COMMIT_LINES) ||
             store.contains(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS) ||
+            store.contains(DBeaverPreferences.SCRIPT_BATCH_SIZE) ||
 
             store.contains(ModelPreferences.SCRIPT_STATEMENT_DELIMITER) ||
             store.contains(ModelPreferences.SCRIPT_IGNORE_NATIVE_DELIMITER) ||
@@ -166,6 +168,8 @@ public class PrefPageSQLExecute extends TargetPrefPage
                 errorHandlingCombo.add(CoreMessages.pref_page_sql_editor_combo_item_ignore, SQLScriptErrorHandling.IGNORE.ordinal());
             }
 
+            batchSizeSpinner = UIUtils.createLabelSpinner(scriptsGroup, CoreMessages.pref_page_sql_editor_label_batch_size, CoreMessages.pref_page_sql_editor_label_batch_size_tip, 0, 0, 100000);
+
             fetchResultSetsCheck = UIUtils.createCheckbox(scriptsGroup, CoreMessages.pref_page_sql_editor_checkbox_fetch_resultsets, null, false, 2);
             resetCursorCheck = UIUtils.createCheckbox(scriptsGroup, CoreMessages.pref_page_sql_editor_checkbox_reset_cursor, null, false, 2);
             maxEditorCheck = UIUtils.createCheckbox(scriptsGroup, CoreMessages.pref_page_sql_editor_checkbox_max_editor_on_script_exec, null, false, 2);
@@ -210,6 +214,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
             errorHandlingCombo.select(SQLScriptErrorHandling.valueOf(store.getString(DBeaverPreferences.SCRIPT_ERROR_HANDLING)).ordinal());
             commitLinesText.setSelection(store.getInt(DBeaverPreferences.SCRIPT_COMMIT_LINES));
             fetchResultSetsCheck.setSelection(store.getBoolean(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS));
+            batchSizeSpinner.setSelection(store.getInt(DBeaverPreferences.SCRIPT_BATCH_SIZE));
             resetCursorCheck.setSelection(store.getBoolean(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE));
             maxEditorCheck.setSelection(store.getBoolean(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE));
 
@@ -243,6 +248,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
             store.setValue(DBeaverPreferences.SCRIPT_COMMIT_LINES, commitLinesText.getSelection());
             store.setValue(DBeaverPreferences.SCRIPT_ERROR_HANDLING, CommonUtils.fromOrdinal(SQLScriptErrorHandling.class, errorHandlingCombo.getSelectionIndex()).name());
             store.setValue(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS, fetchResultSetsCheck.getSelection());
+            store.setValue(DBeaverPreferences.SCRIPT_BATCH_SIZE, batchSizeSpinner.getSelection());
             store.setValue(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE, resetCursorCheck.getSelection());
             store.setValue(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE, maxEditorCheck.getSelection());
 
@@ -273,6 +279,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
         store.setToDefault(DBeaverPreferences.SCRIPT_ERROR_HANDLING);
         store.setToDefault(DBeaverPreferences.SCRIPT_COMMIT_LINES);
         store.setToDefault(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS);
+        store.setToDefault(DBeaverPreferences.SCRIPT_BATCH_SIZE);
 
         store.setToDefault(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE);
         store.setToDefault(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE);
@@ -0,0 +1,155 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.views.session;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.*;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionHistory;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionSampler;
+import org.jkiss.dbeaver.ui.DBeaverIcons;
+import org.jkiss.dbeaver.ui.UIIcon;
+import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Session activity timeline.
+ * Shows active sessions of all samples recorded by session sampler.
+ */
+class SessionHistoryPanel extends Composite {
+
+    private static final String[] FILTER_FIELDS = { "Any", "Wait event", "User", "SQL" };
+
+    private final DBPDataSourceContainer container;
+    private final Combo filterFieldCombo;
+    private final Text filterText;
+    private final Label statusLabel;
+    private final Table timelineTable;
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss", Locale.ENGLISH);
+    private List<DBAServerSessionHistory.TimelineEntry> timeline = Collections.emptyList();
+
+    SessionHistoryPanel(Composite parent, DBPDataSourceContainer container) {
+        super(parent, SWT.NONE);
+        this.container = container;
+        setLayout(new GridLayout(1, false));
+
+        Composite filterPanel = UIUtils.createPlaceholder(this, 4, 5);
+        filterPanel.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+        filterFieldCombo = new Combo(filterPanel, SWT.DROP_DOWN | SWT.READ_ONLY);
+        for (String field : FILTER_FIELDS) {
+            filterFieldCombo.add(field);
+        }
+        filterFieldCombo.select(0);
+        filterFieldCombo.addModifyListener(e -> loadTimeline());
+        filterText = new Text(filterPanel, SWT.BORDER);
+        filterText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+        filterText.addModifyListener(e -> loadTimeline());
+        UIUtils.createPushButton(filterPanel, null, DBeaverIcons.getImage(UIIcon.REFRESH), new SelectionAdapter() {
+            @Override
+            public void widgetSelected(SelectionEvent e) {
+                loadTimeline();
+            }
+        });
+        statusLabel = new Label(filterPanel, SWT.NONE);
+
+        timelineTable = new Table(this, SWT.VIRTUAL | SWT.FULL_SELECTION | SWT.BORDER);
+        timelineTable.setLayoutData(new GridData(GridData.FILL_BOTH));
+        timelineTable.setHeaderVisible(true);
+        timelineTable.setLinesVisible(true);
+        UIUtils.createTableColumn(timelineTable, SWT.LEFT, "Time");
+        UIUtils.createTableColumn(timelineTable, SWT.LEFT, "Session");
+        UIUtils.createTableColumn(timelineTable, SWT.LEFT, "User");
+        UIUtils.createTableColumn(timelineTable, SWT.LEFT, "State");
+        UIUtils.createTableColumn(timelineTable, SWT.LEFT, "Wait event");
+        UIUtils.createTableColumn(timelineTable, SWT.LEFT, "SQL");
+        timelineTable.addListener(SWT.SetData, event -> {
+            TableItem item = (TableItem) event.item;
+            int index = timelineTable.indexOf(item);
+            if (index >= 0 && index < timeline.size()) {
+                DBAServerSessionHistory.TimelineEntry entry = timeline.get(index);
+                DBAServerSessionHistory.SessionState session = entry.getSession();
+                item.setText(new String[] {
+                    timeFormat.format(new Date(entry.getTime())),
+                    CommonUtils.toString(session.getId()),
+                    CommonUtils.notEmpty(session.getUser()),
+                    CommonUtils.notEmpty(session.getState()),
+                    CommonUtils.notEmpty(session.getWaitEvent()),
+                    CommonUtils.truncateString(CommonUtils.notEmpty(session.getQuery()).replaceAll("\\s+", " "), 200)
+                });
+            }
+        });
+    }
+
+    void loadTimeline() {
+        if (isDisposed()) {
+            return;
+        }
+        DBAServerSessionSampler sampler = DBAServerSessionSampler.getSampler(container);
+        if (sampler == null) {
+            timeline = Collections.emptyList();
+            statusLabel.setText("History is not recorded");
+        } else {
+            DBAServerSessionHistory history = sampler.getHistory();
+            timeline = history.getTimeline(0, makeFilter());
+            statusLabel.setText(history.getSampleCount() + " samples, " + timeline.size() + " entries");
+        }
+        statusLabel.getParent().layout();
+        timelineTable.clearAll();
+        timelineTable.setItemCount(timeline.size());
+        if (timelineTable.getColumn(0).getWidth() == 0) {
+            UIUtils.packColumns(timelineTable, true);
+        }
+    }
+
+    private DBAServerSessionHistory.Filter makeFilter() {
+        final String text = filterText.getText().trim().toLowerCase(Locale.ENGLISH);
+        if (text.isEmpty()) {
+            return null;
+        }
+        final int field = filterFieldCombo.getSelectionIndex();
+        return session -> {
+            switch (field) {
+                case 1:
+                    return contains(session.getWaitEvent(), text);
+                case 2:
+                    return contains(session.getUser(), text);
+                case 3:
+                    return contains(session.getQuery(), text);
+                default:
+                    return contains(session.getWaitEvent(), text) ||
+                        contains(session.getUser(), text) ||
+                        contains(session.getQuery(), text) ||
+                        contains(session.getState(), text);
+            }
+        };
+    }
+
+    private static boolean contains(String value, String text) {
+        return value != null && value.toLowerCase(Locale.ENGLISH).contains(text);
+    }
+
+}
@@ -46,6 +46,7 @@ import org.jkiss.dbeaver.model.admin.sessions.DBAServerSession;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionDetails;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionDetailsProvider;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionManager;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionSampler;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
 import org.jkiss.dbeaver.model.exec.DBCSession;
@@ -104,6 +105,7 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
     private PlanNodesTree planTree;
     private Object selectedPlanElement;
     private final CTabFolder detailsFolder;
+    private final SessionHistoryPanel historyPanel;
 
     protected SessionManagerViewer(IWorkbenchPart part, Composite parent, final DBAServerSessionManager<SESSION_TYPE> sessionManager) {
         this.workbenchPart = part;
@@ -205,6 +207,15 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
                     }
                 }
 
+                {
+                    historyPanel = new SessionHistoryPanel(detailsFolder, sessionManager.getDataSource().getContainer());
+                    CTabItem historyItem = new CTabItem(detailsFolder, SWT.NONE);
+                    historyItem.setText("Activity History");
+                    historyItem.setToolTipText("Active sessions recorded by background sampler");
+                    historyItem.setImage(DBeaverIcons.getImage(UIIcon.RS_SCHED_START));
+                    historyItem.setControl(historyPanel);
+                }
+
                 detailsFolder.setSelection(detailsItem);
                 detailsFolder.addSelectionListener(new SelectionAdapter() {
                     @Override
@@ -214,6 +225,8 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
                         if (data instanceof DBAServerSessionDetails) {
                             DetailsListControl detailsViewer = (DetailsListControl) item.getControl();
                             detailsViewer.loadData();
+                        } else if (item.getControl() == historyPanel) {
+                            historyPanel.loadTimeline();
                         }
                     }
                 });
@@ -342,10 +355,18 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
     {
         sessionTable.loadData();
         onSessionSelect(null);
+        if (isHistoryVisible()) {
+            historyPanel.loadTimeline();
+        }
 
         refreshControl.scheduleAutoRefresh(false);
     }
 
+    private boolean isHistoryVisible() {
+        int selectionIndex = detailsFolder.getSelectionIndex();
+        return selectionIndex >= 0 && detailsFolder.getItem(selectionIndex).getControl() == historyPanel;
+    }
+
     public void alterSessions(final List<SESSION_TYPE> sessions, Map<String, Object> options) {
         sessionTable.createAlterService(sessions, options).schedule();
     }
@@ -419,6 +440,7 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
         public void fillCustomActions(IContributionManager contributionManager) {
             contributeToToolbar(getSessionManager(), contributionManager);
             refreshControl.populateRefreshButton(contributionManager);
+            contributionManager.add(new RecordHistoryAction());
             contributionManager.add(new Action("Refresh sessions", DBeaverIcons.getImageDescriptor(UIIcon.REFRESH)) {
                 @Override
                 public void run()
@@ -493,6 +515,25 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
         }
     }
 
+    private class RecordHistoryAction extends Action {
+        RecordHistoryAction() {
+            super("Record session history", AS_CHECK_BOX);
+            setImageDescriptor(DBeaverIcons.getImageDescriptor(UIIcon.RS_SCHED_START));
+            setToolTipText("Sample server sessions in background and keep activity history");
+            setChecked(DBAServerSessionSampler.getSampler(sessionManager.getDataSource().getContainer()) != null);
+        }
+
+        @Override
+        public void run() {
+            if (isChecked()) {
+                DBAServerSessionSampler.startSampler(sessionManager, getSessionOptions());
+            } else {
+                DBAServerSessionSampler.stopSampler(sessionManager.getDataSource().getContainer());
+            }
+            historyPanel.loadTimeline();
+        }
+    }
+
     private class DetailsListControl extends DatabaseObjectListControl<DBPObject> {
 
         private DBAServerSessionDetails sessionDetails;
@@ -0,0 +1,121 @@
+package org.jkiss.dbeaver.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class StartupProfileTest {
+
+    private final StartupProfile profile = new StartupProfile();
+
+    @Test
+    public void shouldRecordStepsInOrderOfCompletion() {
+        //given
+        List<String> executed = new ArrayList<>();
+
+        //when
+        profile.runStep("First", () -> executed.add("First"));
+        profile.runStep("Second", () -> executed.add("Second"));
+
+        //then
+        assertEquals(Arrays.asList("First", "Second"), executed);
+        assertEquals(Arrays.asList("First", "Second"), new ArrayList<>(profile.getStepTimes().keySet()));
+        assertTrue(profile.getStepTime("First") >= 0);
+        assertTrue(profile.getStepTime("Second") >= 0);
+    }
+
+    @Test
+    public void shouldReturnMinusOneForUnknownStep() {
+        //when
+        long stepTime = profile.getStepTime("Unknown");
+
+        //then
+        assertEquals(-1, stepTime);
+    }
+
+    @Test
+    public void shouldRecordFailedStep() {
+        //given
+        RuntimeException error = new RuntimeException("Step failed");
+
+        //when
+        try {
+            profile.runStep("Failed", () -> {
+                throw error;
+            });
+            fail("Step error must be rethrown");
+        } catch (RuntimeException e) {
+            assertSame(error, e);
+        }
+
+        //then
+        assertTrue(profile.getStepTime("Failed") >= 0);
+    }
+
+    @Test
+    public void shouldMeasureStepDuration() {
+        //when
+        profile.runStep("Sleep", () -> sleep(50));
+
+        //then
+        assertTrue(profile.getStepTime("Sleep") >= 50);
+    }
+
+    @Test
+    public void shouldRecordParallelSteps() throws InterruptedException {
+        //given
+        int stepCount = 8;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < stepCount; i++) {
+            String name = "Step " + i;
+            threads.add(new Thread(() -> profile.runStep(name, () -> sleep(10))));
+        }
+
+        //when
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //then
+        Map<String, Long> stepTimes = profile.getStepTimes();
+        assertEquals(stepCount, stepTimes.size());
+        for (int i = 0; i < stepCount; i++) {
+            assertTrue(stepTimes.get("Step " + i) >= 10);
+        }
+    }
+
+    @Test
+    public void shouldReportTotalTimeAfterFinish() {
+        //given
+        profile.runStep("Sleep", () -> sleep(20));
+        assertEquals(-1, profile.getTotalTime());
+
+        //when
+        profile.finish();
+
+        //then
+        assertTrue(profile.getTotalTime() >= profile.getStepTime("Sleep"));
+        assertEquals("Sleep=" + profile.getStepTime("Sleep") + "ms", profile.toString());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+package org.jkiss.dbeaver.registry.driver;
+
+import org.jkiss.dbeaver.model.connection.DBPDriverDependencies;
+import org.jkiss.dbeaver.model.connection.DBPDriverLibrary;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.registry.maven.MavenRegistry;
+import org.jkiss.dbeaver.registry.maven.MavenRepository;
+import org.jkiss.dbeaver.utils.ContentUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Resolves dependencies graph from a Maven repository in local folder (file:// URL).
+ * Needs running platform (Maven registry reads repositories from extension registry).
+ */
+public class DriverDependenciesTest {
+
+    private static final String GROUP_ID = "org.jkiss.dbeaver.test.maven";
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final List<MavenRepository> customRepositories = new ArrayList<>();
+    private MavenRepository testRepository;
+
+    @Before
+    public void setUp() throws Exception {
+        File repoFolder = tempFolder.newFolder("repo");
+
+        // app:1.0 -> lib-a:1.0, lib-b:[1.1], lib-c:1.0
+        //   lib-a:1.0 -> lib-c:1.0 (duplicate), lib-d:{1\..*}
+        //   lib-b:1.1 -> lib-d:1.0 (duplicate)
+        writeMetadata(repoFolder, "app", "1.0", "0.9", "1.0");
+        writePom(repoFolder, "app", "0.9");
+        writePom(repoFolder, "app", "1.0", "lib-a:1.0", "lib-b:[1.1]", "lib-c:1.0");
+        writePom(repoFolder, "lib-a", "1.0", "lib-c:1.0", "lib-d:{1\\..*}");
+        writePom(repoFolder, "lib-b", "1.0");
+        writePom(repoFolder, "lib-b", "1.1", "lib-d:1.0");
+        writePom(repoFolder, "lib-c", "1.0");
+        // No metadata - versions are read from folders
+        writePom(repoFolder, "lib-d", "1.0");
+        writePom(repoFolder, "lib-d", "1.5");
+        writePom(repoFolder, "lib-d", "2.0");
+
+        MavenRegistry registry = MavenRegistry.getInstance();
+        List<MavenRepository> testRepositories = new ArrayList<>();
+        for (MavenRepository repository : registry.getRepositories()) {
+            if (repository.getType() == MavenRepository.RepositoryType.CUSTOM) {
+                customRepositories.add(repository);
+                testRepositories.add(repository);
+            }
+        }
+        // Unique id - repository cache folder must be empty
+        testRepository = new MavenRepository(
+            "test-" + System.nanoTime(),
+            "Test repository",
+            repoFolder.toURI().toString(),
+            MavenRepository.RepositoryType.CUSTOM);
+        testRepository.setScopes(Collections.singletonList(GROUP_ID));
+        testRepository.setOrder(Integer.MIN_VALUE / 2);
+        testRepositories.add(testRepository);
+        registry.setCustomRepositories(testRepositories);
+    }
+
+    @After
+    public void tearDown() {
+        MavenRegistry.getInstance().setCustomRepositories(customRepositories);
+        if (testRepository != null) {
+            // Repository cache folder is created in drivers home, not in temp folder
+            File cacheFolder = new File(DriverDescriptor.getCustomDriversHome(), "maven/" + testRepository.getId());
+            if (cacheFolder.exists()) {
+                assertTrue("Can't delete " + cacheFolder, ContentUtils.deleteFileRecursive(cacheFolder));
+            }
+        }
+    }
+
+    @Test
+    public void shouldResolveTransitiveDependencies() throws Exception {
+        //given
+        DriverLibraryMavenArtifact app = new DriverLibraryMavenArtifact(
+            null, DBPDriverLibrary.FileType.jar, DriverLibraryMavenArtifact.PATH_PREFIX + GROUP_ID + ":app:RELEASE", null);
+        DriverDependencies dependencies = new DriverDependencies(Collections.singletonList(app));
+
+        //when
+        dependencies.resolveDependencies(new VoidProgressMonitor());
+
+        //then
+        List<String> libraries = new ArrayList<>();
+        for (DBPDriverDependencies.DependencyNode node : dependencies.getLibraryList()) {
+            libraries.add(node.library.getId() + ":" + node.library.getVersion());
+        }
+        assertEquals(Arrays.asList(
+            GROUP_ID + ":app:1.0",
+            GROUP_ID + ":lib-a:1.0",
+            GROUP_ID + ":lib-b:1.1",
+            GROUP_ID + ":lib-c:1.0",
+            GROUP_ID + ":lib-d:1.5"), libraries);
+    }
+
+    @Test
+    public void shouldMarkDuplicateDependencies() throws Exception {
+        //given
+        DriverLibraryMavenArtifact app = new DriverLibraryMavenArtifact(
+            null, DBPDriverLibrary.FileType.jar, DriverLibraryMavenArtifact.PATH_PREFIX + GROUP_ID + ":app:1.0", null);
+        DriverDependencies dependencies = new DriverDependencies(Collections.singletonList(app));
+
+        //when
+        dependencies.resolveDependencies(new VoidProgressMonitor());
+
+        //then
+        DBPDriverDependencies.DependencyNode appNode = dependencies.getLibraryMap().get(0);
+        assertEquals(3, appNode.dependencies.size());
+        DBPDriverDependencies.DependencyNode libA = appNode.dependencies.get(0);
+        DBPDriverDependencies.DependencyNode libB = appNode.dependencies.get(1);
+        // lib-c is already referenced by app with smaller depth
+        assertEquals(GROUP_ID + ":lib-c", libA.dependencies.get(0).library.getId());
+        assertTrue(libA.dependencies.get(0).duplicate);
+        // lib-d is referenced by lib-a first
+        assertEquals(GROUP_ID + ":lib-d", libB.dependencies.get(0).library.getId());
+        assertTrue(libB.dependencies.get(0).duplicate);
+    }
+
+    private static void writeMetadata(File repoFolder, String artifactId, String release, String... versions) throws IOException {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<metadata>\n")
+            .append("  <groupId>").append(GROUP_ID).append("</groupId>\n")
+            .append("  <artifactId>").append(artifactId).append("</artifactId>\n")
+            .append("  <versioning>\n")
+            .append("    <latest>").append(release).append("</latest>\n")
+            .append("    <release>").append(release).append("</release>\n")
+            .append("    <versions>\n");
+        for (String version : versions) {
+            xml.append("      <version>").append(version).append("</version>\n");
+        }
+        xml.append("    </versions>\n")
+            .append("  </versioning>\n")
+            .append("</metadata>\n");
+        writeFile(new File(getArtifactFolder(repoFolder, artifactId), "maven-metadata.xml"), xml.toString());
+    }
+
+    private static void writePom(File repoFolder, String artifactId, String version, String... dependencies) throws IOException {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<project>\n")
+            .append("  <modelVersion>4.0.0</modelVersion>\n")
+            .append("  <groupId>").append(GROUP_ID).append("</groupId>\n")
+            .append("  <artifactId>").append(artifactId).append("</artifactId>\n")
+            .append("  <version>").append(version).append("</version>\n")
+            .append("  <dependencies>\n");
+        for (String dependency : dependencies) {
+            int divPos = dependency.indexOf(':');
+            xml.append("    <dependency>\n")
+                .append("      <groupId>").append(GROUP_ID).append("</groupId>\n")
+                .append("      <artifactId>").append(dependency, 0, divPos).append("</artifactId>\n")
+                .append("      <version>").append(dependency.substring(divPos + 1)).append("</version>\n")
+                .append("    </dependency>\n");
+        }
+        xml.append("  </dependencies>\n")
+            .append("</project>\n");
+        File versionFolder = new File(getArtifactFolder(repoFolder, artifactId), version);
+        writeFile(new File(versionFolder, artifactId + "-" + version + ".pom"), xml.toString());
+    }
+
+    private static File getArtifactFolder(File repoFolder, String artifactId) {
+        return new File(repoFolder, GROUP_ID.replace('.', '/') + "/" + artifactId);
+    }
+
+    private static void writeFile(File file, String content) throws IOException {
+        File folder = file.getParentFile();
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Can't create folder '" + folder.getAbsolutePath() + "'");
+        }
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -17,18 +17,22 @@
 package org.jkiss.dbeaver.data.gis.handlers;
 
 import com.vividsolutions.jts.geom.Geometry;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.gis.GisGeometryValue;
 import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCAbstractValueHandler;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 
 import java.sql.SQLException;
 
 /**
- * GIS geometry handler
+ * GIS geometry handler.
+ * Fetched SRID + WKB bytes are kept as lazy geometry values (see {@link GisGeometryValue}).
  */
 public class GISGeometryValueHandler extends JDBCAbstractValueHandler {
 
@@ -47,6 +51,9 @@ public class GISGeometryValueHandler extends JDBCAbstractValueHandler {
             statement.setNull(paramIndex, paramType.getTypeID());
         } else if (value instanceof byte[]) {
             bindBytes(statement, paramIndex, (byte[]) value);
+        } else if (value instanceof GisGeometryValue) {
+            // Pass original bytes through
+            bindBytes(statement, paramIndex, ((GisGeometryValue) value).getBytes());
         } else if (value instanceof Geometry) {
             bindBytes(statement, paramIndex, GeometryConverter.getInstance().to((Geometry)value));
         }
@@ -61,10 +68,10 @@ public class GISGeometryValueHandler extends JDBCAbstractValueHandler {
     public Object getValueFromObject(DBCSession session, DBSTypedObject type, Object object, boolean copy) throws DBCException {
         if (object == null) {
             return null;
-        } else if (object instanceof Geometry) {
+        } else if (object instanceof Geometry || object instanceof GisGeometryValue) {
             return object;
         } else if (object instanceof byte[]) {
-            return GeometryConverter.getInstance().from((byte[]) object);
+            return new GisGeometryValue((byte[]) object);
         } else if (object instanceof String) {
             return GeometryConverter.getInstance().from((String)object);
         } else {
@@ -72,6 +79,18 @@ public class GISGeometryValueHandler extends JDBCAbstractValueHandler {
         }
     }
 
+    @NotNull
+    @Override
+    public String getValueDisplayString(@NotNull DBSTypedObject column, Object value, @NotNull DBDDisplayFormat format) {
+        if (value instanceof GisGeometryValue) {
+            // Simplified geometry is enough for UI
+            return format == DBDDisplayFormat.UI ?
+                ((GisGeometryValue) value).getDisplayString() :
+                value.toString();
+        }
+        return super.getValueDisplayString(column, value, format);
+    }
+
     protected byte[] fetchBytes(JDBCResultSet resultSet, int index) throws SQLException {
         return resultSet.getBytes(index);
     }
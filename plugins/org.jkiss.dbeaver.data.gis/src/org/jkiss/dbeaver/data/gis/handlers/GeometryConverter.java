@@ -66,6 +66,16 @@ public class GeometryConverter {
         }
     }
 
+    /**
+     * Reads SRID from byte array containing SRID + WKB Geometry
+     */
+    public int getSRID(byte[] bytes) {
+        if (bytes == null || bytes.length < 4) {
+            return 0;
+        }
+        return ByteOrderValues.getInt(bytes, byteOrder);
+    }
+
     public Geometry from(String str) {
         try {
             return new WKTReader().read(str);
@@ -0,0 +1,144 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.gis;
+
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.simplify.TopologyPreservingSimplifier;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.data.gis.handlers.GeometryConverter;
+import org.jkiss.dbeaver.model.data.DBDValue;
+
+import java.util.Arrays;
+
+/**
+ * Lazy geometry value.
+ * Keeps raw SRID + WKB bytes as they were fetched from database and decodes them on first access.
+ * Raw bytes are bound back to statements as is, so data transfer doesn't decode geometries at all.
+ */
+public class GisGeometryValue implements DBDValue {
+
+    // Geometries with more points are simplified for display
+    private static final int DISPLAY_MAX_POINTS = 1000;
+    // Simplification tolerance relative to geometry extent
+    private static final double DISPLAY_TOLERANCE_FACTOR = 0.001;
+
+    @NotNull
+    private final byte[] bytes;
+    private volatile Geometry geometry;
+    private volatile Geometry displayGeometry;
+    private volatile String displayString;
+
+    public GisGeometryValue(@NotNull byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Raw SRID + WKB bytes
+     */
+    @NotNull
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public int getSRID() {
+        return GeometryConverter.getInstance().getSRID(bytes);
+    }
+
+    @NotNull
+    public Geometry getGeometry() {
+        Geometry result = geometry;
+        if (result == null) {
+            result = geometry = GeometryConverter.getInstance().from(bytes);
+        }
+        return result;
+    }
+
+    /**
+     * Geometry for rendering. Big geometries are simplified (topology is preserved).
+     */
+    @NotNull
+    public Geometry getDisplayGeometry() {
+        Geometry result = displayGeometry;
+        if (result == null) {
+            result = getGeometry();
+            if (result.getNumPoints() > DISPLAY_MAX_POINTS) {
+                Envelope envelope = result.getEnvelopeInternal();
+                double tolerance = Math.max(envelope.getWidth(), envelope.getHeight()) * DISPLAY_TOLERANCE_FACTOR;
+                if (tolerance > 0) {
+                    result = TopologyPreservingSimplifier.simplify(result, tolerance);
+                }
+                // Full geometry isn't needed for display anymore
+                geometry = null;
+            }
+            displayGeometry = result;
+        }
+        return result;
+    }
+
+    /**
+     * WKT of display geometry. Cached.
+     */
+    @NotNull
+    public String getDisplayString() {
+        String result = displayString;
+        if (result == null) {
+            result = displayString = getDisplayGeometry().toText();
+        }
+        return result;
+    }
+
+    @Override
+    public Object getRawValue() {
+        return getGeometry();
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    @Override
+    public boolean isModified() {
+        return false;
+    }
+
+    @Override
+    public void release() {
+        geometry = null;
+        displayGeometry = null;
+        displayString = null;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof GisGeometryValue && Arrays.equals(bytes, ((GisGeometryValue) obj).bytes);
+    }
+
+    /**
+     * Full geometry WKT
+     */
+    @Override
+    public String toString() {
+        return getGeometry().toText();
+    }
+}
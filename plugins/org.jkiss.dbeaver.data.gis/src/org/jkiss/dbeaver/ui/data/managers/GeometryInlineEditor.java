@@ -20,6 +20,7 @@ import com.vividsolutions.jts.geom.Geometry;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.gis.GisAttribute;
+import org.jkiss.dbeaver.model.gis.GisGeometryValue;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 import org.jkiss.dbeaver.ui.data.IValueController;
@@ -42,6 +43,8 @@ public class GeometryInlineEditor extends StringInlineEditor {
         super.primeEditorValue(value);
         if (value instanceof Geometry) {
             this.valueSRID = ((Geometry) value).getSRID();
+        } else if (value instanceof GisGeometryValue) {
+            this.valueSRID = ((GisGeometryValue) value).getSRID();
         }
         if (valueSRID == 0) {
             DBSTypedObject column = valueController.getValueType();
@@ -0,0 +1,340 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+/**
+ * Data transfer checkpoint.
+ *
+ * Keeps progress of a single producer/consumer pair: rows which were durably written by consumer,
+ * key of the last such row (if source has a single-column key), output file and its committed size.
+ * Producer reports each delivered row, consumer commits everything delivered so far when it is
+ * actually stored (target transaction commit or output file flush).
+ *
+ * Checkpoint is periodically saved in workspace metadata, saved on failure and deleted after successful transfer.
+ */
+public class DataTransferCheckpoint {
+
+    private static final Log log = Log.getLog(DataTransferCheckpoint.class);
+
+    private static final String CHECKPOINTS_FOLDER = "data-transfer-checkpoints"; //$NON-NLS-1$
+    private static final long SAVE_INTERVAL = 5000;
+
+    private static final String PROP_SOURCE = "source";
+    private static final String PROP_ROW_COUNT = "rowCount";
+    private static final String PROP_KEY_ATTRIBUTE = "keyAttribute";
+    private static final String PROP_KEY_NUMERIC = "keyNumeric";
+    private static final String PROP_KEY_VALUE = "keyValue";
+    private static final String PROP_OUTPUT_FILE = "outputFile";
+    private static final String PROP_OUTPUT_PART = "outputPart";
+    private static final String PROP_BYTES_WRITTEN = "bytesWritten";
+    private static final String PROP_TIMESTAMP = "timestamp";
+    private static final String PROP_SAVE_TIME = "saveTime";
+
+    @NotNull
+    private final File file;
+    @NotNull
+    private final String sourceName;
+    private final boolean resumed;
+
+    // Committed state
+    private long rowCount;
+    private String keyAttribute;
+    private boolean keyNumeric;
+    private String keyValue;
+    private String outputFile;
+    private int outputPart;
+    private long bytesWritten;
+    private String timestamp;
+
+    // Delivered but not committed yet
+    private long pendingRowCount;
+    private Object pendingKeyValue;
+
+    private long lastSaveTime;
+
+    private DataTransferCheckpoint(@NotNull File file, @NotNull String sourceName, @Nullable Properties state) {
+        this.file = file;
+        this.sourceName = sourceName;
+        if (state != null) {
+            rowCount = CommonUtils.toLong(state.getProperty(PROP_ROW_COUNT));
+            keyAttribute = state.getProperty(PROP_KEY_ATTRIBUTE);
+            keyNumeric = CommonUtils.toBoolean(state.getProperty(PROP_KEY_NUMERIC));
+            keyValue = state.getProperty(PROP_KEY_VALUE);
+            outputFile = state.getProperty(PROP_OUTPUT_FILE);
+            outputPart = CommonUtils.toInt(state.getProperty(PROP_OUTPUT_PART));
+            bytesWritten = CommonUtils.toLong(state.getProperty(PROP_BYTES_WRITTEN));
+            timestamp = state.getProperty(PROP_TIMESTAMP);
+        }
+        this.resumed = rowCount > 0;
+        this.pendingRowCount = rowCount;
+        this.lastSaveTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Checks that both producer and consumer can use checkpoints with their current settings
+     */
+    public static boolean isSupported(@NotNull IDataTransferProducer producer, @NotNull IDataTransferConsumer consumer) {
+        return producer instanceof IDataTransferCheckpointSupport && ((IDataTransferCheckpointSupport) producer).isCheckpointSupported() &&
+            consumer instanceof IDataTransferCheckpointSupport && ((IDataTransferCheckpointSupport) consumer).isCheckpointSupported();
+    }
+
+    /**
+     * Opens checkpoint of the transfer pipe.
+     * @param resume if true then state saved by the previous run is loaded, otherwise it is discarded
+     */
+    @NotNull
+    public static DataTransferCheckpoint open(
+        @NotNull IDataTransferProducer producer,
+        @NotNull IDataTransferConsumer consumer,
+        @Nullable String processorId,
+        boolean resume)
+    {
+        File file = getCheckpointFile(producer, consumer, processorId);
+        Properties state = resume ? loadState(file) : null;
+        if (state == null && file.exists() && !file.delete()) {
+            log.debug("Can't delete old checkpoint " + file.getAbsolutePath());
+        }
+        return new DataTransferCheckpoint(file, producer.getObjectName(), state);
+    }
+
+    /**
+     * Reads checkpoint saved by the previous run.
+     * @return checkpoint or null if there is nothing to resume
+     */
+    @Nullable
+    public static DataTransferCheckpoint find(
+        @NotNull IDataTransferProducer producer,
+        @NotNull IDataTransferConsumer consumer,
+        @Nullable String processorId)
+    {
+        File file = getCheckpointFile(producer, consumer, processorId);
+        Properties state = loadState(file);
+        if (state == null) {
+            return null;
+        }
+        DataTransferCheckpoint checkpoint = new DataTransferCheckpoint(file, producer.getObjectName(), state);
+        return checkpoint.isResumed() ? checkpoint : null;
+    }
+
+    /**
+     * True if transfer resumes from the state saved by the previous run
+     */
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    /**
+     * Number of source rows committed by consumer
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Nullable
+    public String getKeyAttribute() {
+        return keyAttribute;
+    }
+
+    /**
+     * Key value of the last committed row
+     */
+    @Nullable
+    public Object getKeyValue() {
+        if (keyValue == null) {
+            return null;
+        }
+        if (keyNumeric) {
+            try {
+                return new BigDecimal(keyValue);
+            } catch (NumberFormatException e) {
+                log.debug("Bad numeric key value in checkpoint: " + keyValue);
+                return null;
+            }
+        }
+        return keyValue;
+    }
+
+    /**
+     * Sets source key attribute. Producer must deliver rows ordered by this key.
+     * Resumed key value is reset if key attribute has changed.
+     */
+    public void setKeyAttribute(@Nullable String keyAttribute, boolean keyNumeric) {
+        if (!CommonUtils.equalObjects(this.keyAttribute, keyAttribute) || this.keyNumeric != keyNumeric) {
+            this.keyValue = null;
+        }
+        this.keyAttribute = keyAttribute;
+        this.keyNumeric = keyNumeric;
+    }
+
+    @Nullable
+    public String getOutputFile() {
+        return outputFile;
+    }
+
+    public int getOutputPart() {
+        return outputPart;
+    }
+
+    /**
+     * Committed size of output file. Everything after this position is partial output of the failed run.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Nullable
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public void setOutputFile(@NotNull File outputFile, int outputPart, @Nullable String timestamp) {
+        this.outputFile = outputFile.getAbsolutePath();
+        this.outputPart = outputPart;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Called by producer for each row passed to consumer
+     */
+    public void rowDelivered(@Nullable Object keyValue) {
+        pendingRowCount++;
+        pendingKeyValue = keyValue;
+    }
+
+    /**
+     * Called by consumer when all delivered rows are stored
+     * @param bytesWritten current output file size (for file consumers)
+     */
+    public void commit(long bytesWritten) {
+        this.rowCount = pendingRowCount;
+        this.keyValue = pendingKeyValue == null ? null : pendingKeyValue.toString();
+        this.bytesWritten = bytesWritten;
+        if (isSaveRequired()) {
+            save();
+        }
+    }
+
+    /**
+     * Checks whether it is time to commit and save the checkpoint.
+     * Consumers which commit on their own (by time, not by transactions) use it to avoid too frequent flushes.
+     */
+    public boolean isSaveRequired() {
+        return System.currentTimeMillis() - lastSaveTime >= SAVE_INTERVAL;
+    }
+
+    public synchronized void save() {
+        lastSaveTime = System.currentTimeMillis();
+        if (rowCount == 0) {
+            return;
+        }
+        Properties state = new Properties();
+        state.setProperty(PROP_SOURCE, sourceName);
+        state.setProperty(PROP_ROW_COUNT, String.valueOf(rowCount));
+        if (keyAttribute != null && keyValue != null) {
+            state.setProperty(PROP_KEY_ATTRIBUTE, keyAttribute);
+            state.setProperty(PROP_KEY_NUMERIC, String.valueOf(keyNumeric));
+            state.setProperty(PROP_KEY_VALUE, keyValue);
+        }
+        if (outputFile != null) {
+            state.setProperty(PROP_OUTPUT_FILE, outputFile);
+            state.setProperty(PROP_OUTPUT_PART, String.valueOf(outputPart));
+            state.setProperty(PROP_BYTES_WRITTEN, String.valueOf(bytesWritten));
+        }
+        if (timestamp != null) {
+            state.setProperty(PROP_TIMESTAMP, timestamp);
+        }
+        state.setProperty(PROP_SAVE_TIME, String.valueOf(lastSaveTime));
+
+        // Write to temp file first - checkpoint must never be half-written
+        File tempFile = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            try (OutputStream out = new FileOutputStream(tempFile)) {
+                state.store(out, "Data transfer checkpoint");
+            }
+            if (file.exists() && !file.delete()) {
+                log.debug("Can't delete old checkpoint " + file.getAbsolutePath());
+            }
+            if (!tempFile.renameTo(file)) {
+                log.warn("Can't save data transfer checkpoint " + file.getAbsolutePath());
+            }
+        } catch (IOException e) {
+            log.warn("Error saving data transfer checkpoint", e);
+        }
+    }
+
+    /**
+     * Removes saved checkpoint. Called after successful transfer.
+     */
+    public synchronized void delete() {
+        if (file.exists() && !file.delete()) {
+            log.debug("Can't delete checkpoint " + file.getAbsolutePath());
+        }
+    }
+
+    @Nullable
+    private static Properties loadState(File file) {
+        if (!file.exists()) {
+            return null;
+        }
+        Properties state = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            state.load(in);
+        } catch (IOException e) {
+            log.warn("Error reading data transfer checkpoint " + file.getAbsolutePath(), e);
+            return null;
+        }
+        return state;
+    }
+
+    @NotNull
+    private static File getCheckpointFile(IDataTransferProducer producer, IDataTransferConsumer consumer, String processorId) {
+        File folder = new File(GeneralUtils.getMetadataFolder(), CHECKPOINTS_FOLDER);
+        if (!folder.exists() && !folder.mkdirs()) {
+            log.warn("Can't create checkpoints folder " + folder.getAbsolutePath());
+        }
+        // Consumer object name may contain timestamp, so consumer provides its own target id
+        StringBuilder pipeId = new StringBuilder();
+        pipeId.append(producer.getObjectName()).append('\n');
+        pipeId.append(consumer.getClass().getName()).append('\n');
+        pipeId.append(CommonUtils.notEmpty(processorId)).append('\n');
+        if (consumer instanceof IDataTransferCheckpointSupport) {
+            pipeId.append(CommonUtils.notEmpty(((IDataTransferCheckpointSupport) consumer).getCheckpointTarget()));
+        }
+        String fileName;
+        try {
+            MessageDigest md5 = MessageDigest.getInstance("MD5");
+            fileName = CommonUtils.toHexString(md5.digest(pipeId.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            fileName = Integer.toHexString(pipeId.toString().hashCode());
+        }
+        return new File(folder, fileName + ".properties");
+    }
+
+}
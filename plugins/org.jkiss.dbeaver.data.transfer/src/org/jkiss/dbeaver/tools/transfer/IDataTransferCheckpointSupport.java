@@ -0,0 +1,42 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+/**
+ * Transfer node which can save progress in checkpoints and resume transfer from them.
+ * Checkpoint is used only if both producer and consumer of the pipe support it.
+ */
+public interface IDataTransferCheckpointSupport {
+
+    /**
+     * Checks whether node can work with checkpoints with its current settings
+     */
+    boolean isCheckpointSupported();
+
+    void setCheckpoint(@NotNull DataTransferCheckpoint checkpoint);
+
+    /**
+     * Identifies transfer target. Must be the same for all runs of the same transfer
+     * (e.g. it can't contain current time). Producers return null.
+     */
+    @Nullable
+    String getCheckpointTarget();
+
+}
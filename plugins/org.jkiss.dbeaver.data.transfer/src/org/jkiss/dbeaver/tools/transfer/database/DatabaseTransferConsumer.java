@@ -16,6 +16,8 @@
  */
 package org.jkiss.dbeaver.tools.transfer.database;
 
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSource;
@@ -24,6 +26,8 @@ import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.model.data.DBDValueHandler;
 import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.exec.trace.DBCTrace;
+import org.jkiss.dbeaver.model.exec.trace.DBCTracePhase;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.impl.DBObjectNameCaseTransformer;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -32,6 +36,8 @@ import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
+import org.jkiss.dbeaver.tools.transfer.DataTransferCheckpoint;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferCheckpointSupport;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferProcessor;
 import org.jkiss.dbeaver.ui.UIUtils;
@@ -44,7 +50,7 @@ import java.util.*;
 /**
 * Stream transfer consumer
 */
-public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseConsumerSettings, IDataTransferProcessor> {
+public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseConsumerSettings, IDataTransferProcessor>, IDataTransferCheckpointSupport {
 
     private static final Log log = Log.getLog(DatabaseTransferConsumer.class);
 
@@ -60,6 +66,8 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     private boolean ignoreErrors = false;
     private List<DBSEntityAttribute> targetAttributes;
     private boolean useIsolatedConnection;
+    private DBCTrace trace;
+    private DataTransferCheckpoint checkpoint;
 
     private static class ColumnMapping {
         DBCAttributeMetaData sourceAttr;
@@ -92,8 +100,10 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     public void fetchStart(DBCSession session, DBCResultSet resultSet, long offset, long maxRows) throws DBCException
     {
         initExporter(session.getProgressMonitor());
+        trace = resultSet instanceof DBCResultSetTrace ? ((DBCResultSetTrace) resultSet).getExecutionTrace() : null;
 
-        if (offset == 0 && settings.isTruncateBeforeLoad() && (containerMapping == null || containerMapping.getMappingType() == DatabaseMappingType.existing)) {
+        boolean resumed = checkpoint != null && checkpoint.isResumed();
+        if (offset == 0 && !resumed && settings.isTruncateBeforeLoad() && (containerMapping == null || containerMapping.getMappingType() == DatabaseMappingType.existing)) {
             // Truncate target tables
             if ((targetObject.getSupportedFeatures() & DBSDataManipulator.DATA_TRUNCATE) != 0) {
                 targetObject.truncateData(
@@ -167,6 +177,7 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     @Override
     public void fetchRow(DBCSession session, DBCResultSet resultSet) throws DBCException
     {
+        long startTime = trace == null ? 0 : System.nanoTime();
         Object[] rowValues = new Object[targetAttributes.size()];
         for (int i = 0; i < columnMappings.length; i++) {
             ColumnMapping column = columnMappings[i];
@@ -187,6 +198,10 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                 attrValue,
                 false);
         }
+        if (trace != null) {
+            trace.addPhaseTime(DBCTracePhase.CONVERT, System.nanoTime() - startTime);
+            trace.addRowValues(rowValues);
+        }
         executeBatch.add(rowValues);
 
         rowsExported++;
@@ -233,10 +248,19 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                 }
             } while (retryInsert);
         }
-        if (settings.isUseTransactions() && needCommit) {
+        if (needCommit) {
+            boolean committed = true;
             DBCTransactionManager txnManager = DBUtils.getTransactionManager(targetSession.getExecutionContext());
             if (txnManager != null && !txnManager.isAutoCommit()) {
-                txnManager.commit(targetSession);
+                if (settings.isUseTransactions()) {
+                    txnManager.commit(targetSession);
+                } else {
+                    // Rows aren't committed by us
+                    committed = false;
+                }
+            }
+            if (committed && checkpoint != null) {
+                checkpoint.commit(0);
             }
         }
     }
@@ -309,6 +333,26 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         this.settings = settings;
     }
 
+    @Override
+    public boolean isCheckpointSupported() {
+        return true;
+    }
+
+    @Override
+    public void setCheckpoint(@NotNull DataTransferCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    @Nullable
+    @Override
+    public String getCheckpointTarget() {
+        DatabaseMappingContainer dataMapping = sourceObject == null ? null : settings.getDataMapping(sourceObject);
+        if (dataMapping != null && settings.getContainer() != null) {
+            return DBUtils.getObjectFullName(settings.getContainer(), DBPEvaluationContext.UI) + "." + dataMapping.getTargetName();
+        }
+        return targetObject == null ? null : DBUtils.getObjectFullName(targetObject, DBPEvaluationContext.UI);
+    }
+
     @Override
     public void startTransfer(DBRProgressMonitor monitor) throws DBException
     {
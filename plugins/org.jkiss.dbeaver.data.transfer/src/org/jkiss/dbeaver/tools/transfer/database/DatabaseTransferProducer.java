@@ -22,23 +22,34 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
+import org.jkiss.dbeaver.model.DBPDataKind;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeConstraint;
 import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.dbeaver.tools.transfer.DataTransferCheckpoint;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferCheckpointSupport;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferProcessor;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferProducer;
 import org.jkiss.dbeaver.tools.transfer.internal.DTMessages;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Data container transfer producer
  */
-public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseProducerSettings> {
+public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseProducerSettings>, IDataTransferCheckpointSupport {
 
     private static final Log log = Log.getLog(DatabaseTransferProducer.class);
 
@@ -46,6 +57,8 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
     private DBSDataContainer dataContainer;
     @Nullable
     private DBDDataFilter dataFilter;
+    @Nullable
+    private DataTransferCheckpoint checkpoint;
 
     public DatabaseTransferProducer() {
     }
@@ -72,6 +85,22 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
         return DBUtils.getObjectFullName(dataContainer, DBPEvaluationContext.DML);
     }
 
+    @Override
+    public boolean isCheckpointSupported() {
+        return true;
+    }
+
+    @Override
+    public void setCheckpoint(@NotNull DataTransferCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    @Nullable
+    @Override
+    public String getCheckpointTarget() {
+        return null;
+    }
+
     @Override
     public void transferData(
         DBRProgressMonitor monitor,
@@ -139,18 +168,53 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
 
                 monitor.beginTask(DTMessages.data_transfer_wizard_job_task_export_table_data, (int) totalRows);
 
+                DBDDataReceiver dataReceiver = consumer;
+                DBDDataFilter transferFilter = dataFilter;
+                long startOffset = 0;
+                if (checkpoint != null && !selectiveExportFromUI) {
+                    DBSEntityAttribute keyAttribute = getCheckpointKey(monitor);
+                    if (keyAttribute != null) {
+                        // Read rows in key order. Resume from the last committed key
+                        checkpoint.setKeyAttribute(keyAttribute.getName(), keyAttribute.getDataKind() == DBPDataKind.NUMERIC);
+                        transferFilter = dataFilter == null ? new DBDDataFilter() : new DBDDataFilter(dataFilter);
+                        DBDAttributeConstraint keyConstraint = new DBDAttributeConstraint(keyAttribute, keyAttribute.getOrdinalPosition());
+                        keyConstraint.setOrderPosition(1);
+                        if (checkpoint.isResumed()) {
+                            Object lastKey = checkpoint.getKeyValue();
+                            if (lastKey != null) {
+                                keyConstraint.setOperator(DBCLogicalOperator.GREATER);
+                                keyConstraint.setValue(lastKey);
+                            } else {
+                                // Previous run didn't use this key. Key order makes offset stable anyway
+                                startOffset = checkpoint.getRowCount();
+                            }
+                        }
+                        transferFilter.addConstraints(Collections.singletonList(keyConstraint));
+                    } else {
+                        checkpoint.setKeyAttribute(null, false);
+                        if (checkpoint.isResumed()) {
+                            startOffset = checkpoint.getRowCount();
+                        }
+                    }
+                    if (checkpoint.isResumed()) {
+                        log.debug("Resume transfer of '" + getObjectName() + "' after " + checkpoint.getRowCount() + " rows");
+                        monitor.worked((int) checkpoint.getRowCount());
+                    }
+                    dataReceiver = new CheckpointDataReceiver(consumer, checkpoint, keyAttribute == null ? null : keyAttribute.getName());
+                }
+
                 try {
                     // Perform export
                     if (settings.getExtractType() == DatabaseProducerSettings.ExtractType.SINGLE_QUERY) {
                         // Just do it in single query
-                        dataContainer.readData(transferSource, session, consumer, dataFilter, -1, -1, readFlags);
+                        dataContainer.readData(transferSource, session, dataReceiver, transferFilter, startOffset > 0 ? startOffset : -1, -1, readFlags);
                     } else {
                         // Read all data by segments
-                        long offset = 0;
+                        long offset = startOffset;
                         int segmentSize = settings.getSegmentSize();
                         for (; ; ) {
                             DBCStatistics statistics = dataContainer.readData(
-                                transferSource, session, consumer, dataFilter, offset, segmentSize, readFlags);
+                                transferSource, session, dataReceiver, transferFilter, offset, segmentSize, readFlags);
                             if (statistics == null || statistics.getRowsFetched() < segmentSize) {
                                 // Done
                                 break;
@@ -180,4 +244,85 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
         }
     }
 
+    /**
+     * Finds single-column not null unique key which can be used to resume transfer.
+     * Custom ordering or conditions on the key column disable key based resume.
+     */
+    @Nullable
+    private DBSEntityAttribute getCheckpointKey(DBRProgressMonitor monitor) {
+        if (!(dataContainer instanceof DBSEntity) || (dataFilter != null && dataFilter.hasOrdering())) {
+            return null;
+        }
+        try {
+            Collection<? extends DBSEntityAttribute> identifier = DBUtils.getBestTableIdentifier(monitor, (DBSEntity) dataContainer);
+            if (identifier.size() != 1) {
+                return null;
+            }
+            DBSEntityAttribute keyAttribute = identifier.iterator().next();
+            if (!keyAttribute.isRequired() ||
+                (keyAttribute.getDataKind() != DBPDataKind.NUMERIC && keyAttribute.getDataKind() != DBPDataKind.STRING))
+            {
+                return null;
+            }
+            if (dataFilter != null) {
+                DBDAttributeConstraint keyConstraint = dataFilter.getConstraint(keyAttribute, false);
+                if (keyConstraint != null && keyConstraint.hasCondition()) {
+                    return null;
+                }
+            }
+            return keyAttribute;
+        } catch (DBException e) {
+            log.debug("Can't read identifier of '" + getObjectName() + "'", e);
+            return null;
+        }
+    }
+
+    /**
+     * Reports delivered rows (and their keys) to checkpoint before passing them to consumer
+     */
+    private static class CheckpointDataReceiver implements DBDDataReceiver {
+        private final DBDDataReceiver consumer;
+        private final DataTransferCheckpoint checkpoint;
+        private final String keyAttribute;
+        private int keyIndex = -1;
+
+        CheckpointDataReceiver(DBDDataReceiver consumer, DataTransferCheckpoint checkpoint, @Nullable String keyAttribute) {
+            this.consumer = consumer;
+            this.checkpoint = checkpoint;
+            this.keyAttribute = keyAttribute;
+        }
+
+        @Override
+        public void fetchStart(DBCSession session, DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+            keyIndex = -1;
+            if (keyAttribute != null) {
+                List<DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+                for (int i = 0; i < attributes.size(); i++) {
+                    if (keyAttribute.equalsIgnoreCase(attributes.get(i).getName())) {
+                        keyIndex = i;
+                        break;
+                    }
+                }
+            }
+            consumer.fetchStart(session, resultSet, offset, maxRows);
+        }
+
+        @Override
+        public void fetchRow(DBCSession session, DBCResultSet resultSet) throws DBCException {
+            // Consumer may commit while it handles the row, so the row is reported first
+            checkpoint.rowDelivered(keyIndex < 0 ? null : resultSet.getAttributeValue(keyIndex));
+            consumer.fetchRow(session, resultSet);
+        }
+
+        @Override
+        public void fetchEnd(DBCSession session, DBCResultSet resultSet) throws DBCException {
+            consumer.fetchEnd(session, resultSet);
+        }
+
+        @Override
+        public void close() {
+            consumer.close();
+        }
+    }
+
 }
@@ -0,0 +1,38 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream;
+
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+
+import java.io.IOException;
+
+/**
+ * Exporter which can append rows to partially written output.
+ * Output of such exporter can be truncated after any row and continued by a new exporter instance,
+ * so interrupted transfers may be resumed.
+ */
+public interface IAppendableStreamDataExporter extends IStreamDataExporter {
+
+    /**
+     * Called instead of exportHeader when rows are appended to existing output.
+     * Must prepare exporter state but write nothing.
+     */
+    void exportResume(DBCSession session)
+        throws DBException, IOException;
+
+}
@@ -0,0 +1,174 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.stream;
+
+import org.jkiss.code.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GZIP output stream which compresses data on a worker pool.
+ *
+ * Data is split into fixed-size blocks, each block is compressed as a separate GZIP member.
+ * Members are written in their original order, so result is a regular multi-member GZIP file
+ * which can be read by gunzip and GZIPInputStream.
+ * Compression of full blocks overlaps with writing of the next ones - the caller thread only copies bytes.
+ */
+public class ParallelGZIPOutputStream extends OutputStream {
+
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    private static ExecutorService compressExecutor;
+
+    private final OutputStream out;
+    private final int maxPendingBlocks;
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private byte[] block = new byte[BLOCK_SIZE];
+    private int blockLength;
+    private long blockCount;
+    private boolean finished;
+
+    public ParallelGZIPOutputStream(@NotNull OutputStream out) {
+        this.out = out;
+        this.maxPendingBlocks = getPoolSize() * 2;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (blockLength == block.length) {
+            submitBlock();
+        }
+        block[blockLength++] = (byte) b;
+    }
+
+    @Override
+    public void write(@NotNull byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (blockLength == block.length) {
+                submitBlock();
+            }
+            int count = Math.min(len, block.length - blockLength);
+            System.arraycopy(b, off, block, blockLength, count);
+            blockLength += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Writes already compressed blocks. Incomplete block is kept in buffer - otherwise each
+     * flush of auto-flushing writer would produce a tiny GZIP member.
+     */
+    @Override
+    public void flush() throws IOException {
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peekFirst().isDone()) {
+            writePendingBlock();
+        }
+        out.flush();
+    }
+
+    /**
+     * Compresses remaining data and writes all blocks. Doesn't close underlying stream.
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (blockLength > 0 || blockCount == 0) {
+            // Empty GZIP file must contain at least one member
+            submitBlock();
+        }
+        while (!pendingBlocks.isEmpty()) {
+            writePendingBlock();
+        }
+        out.flush();
+        finished = true;
+        block = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            for (Future<byte[]> future : pendingBlocks) {
+                future.cancel(false);
+            }
+            pendingBlocks.clear();
+            out.close();
+        }
+    }
+
+    private void submitBlock() throws IOException {
+        final byte[] data = block;
+        final int length = blockLength;
+        pendingBlocks.addLast(getExecutor().submit(() -> compressBlock(data, length)));
+        blockCount++;
+        block = new byte[BLOCK_SIZE];
+        blockLength = 0;
+        while (pendingBlocks.size() > maxPendingBlocks || (!pendingBlocks.isEmpty() && pendingBlocks.peekFirst().isDone())) {
+            writePendingBlock();
+        }
+    }
+
+    private void writePendingBlock() throws IOException {
+        Future<byte[]> future = pendingBlocks.pollFirst();
+        byte[] compressed;
+        try {
+            compressed = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Compression interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException("Error compressing data block", e.getCause());
+        }
+        out.write(compressed);
+    }
+
+    private static byte[] compressBlock(byte[] data, int length) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer, 8192)) {
+            gzip.write(data, 0, length);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static int getPoolSize() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (compressExecutor == null) {
+            final AtomicInteger threadNumber = new AtomicInteger();
+            compressExecutor = Executors.newFixedThreadPool(getPoolSize(), r -> {
+                Thread thread = new Thread(r, "Data export compressor " + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return compressExecutor;
+    }
+
+}
@@ -43,6 +43,13 @@ public class StreamConsumerSettings implements IDataTransferSettings {
         BINARY
     }
 
+    public enum CompressionType {
+        // Single-threaded ZIP archive
+        ZIP,
+        // Multi-member GZIP compressed on worker pool
+        GZIP
+    }
+
     public static final String PROP_EXTRACT_IMAGES = "extractImages";
     public static final String PROP_FILE_EXTENSION = "extension";
     public static final String PROP_FORMAT = "format";
@@ -59,6 +66,10 @@ public class StreamConsumerSettings implements IDataTransferSettings {
 
     private boolean outputClipboard = false;
     private boolean compressResults = false;
+    private CompressionType compressionType = CompressionType.ZIP;
+    private int splitRowCount = 0;
+    private int splitFileSize = 0;
+    private boolean writeManifest = false;
     private boolean openFolderOnFinish = true;
     private boolean executeProcessOnFinish = false;
     private String finishProcessCommand = null;
@@ -127,6 +138,48 @@ public class StreamConsumerSettings implements IDataTransferSettings {
         this.compressResults = compressResults;
     }
 
+    public CompressionType getCompressionType() {
+        return compressionType;
+    }
+
+    public void setCompressionType(CompressionType compressionType) {
+        this.compressionType = compressionType;
+    }
+
+    /**
+     * Maximum number of rows in one output file. 0 means no limit.
+     */
+    public int getSplitRowCount() {
+        return splitRowCount;
+    }
+
+    public void setSplitRowCount(int splitRowCount) {
+        this.splitRowCount = splitRowCount;
+    }
+
+    /**
+     * Maximum size of one output file in megabytes. 0 means no limit.
+     */
+    public int getSplitFileSize() {
+        return splitFileSize;
+    }
+
+    public void setSplitFileSize(int splitFileSize) {
+        this.splitFileSize = splitFileSize;
+    }
+
+    public boolean isSplitOutput() {
+        return splitRowCount > 0 || splitFileSize > 0;
+    }
+
+    public boolean isWriteManifest() {
+        return writeManifest;
+    }
+
+    public void setWriteManifest(boolean writeManifest) {
+        this.writeManifest = writeManifest;
+    }
+
     public boolean isOpenFolderOnFinish() {
         return openFolderOnFinish;
     }
@@ -195,6 +248,22 @@ public class StreamConsumerSettings implements IDataTransferSettings {
         if (!CommonUtils.isEmpty(dialogSettings.get("compressResults"))) {
             compressResults = dialogSettings.getBoolean("compressResults");
         }
+        if (!CommonUtils.isEmpty(dialogSettings.get("compressionType"))) {
+            try {
+                compressionType = CompressionType.valueOf(dialogSettings.get("compressionType"));
+            } catch (IllegalArgumentException e) {
+                compressionType = CompressionType.ZIP;
+            }
+        }
+        if (!CommonUtils.isEmpty(dialogSettings.get("splitRowCount"))) {
+            splitRowCount = CommonUtils.toInt(dialogSettings.get("splitRowCount"));
+        }
+        if (!CommonUtils.isEmpty(dialogSettings.get("splitFileSize"))) {
+            splitFileSize = CommonUtils.toInt(dialogSettings.get("splitFileSize"));
+        }
+        if (!CommonUtils.isEmpty(dialogSettings.get("writeManifest"))) {
+            writeManifest = dialogSettings.getBoolean("writeManifest");
+        }
         if (dialogSettings.get("openFolderOnFinish") != null) {
             openFolderOnFinish = dialogSettings.getBoolean("openFolderOnFinish");
         }
@@ -222,6 +291,10 @@ public class StreamConsumerSettings implements IDataTransferSettings {
         dialogSettings.put("outputClipboard", outputClipboard);
 
         dialogSettings.put("compressResults", compressResults);
+        dialogSettings.put("compressionType", compressionType.name());
+        dialogSettings.put("splitRowCount", splitRowCount);
+        dialogSettings.put("splitFileSize", splitFileSize);
+        dialogSettings.put("writeManifest", writeManifest);
 
         dialogSettings.put("openFolderOnFinish", openFolderOnFinish);
         dialogSettings.put("executeProcessOnFinish", executeProcessOnFinish);
@@ -21,19 +21,25 @@ import org.eclipse.swt.dnd.Clipboard;
 import org.eclipse.swt.dnd.TextTransfer;
 import org.eclipse.swt.dnd.Transfer;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBPNamedObject;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.DBDContent;
 import org.jkiss.dbeaver.model.data.DBDContentStorage;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.data.json.JSONUtils;
 import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCResultSetTrace;
 import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.trace.DBCTrace;
+import org.jkiss.dbeaver.model.exec.trace.DBCTracePhase;
 import org.jkiss.dbeaver.model.impl.data.DBDValueError;
 import org.jkiss.dbeaver.model.runtime.DBRProcessDescriptor;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -43,15 +49,21 @@ import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
 import org.jkiss.dbeaver.runtime.ui.DBUserInterface;
+import org.jkiss.dbeaver.tools.transfer.DataTransferCheckpoint;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferCheckpointSupport;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.utils.ContentUtils;
 import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.Base64;
+import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.IOUtils;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -59,11 +71,13 @@ import java.util.zip.ZipOutputStream;
 /**
  * Stream transfer consumer
  */
-public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsumerSettings, IStreamDataExporter> {
+public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsumerSettings, IStreamDataExporter>, IDataTransferCheckpointSupport {
 
     private static final Log log = Log.getLog(StreamTransferConsumer.class);
 
     private static final String LOB_DIRECTORY_NAME = "files"; //$NON-NLS-1$
+    private static final String MANIFEST_FILE_SUFFIX = ".manifest.json"; //$NON-NLS-1$
+    private static final String CHECKSUM_ALGORITHM = "SHA-256"; //$NON-NLS-1$
 
     public static final String VARIABLE_DATASOURCE = "datasource";
     public static final String VARIABLE_CATALOG = "catalog";
@@ -73,23 +87,33 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     public static final String VARIABLE_DATE = "date";
     public static final String VARIABLE_PROJECT = "project";
     public static final String VARIABLE_FILE = "file";
+    public static final String VARIABLE_INDEX = "index";
 
     private IStreamDataExporter processor;
     private StreamConsumerSettings settings;
     private DBSObject sourceObject;
     private OutputStream outputStream;
+    private PartOutputStream partStream;
     private ZipOutputStream zipStream;
+    private ParallelGZIPOutputStream gzipStream;
     private PrintWriter writer;
     private List<DBDAttributeBinding> metaColumns;
     private Object[] row;
     private File lobDirectory;
     private long lobCount;
     private File outputFile;
+    private int partNumber;
+    private long partRowCount;
+    private final List<OutputPart> outputParts = new ArrayList<>();
+    private String exportTimestamp;
     private StreamExportSite exportSite;
     private Map<Object, Object> processorProperties;
     private StringWriter outputBuffer;
     private boolean isBinary;
     private boolean initialized = false;
+    private DBCTrace trace;
+    private DataTransferCheckpoint checkpoint;
+    private boolean resumeOutput;
 
     public StreamTransferConsumer() {
     }
@@ -101,6 +125,8 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             initExporter(session);
         }
 
+        trace = resultSet instanceof DBCResultSetTrace ? ((DBCResultSetTrace) resultSet).getExecutionTrace() : null;
+
         // Prepare columns
         metaColumns = new ArrayList<>();
         List<DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
@@ -112,7 +138,12 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
         if (!initialized) {
             try {
-                processor.exportHeader(session);
+                if (resumeOutput) {
+                    // Header was written by the previous run
+                    ((IAppendableStreamDataExporter) processor).exportResume(session);
+                } else {
+                    processor.exportHeader(session);
+                }
             } catch (DBException e) {
                 log.warn("Error while exporting table header", e);
             } catch (IOException e) {
@@ -127,6 +158,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     @Override
     public void fetchRow(DBCSession session, DBCResultSet resultSet) throws DBCException {
         try {
+            long startTime = trace == null ? 0 : System.nanoTime();
             // Get values
             for (int i = 0; i < metaColumns.size(); i++) {
                 DBDAttributeBinding column = metaColumns.get(i);
@@ -157,8 +189,23 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
                 }
                 row[i] = value;
             }
+            if (trace != null) {
+                trace.addPhaseTime(DBCTracePhase.CONVERT, System.nanoTime() - startTime);
+                trace.addRowValues(row);
+            }
+            if (isOutputPartFull()) {
+                // Switch to the next file before exporting the row, so we never produce empty parts
+                switchOutputPart(session);
+            }
             // Export row
             processor.exportRow(session, resultSet, row);
+            partRowCount++;
+            if (checkpoint != null && partStream != null && checkpoint.isSaveRequired()) {
+                // Everything written so far must be on disk before we commit it
+                exportSite.flush();
+                checkpoint.setOutputFile(outputFile, partNumber, exportTimestamp);
+                checkpoint.commit(partStream.getSize());
+            }
         } catch (IOException e) {
             throw new DBCException("IO error", e);
         } catch (Throwable e) {
@@ -174,6 +221,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     public void close() {
         metaColumns = null;
         row = null;
+        trace = null;
     }
 
     private File saveContentToFile(DBRProgressMonitor monitor, DBDContent content)
@@ -207,35 +255,19 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
 
         exportSite = new StreamExportSite();
+        // All parts of the same export share the same timestamp
+        exportTimestamp = RuntimeUtils.getCurrentTimeStamp();
+        resumeOutput = checkpoint != null && checkpoint.isResumed() && checkpoint.getOutputFile() != null;
+        if (resumeOutput && checkpoint.getTimestamp() != null) {
+            exportTimestamp = checkpoint.getTimestamp();
+        }
 
         // Open output streams
-        boolean outputClipboard = settings.isOutputClipboard();
-        outputFile = !isBinary && outputClipboard ? null : makeOutputFile();
         try {
-            if (outputClipboard) {
-                this.outputBuffer = new StringWriter(2048);
-                this.writer = new PrintWriter(this.outputBuffer, true);
+            if (resumeOutput) {
+                resumeOutput();
             } else {
-                this.outputStream = new BufferedOutputStream(
-                    new FileOutputStream(outputFile),
-                    10000);
-                if (settings.isCompressResults()) {
-                    zipStream = new ZipOutputStream(this.outputStream);
-                    zipStream.putNextEntry(new ZipEntry(getOutputFileName()));
-                    StreamTransferConsumer.this.outputStream = zipStream;
-                }
-                if (!isBinary) {
-                    this.writer = new PrintWriter(new OutputStreamWriter(this.outputStream, settings.getOutputEncoding()), true);
-                }
-            }
-
-            // Check for BOM
-            if (!isBinary && !outputClipboard && settings.isOutputEncodingBOM()) {
-                byte[] bom = GeneralUtils.getCharsetBOM(settings.getOutputEncoding());
-                if (bom != null) {
-                    outputStream.write(bom);
-                    outputStream.flush();
-                }
+                openOutput();
             }
         } catch (IOException e) {
             closeExporter();
@@ -250,21 +282,71 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
     }
 
-    private void closeExporter() {
-        if (exportSite != null) {
-            try {
-                exportSite.flush();
-            } catch (IOException e) {
-                log.debug(e);
+    private void openOutput() throws IOException {
+        boolean outputClipboard = settings.isOutputClipboard();
+        partRowCount = 0;
+        if (!isBinary && outputClipboard) {
+            outputFile = null;
+        } else {
+            partNumber++;
+            outputFile = makeOutputFile();
+        }
+        if (outputClipboard) {
+            this.outputBuffer = new StringWriter(2048);
+            this.writer = new PrintWriter(this.outputBuffer, true);
+        } else {
+            this.partStream = new PartOutputStream(new FileOutputStream(outputFile), settings.isWriteManifest(), 0);
+            this.outputStream = new BufferedOutputStream(partStream, 10000);
+            if (settings.isCompressResults()) {
+                if (settings.getCompressionType() == StreamConsumerSettings.CompressionType.GZIP) {
+                    gzipStream = new ParallelGZIPOutputStream(this.outputStream);
+                    this.outputStream = gzipStream;
+                } else {
+                    zipStream = new ZipOutputStream(this.outputStream);
+                    zipStream.putNextEntry(new ZipEntry(getOutputFileName()));
+                    this.outputStream = zipStream;
+                }
+            }
+            if (!isBinary) {
+                this.writer = new PrintWriter(new OutputStreamWriter(this.outputStream, settings.getOutputEncoding()), true);
             }
         }
 
-        if (processor != null) {
-            // Dispose exporter
-            processor.dispose();
-            processor = null;
+        // Check for BOM
+        if (!isBinary && !outputClipboard && settings.isOutputEncodingBOM()) {
+            byte[] bom = GeneralUtils.getCharsetBOM(settings.getOutputEncoding());
+            if (bom != null) {
+                outputStream.write(bom);
+                outputStream.flush();
+            }
         }
+    }
 
+    /**
+     * Opens output file of interrupted transfer. Partial output written after the last checkpoint is truncated.
+     */
+    private void resumeOutput() throws IOException {
+        partRowCount = 0;
+        partNumber = checkpoint.getOutputPart();
+        outputFile = new File(checkpoint.getOutputFile());
+        if (!outputFile.exists()) {
+            throw new IOException("Output file '" + outputFile.getAbsolutePath() + "' of interrupted transfer not found");
+        }
+        long committedSize = checkpoint.getBytesWritten();
+        try (RandomAccessFile file = new RandomAccessFile(outputFile, "rw")) {
+            if (file.length() < committedSize) {
+                throw new IOException("Output file '" + outputFile.getAbsolutePath() + "' is shorter than its checkpoint");
+            }
+            file.setLength(committedSize);
+        }
+        this.partStream = new PartOutputStream(new FileOutputStream(outputFile, true), false, committedSize);
+        this.outputStream = new BufferedOutputStream(partStream, 10000);
+        if (!isBinary) {
+            this.writer = new PrintWriter(new OutputStreamWriter(this.outputStream, settings.getOutputEncoding()), true);
+        }
+    }
+
+    private void closeOutput() {
         // Finish zip stream
         if (zipStream != null) {
             try {
@@ -277,6 +359,15 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             } catch (IOException e) {
                 log.debug(e);
             }
+            zipStream = null;
+        }
+        if (gzipStream != null) {
+            try {
+                gzipStream.finish();
+            } catch (IOException e) {
+                log.error("Error compressing output file", e);
+            }
+            gzipStream = null;
         }
         if (this.writer != null) {
             ContentUtils.close(this.writer);
@@ -287,6 +378,87 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             ContentUtils.close(outputStream);
             outputStream = null;
         }
+        if (partStream != null) {
+            outputParts.add(new OutputPart(outputFile, partRowCount, partStream.getSize(), partStream.getChecksum()));
+            partStream = null;
+        }
+    }
+
+    private boolean isOutputPartFull() {
+        if (partStream == null || partRowCount == 0) {
+            return false;
+        }
+        if (settings.getSplitRowCount() > 0 && partRowCount >= settings.getSplitRowCount()) {
+            return true;
+        }
+        // Size is approximate: data buffered in writer and compressor is not counted yet
+        return settings.getSplitFileSize() > 0 && partStream.getSize() >= settings.getSplitFileSize() * 1024L * 1024L;
+    }
+
+    /**
+     * Finishes current output file and starts the next one.
+     * Exporters keep per-file state (row numbers, delimiters) so each part gets its own exporter instance.
+     */
+    private void switchOutputPart(DBCSession session) throws DBException, IOException {
+        processor.exportFooter(session.getProgressMonitor());
+        exportSite.flush();
+        processor.dispose();
+        closeOutput();
+
+        try {
+            processor = processor.getClass().newInstance();
+        } catch (Throwable e) {
+            throw new DBException("Can't create data exporter for the next output file", e);
+        }
+        openOutput();
+        processor.init(exportSite);
+        processor.exportHeader(session);
+    }
+
+    private void closeExporter() {
+        if (exportSite != null) {
+            try {
+                exportSite.flush();
+            } catch (IOException e) {
+                log.debug(e);
+            }
+        }
+
+        if (processor != null) {
+            // Dispose exporter
+            processor.dispose();
+            processor = null;
+        }
+
+        closeOutput();
+
+        if (settings.isWriteManifest() && !outputParts.isEmpty()) {
+            writeManifest();
+        }
+    }
+
+    private void writeManifest() {
+        File manifestFile = new File(settings.getOutputFolder(), makeOutputFileName(0) + MANIFEST_FILE_SUFFIX);
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(manifestFile), StandardCharsets.UTF_8))) {
+            out.println("{");
+            out.println("\t\"source\": \"" + JSONUtils.escapeJsonString(DBUtils.getObjectFullName(sourceObject, DBPEvaluationContext.UI)) + "\",");
+            out.println("\t\"checksumAlgorithm\": \"" + CHECKSUM_ALGORITHM + "\",");
+            out.println("\t\"parts\": [");
+            for (int i = 0; i < outputParts.size(); i++) {
+                OutputPart part = outputParts.get(i);
+                out.print("\t\t{ \"file\": \"" + JSONUtils.escapeJsonString(part.file.getName()) + "\", ");
+                out.print("\"rows\": " + part.rowCount + ", ");
+                out.print("\"bytes\": " + part.size);
+                if (part.checksum != null) {
+                    out.print(", \"checksum\": \"" + part.checksum + "\"");
+                }
+                out.println(i < outputParts.size() - 1 ? " }," : " }");
+            }
+            out.println("\t]");
+            out.println("}");
+        } catch (IOException e) {
+            log.error("Error writing export manifest '" + manifestFile.getAbsolutePath() + "'", e);
+        }
     }
 
     @Override
@@ -298,6 +470,24 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         this.processorProperties = processorProperties;
     }
 
+    @Override
+    public boolean isCheckpointSupported() {
+        // Compressed output and checksums can't be continued after truncation
+        return !settings.isOutputClipboard() && !settings.isCompressResults() && !settings.isWriteManifest() &&
+            processor instanceof IAppendableStreamDataExporter;
+    }
+
+    @Override
+    public void setCheckpoint(@NotNull DataTransferCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    @Nullable
+    @Override
+    public String getCheckpointTarget() {
+        return new File(settings.getOutputFolder(), settings.getOutputFilePattern()).getPath();
+    }
+
     @Override
     public void startTransfer(DBRProgressMonitor monitor) {
         // do nothing
@@ -315,8 +505,16 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             closeExporter();
 
             if (!settings.isOutputClipboard() && settings.isExecuteProcessOnFinish()) {
-                executeFinishCommand();
+                if (outputParts.isEmpty()) {
+                    executeFinishCommand(outputFile);
+                } else {
+                    // Each part is a complete file
+                    for (OutputPart part : outputParts) {
+                        executeFinishCommand(part.file);
+                    }
+                }
             }
+            outputParts.clear();
 
             return;
         }
@@ -339,10 +537,11 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
     }
 
-    private void executeFinishCommand() {
+    private void executeFinishCommand(File targetFile) {
         String commandLine = translatePattern(
             settings.getFinishProcessCommand(),
-            outputFile);
+            targetFile,
+            0);
         DBRShellCommand command = new DBRShellCommand(commandLine);
         DBRProcessDescriptor processDescriptor = new DBRProcessDescriptor(command);
         try {
@@ -358,10 +557,25 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     }
 
     public String getOutputFileName() {
+        // Before export starts show the name of the first file
+        return makeOutputFileName(partNumber == 0 ? 1 : partNumber);
+    }
+
+    /**
+     * Makes output file name for the specified part.
+     * If output is split and file name pattern has no index variable then part index is appended to the file name.
+     * @param part part index (1-based) or 0 for the common name of all parts
+     */
+    private String makeOutputFileName(int part) {
         Object extension = processorProperties.get(StreamConsumerSettings.PROP_FILE_EXTENSION);
+        String pattern = settings.getOutputFilePattern();
         String fileName = translatePattern(
-            settings.getOutputFilePattern(),
-            null).trim();
+            pattern,
+            null,
+            part).trim();
+        if (part > 0 && settings.isSplitOutput() && !pattern.contains(GeneralUtils.variablePattern(VARIABLE_INDEX))) {
+            fileName += "_" + part;
+        }
         if (extension != null) {
             return fileName + "." + extension;
         } else {
@@ -376,12 +590,12 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         }
         String fileName = getOutputFileName();
         if (settings.isCompressResults()) {
-            fileName += ".zip";
+            fileName += settings.getCompressionType() == StreamConsumerSettings.CompressionType.GZIP ? ".gz" : ".zip";
         }
         return new File(dir, fileName);
     }
 
-    private String translatePattern(String pattern, final File targetFile) {
+    private String translatePattern(String pattern, final File targetFile, final int part) {
         return GeneralUtils.replaceVariables(pattern, name -> {
             switch (name) {
                 case VARIABLE_DATASOURCE: {
@@ -398,7 +612,7 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
                 case VARIABLE_TABLE:
                     return stripObjectName(sourceObject.getName());
                 case VARIABLE_TIMESTAMP:
-                    return RuntimeUtils.getCurrentTimeStamp();
+                    return exportTimestamp != null ? exportTimestamp : RuntimeUtils.getCurrentTimeStamp();
                 case VARIABLE_DATE:
                     return RuntimeUtils.getCurrentDate();
                 case VARIABLE_PROJECT: {
@@ -407,6 +621,8 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
                 }
                 case VARIABLE_FILE:
                     return targetFile == null ? "" : targetFile.getAbsolutePath();
+                case VARIABLE_INDEX:
+                    return part > 0 ? String.valueOf(part) : "";
             }
             return null;
         });
@@ -436,6 +652,68 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
         return null;
     }
 
+    private static class OutputPart {
+        final File file;
+        final long rowCount;
+        final long size;
+        final String checksum;
+
+        OutputPart(File file, long rowCount, long size, String checksum) {
+            this.file = file;
+            this.rowCount = rowCount;
+            this.size = size;
+            this.checksum = checksum;
+        }
+    }
+
+    /**
+     * File stream which counts written bytes and (optionally) calculates checksum of the written data.
+     */
+    private static class PartOutputStream extends FilterOutputStream {
+        private final MessageDigest digest;
+        private long size;
+
+        PartOutputStream(OutputStream out, boolean calcChecksum, long initialSize) {
+            super(out);
+            this.size = initialSize;
+            MessageDigest md = null;
+            if (calcChecksum) {
+                try {
+                    md = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+                } catch (NoSuchAlgorithmException e) {
+                    log.warn("Checksum algorithm " + CHECKSUM_ALGORITHM + " not supported", e);
+                }
+            }
+            this.digest = md;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        String getChecksum() {
+            return digest == null ? null : CommonUtils.toHexString(digest.digest()).toLowerCase(Locale.ENGLISH);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            if (digest != null) {
+                digest.update((byte) b);
+            }
+            size++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (digest != null) {
+                digest.update(b, off, len);
+            }
+            size += len;
+        }
+    }
+
     private class StreamExportSite implements IStreamDataExporterSite {
         @Override
         public DBPNamedObject getSource() {
@@ -27,6 +27,7 @@ import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.tools.transfer.stream.IAppendableStreamDataExporter;
 import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporterSite;
 import org.jkiss.dbeaver.tools.transfer.stream.StreamTransferUtils;
 import org.jkiss.dbeaver.utils.ContentUtils;
@@ -43,7 +44,7 @@ import java.util.Map;
 /**
  * CSV Exporter
  */
-public class DataExporterCSV extends StreamExporterAbstract {
+public class DataExporterCSV extends StreamExporterAbstract implements IAppendableStreamDataExporter {
 
     private static final String PROP_DELIMITER = "delimiter";
     private static final String PROP_HEADER = "header";
@@ -141,6 +142,12 @@ public class DataExporterCSV extends StreamExporterAbstract {
         writeRowLimit();
     }
 
+    @Override
+    public void exportResume(DBCSession session) throws DBException, IOException
+    {
+        columns = getSite().getAttributes();
+    }
+
     @Override
     public void exportRow(DBCSession session, DBCResultSet resultSet, Object[] row) throws DBException, IOException
     {
@@ -42,6 +42,10 @@ public class StreamConsumerPageOutput extends ActiveWizardPage<DataTransferWizar
     private Text directoryText;
     private Text fileNameText;
     private Button compressCheckbox;
+    private Combo compressionCombo;
+    private Spinner splitRowsSpinner;
+    private Spinner splitSizeSpinner;
+    private Button manifestCheckbox;
     private Button showFolderCheckbox;
     private Button execProcessCheckbox;
     private Text execProcessText;
@@ -97,7 +101,8 @@ public class StreamConsumerPageOutput extends ActiveWizardPage<DataTransferWizar
                 StreamTransferConsumer.VARIABLE_TABLE,
                 StreamTransferConsumer.VARIABLE_TIMESTAMP,
                 StreamTransferConsumer.VARIABLE_DATE,
-                StreamTransferConsumer.VARIABLE_PROJECT);
+                StreamTransferConsumer.VARIABLE_PROJECT,
+                StreamTransferConsumer.VARIABLE_INDEX);
             fileNameText.setLayoutData(gd);
             fileNameText.addModifyListener(e -> {
                 settings.setOutputFilePattern(fileNameText.getText());
@@ -113,7 +118,8 @@ public class StreamConsumerPageOutput extends ActiveWizardPage<DataTransferWizar
                     GeneralUtils.variablePattern(StreamTransferConsumer.VARIABLE_TABLE),
                     GeneralUtils.variablePattern(StreamTransferConsumer.VARIABLE_TIMESTAMP),
                     GeneralUtils.variablePattern(StreamTransferConsumer.VARIABLE_DATE),
-                    GeneralUtils.variablePattern(StreamTransferConsumer.VARIABLE_PROJECT)
+                    GeneralUtils.variablePattern(StreamTransferConsumer.VARIABLE_PROJECT),
+                    GeneralUtils.variablePattern(StreamTransferConsumer.VARIABLE_INDEX)
                 }));
 
             {
@@ -146,6 +152,36 @@ public class StreamConsumerPageOutput extends ActiveWizardPage<DataTransferWizar
                 @Override
                 public void widgetSelected(SelectionEvent e) {
                     settings.setCompressResults(compressCheckbox.getSelection());
+                    toggleClipboardOutput();
+                }
+            });
+
+            compressionCombo = UIUtils.createLabelCombo(generalSettings, "Compression", "ZIP archive or GZIP compressed in parallel by all processors", SWT.DROP_DOWN | SWT.READ_ONLY);
+            compressionCombo.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING, GridData.VERTICAL_ALIGN_BEGINNING, false, false, 4, 1));
+            for (StreamConsumerSettings.CompressionType type : StreamConsumerSettings.CompressionType.values()) {
+                compressionCombo.add(type.name());
+            }
+            compressionCombo.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    settings.setCompressionType(StreamConsumerSettings.CompressionType.values()[compressionCombo.getSelectionIndex()]);
+                }
+            });
+
+            splitRowsSpinner = UIUtils.createLabelSpinner(generalSettings, "Split after rows", "Start new file after specified number of rows (0 - don't split)", 0, 0, Integer.MAX_VALUE);
+            splitRowsSpinner.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING, GridData.VERTICAL_ALIGN_BEGINNING, false, false, 4, 1));
+            splitRowsSpinner.addModifyListener(e -> settings.setSplitRowCount(splitRowsSpinner.getSelection()));
+
+            splitSizeSpinner = UIUtils.createLabelSpinner(generalSettings, "Split after size (MB)", "Start new file when file size exceeds specified number of megabytes (0 - don't split)", 0, 0, Integer.MAX_VALUE);
+            splitSizeSpinner.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING, GridData.VERTICAL_ALIGN_BEGINNING, false, false, 4, 1));
+            splitSizeSpinner.addModifyListener(e -> settings.setSplitFileSize(splitSizeSpinner.getSelection()));
+
+            manifestCheckbox = UIUtils.createLabelCheckbox(generalSettings, "Write manifest", "Write manifest file with list of output files, their row counts and checksums", false);
+            manifestCheckbox.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING, GridData.VERTICAL_ALIGN_BEGINNING, true, false, 4, 1));
+            manifestCheckbox.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    settings.setWriteManifest(manifestCheckbox.getSelection());
                 }
             });
         }
@@ -214,6 +250,10 @@ public class StreamConsumerPageOutput extends ActiveWizardPage<DataTransferWizar
         directoryText.setEnabled(!clipboard);
         fileNameText.setEnabled(!clipboard);
         compressCheckbox.setEnabled(!clipboard);
+        compressionCombo.setEnabled(!clipboard && compressCheckbox.getSelection());
+        splitRowsSpinner.setEnabled(!clipboard);
+        splitSizeSpinner.setEnabled(!clipboard);
+        manifestCheckbox.setEnabled(!clipboard);
         encodingCombo.setEnabled(!isBinary && !clipboard);
         encodingBOMLabel.setEnabled(!isBinary && !clipboard);
         encodingBOMCheckbox.setEnabled(!isBinary && !clipboard);
@@ -239,6 +279,10 @@ public class StreamConsumerPageOutput extends ActiveWizardPage<DataTransferWizar
         directoryText.setText(CommonUtils.toString(settings.getOutputFolder()));
         fileNameText.setText(CommonUtils.toString(settings.getOutputFilePattern()));
         compressCheckbox.setSelection(settings.isCompressResults());
+        compressionCombo.select(settings.getCompressionType().ordinal());
+        splitRowsSpinner.setSelection(settings.getSplitRowCount());
+        splitSizeSpinner.setSelection(settings.getSplitFileSize());
+        manifestCheckbox.setSelection(settings.isWriteManifest());
         encodingCombo.setText(CommonUtils.toString(settings.getOutputEncoding()));
         encodingBOMCheckbox.setSelection(settings.isOutputEncodingBOM());
         showFolderCheckbox.setSelection(settings.isOpenFolderOnFinish());
@@ -25,6 +25,8 @@ import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.ui.DBPPlatformUI;
+import org.jkiss.dbeaver.tools.transfer.DataTransferCheckpoint;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferCheckpointSupport;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferProcessor;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferProducer;
@@ -108,6 +110,7 @@ public class DataTransferJob extends AbstractJob {
             CommonUtils.truncateString(consumer.getObjectName(), 200)));
 
         IDataTransferSettings nodeSettings = settings.getNodeSettings(producer);
+        DataTransferCheckpoint checkpoint = openCheckpoint(producer, consumer);
         try {
             //consumer.initTransfer(producer.getDatabaseObject(), consumerSettings, );
 
@@ -118,11 +121,37 @@ public class DataTransferJob extends AbstractJob {
                 processor,
                 nodeSettings);
             consumer.finishTransfer(monitor, false);
+            if (checkpoint != null) {
+                if (monitor.isCanceled()) {
+                    // Cancelled transfer can be resumed later
+                    checkpoint.save();
+                } else {
+                    checkpoint.delete();
+                }
+            }
             return true;
         } catch (Exception e) {
+            if (checkpoint != null) {
+                checkpoint.save();
+            }
             new DataTransferErrorJob(e).schedule();
             return false;
         }
+    }
+
+    private DataTransferCheckpoint openCheckpoint(IDataTransferProducer producer, IDataTransferConsumer consumer)
+    {
+        if (!settings.isSaveCheckpoints() || !DataTransferCheckpoint.isSupported(producer, consumer)) {
+            return null;
+        }
+        DataTransferCheckpoint checkpoint = DataTransferCheckpoint.open(
+            producer,
+            consumer,
+            settings.getProcessor() == null ? null : settings.getProcessor().getId(),
+            settings.isResumeFromCheckpoint());
+        ((IDataTransferCheckpointSupport) producer).setCheckpoint(checkpoint);
+        ((IDataTransferCheckpointSupport) consumer).setCheckpoint(checkpoint);
+        return checkpoint;
 
     }
 
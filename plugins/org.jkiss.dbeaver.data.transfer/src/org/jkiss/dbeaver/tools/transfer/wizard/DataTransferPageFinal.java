@@ -17,8 +17,11 @@
 package org.jkiss.dbeaver.tools.transfer.wizard;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Table;
@@ -26,6 +29,7 @@ import org.eclipse.swt.widgets.TableItem;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.tools.transfer.DataTransferCheckpoint;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
 import org.jkiss.dbeaver.tools.transfer.internal.DTMessages;
 import org.jkiss.dbeaver.tools.transfer.registry.DataTransferProcessorDescriptor;
@@ -42,6 +46,9 @@ class DataTransferPageFinal extends ActiveWizardPage<DataTransferWizard> {
     private static final Log log = Log.getLog(DataTransferPageFinal.class);
 
     private Table resultTable;
+    private Button saveCheckpointsCheck;
+    private Button resumeCheck;
+    private boolean hasCheckpoints = false;
     private boolean activated = false;
 
     DataTransferPageFinal() {
@@ -72,10 +79,33 @@ class DataTransferPageFinal extends ActiveWizardPage<DataTransferWizard> {
 
             UIUtils.createTableColumn(resultTable, SWT.LEFT, DTMessages.data_transfer_wizard_final_column_source);
             UIUtils.createTableColumn(resultTable, SWT.LEFT, DTMessages.data_transfer_wizard_final_column_target);
+            UIUtils.createTableColumn(resultTable, SWT.LEFT, "Checkpoint");
 
             UIUtils.packColumns(resultTable);
         }
 
+        {
+            Group checkpointsGroup = UIUtils.createControlGroup(composite, "Checkpoints", 1, GridData.FILL_HORIZONTAL, 0);
+            saveCheckpointsCheck = UIUtils.createCheckbox(checkpointsGroup, "Save progress checkpoints",
+                "Periodically save transfer progress, so failed or cancelled transfer can be resumed.\n" +
+                "Table rows are then read in primary key order", false, 1);
+            saveCheckpointsCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    getWizard().getSettings().setSaveCheckpoints(saveCheckpointsCheck.getSelection());
+                    updateResumeState();
+                }
+            });
+            resumeCheck = UIUtils.createCheckbox(checkpointsGroup, "Resume from saved checkpoints",
+                "Continue interrupted transfers instead of starting them from the beginning. Partial output written after checkpoint is truncated", false, 1);
+            resumeCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    getWizard().getSettings().setResumeFromCheckpoint(resumeCheck.getSelection());
+                }
+            });
+        }
+
         setControl(composite);
     }
 
@@ -85,6 +115,7 @@ class DataTransferPageFinal extends ActiveWizardPage<DataTransferWizard> {
         resultTable.removeAll();
         DataTransferSettings settings = getWizard().getSettings();
         List<DataTransferPipe> dataPipes = settings.getDataPipes();
+        hasCheckpoints = false;
         for (DataTransferPipe pipe : dataPipes) {
             IDataTransferConsumer consumer = pipe.getConsumer();
             if (consumer == null || pipe.getProducer() == null) {
@@ -121,12 +152,38 @@ class DataTransferPageFinal extends ActiveWizardPage<DataTransferWizard> {
             } else if (settings.getConsumer() != null && settings.getConsumer().getIcon() != null) {
                 item.setImage(1, DBeaverIcons.getImage(settings.getConsumer().getIcon()));
             }
+            if (DataTransferCheckpoint.isSupported(pipe.getProducer(), consumer)) {
+                DataTransferCheckpoint checkpoint = DataTransferCheckpoint.find(
+                    pipe.getProducer(),
+                    consumer,
+                    processorDescriptor == null ? null : processorDescriptor.getId());
+                if (checkpoint != null) {
+                    item.setText(2, "Interrupted after " + checkpoint.getRowCount() + " rows");
+                    hasCheckpoints = true;
+                }
+            }
         }
+        saveCheckpointsCheck.setSelection(settings.isSaveCheckpoints());
+        updateResumeState();
         activated = true;
         UIUtils.packColumns(resultTable, true);
         updatePageCompletion();
     }
 
+    /**
+     * Resume is possible only if there is something to resume.
+     * Checkpoints are read only when saving is enabled, so resume depends on it.
+     */
+    private void updateResumeState() {
+        DataTransferSettings settings = getWizard().getSettings();
+        boolean canResume = hasCheckpoints && settings.isSaveCheckpoints();
+        resumeCheck.setEnabled(canResume);
+        if (!canResume) {
+            settings.setResumeFromCheckpoint(false);
+        }
+        resumeCheck.setSelection(settings.isResumeFromCheckpoint());
+    }
+
     public boolean isActivated()
     {
         return activated;
@@ -79,6 +79,8 @@ public class DataTransferSettings {
     private transient int curPipeNum = 0;
 
     private boolean showFinalMessage = true;
+    private boolean saveCheckpoints = false;
+    private transient boolean resumeFromCheckpoint = false;
 
     public DataTransferSettings(@Nullable IDataTransferProducer[] producers, @Nullable IDataTransferConsumer[] consumers) {
         dataPipes = new ArrayList<>();
@@ -368,6 +370,26 @@ public class DataTransferSettings {
         this.showFinalMessage = showFinalMessage;
     }
 
+    public boolean isSaveCheckpoints() {
+        return saveCheckpoints;
+    }
+
+    public void setSaveCheckpoints(boolean saveCheckpoints) {
+        this.saveCheckpoints = saveCheckpoints;
+    }
+
+    /**
+     * Resume transfers from checkpoints saved by previous (failed or cancelled) run.
+     * Not persisted - user confirms it for each run.
+     */
+    public boolean isResumeFromCheckpoint() {
+        return resumeFromCheckpoint;
+    }
+
+    public void setResumeFromCheckpoint(boolean resumeFromCheckpoint) {
+        this.resumeFromCheckpoint = resumeFromCheckpoint;
+    }
+
     void loadFrom(IRunnableContext runnableContext, IDialogSettings dialogSettings) {
         try {
             maxJobCount = dialogSettings.getInt("maxJobCount");
@@ -377,6 +399,9 @@ public class DataTransferSettings {
         if (dialogSettings.get("showFinalMessage") != null) {
             showFinalMessage = dialogSettings.getBoolean("showFinalMessage");
         }
+        if (dialogSettings.get("saveCheckpoints") != null) {
+            saveCheckpoints = dialogSettings.getBoolean("saveCheckpoints");
+        }
 
         if (consumerOptional || producerOptional) {
             DataTransferNodeDescriptor savedConsumer = null, savedProducer = null, savedNode = null;
@@ -450,6 +475,7 @@ public class DataTransferSettings {
     void saveTo(IDialogSettings dialogSettings) {
         dialogSettings.put("maxJobCount", maxJobCount);
         dialogSettings.put("showFinalMessage", showFinalMessage);
+        dialogSettings.put("saveCheckpoints", saveCheckpoints);
         // Save nodes' settings
         for (Map.Entry<Class, NodeSettings> entry : nodeSettings.entrySet()) {
             IDialogSettings nodeSection = DialogSettings.getOrCreateSection(dialogSettings, entry.getKey().getSimpleName());
@@ -79,6 +79,8 @@ public class OracleDataSource extends JDBCDataSource
     private boolean useRuleHint;
 
     private final Map<String, Boolean> availableViews = new HashMap<>();
+    // DBMS_METADATA transform parameters are session state, they are set before each GET_DDL under this lock
+    private final Object metadataTransformLock = new Object();
 
     public OracleDataSource(DBRProgressMonitor monitor, DBPDataSourceContainer container)
         throws DBException {
@@ -351,6 +353,10 @@ public class OracleDataSource extends JDBCDataSource
         return publicSchema.getRecycledObjects(monitor);
     }
 
+    Object getMetadataTransformLock() {
+        return metadataTransformLock;
+    }
+
     public boolean isAtLeastV9() {
         return getInfo().getDatabaseVersion().getMajor() >= 9;
     }
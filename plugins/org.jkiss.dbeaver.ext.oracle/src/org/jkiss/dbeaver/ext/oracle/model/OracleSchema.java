@@ -21,6 +21,8 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPRefreshableObject;
+import org.jkiss.dbeaver.model.DBPScriptObject;
+import org.jkiss.dbeaver.model.DBPScriptObjectPrefetcher;
 import org.jkiss.dbeaver.model.DBPSystemObject;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
@@ -49,7 +51,7 @@ import java.util.*;
 /**
  * OracleSchema
  */
-public class OracleSchema extends OracleGlobalObject implements DBSSchema, DBPRefreshableObject, DBPSystemObject, DBSProcedureContainer
+public class OracleSchema extends OracleGlobalObject implements DBSSchema, DBPRefreshableObject, DBPSystemObject, DBSProcedureContainer, DBPScriptObjectPrefetcher
 {
     private static final Log log = Log.getLog(OracleSchema.class);
 
@@ -365,6 +367,36 @@ public class OracleSchema extends OracleGlobalObject implements DBSSchema, DBPRe
         }
     }
 
+    @Override
+    public void prefetchObjectDefinitions(@NotNull DBRProgressMonitor monitor, @NotNull Collection<? extends DBPScriptObject> objects, @NotNull Map<String, Object> options)
+        throws DBException
+    {
+        // Tables and views DDL is read by DBMS_METADATA, many objects per query
+        Map<String, List<OracleTableBase>> tablesByType = new LinkedHashMap<>();
+        for (DBPScriptObject object : objects) {
+            if (object instanceof OracleTableBase && ((OracleTableBase) object).getContainer() == this && ((OracleTableBase) object).isPersisted()) {
+                OracleTableBase table = (OracleTableBase) object;
+                tablesByType.computeIfAbsent(table.getTableTypeName(), k -> new ArrayList<>()).add(table);
+            }
+        }
+        for (Map.Entry<String, List<OracleTableBase>> entry : tablesByType.entrySet()) {
+            // Views always use full DDL format (see OracleView.getObjectDefinitionText)
+            OracleDDLFormat ddlFormat = entry.getValue().get(0) instanceof OracleView ?
+                OracleDDLFormat.FULL : OracleDDLFormat.getCurrentFormat(getDataSource());
+            OracleUtils.prefetchDDL(monitor, this, entry.getKey(), entry.getValue(), ddlFormat);
+        }
+    }
+
+    @Override
+    public void resetObjectDefinitions(@NotNull Collection<? extends DBPScriptObject> objects)
+    {
+        for (DBPScriptObject object : objects) {
+            if (object instanceof OracleTableBase && ((OracleTableBase) object).getContainer() == this) {
+                ((OracleTableBase) object).setPrefetchedDDL(null, null);
+            }
+        }
+    }
+
     @Override
     public synchronized DBSObject refreshObject(@NotNull DBRProgressMonitor monitor)
         throws DBException
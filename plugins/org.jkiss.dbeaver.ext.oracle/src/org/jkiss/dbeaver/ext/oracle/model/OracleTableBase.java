@@ -90,6 +90,9 @@ public abstract class OracleTableBase extends JDBCTable<OracleDataSource, Oracle
 
     protected boolean valid;
     private String comment;
+    // DDL read by schema DDL prefetch
+    private String prefetchedDDL;
+    private OracleDDLFormat prefetchedDDLFormat;
 
     protected OracleTableBase(OracleSchema schema, String name, boolean persisted)
     {
@@ -275,6 +278,23 @@ public abstract class OracleTableBase extends JDBCTable<OracleDataSource, Oracle
         return OracleUtils.getDDL(monitor, getTableTypeName(), this, ddlFormat, options);
     }
 
+    synchronized void setPrefetchedDDL(OracleDDLFormat ddlFormat, String ddl)
+    {
+        this.prefetchedDDLFormat = ddlFormat;
+        this.prefetchedDDL = ddl;
+    }
+
+    /**
+     * Returns prefetched DDL (if any). Prefetched DDL is used only once, next reads go to the server.
+     */
+    synchronized String takePrefetchedDDL(OracleDDLFormat ddlFormat)
+    {
+        String ddl = ddlFormat == prefetchedDDLFormat ? prefetchedDDL : null;
+        prefetchedDDL = null;
+        prefetchedDDLFormat = null;
+        return ddl;
+    }
+
     @NotNull
     @Override
     public DBSObjectState getObjectState()
@@ -36,6 +36,7 @@ import org.jkiss.dbeaver.model.struct.DBSObjectLazy;
 import org.jkiss.utils.CommonUtils;
 
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -48,6 +49,8 @@ public class OracleUtils {
 
     private static final Log log = Log.getLog(OracleUtils.class);
 
+    private static final int DDL_PREFETCH_BATCH_SIZE = 100;
+
     public static String getDDL(
         DBRProgressMonitor monitor,
         String objectType,
@@ -69,41 +72,15 @@ public class OracleUtils {
 
         monitor.beginTask("Load sources for " + objectType + " '" + objectFullName + "'...", 1);
         try (final JDBCSession session = DBUtils.openMetaSession(monitor, object, "Load source code for " + objectType + " '" + objectFullName + "'")) {
-            if (dataSource.isAtLeastV9()) {
-                try {
-                    // Do not add semicolon in the end
-//                    JDBCUtils.executeProcedure(
-//                        session,
-//                        "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SQLTERMINATOR',true); end;");
-                    JDBCUtils.executeProcedure(
-                        session,
-                        "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'STORAGE'," + ddlFormat.isShowStorage() + "); end;");
-                    JDBCUtils.executeProcedure(
-                        session,
-                        "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'TABLESPACE'," + ddlFormat.isShowTablespace() + ");  end;");
-                    JDBCUtils.executeProcedure(
-                        session,
-                        "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SEGMENT_ATTRIBUTES'," + ddlFormat.isShowSegments() + ");  end;");
-                } catch (SQLException e) {
-                    log.error("Can't apply DDL transform parameters", e);
-                }
-            }
-
-            String ddl;
-            try (JDBCPreparedStatement dbStat = session.prepareStatement(
-                "SELECT DBMS_METADATA.GET_DDL(?,?" + (schema == null ? "" : ",?") + ") TXT FROM DUAL")) {
-                dbStat.setString(1, objectType);
-                dbStat.setString(2, object.getName());
-                if (schema != null) {
-                    dbStat.setString(3, schema.getName());
+            String ddl = object.takePrefetchedDDL(ddlFormat);
+            if (ddl == null) {
+                // Transform parameters are session state. Keep them with GET_DDL call
+                synchronized (dataSource.getMetadataTransformLock()) {
+                    setDDLTransformParams(session, dataSource, ddlFormat);
+                    ddl = readDDL(session, objectType, object, objectFullName);
                 }
-                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
-                    if (dbResult.next()) {
-                        ddl = dbResult.getString(1);
-                    } else {
-                        log.warn("No DDL for " + objectType + " '" + objectFullName + "'");
-                        return "-- EMPTY DDL";
-                    }
+                if (ddl == null) {
+                    return "-- EMPTY DDL";
                 }
             }
             if (ddlFormat != OracleDDLFormat.COMPACT) {
@@ -137,6 +114,110 @@ public class OracleUtils {
         }
     }
 
+    /**
+     * Reads DDL of many objects of the same type in one query.
+     * Result is kept in objects and is used by the next {@link #getDDL} call.
+     * If bulk read fails then DDL is read per object as usual.
+     */
+    public static void prefetchDDL(
+        DBRProgressMonitor monitor,
+        OracleSchema schema,
+        String objectType,
+        List<? extends OracleTableBase> objects,
+        OracleDDLFormat ddlFormat) throws DBException
+    {
+        if (!schema.getDataSource().isAtLeastV10()) {
+            // SYS.ODCIVARCHAR2LIST is not available
+            return;
+        }
+        monitor.beginTask("Load DDL of " + objects.size() + " " + objectType + " objects", objects.size());
+        final OracleDataSource dataSource = schema.getDataSource();
+        try (final JDBCSession session = DBUtils.openMetaSession(monitor, schema, "Load DDL of schema " + objectType + " objects")) {
+            for (int offset = 0; offset < objects.size() && !monitor.isCanceled(); offset += DDL_PREFETCH_BATCH_SIZE) {
+                final List<? extends OracleTableBase> batch = objects.subList(offset, Math.min(offset + DDL_PREFETCH_BATCH_SIZE, objects.size()));
+                final Map<String, OracleTableBase> objectMap = new HashMap<>();
+                final StringBuilder query = new StringBuilder();
+                query.append("SELECT COLUMN_VALUE, DBMS_METADATA.GET_DDL(?,COLUMN_VALUE,?) TXT FROM TABLE(SYS.ODCIVARCHAR2LIST(");
+                for (int i = 0; i < batch.size(); i++) {
+                    if (i > 0) {
+                        query.append(",");
+                    }
+                    query.append("?");
+                    objectMap.put(batch.get(i).getName(), batch.get(i));
+                }
+                query.append("))");
+                synchronized (dataSource.getMetadataTransformLock()) {
+                    // Transform parameters are session state. Keep them with GET_DDL call
+                    setDDLTransformParams(session, dataSource, ddlFormat);
+                    try (JDBCPreparedStatement dbStat = session.prepareStatement(query.toString())) {
+                        dbStat.setString(1, objectType);
+                        dbStat.setString(2, schema.getName());
+                        for (int i = 0; i < batch.size(); i++) {
+                            dbStat.setString(i + 3, batch.get(i).getName());
+                        }
+                        try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                            while (dbResult.next()) {
+                                final OracleTableBase object = objectMap.get(dbResult.getString(1));
+                                if (object != null) {
+                                    object.setPrefetchedDDL(ddlFormat, dbResult.getString(2));
+                                }
+                            }
+                        }
+                    } catch (SQLException e) {
+                        // Single broken object fails the whole batch
+                        log.debug("Error reading DDL of " + batch.size() + " objects: " + e.getMessage());
+                    }
+                }
+                monitor.worked(batch.size());
+            }
+        } finally {
+            monitor.done();
+        }
+    }
+
+    private static void setDDLTransformParams(JDBCSession session, OracleDataSource dataSource, OracleDDLFormat ddlFormat) {
+        if (!dataSource.isAtLeastV9()) {
+            return;
+        }
+        try {
+            // Do not add semicolon in the end
+//            JDBCUtils.executeProcedure(
+//                session,
+//                "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SQLTERMINATOR',true); end;");
+            JDBCUtils.executeProcedure(
+                session,
+                "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'STORAGE'," + ddlFormat.isShowStorage() + "); end;");
+            JDBCUtils.executeProcedure(
+                session,
+                "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'TABLESPACE'," + ddlFormat.isShowTablespace() + ");  end;");
+            JDBCUtils.executeProcedure(
+                session,
+                "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SEGMENT_ATTRIBUTES'," + ddlFormat.isShowSegments() + ");  end;");
+        } catch (SQLException e) {
+            log.error("Can't apply DDL transform parameters", e);
+        }
+    }
+
+    private static String readDDL(JDBCSession session, String objectType, OracleTableBase object, String objectFullName) throws SQLException {
+        final OracleSchema schema = object.getContainer();
+        try (JDBCPreparedStatement dbStat = session.prepareStatement(
+            "SELECT DBMS_METADATA.GET_DDL(?,?" + (schema == null ? "" : ",?") + ") TXT FROM DUAL")) {
+            dbStat.setString(1, objectType);
+            dbStat.setString(2, object.getName());
+            if (schema != null) {
+                dbStat.setString(3, schema.getName());
+            }
+            try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                if (dbResult.next()) {
+                    return dbResult.getString(1);
+                } else {
+                    log.warn("No DDL for " + objectType + " '" + objectFullName + "'");
+                    return null;
+                }
+            }
+        }
+    }
+
     public static void setCurrentSchema(JDBCSession session, String schema) throws SQLException {
         JDBCUtils.executeSQL(session,
             "ALTER SESSION SET CURRENT_SCHEMA=" + DBUtils.getQuotedIdentifier(session.getDataSource(), schema));
@@ -116,7 +116,7 @@ public class OracleView extends OracleTableBase implements OracleSourceObject
     {
         if (viewText == null) {
             try {
-                viewText = OracleUtils.getDDL(monitor, getTableTypeName(), this, OracleDDLFormat.FULL, options);
+                viewText = getDDL(monitor, OracleDDLFormat.FULL, options);
             } catch (DBException e) {
                 log.warn("Error getting view definition from system package", e);
             }
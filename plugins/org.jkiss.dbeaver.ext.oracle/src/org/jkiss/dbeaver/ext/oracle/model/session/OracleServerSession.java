@@ -16,7 +16,7 @@
  */
 package org.jkiss.dbeaver.ext.oracle.model.session;
 
-import org.jkiss.dbeaver.model.admin.sessions.DBAServerSession;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionActivity;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.meta.Property;
 
@@ -26,7 +26,7 @@ import java.sql.Timestamp;
 /**
 * Session
 */
-public class OracleServerSession implements DBAServerSession {
+public class OracleServerSession implements DBAServerSessionActivity {
 
     public static final String CAT_SESSION = "Session";
     public static final String CAT_SQL = "SQL";
@@ -248,6 +248,32 @@ public class OracleServerSession implements DBAServerSession {
         return sql;
     }
 
+    @Override
+    public Object getSessionId() {
+        return sid + "," + serial;
+    }
+
+    @Override
+    public String getSessionUser() {
+        return user;
+    }
+
+    @Override
+    public String getSessionState() {
+        return status;
+    }
+
+    @Override
+    public String getSessionWaitEvent() {
+        // Event is the last wait event if session is not waiting now
+        return "WAITING".equals(state) ? event : null;
+    }
+
+    @Override
+    public boolean isSessionActive() {
+        return "ACTIVE".equals(status);
+    }
+
     @Override
     public String toString()
     {
@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.ext.postgresql.model;
 
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCQueryTransformer;
 import org.jkiss.dbeaver.model.exec.DBCStatement;
@@ -29,6 +30,10 @@ import java.sql.Statement;
 */
 class QueryTransformerFetchAll implements DBCQueryTransformer {
 
+    private static final int FETCH_ALL_SIZE = 100000;
+    // Initial fetch size for adaptive fetch. It will be increased if server responds fast enough.
+    private static final int ADAPTIVE_FETCH_SIZE = 1000;
+
     @Override
     public void setParameters(Object... parameters)
     {
@@ -42,8 +47,10 @@ class QueryTransformerFetchAll implements DBCQueryTransformer {
     @Override
     public void transformStatement(DBCStatement statement, int parameterIndex) throws DBCException {
         // Set fetch size to 100k (maybe this should be configurable?)
+        // With adaptive fetch start with smaller batches - the first batch size can't be changed after execution
+        boolean adaptiveFetch = statement.getSession().getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_FETCH_ADAPTIVE);
         try {
-            ((Statement)statement).setFetchSize(100000);
+            ((Statement)statement).setFetchSize(adaptiveFetch ? ADAPTIVE_FETCH_SIZE : FETCH_ALL_SIZE);
         } catch (SQLException e) {
             throw new DBCException(e, statement.getSession().getDataSource());
         }
@@ -25,6 +25,7 @@ import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.gis.GisGeometryValue;
 import org.jkiss.dbeaver.model.impl.data.formatters.BinaryFormatterHex;
 import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCAbstractValueHandler;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
@@ -70,6 +71,8 @@ public class PostgreGeometryValueHandler extends JDBCAbstractValueHandler {
             return null;
         } else if (object instanceof Geometry) {
             return object;
+        } else if (object instanceof GisGeometryValue) {
+            return ((GisGeometryValue) object).getGeometry();
         } else if (object instanceof String) {
             return makeGeometryFromString(session, (String) object);
         } else {
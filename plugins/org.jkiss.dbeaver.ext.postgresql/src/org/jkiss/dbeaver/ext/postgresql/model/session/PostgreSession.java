@@ -16,7 +16,7 @@
  */
 package org.jkiss.dbeaver.ext.postgresql.model.session;
 
-import org.jkiss.dbeaver.model.admin.sessions.DBAServerSession;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionActivity;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.utils.CommonUtils;
@@ -27,7 +27,7 @@ import java.util.Date;
 /**
  * PostgreSQL session
  */
-public class PostgreSession implements DBAServerSession {
+public class PostgreSession implements DBAServerSessionActivity {
     private static final String CAT_CLIENT = "Client";
     private static final String CAT_TIMING = "Timings";
 
@@ -42,6 +42,7 @@ public class PostgreSession implements DBAServerSession {
     private Date queryStart;
     private Date stateChange;
     private String state;
+    private String waitEvent;
     private String appName;
 
     public PostgreSession(ResultSet dbResult) {
@@ -61,6 +62,15 @@ public class PostgreSession implements DBAServerSession {
         this.stateChange = JDBCUtils.safeGetTimestamp(dbResult, "state_change");
 
         this.state = JDBCUtils.safeGetString(dbResult, "state");
+        if (JDBCUtils.safeGetBoolean(dbResult, "waiting")) {
+            // Before 9.6
+            this.waitEvent = "Lock";
+        } else {
+            String waitEventType = JDBCUtils.safeGetString(dbResult, "wait_event_type");
+            if (!CommonUtils.isEmpty(waitEventType)) {
+                this.waitEvent = waitEventType + ": " + CommonUtils.notEmpty(JDBCUtils.safeGetString(dbResult, "wait_event"));
+            }
+        }
         this.appName = JDBCUtils.safeGetString(dbResult, "application_name");
     }
 
@@ -124,6 +134,11 @@ public class PostgreSession implements DBAServerSession {
         return state;
     }
 
+    @Property(viewable = false, order = 8)
+    public String getWaitEvent() {
+        return waitEvent;
+    }
+
     @Property(viewable = true, order = 100)
     public String getBriefQuery() {
         if (query != null && query.length() > 50) {
@@ -139,6 +154,32 @@ public class PostgreSession implements DBAServerSession {
         return query;
     }
 
+    @Override
+    public Object getSessionId() {
+        return pid;
+    }
+
+    @Override
+    public String getSessionUser() {
+        return user;
+    }
+
+    @Override
+    public String getSessionState() {
+        return state;
+    }
+
+    @Override
+    public String getSessionWaitEvent() {
+        return waitEvent;
+    }
+
+    @Override
+    public boolean isSessionActive() {
+        // "idle in transaction" sessions may hold locks
+        return state != null && !state.equals("idle");
+    }
+
     @Override
     public String toString()
     {
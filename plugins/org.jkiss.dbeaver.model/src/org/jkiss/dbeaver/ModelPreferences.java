@@ -82,6 +82,10 @@ public final class ModelPreferences
 
     // ResultSet
     public static final String RESULT_SET_USE_FETCH_SIZE = "resultset.fetch.size"; //$NON-NLS-1$
+    // Adaptive fetch size. Memory budget is in KB, round trip time is in ms
+    public static final String RESULT_SET_FETCH_ADAPTIVE = "resultset.fetch.adaptive"; //$NON-NLS-1$
+    public static final String RESULT_SET_FETCH_MEMORY_BUDGET = "resultset.fetch.memory.budget"; //$NON-NLS-1$
+    public static final String RESULT_SET_FETCH_ROUND_TRIP_TIME = "resultset.fetch.roundtrip.time"; //$NON-NLS-1$
     public static final String RESULT_SET_MAX_ROWS_USE_SQL = "resultset.maxrows.sql"; //$NON-NLS-1$
     public static final String RESULT_SET_BINARY_PRESENTATION = "resultset.binary.representation"; //$NON-NLS-1$
     public static final String RESULT_SET_BINARY_STRING_MAX_LEN = "resultset.binary.stringMaxLength"; //$NON-NLS-1$
@@ -108,6 +112,21 @@ public final class ModelPreferences
 
     public static final String READ_EXPENSIVE_PROPERTIES = "database.props.expensive"; //$NON-NLS-1$
 
+    // Reload expanded navigator folders (tables, views, procedures) in parallel.
+    // Enable only for data sources which read different folders from different object caches
+    public static final String NAVIGATOR_PARALLEL_FOLDERS_LOAD = "navigator.folders.load.parallel"; //$NON-NLS-1$
+
+    // Session activity history. Sample interval is in seconds, size is a number of kept samples
+    public static final String SESSION_HISTORY_SAMPLE_INTERVAL = "session.history.sample.interval"; //$NON-NLS-1$
+    public static final String SESSION_HISTORY_SIZE = "session.history.size"; //$NON-NLS-1$
+
+    // Execution trace. Per-phase statement timings aggregated in per-data-source metrics.
+    // Metrics are exported via JMX and/or into Prometheus text file. Export interval is in seconds
+    public static final String EXECUTE_TRACE_ENABLED = "execute.trace.enabled"; //$NON-NLS-1$
+    public static final String EXECUTE_TRACE_JMX_ENABLED = "execute.trace.jmx.enabled"; //$NON-NLS-1$
+    public static final String EXECUTE_TRACE_EXPORT_FILE = "execute.trace.export.file"; //$NON-NLS-1$
+    public static final String EXECUTE_TRACE_EXPORT_INTERVAL = "execute.trace.export.interval"; //$NON-NLS-1$
+
     // Driver and proxy settings. They have prefix UI_ by historical reasons.
     public static final String UI_DRIVERS_VERSION_UPDATE = "ui.drivers.version.update"; //$NON-NLS-1$
     public static final String UI_DRIVERS_HOME = "ui.drivers.home"; //$NON-NLS-1$
@@ -183,6 +202,9 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_BINARY_PRESENTATION, DBConstants.BINARY_FORMATS[0].getId());
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_BINARY_STRING_MAX_LEN, 32);
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_USE_FETCH_SIZE, false);
+        PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_FETCH_ADAPTIVE, false);
+        PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_FETCH_MEMORY_BUDGET, 8192);
+        PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_FETCH_ROUND_TRIP_TIME, 200);
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_IGNORE_COLUMN_LABEL, false);
 
         // QM
@@ -212,6 +234,15 @@ public final class ModelPreferences
         PrefUtils.setDefaultPreferenceValue(store, SQL_FORMAT_EXTERNAL_TIMEOUT, 2000);
 
         PrefUtils.setDefaultPreferenceValue(store, READ_EXPENSIVE_PROPERTIES, false);
+        PrefUtils.setDefaultPreferenceValue(store, NAVIGATOR_PARALLEL_FOLDERS_LOAD, false);
+
+        PrefUtils.setDefaultPreferenceValue(store, SESSION_HISTORY_SAMPLE_INTERVAL, 5);
+        PrefUtils.setDefaultPreferenceValue(store, SESSION_HISTORY_SIZE, 720);
+
+        PrefUtils.setDefaultPreferenceValue(store, EXECUTE_TRACE_ENABLED, false);
+        PrefUtils.setDefaultPreferenceValue(store, EXECUTE_TRACE_JMX_ENABLED, false);
+        PrefUtils.setDefaultPreferenceValue(store, EXECUTE_TRACE_EXPORT_FILE, "");
+        PrefUtils.setDefaultPreferenceValue(store, EXECUTE_TRACE_EXPORT_INTERVAL, 15);
 
         PrefUtils.setDefaultPreferenceValue(store, UI_PROXY_HOST, "");
         PrefUtils.setDefaultPreferenceValue(store, UI_PROXY_PORT, 1080);
@@ -0,0 +1,50 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Object container which can read definitions of many child objects at once.
+ * Used by bulk DDL generation to avoid metadata request per object.
+ */
+public interface DBPScriptObjectPrefetcher extends DBPObject {
+
+    /**
+     * Reads definitions of specified objects and keeps them in objects.
+     * Objects which weren't prefetched read their definitions on demand.
+     *
+     * @param monitor progress monitor
+     * @param objects child objects
+     * @param options script options (the same as in {@link DBPScriptObject#getObjectDefinitionText})
+     */
+    void prefetchObjectDefinitions(@NotNull DBRProgressMonitor monitor, @NotNull Collection<? extends DBPScriptObject> objects, @NotNull Map<String, Object> options)
+        throws DBException;
+
+    /**
+     * Releases prefetched definitions which weren't used (e.g. if export was canceled).
+     *
+     * @param objects child objects passed to {@link #prefetchObjectDefinitions}
+     */
+    void resetObjectDefinitions(@NotNull Collection<? extends DBPScriptObject> objects);
+
+}
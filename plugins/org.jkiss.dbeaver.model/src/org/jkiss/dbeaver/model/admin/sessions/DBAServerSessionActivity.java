@@ -0,0 +1,45 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+/**
+ * Server session which exposes its activity state.
+ * Used by session history sampler. Sessions which don't implement it are not recorded in history.
+ */
+public interface DBAServerSessionActivity extends DBAServerSession {
+
+    /**
+     * Unique session identifier (e.g. process id). Must be the same for all samples of the session.
+     * Sessions with null identifier are not recorded in history.
+     */
+    Object getSessionId();
+
+    String getSessionUser();
+
+    String getSessionState();
+
+    /**
+     * Session runs a query, waits or holds an open transaction
+     */
+    boolean isSessionActive();
+
+    /**
+     * Event the session is waiting for or null
+     */
+    String getSessionWaitEvent();
+
+}
@@ -0,0 +1,277 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * Session activity history.
+ *
+ * Time-indexed ring buffer of session samples. Each sample keeps only sessions which were added or changed since
+ * the previous sample and ids of sessions which disappeared. The state of the oldest kept sample is kept as a base,
+ * evicted samples are merged into it.
+ */
+public class DBAServerSessionHistory {
+
+    /**
+     * Sampled session state
+     */
+    public static class SessionState {
+        @NotNull
+        private final Object id;
+        @Nullable
+        private final String user;
+        @Nullable
+        private final String state;
+        @Nullable
+        private final String waitEvent;
+        @Nullable
+        private final String query;
+        private final boolean active;
+
+        SessionState(@NotNull Object id, @Nullable String user, @Nullable String state, @Nullable String waitEvent, @Nullable String query, boolean active) {
+            this.id = id;
+            this.user = user;
+            this.state = state;
+            this.waitEvent = waitEvent;
+            this.query = query;
+            this.active = active;
+        }
+
+        @NotNull
+        public Object getId() {
+            return id;
+        }
+
+        @Nullable
+        public String getUser() {
+            return user;
+        }
+
+        @Nullable
+        public String getState() {
+            return state;
+        }
+
+        @Nullable
+        public String getWaitEvent() {
+            return waitEvent;
+        }
+
+        @Nullable
+        public String getQuery() {
+            return query;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SessionState)) {
+                return false;
+            }
+            SessionState ss = (SessionState) obj;
+            return id.equals(ss.id) &&
+                active == ss.active &&
+                CommonUtils.equalObjects(user, ss.user) &&
+                CommonUtils.equalObjects(state, ss.state) &&
+                CommonUtils.equalObjects(waitEvent, ss.waitEvent) &&
+                CommonUtils.equalObjects(query, ss.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return id + " [" + state + "] " + CommonUtils.notEmpty(waitEvent);
+        }
+    }
+
+    /**
+     * Session state at the moment of some sample
+     */
+    public static class TimelineEntry {
+        private final long time;
+        private final SessionState session;
+
+        TimelineEntry(long time, SessionState session) {
+            this.time = time;
+            this.session = session;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public SessionState getSession() {
+            return session;
+        }
+    }
+
+    /**
+     * Timeline entry filter
+     */
+    public interface Filter {
+        boolean matches(@NotNull SessionState session);
+    }
+
+    private static class Sample {
+        final long time;
+        final SessionState[] changed;
+        final Object[] removed;
+
+        Sample(long time, SessionState[] changed, Object[] removed) {
+            this.time = time;
+            this.changed = changed;
+            this.removed = removed;
+        }
+    }
+
+    private final Sample[] samples;
+    private int first;
+    private int count;
+    // State before the first kept sample
+    private final Map<Object, SessionState> baseState = new LinkedHashMap<>();
+    // State after the last sample
+    private Map<Object, SessionState> lastState = new LinkedHashMap<>();
+
+    public DBAServerSessionHistory(int capacity) {
+        this.samples = new Sample[Math.max(capacity, 1)];
+    }
+
+    public int getCapacity() {
+        return samples.length;
+    }
+
+    public synchronized int getSampleCount() {
+        return count;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(samples, null);
+        first = 0;
+        count = 0;
+        baseState.clear();
+        lastState = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds sample of current sessions.
+     * Sessions without stable identifier (see {@link DBAServerSessionActivity#getSessionId()}) are not recorded:
+     * they can't be matched with the previous sample.
+     */
+    public void addSample(long time, @NotNull Collection<? extends DBAServerSession> sessions) {
+        Map<Object, SessionState> newState = new LinkedHashMap<>();
+        for (DBAServerSession session : sessions) {
+            SessionState state = makeState(session);
+            if (state != null) {
+                newState.put(state.getId(), state);
+            }
+        }
+        synchronized (this) {
+            List<SessionState> changed = new ArrayList<>();
+            for (SessionState state : newState.values()) {
+                if (!state.equals(lastState.get(state.getId()))) {
+                    changed.add(state);
+                }
+            }
+            List<Object> removed = new ArrayList<>();
+            for (Object id : lastState.keySet()) {
+                if (!newState.containsKey(id)) {
+                    removed.add(id);
+                }
+            }
+            if (count == samples.length) {
+                // Merge the oldest sample into the base state
+                applySample(baseState, samples[first]);
+                samples[first] = null;
+                first = (first + 1) % samples.length;
+                count--;
+            }
+            samples[(first + count) % samples.length] = new Sample(
+                time,
+                changed.toArray(new SessionState[changed.size()]),
+                removed.toArray());
+            count++;
+            lastState = newState;
+        }
+    }
+
+    /**
+     * Returns active sessions of all kept samples (ordered by time)
+     * @param fromTime    min sample time (inclusive)
+     * @param filter      session filter or null
+     */
+    @NotNull
+    public List<TimelineEntry> getTimeline(long fromTime, @Nullable Filter filter) {
+        List<TimelineEntry> result = new ArrayList<>();
+        synchronized (this) {
+            Map<Object, SessionState> state = new LinkedHashMap<>(baseState);
+            for (int i = 0; i < count; i++) {
+                Sample sample = samples[(first + i) % samples.length];
+                applySample(state, sample);
+                if (sample.time < fromTime) {
+                    continue;
+                }
+                for (SessionState session : state.values()) {
+                    if (session.isActive() && (filter == null || filter.matches(session))) {
+                        result.add(new TimelineEntry(sample.time, session));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void applySample(Map<Object, SessionState> state, Sample sample) {
+        for (Object id : sample.removed) {
+            state.remove(id);
+        }
+        for (SessionState session : sample.changed) {
+            state.put(session.getId(), session);
+        }
+    }
+
+    @Nullable
+    private static SessionState makeState(@NotNull DBAServerSession session) {
+        if (!(session instanceof DBAServerSessionActivity)) {
+            return null;
+        }
+        DBAServerSessionActivity activity = (DBAServerSessionActivity) session;
+        Object id = activity.getSessionId();
+        if (id == null) {
+            return null;
+        }
+        return new SessionState(
+            id,
+            activity.getSessionUser(),
+            activity.getSessionState(),
+            activity.getSessionWaitEvent(),
+            activity.getActiveQuery(),
+            activity.isSessionActive());
+    }
+
+}
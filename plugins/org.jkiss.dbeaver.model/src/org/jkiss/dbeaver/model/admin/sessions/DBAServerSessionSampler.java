@@ -0,0 +1,157 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Background session sampler.
+ * Periodically reads server sessions and stores them in data source session history.
+ * Sampler works until it is stopped explicitly or data source is disconnected.
+ */
+public class DBAServerSessionSampler extends AbstractJob {
+
+    private static final Log log = Log.getLog(DBAServerSessionSampler.class);
+
+    private static final Map<DBPDataSourceContainer, DBAServerSessionSampler> samplers = new IdentityHashMap<>();
+
+    private final DBAServerSessionManager<?> sessionManager;
+    private final Map<String, Object> options;
+    private final DBAServerSessionHistory history;
+    private DBCExecutionContext sampleContext;
+    private volatile boolean stopped;
+
+    private DBAServerSessionSampler(@NotNull DBAServerSessionManager<?> sessionManager, @Nullable Map<String, Object> options) {
+        super("Session sampler (" + sessionManager.getDataSource().getContainer().getName() + ")");
+        setUser(false);
+        setSystem(true);
+        this.sessionManager = sessionManager;
+        this.options = options;
+        this.history = new DBAServerSessionHistory(
+            sessionManager.getDataSource().getContainer().getPreferenceStore().getInt(ModelPreferences.SESSION_HISTORY_SIZE));
+    }
+
+    /**
+     * Returns running sampler of specified data source
+     */
+    @Nullable
+    public static DBAServerSessionSampler getSampler(@NotNull DBPDataSourceContainer container) {
+        synchronized (samplers) {
+            return samplers.get(container);
+        }
+    }
+
+    /**
+     * Starts sampler for data source of session manager. Does nothing if sampler is already running.
+     */
+    @NotNull
+    public static DBAServerSessionSampler startSampler(@NotNull DBAServerSessionManager<?> sessionManager, @Nullable Map<String, Object> options) {
+        DBPDataSourceContainer container = sessionManager.getDataSource().getContainer();
+        DBAServerSessionSampler sampler;
+        synchronized (samplers) {
+            sampler = samplers.get(container);
+            if (sampler != null) {
+                return sampler;
+            }
+            sampler = new DBAServerSessionSampler(sessionManager, options);
+            samplers.put(container, sampler);
+        }
+        sampler.schedule();
+        return sampler;
+    }
+
+    public static void stopSampler(@NotNull DBPDataSourceContainer container) {
+        DBAServerSessionSampler sampler;
+        synchronized (samplers) {
+            sampler = samplers.remove(container);
+        }
+        if (sampler != null) {
+            sampler.stopped = true;
+            if (sampler.cancel()) {
+                // Job wasn't running - nobody else will close the context
+                sampler.closeContext();
+            }
+        }
+    }
+
+    @NotNull
+    public DBAServerSessionHistory getHistory() {
+        return history;
+    }
+
+    @Override
+    protected IStatus run(DBRProgressMonitor monitor) {
+        DBPDataSource dataSource = sessionManager.getDataSource();
+        DBPDataSourceContainer container = dataSource.getContainer();
+        if (!stopped && !container.isConnected()) {
+            stopSampler(container);
+        }
+        if (stopped) {
+            closeContext();
+            return Status.OK_STATUS;
+        }
+        try {
+            if (sampleContext == null) {
+                sampleContext = dataSource.getDefaultInstance().openIsolatedContext(monitor, "Session sampler");
+            }
+            Collection<? extends DBAServerSession> sessions;
+            try (DBCSession session = sampleContext.openSession(monitor, DBCExecutionPurpose.UTIL, "Sample server sessions")) {
+                sessions = sessionManager.getSessions(session, options);
+            }
+            history.addSample(System.currentTimeMillis(), sessions);
+        } catch (Throwable e) {
+            log.debug("Error sampling server sessions: " + e.getMessage());
+            // Reopen context on the next sample
+            closeContext();
+        }
+        if (stopped) {
+            closeContext();
+        } else {
+            int interval = container.getPreferenceStore().getInt(ModelPreferences.SESSION_HISTORY_SAMPLE_INTERVAL);
+            schedule(Math.max(interval, 1) * 1000L);
+        }
+        return Status.OK_STATUS;
+    }
+
+    private synchronized void closeContext() {
+        if (sampleContext != null) {
+            try {
+                sampleContext.close();
+            } catch (Throwable e) {
+                log.debug("Error closing sampler context: " + e.getMessage());
+            }
+            sampleContext = null;
+        }
+    }
+
+}
@@ -240,6 +240,25 @@ public class DBDAttributeBindingMeta extends DBDAttributeBinding {
         this.pseudoAttribute = pseudoAttribute;
     }
 
+    /**
+     * Creates copy of this binding which can be modified independently (nested bindings are not copied).
+     */
+    @NotNull
+    public DBDAttributeBindingMeta copyBinding() {
+        DBDAttributeBindingMeta copy = new DBDAttributeBindingMeta(dataSource, metaAttribute);
+        if (isTransformed()) {
+            copy.setTransformHandler(valueHandler);
+        } else {
+            copy.valueHandler = valueHandler;
+        }
+        copy.presentationAttribute = presentationAttribute;
+        copy.entityAttribute = entityAttribute;
+        copy.rowIdentifier = rowIdentifier;
+        copy.referrers = referrers;
+        copy.pseudoAttribute = pseudoAttribute;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof DBDAttributeBindingMeta) {
@@ -23,7 +23,7 @@ public class AggregateUtils {
 
     public static int compareValues(Comparable val1, Comparable val2) {
         if (val1 instanceof Number && val2 instanceof Number) {
-            return (int)(((Number) val1).doubleValue() - ((Number) val2).doubleValue());
+            return Double.compare(((Number) val1).doubleValue(), ((Number) val2).doubleValue());
         } else if (val1.getClass() == val2.getClass()) {
             return val1.compareTo(val2);
         } else {
@@ -39,6 +39,14 @@ public class FunctionAvg extends FunctionNumeric {
         return false;
     }
 
+    @Override
+    public void merge(IAggregateFunctionMergeable partial) {
+        double partialResult = ((FunctionAvg) partial).result;
+        if (!Double.isNaN(partialResult)) {
+            result = Double.isNaN(result) ? partialResult : result + partialResult;
+        }
+    }
+
     @Override
     public Object getResult(int valueCount) {
         if (Double.isNaN(result)) {
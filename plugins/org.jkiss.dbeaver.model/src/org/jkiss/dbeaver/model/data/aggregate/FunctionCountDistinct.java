@@ -22,23 +22,22 @@ import java.util.Set;
 /**
  * FunctionCountDistinct
  */
-public class FunctionCountDistinct implements IAggregateFunction {
+public class FunctionCountDistinct implements IAggregateFunctionMergeable {
 
-    private int count = 0;
     private Set<Object> cache = new HashSet<>();
 
     @Override
     public boolean accumulate(Object value) {
-        if (!cache.contains(value)) {
-            count++;
-            cache.add(value);
-            return true;
-        }
-        return false;
+        return cache.add(value);
+    }
+
+    @Override
+    public void merge(IAggregateFunctionMergeable partial) {
+        cache.addAll(((FunctionCountDistinct) partial).cache);
     }
 
     @Override
     public Object getResult(int valueCount) {
-        return count;
+        return cache.size();
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+/**
+ * Approximate distinct values count (HyperLogLog).
+ * Uses fixed amount of memory regardless of number of values.
+ */
+public class FunctionCountDistinctApprox implements IAggregateFunctionMergeable {
+
+    private final HyperLogLog hll = new HyperLogLog();
+
+    @Override
+    public boolean accumulate(Object value) {
+        hll.add(value);
+        return true;
+    }
+
+    @Override
+    public void merge(IAggregateFunctionMergeable partial) {
+        hll.merge(((FunctionCountDistinctApprox) partial).hll);
+    }
+
+    @Override
+    public Object getResult(int valueCount) {
+        return Math.min(hll.estimate(), valueCount);
+    }
+}
@@ -23,7 +23,7 @@ import java.util.*;
 /**
  * Median
  */
-public class FunctionMedian implements IAggregateFunction {
+public class FunctionMedian implements IAggregateFunctionMergeable {
 
     private static final Log log = Log.getLog(FunctionMedian.class);
 
@@ -39,6 +39,11 @@ public class FunctionMedian implements IAggregateFunction {
         return false;
     }
 
+    @Override
+    public void merge(IAggregateFunctionMergeable partial) {
+        cache.addAll(((FunctionMedian) partial).cache);
+    }
+
     @Override
     public Object getResult(int valueCount) {
         try {
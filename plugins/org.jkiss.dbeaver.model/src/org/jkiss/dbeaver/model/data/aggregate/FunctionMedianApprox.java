@@ -0,0 +1,54 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+/**
+ * Approximate median of numeric values (t-digest).
+ * Uses bounded amount of memory regardless of number of values.
+ */
+public class FunctionMedianApprox extends FunctionNumeric {
+
+    private final TDigest digest = new TDigest();
+
+    protected double getQuantile() {
+        return 0.5;
+    }
+
+    @Override
+    public boolean accumulate(Object value) {
+        Number num = getNumeric(value);
+        if (num != null) {
+            digest.add(num.doubleValue());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void merge(IAggregateFunctionMergeable partial) {
+        digest.merge(((FunctionMedianApprox) partial).digest);
+    }
+
+    @Override
+    public Object getResult(int valueCount) {
+        double result = digest.quantile(getQuantile());
+        if (Double.isNaN(result)) {
+            return null;
+        }
+        return result;
+    }
+}
@@ -16,15 +16,16 @@
  */
 package org.jkiss.dbeaver.model.data.aggregate;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Mode
  */
-public class FunctionMode implements IAggregateFunction {
+public class FunctionMode implements IAggregateFunctionMergeable {
 
-    private List<Object> cache = new ArrayList<>();
+    // Value counters in order of first appearance
+    private Map<Object, int[]> counters = new LinkedHashMap<>();
 
     @Override
     public boolean accumulate(Object value) {
@@ -33,27 +34,29 @@ public class FunctionMode implements IAggregateFunction {
             value = num;
         }
         if (value != null) {
-            cache.add(value);
+            counters.computeIfAbsent(value, k -> new int[1])[0]++;
             return true;
         }
         return false;
     }
 
+    @Override
+    public void merge(IAggregateFunctionMergeable partial) {
+        for (Map.Entry<Object, int[]> entry : ((FunctionMode) partial).counters.entrySet()) {
+            counters.computeIfAbsent(entry.getKey(), k -> new int[1])[0] += entry.getValue()[0];
+        }
+    }
+
     @Override
     public Object getResult(int valueCount) {
         Object maxValue = null;
         int maxCount = 0;
 
-        for (int i = 0; i < cache.size(); ++i) {
-            int count = 0;
-            for (int j = 0; j < cache.size(); ++j) {
-                if (cache.get(j).equals(cache.get(i))) {
-                    count++;
-                }
-            }
+        for (Map.Entry<Object, int[]> entry : counters.entrySet()) {
+            int count = entry.getValue()[0];
             if (count > maxCount) {
                 maxCount = count;
-                maxValue = cache.get(i);
+                maxValue = entry.getKey();
             }
         }
 //        if (maxCount <= 1) {
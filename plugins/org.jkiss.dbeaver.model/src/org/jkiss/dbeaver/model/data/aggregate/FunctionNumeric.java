@@ -19,7 +19,7 @@ package org.jkiss.dbeaver.model.data.aggregate;
 /**
  * FunctionSum
  */
-public abstract class FunctionNumeric implements IAggregateFunction {
+public abstract class FunctionNumeric implements IAggregateFunctionMergeable {
 
     protected static Number getNumeric(Object value) {
         if (value == null) {
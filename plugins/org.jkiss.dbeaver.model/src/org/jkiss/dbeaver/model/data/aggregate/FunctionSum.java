@@ -36,6 +36,14 @@ public class FunctionSum extends FunctionNumeric {
         return false;
     }
 
+    @Override
+    public void merge(IAggregateFunctionMergeable partial) {
+        double partialResult = ((FunctionSum) partial).result;
+        if (!Double.isNaN(partialResult)) {
+            result = Double.isNaN(result) ? partialResult : result + partialResult;
+        }
+    }
+
     @Override
     public Object getResult(int valueCount) {
         if (Double.isNaN(result)) {
@@ -0,0 +1,177 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data.aggregate;
+
+import java.util.Arrays;
+
+/**
+ * Merging t-digest (Dunning) - quantile estimator with bounded memory.
+ * Values are collected in a buffer and periodically merged into a sorted list of centroids.
+ * Centroid size is limited by the scale function so estimates are most accurate near the tails and median.
+ */
+class TDigest {
+
+    private static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+
+    private final double[] bufferMeans;
+    private final double[] bufferWeights;
+    private int bufferSize;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    TDigest(double compression) {
+        this.compression = compression;
+        int maxCentroids = (int) Math.ceil(compression * 2) + 10;
+        this.means = new double[maxCentroids];
+        this.weights = new double[maxCentroids];
+        this.bufferMeans = new double[maxCentroids * 5];
+        this.bufferWeights = new double[maxCentroids * 5];
+    }
+
+    void add(double value) {
+        add(value, 1);
+    }
+
+    private void add(double mean, double weight) {
+        if (Double.isNaN(mean)) {
+            return;
+        }
+        if (bufferSize == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[bufferSize] = mean;
+        bufferWeights[bufferSize] = weight;
+        bufferSize++;
+        totalWeight += weight;
+        if (mean < min) min = mean;
+        if (mean > max) max = mean;
+    }
+
+    void merge(TDigest digest) {
+        digest.compress();
+        for (int i = 0; i < digest.centroidCount; i++) {
+            add(digest.means[i], digest.weights[i]);
+        }
+        // Min/max of the merged digest may be more precise than its centroids
+        if (digest.min < min) min = digest.min;
+        if (digest.max > max) max = digest.max;
+    }
+
+    long size() {
+        return Math.round(totalWeight);
+    }
+
+    /**
+     * Estimates value at specified quantile
+     * @param q quantile (0..1)
+     * @return estimated value or NaN if digest is empty
+     */
+    double quantile(double q) {
+        compress();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+        double index = q * totalWeight;
+        if (index < weights[0] / 2) {
+            // Between min and the first centroid center
+            return min + (means[0] - min) * (index / (weights[0] / 2));
+        }
+        double weightSoFar = weights[0] / 2;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double delta = (weights[i] + weights[i + 1]) / 2;
+            if (weightSoFar + delta > index) {
+                double fraction = (index - weightSoFar) / delta;
+                return means[i] + (means[i + 1] - means[i]) * fraction;
+            }
+            weightSoFar += delta;
+        }
+        // Between the last centroid center and max
+        int last = centroidCount - 1;
+        double lastHalf = weights[last] / 2;
+        double fraction = Math.min(1.0, (index - weightSoFar) / lastHalf);
+        return means[last] + (max - means[last]) * fraction;
+    }
+
+    private void compress() {
+        if (bufferSize == 0) {
+            return;
+        }
+        // Merge existing centroids with buffered values
+        int count = centroidCount + bufferSize;
+        double[] allMeans = new double[count];
+        double[] allWeights = new double[count];
+        System.arraycopy(means, 0, allMeans, 0, centroidCount);
+        System.arraycopy(weights, 0, allWeights, 0, centroidCount);
+        System.arraycopy(bufferMeans, 0, allMeans, centroidCount, bufferSize);
+        System.arraycopy(bufferWeights, 0, allWeights, centroidCount, bufferSize);
+        bufferSize = 0;
+
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> Double.compare(allMeans[i1], allMeans[i2]));
+
+        centroidCount = 0;
+        double curMean = allMeans[order[0]];
+        double curWeight = allWeights[order[0]];
+        double weightSoFar = 0;
+        for (int i = 1; i < count; i++) {
+            int pos = order[i];
+            double proposedWeight = curWeight + allWeights[pos];
+            double q = (weightSoFar + proposedWeight / 2) / totalWeight;
+            double maxWeight = 4 * totalWeight * q * (1 - q) / compression;
+            if (proposedWeight <= Math.max(1, maxWeight)) {
+                // Merge into current centroid
+                curMean += (allMeans[pos] - curMean) * allWeights[pos] / proposedWeight;
+                curWeight = proposedWeight;
+            } else {
+                appendCentroid(curMean, curWeight);
+                weightSoFar += curWeight;
+                curMean = allMeans[pos];
+                curWeight = allWeights[pos];
+            }
+        }
+        appendCentroid(curMean, curWeight);
+    }
+
+    private void appendCentroid(double mean, double weight) {
+        if (centroidCount == means.length) {
+            means = Arrays.copyOf(means, centroidCount * 2);
+            weights = Arrays.copyOf(weights, centroidCount * 2);
+        }
+        means[centroidCount] = mean;
+        weights[centroidCount] = weight;
+        centroidCount++;
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.exec.trace;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.data.DBDContent;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Execution trace of a single statement.
+ * Collects phase timings, fetched rows, estimated data size and estimated heap allocations.
+ * Trace is reported to {@link DBCTraceRegistry} once, when statement is closed.
+ *
+ * Trace is filled by execution thread, it is not thread-safe.
+ */
+public class DBCStatementTrace implements DBCTrace {
+
+    // Heap size estimates (64-bit JVM with compressed references)
+    private static final int OBJECT_HEADER_SIZE = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int NUMBER_SIZE = 8;
+    private static final int DECIMAL_SIZE = 16;
+    private static final int DECIMAL_ALLOCATION = 64;
+    private static final int UNKNOWN_VALUE_SIZE = 64;
+
+    @NotNull
+    private final DBPDataSourceContainer container;
+    private final long[] phaseNanos = new long[DBCTracePhase.values().length];
+    private long rowCount;
+    private long dataBytes;
+    private long allocatedBytes;
+    private boolean finished;
+
+    private DBCStatementTrace(@NotNull DBPDataSourceContainer container) {
+        this.container = container;
+    }
+
+    /**
+     * Creates new trace if tracing is enabled for data source
+     */
+    @Nullable
+    public static DBCStatementTrace create(@NotNull DBPDataSourceContainer container) {
+        if (!container.getPreferenceStore().getBoolean(ModelPreferences.EXECUTE_TRACE_ENABLED)) {
+            return null;
+        }
+        return new DBCStatementTrace(container);
+    }
+
+    @NotNull
+    public DBPDataSourceContainer getDataSourceContainer() {
+        return container;
+    }
+
+    @Override
+    public void addPhaseTime(@NotNull DBCTracePhase phase, long nanos) {
+        phaseNanos[phase.ordinal()] += nanos;
+    }
+
+    @Override
+    public long getPhaseTime(@NotNull DBCTracePhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Total statement time. Conversion time is a part of receiver time so it is not counted.
+     */
+    public long getTotalTime() {
+        long total = 0;
+        for (DBCTracePhase phase : DBCTracePhase.values()) {
+            if (phase != DBCTracePhase.CONVERT) {
+                total += phaseNanos[phase.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public void addRow() {
+        rowCount++;
+    }
+
+    public long getDataBytes() {
+        return dataBytes;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Estimates size and heap allocation of converted row values
+     */
+    @Override
+    public void addRowValues(@NotNull Object[] row) {
+        allocatedBytes += OBJECT_HEADER_SIZE + row.length * REFERENCE_SIZE;
+        for (Object value : row) {
+            addValue(value);
+        }
+    }
+
+    private void addValue(@Nullable Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String) {
+            int length = ((String) value).length();
+            dataBytes += length;
+            allocatedBytes += OBJECT_HEADER_SIZE * 2 + length * 2;
+        } else if (value instanceof byte[]) {
+            int length = ((byte[]) value).length;
+            dataBytes += length;
+            allocatedBytes += OBJECT_HEADER_SIZE + length;
+        } else if (value instanceof BigDecimal) {
+            dataBytes += DECIMAL_SIZE;
+            allocatedBytes += DECIMAL_ALLOCATION;
+        } else if (value instanceof Number || value instanceof Boolean) {
+            dataBytes += NUMBER_SIZE;
+            allocatedBytes += OBJECT_HEADER_SIZE + NUMBER_SIZE;
+        } else if (value instanceof Date) {
+            dataBytes += NUMBER_SIZE;
+            allocatedBytes += OBJECT_HEADER_SIZE * 2 + NUMBER_SIZE;
+        } else if (value instanceof DBDContent) {
+            // Content is read lazily, only its holder is allocated
+            dataBytes += UNKNOWN_VALUE_SIZE;
+            allocatedBytes += UNKNOWN_VALUE_SIZE;
+        } else {
+            dataBytes += UNKNOWN_VALUE_SIZE;
+            allocatedBytes += UNKNOWN_VALUE_SIZE;
+        }
+    }
+
+    /**
+     * Reports trace to registry. Subsequent calls are ignored.
+     */
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        DBCTraceRegistry.getInstance().record(this);
+    }
+
+}
@@ -17,10 +17,26 @@
 
 package org.jkiss.dbeaver.model.exec.trace;
 
+import org.jkiss.code.NotNull;
+
 /**
  * Execution trace
  */
 public interface DBCTrace {
 
+    /**
+     * Adds time spent in execution phase
+     */
+    void addPhaseTime(@NotNull DBCTracePhase phase, long nanos);
+
+    /**
+     * Total time spent in execution phase (in nanoseconds)
+     */
+    long getPhaseTime(@NotNull DBCTracePhase phase);
+
+    /**
+     * Accounts values of converted row
+     */
+    void addRowValues(@NotNull Object[] row);
 
 }
@@ -0,0 +1,139 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.exec.trace;
+
+import org.jkiss.code.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregated execution metrics of a data source
+ */
+public class DBCTraceMetrics implements DBCTraceMetricsMBean {
+
+    private final String dataSourceName;
+    private final DBCTraceHistogram statementHistogram = new DBCTraceHistogram();
+    private final Map<DBCTracePhase, DBCTraceHistogram> phaseHistograms = new EnumMap<>(DBCTracePhase.class);
+    private final AtomicLong rowCount = new AtomicLong();
+    private final AtomicLong dataBytes = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    DBCTraceMetrics(@NotNull String dataSourceName) {
+        this.dataSourceName = dataSourceName;
+        for (DBCTracePhase phase : DBCTracePhase.values()) {
+            phaseHistograms.put(phase, new DBCTraceHistogram());
+        }
+    }
+
+    void record(@NotNull DBCStatementTrace trace) {
+        statementHistogram.observe(trace.getTotalTime());
+        for (DBCTracePhase phase : DBCTracePhase.values()) {
+            long phaseTime = trace.getPhaseTime(phase);
+            // Execute phase is always reported, others only if statement passed through them
+            if (phaseTime > 0 || phase == DBCTracePhase.EXECUTE) {
+                phaseHistograms.get(phase).observe(phaseTime);
+            }
+        }
+        rowCount.addAndGet(trace.getRowCount());
+        dataBytes.addAndGet(trace.getDataBytes());
+        allocatedBytes.addAndGet(trace.getAllocatedBytes());
+    }
+
+    @NotNull
+    public DBCTraceHistogram getStatementHistogram() {
+        return statementHistogram;
+    }
+
+    @NotNull
+    public DBCTraceHistogram getPhaseHistogram(@NotNull DBCTracePhase phase) {
+        return phaseHistograms.get(phase);
+    }
+
+    @Override
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+
+    @Override
+    public long getStatementCount() {
+        return statementHistogram.getCount();
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount.get();
+    }
+
+    @Override
+    public long getDataBytes() {
+        return dataBytes.get();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    @Override
+    public long getExecuteTime() {
+        return getPhaseTimeMillis(DBCTracePhase.EXECUTE);
+    }
+
+    @Override
+    public long getFetchTime() {
+        return getPhaseTimeMillis(DBCTracePhase.FETCH);
+    }
+
+    @Override
+    public long getConvertTime() {
+        return getPhaseTimeMillis(DBCTracePhase.CONVERT);
+    }
+
+    @Override
+    public long getReceiveTime() {
+        return getPhaseTimeMillis(DBCTracePhase.RECEIVE);
+    }
+
+    @Override
+    public long getUITime() {
+        return getPhaseTimeMillis(DBCTracePhase.UI);
+    }
+
+    @Override
+    public double getAverageStatementTime() {
+        long count = statementHistogram.getCount();
+        return count == 0 ? 0 : statementHistogram.getSumNanos() / 1000000.0 / count;
+    }
+
+    private long getPhaseTimeMillis(DBCTracePhase phase) {
+        return phaseHistograms.get(phase).getSumNanos() / 1000000;
+    }
+
+    @Override
+    public void reset() {
+        statementHistogram.reset();
+        for (DBCTraceHistogram histogram : phaseHistograms.values()) {
+            histogram.reset();
+        }
+        rowCount.set(0);
+        dataBytes.set(0);
+        allocatedBytes.set(0);
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.exec.trace;
+
+/**
+ * Statement execution phase
+ */
+public enum DBCTracePhase {
+    // Statement execution (includes server time and network round trip)
+    EXECUTE("execute", "Execute"),
+    // Driver's next() calls (includes network waits for next fetch batch)
+    FETCH("fetch", "Driver fetch"),
+    // Value handlers conversion. Part of receive phase
+    CONVERT("convert", "Value conversion"),
+    // Data receiver processing (conversion, export, etc)
+    RECEIVE("receive", "Receiver processing"),
+    // Hand-off of fetched data to UI thread
+    UI("ui", "UI update");
+
+    private final String id;
+    private final String title;
+
+    DBCTracePhase(String id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.exec.trace;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.utils.CommonUtils;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Execution metrics registry.
+ * Aggregates statement traces into per-data-source metrics and exports them via JMX
+ * and/or into a file in Prometheus text format (suitable for node exporter textfile collector).
+ */
+public class DBCTraceRegistry {
+
+    private static final Log log = Log.getLog(DBCTraceRegistry.class);
+
+    private static final String JMX_DOMAIN = "org.jkiss.dbeaver";
+    private static final String METRIC_PREFIX = "dbeaver_";
+
+    private static DBCTraceRegistry instance;
+
+    public static synchronized DBCTraceRegistry getInstance() {
+        if (instance == null) {
+            instance = new DBCTraceRegistry();
+        }
+        return instance;
+    }
+
+    private final Map<String, DBCTraceMetrics> metrics = new ConcurrentHashMap<>();
+    private final ExportJob exportJob = new ExportJob();
+
+    private DBCTraceRegistry() {
+    }
+
+    void record(@NotNull DBCStatementTrace trace) {
+        DBPDataSourceContainer container = trace.getDataSourceContainer();
+        metrics.computeIfAbsent(container.getId(), id -> createMetrics(container)).record(trace);
+        scheduleExport();
+    }
+
+    @Nullable
+    public DBCTraceMetrics getMetrics(@NotNull DBPDataSourceContainer container) {
+        return metrics.get(container.getId());
+    }
+
+    @NotNull
+    public Collection<DBCTraceMetrics> getAllMetrics() {
+        return new ArrayList<>(metrics.values());
+    }
+
+    private DBCTraceMetrics createMetrics(DBPDataSourceContainer container) {
+        DBCTraceMetrics dsMetrics = new DBCTraceMetrics(container.getName());
+        if (ModelPreferences.getPreferences().getBoolean(ModelPreferences.EXECUTE_TRACE_JMX_ENABLED)) {
+            try {
+                MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+                ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=ExecutionMetrics,name=" + ObjectName.quote(container.getId()));
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+                mBeanServer.registerMBean(dsMetrics, objectName);
+            } catch (Throwable e) {
+                log.debug("Can't register execution metrics MBean: " + e.getMessage());
+            }
+        }
+        return dsMetrics;
+    }
+
+    /**
+     * Writes all metrics in Prometheus text exposition format
+     */
+    public void writePrometheus(@NotNull Writer writer) throws IOException {
+        PrintWriter out = new PrintWriter(writer);
+        Collection<DBCTraceMetrics> allMetrics = getAllMetrics();
+
+        writeHeader(out, "statement_seconds", "histogram", "Statement total duration");
+        for (DBCTraceMetrics dsMetrics : allMetrics) {
+            writeHistogram(out, "statement_seconds", labels(dsMetrics, null), dsMetrics.getStatementHistogram());
+        }
+        writeHeader(out, "statement_phase_seconds", "histogram", "Statement execution phase duration");
+        for (DBCTraceMetrics dsMetrics : allMetrics) {
+            for (DBCTracePhase phase : DBCTracePhase.values()) {
+                writeHistogram(out, "statement_phase_seconds", labels(dsMetrics, phase), dsMetrics.getPhaseHistogram(phase));
+            }
+        }
+        writeHeader(out, "fetched_rows_total", "counter", "Fetched rows");
+        for (DBCTraceMetrics dsMetrics : allMetrics) {
+            out.println(METRIC_PREFIX + "fetched_rows_total{" + labels(dsMetrics, null) + "} " + dsMetrics.getRowCount());
+        }
+        writeHeader(out, "fetched_bytes_total", "counter", "Estimated size of fetched values");
+        for (DBCTraceMetrics dsMetrics : allMetrics) {
+            out.println(METRIC_PREFIX + "fetched_bytes_total{" + labels(dsMetrics, null) + "} " + dsMetrics.getDataBytes());
+        }
+        writeHeader(out, "allocated_bytes_total", "counter", "Estimated heap allocations of fetched rows");
+        for (DBCTraceMetrics dsMetrics : allMetrics) {
+            out.println(METRIC_PREFIX + "allocated_bytes_total{" + labels(dsMetrics, null) + "} " + dsMetrics.getAllocatedBytes());
+        }
+        out.flush();
+    }
+
+    private static void writeHeader(PrintWriter out, String name, String type, String help) {
+        out.println("# HELP " + METRIC_PREFIX + name + " " + help);
+        out.println("# TYPE " + METRIC_PREFIX + name + " " + type);
+    }
+
+    private static void writeHistogram(PrintWriter out, String name, String labels, DBCTraceHistogram histogram) {
+        long[] counts = histogram.getCumulativeCounts();
+        for (int i = 0; i < counts.length; i++) {
+            String bound = i < DBCTraceHistogram.BUCKET_BOUNDS.length ?
+                BigDecimal.valueOf(DBCTraceHistogram.BUCKET_BOUNDS[i]).stripTrailingZeros().toPlainString() : "+Inf";
+            out.println(METRIC_PREFIX + name + "_bucket{" + labels + ",le=\"" + bound + "\"} " + counts[i]);
+        }
+        out.println(METRIC_PREFIX + name + "_sum{" + labels + "} " + formatDouble(histogram.getSumNanos() / 1e9));
+        out.println(METRIC_PREFIX + name + "_count{" + labels + "} " + histogram.getCount());
+    }
+
+    private static String labels(DBCTraceMetrics dsMetrics, DBCTracePhase phase) {
+        String labels = "datasource=\"" + escapeLabel(dsMetrics.getDataSourceName()) + "\"";
+        if (phase != null) {
+            labels += ",phase=\"" + phase.getId() + "\"";
+        }
+        return labels;
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String formatDouble(double value) {
+        return String.format(Locale.ENGLISH, "%.6f", value);
+    }
+
+    /**
+     * Writes metrics file. File is replaced atomically, so readers never see partial content.
+     */
+    public void exportFile(@NotNull File file) throws IOException {
+        File tmpFile = new File(file.getAbsolutePath() + ".tmp");
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(tmpFile), StandardCharsets.UTF_8)) {
+            writePrometheus(writer);
+        }
+        try {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void scheduleExport() {
+        DBPPreferenceStore preferences = ModelPreferences.getPreferences();
+        if (!CommonUtils.isEmpty(preferences.getString(ModelPreferences.EXECUTE_TRACE_EXPORT_FILE)) && exportJob.getState() == Job.NONE) {
+            exportJob.schedule(Math.max(1, preferences.getInt(ModelPreferences.EXECUTE_TRACE_EXPORT_INTERVAL)) * 1000L);
+        }
+    }
+
+    /**
+     * Writes metrics file. Scheduled after statement execution so file isn't rewritten while there is no activity.
+     */
+    private class ExportJob extends AbstractJob {
+
+        ExportJob() {
+            super("Export execution metrics");
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            String fileName = ModelPreferences.getPreferences().getString(ModelPreferences.EXECUTE_TRACE_EXPORT_FILE);
+            if (!CommonUtils.isEmpty(fileName)) {
+                try {
+                    exportFile(new File(fileName));
+                } catch (IOException e) {
+                    log.debug("Can't export execution metrics to '" + fileName + "': " + e.getMessage());
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
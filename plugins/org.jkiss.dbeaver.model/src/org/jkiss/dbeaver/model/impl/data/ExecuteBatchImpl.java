@@ -32,6 +32,8 @@ import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -49,6 +51,8 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
     protected final List<Object[]> values = new ArrayList<>();
     protected final DBDDataReceiver keysReceiver;
     protected final boolean reuseStatement;
+    // Rows which were successfully executed by the last execution. Kept after batch failure.
+    private boolean[] executedRows = new boolean[0];
 
     /**
      * Constructs new batch
@@ -84,6 +88,12 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
         processBatch(session, actions);
     }
 
+    @Override
+    public boolean isRowExecuted(int rowIndex)
+    {
+        return rowIndex >= 0 && rowIndex < executedRows.length && executedRows[rowIndex];
+    }
+
     /**
      * Execute batch OR generate batch script.
      * @param session    session
@@ -111,18 +121,24 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
 
         DBCStatistics statistics = new DBCStatistics();
         DBCStatement statement = null;
+        boolean[] executedRows = new boolean[values.size()];
+        this.executedRows = executedRows;
+        int rowIndex = 0;
+        int batchStart = 0;
 
         try {
             // Here we'll try to reuse prepared statement.
             // It makes a great sense in case of data transfer where we need millions of inserts.
-            // We must be aware of nulls because actual insert statements may differ depending on null values.
+            // We must be aware of nulls because actual statements may differ depending on null values
+            // (e.g. key condition "IS NULL" instead of "= ?").
             // So if row nulls aren't the same as in previous row we need to prepare new statement and restart batch.
             // Quite complicated but works.
             boolean[] prevNulls = new boolean[attributes.length];
             boolean[] nulls = new boolean[attributes.length];
             int statementsInBatch = 0;
 
-            for (Object[] rowValues : values) {
+            for (; rowIndex < values.size(); rowIndex++) {
+                Object[] rowValues = values.get(rowIndex);
                 if (session.getProgressMonitor().isCanceled()) {
                     break;
                 }
@@ -131,20 +147,18 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                     for (int i = 0; i < rowValues.length; i++) {
                         nulls[i] = DBUtils.isNullValue(rowValues[i]);
                     }
-                    if (!Arrays.equals(prevNulls, nulls) && statementsInBatch > 0) {
-                        reuse = false;
-                    }
-                    System.arraycopy(nulls, 0, prevNulls, 0, nulls.length);
-                    if (!reuse && statementsInBatch > 0) {
-                        // Flush batch
-                        if (actions == null) {
-                            flushBatch(statistics, statement);
+                    if (statement != null && !Arrays.equals(prevNulls, nulls)) {
+                        // Nulls changed - previous statement can't be used for this row
+                        if (statementsInBatch > 0) {
+                            if (actions == null) {
+                                flushBatch(statistics, statement, executedRows, batchStart, statementsInBatch);
+                            }
+                            statementsInBatch = 0;
                         }
                         statement.close();
                         statement = null;
-                        statementsInBatch = 0;
-                        reuse = true;
                     }
+                    System.arraycopy(nulls, 0, prevNulls, 0, nulls.length);
                 }
                 if (statement == null || !reuse) {
                     statement = prepareStatement(session, rowValues);
@@ -155,6 +169,9 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                     bindStatement(handlers, statement, rowValues);
                     if (actions == null) {
                         if (useBatch) {
+                            if (statementsInBatch == 0) {
+                                batchStart = rowIndex;
+                            }
                             statement.addToBatch();
                             statementsInBatch++;
                         } else {
@@ -163,6 +180,8 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
                             executeStatement(statement);
                             statistics.addExecuteTime(System.currentTimeMillis() - startTime);
 
+                            executedRows[rowIndex] = true;
+
                             long rowCount = statement.getUpdateRowCount();
                             if (rowCount > 0) {
                                 statistics.addRowsUpdated(rowCount);
@@ -194,7 +213,7 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
 
             if (statementsInBatch > 0) {
                 if (actions == null) {
-                    flushBatch(statistics, statement);
+                    flushBatch(statistics, statement, executedRows, batchStart, statementsInBatch);
                 }
                 statement.close();
                 statement = null;
@@ -266,10 +285,26 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
         return formatted.toString();
     }
 
-    private void flushBatch(DBCStatistics statistics, DBCStatement statement) throws DBCException {
+    private void flushBatch(DBCStatistics statistics, DBCStatement statement, boolean[] executedRows, int batchStart, int batchSize) throws DBCException {
         long startTime = System.currentTimeMillis();
-        int[] updatedRows = statement.executeStatementBatch();
+        int[] updatedRows;
+        try {
+            updatedRows = statement.executeStatementBatch();
+        } catch (DBCException e) {
+            // Some drivers stop on the first failed row, some process all rows. Update counts tell what was executed.
+            BatchUpdateException batchError = findBatchError(e);
+            if (batchError != null && batchError.getUpdateCounts() != null) {
+                int[] updateCounts = batchError.getUpdateCounts();
+                for (int i = 0; i < updateCounts.length && batchStart + i < executedRows.length; i++) {
+                    if (updateCounts[i] != Statement.EXECUTE_FAILED) {
+                        executedRows[batchStart + i] = true;
+                    }
+                }
+            }
+            throw e;
+        }
         statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+        Arrays.fill(executedRows, batchStart, Math.min(batchStart + batchSize, executedRows.length), true);
         if (!ArrayUtils.isEmpty(updatedRows)) {
             for (int rows : updatedRows) {
                 if (rows < 0) {
@@ -286,6 +321,19 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
         }
     }
 
+    @Nullable
+    private static BatchUpdateException findBatchError(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof BatchUpdateException) {
+                return (BatchUpdateException) e;
+            }
+            if (e.getCause() == e) {
+                break;
+            }
+        }
+        return null;
+    }
+
     @Override
     public void close()
     {
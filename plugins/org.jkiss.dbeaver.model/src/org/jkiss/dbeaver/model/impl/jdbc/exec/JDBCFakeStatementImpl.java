@@ -42,6 +42,12 @@ class JDBCFakeStatementImpl extends JDBCPreparedStatementImpl {
         setQueryString(description);
     }
 
+    @Override
+    protected boolean isTraceEnabled() {
+        // Nothing is executed
+        return false;
+    }
+
     @Override
     public boolean execute() throws SQLException
     {
@@ -0,0 +1,210 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCStatistics;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Adaptive fetch size controller.
+ *
+ * Measures time spent in driver's next() for each fetch batch and estimates row size from result set metadata.
+ * Batch time is split into fixed round trip latency and per-row transfer time (linear estimate over batches
+ * of different sizes). Fetch size is doubled while the batch is faster than target batch time or while latency
+ * dominates the batch. Fetch size is reduced only if transfer time alone exceeds the target or if it doesn't fit
+ * data source memory budget (divided by estimated row size). High latency never reduces fetch size.
+ */
+class JDBCFetchSizeController {
+
+    private static final Log log = Log.getLog(JDBCFetchSizeController.class);
+
+    static final String STAT_FETCH_SIZE = "Fetch size";
+    static final String STAT_FETCH_SIZE_RANGE = "Fetch size range";
+    static final String STAT_FETCH_ROW_SIZE = "Fetch row size (estimated)";
+
+    private static final int MIN_FETCH_SIZE = 10;
+    private static final int MAX_FETCH_SIZE = 100000;
+
+    private static final int ROW_OVERHEAD_SIZE = 64;
+    private static final int SCALAR_VALUE_SIZE = 16;
+    private static final int UNKNOWN_VALUE_SIZE = 256;
+    private static final int MAX_STRING_SIZE = 4000;
+    private static final int MAX_BINARY_SIZE = 65536;
+    private static final int LOB_VALUE_SIZE = 65536;
+
+    private final JDBCResultSetImpl resultSet;
+    private final long memoryBudget;
+    private final long roundTripNanos;
+
+    private final int initialFetchSize;
+    private int fetchSize;
+    private int minUsedFetchSize;
+    private int maxUsedFetchSize;
+    private int maxFetchSize = -1;
+    private long rowSize;
+
+    private int batchRows;
+    private long batchNanos;
+    private boolean disabled;
+
+    // Previous batch (used to estimate per-row transfer time)
+    private int prevBatchRows;
+    private long prevBatchNanos;
+    private long rowTransferNanos = -1;
+
+    private JDBCFetchSizeController(JDBCResultSetImpl resultSet, int fetchSize, long memoryBudget, long roundTripNanos) {
+        this.resultSet = resultSet;
+        this.initialFetchSize = this.fetchSize = this.minUsedFetchSize = this.maxUsedFetchSize = fetchSize;
+        this.memoryBudget = memoryBudget;
+        this.roundTripNanos = roundTripNanos;
+    }
+
+    /**
+     * Creates controller for result set.
+     * Fetch size is adjusted only if it was explicitly set for the statement, otherwise we don't know batch boundaries.
+     */
+    static JDBCFetchSizeController create(@NotNull JDBCResultSetImpl resultSet, @NotNull ResultSet original) {
+        DBPPreferenceStore preferenceStore = resultSet.getSession().getDataSource().getContainer().getPreferenceStore();
+        if (!preferenceStore.getBoolean(ModelPreferences.RESULT_SET_FETCH_ADAPTIVE)) {
+            return null;
+        }
+        int fetchSize;
+        try {
+            fetchSize = original.getFetchSize();
+        } catch (Throwable e) {
+            // Not supported by driver
+            return null;
+        }
+        if (fetchSize <= 0) {
+            return null;
+        }
+        long memoryBudget = preferenceStore.getLong(ModelPreferences.RESULT_SET_FETCH_MEMORY_BUDGET) * 1024;
+        long roundTripNanos = preferenceStore.getLong(ModelPreferences.RESULT_SET_FETCH_ROUND_TRIP_TIME) * 1000000;
+        if (memoryBudget <= 0 || roundTripNanos <= 0) {
+            return null;
+        }
+        return new JDBCFetchSizeController(resultSet, fetchSize, memoryBudget, roundTripNanos);
+    }
+
+    void rowFetched(long fetchNanos) {
+        if (disabled) {
+            return;
+        }
+        batchRows++;
+        batchNanos += fetchNanos;
+        if (batchRows >= fetchSize) {
+            adjustFetchSize();
+            batchRows = 0;
+            batchNanos = 0;
+        }
+    }
+
+    private void adjustFetchSize() {
+        if (maxFetchSize < 0) {
+            rowSize = estimateRowSize();
+            maxFetchSize = (int) Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, memoryBudget / rowSize));
+        }
+        if (prevBatchRows > 0 && prevBatchRows != batchRows) {
+            // batchTime = latency + rows * rowTransferTime
+            rowTransferNanos = Math.max(0, (batchNanos - prevBatchNanos) / (batchRows - prevBatchRows));
+        }
+        prevBatchRows = batchRows;
+        prevBatchNanos = batchNanos;
+
+        int newFetchSize = fetchSize;
+        long transferNanos = rowTransferNanos < 0 ? -1 : rowTransferNanos * batchRows;
+        if (transferNanos > roundTripNanos * 2) {
+            // Transfer of the batch itself is too slow (wide rows or slow link bandwidth)
+            newFetchSize = Math.max(fetchSize / 2, (int) (roundTripNanos / Math.max(1, rowTransferNanos)));
+        } else if (batchNanos < roundTripNanos || transferNanos < 0 || transferNanos < batchNanos - transferNanos) {
+            // Batch is fast or most of its time is a round trip latency - fetch more rows at once
+            newFetchSize = fetchSize * 2;
+        }
+        newFetchSize = Math.max(MIN_FETCH_SIZE, Math.min(maxFetchSize, newFetchSize));
+        if (newFetchSize == fetchSize) {
+            return;
+        }
+        try {
+            resultSet.getOriginal().setFetchSize(newFetchSize);
+        } catch (Throwable e) {
+            // Driver doesn't support fetch size change during fetch
+            log.debug("Can't change result set fetch size: " + e.getMessage());
+            disabled = true;
+            return;
+        }
+        fetchSize = newFetchSize;
+        minUsedFetchSize = Math.min(minUsedFetchSize, fetchSize);
+        maxUsedFetchSize = Math.max(maxUsedFetchSize, fetchSize);
+    }
+
+    private long estimateRowSize() {
+        long size = ROW_OVERHEAD_SIZE;
+        List<DBCAttributeMetaData> attributes;
+        try {
+            attributes = resultSet.getMeta().getAttributes();
+        } catch (DBCException e) {
+            log.debug("Can't read result set metadata: " + e.getMessage());
+            return ROW_OVERHEAD_SIZE + UNKNOWN_VALUE_SIZE;
+        }
+        for (DBCAttributeMetaData attr : attributes) {
+            long maxLength = attr.getMaxLength();
+            switch (attr.getDataKind()) {
+                case BOOLEAN:
+                case NUMERIC:
+                case DATETIME:
+                case ROWID:
+                    size += SCALAR_VALUE_SIZE;
+                    break;
+                case STRING:
+                    // Java strings are 2 bytes per char
+                    size += maxLength > 0 ? Math.min(maxLength, MAX_STRING_SIZE) * 2 : UNKNOWN_VALUE_SIZE;
+                    break;
+                case BINARY:
+                    size += maxLength > 0 ? Math.min(maxLength, MAX_BINARY_SIZE) : UNKNOWN_VALUE_SIZE;
+                    break;
+                case CONTENT:
+                    size += LOB_VALUE_SIZE;
+                    break;
+                default:
+                    size += UNKNOWN_VALUE_SIZE;
+                    break;
+            }
+        }
+        return size;
+    }
+
+    void collectStatistics(@NotNull DBCStatistics statistics) {
+        if (initialFetchSize == fetchSize) {
+            statistics.addInfo(STAT_FETCH_SIZE, fetchSize);
+        } else {
+            statistics.addInfo(STAT_FETCH_SIZE, initialFetchSize + " -> " + fetchSize);
+            statistics.addInfo(STAT_FETCH_SIZE_RANGE, minUsedFetchSize + " - " + maxUsedFetchSize);
+        }
+        if (rowSize > 0) {
+            statistics.addInfo(STAT_FETCH_ROW_SIZE, rowSize);
+        }
+    }
+
+}
@@ -21,10 +21,14 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.data.DBDValueMeta;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSetTrace;
+import org.jkiss.dbeaver.model.exec.DBCStatistics;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSetMetaData;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
+import org.jkiss.dbeaver.model.exec.trace.DBCStatementTrace;
+import org.jkiss.dbeaver.model.exec.trace.DBCTracePhase;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.qm.QMUtils;
 
@@ -39,7 +43,7 @@ import java.util.Map;
 /**
  * Managable result set
  */
-public class JDBCResultSetImpl implements JDBCResultSet {
+public class JDBCResultSetImpl implements JDBCResultSet, DBCResultSetTrace {
 
     private static final Log log = Log.getLog(JDBCResultSetImpl.class);
 
@@ -52,6 +56,8 @@ public class JDBCResultSetImpl implements JDBCResultSet {
     private long maxRows = -1;
     private boolean fake;
     private boolean disableLogging;
+    private JDBCFetchSizeController fetchSizeController;
+    private DBCStatementTrace trace;
 
     public static JDBCResultSet makeResultSet(@NotNull JDBCSession session, @Nullable JDBCStatement statement, @NotNull ResultSet original, String description, boolean disableLogging)
         throws SQLException
@@ -266,6 +272,34 @@ public class JDBCResultSetImpl implements JDBCResultSet {
         this.maxRows = maxRows;
     }
 
+    /**
+     * Enables adaptive fetch size (if it is turned on for the data source)
+     */
+    void enableAdaptiveFetchSize() {
+        if (original != null) {
+            fetchSizeController = JDBCFetchSizeController.create(this, original);
+        }
+    }
+
+    void setExecutionTrace(@Nullable DBCStatementTrace trace) {
+        this.trace = trace;
+    }
+
+    @Nullable
+    @Override
+    public DBCStatementTrace getExecutionTrace() {
+        return trace;
+    }
+
+    /**
+     * Adds fetch size information to statistics
+     */
+    public void collectFetchStatistics(@NotNull DBCStatistics statistics) {
+        if (fetchSizeController != null) {
+            fetchSizeController.collectStatistics(statistics);
+        }
+    }
+
     @Override
     public boolean next()
         throws SQLException
@@ -281,7 +315,23 @@ public class JDBCResultSetImpl implements JDBCResultSet {
         this.beforeFetch();
         try {
             // Fetch next row
-            boolean fetched = original.next();
+            boolean fetched;
+            if (fetchSizeController == null && trace == null) {
+                fetched = original.next();
+            } else {
+                long startTime = System.nanoTime();
+                fetched = original.next();
+                long fetchTime = System.nanoTime() - startTime;
+                if (fetchSizeController != null && fetched) {
+                    fetchSizeController.rowFetched(fetchTime);
+                }
+                if (trace != null) {
+                    trace.addPhaseTime(DBCTracePhase.FETCH, fetchTime);
+                    if (fetched) {
+                        trace.addRow();
+                    }
+                }
+            }
             if (fetched) {
                 rowsFetched++;
             }
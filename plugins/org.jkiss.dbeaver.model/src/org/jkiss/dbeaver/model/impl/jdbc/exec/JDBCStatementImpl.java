@@ -26,6 +26,8 @@ import org.jkiss.dbeaver.model.exec.DBCExecutionSource;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
+import org.jkiss.dbeaver.model.exec.trace.DBCStatementTrace;
+import org.jkiss.dbeaver.model.exec.trace.DBCTracePhase;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.qm.QMUtils;
@@ -59,6 +61,8 @@ public class JDBCStatementImpl<STATEMENT extends Statement> implements JDBCState
     private DBCExecutionSource source;
     private int updateCount;
     private Throwable executeError;
+    private DBCStatementTrace trace;
+    private long executeStartTime;
 
     public JDBCStatementImpl(@NotNull JDBCSession connection, @NotNull STATEMENT original, boolean disableLogging)
     {
@@ -79,6 +83,10 @@ public class JDBCStatementImpl<STATEMENT extends Statement> implements JDBCState
         return !disableLogging;
     }
 
+    protected boolean isTraceEnabled() {
+        return true;
+    }
+
 
     protected void startBlock()
     {
@@ -262,6 +270,12 @@ public class JDBCStatementImpl<STATEMENT extends Statement> implements JDBCState
             return null;
         }
         JDBCResultSet dbResult = createResultSetImpl(resultSet);
+        if (dbResult instanceof JDBCResultSetImpl) {
+            ((JDBCResultSetImpl) dbResult).enableAdaptiveFetchSize();
+            if (trace != null) {
+                ((JDBCResultSetImpl) dbResult).setExecutionTrace(trace);
+            }
+        }
         // Scroll original result set if needed
         if (rsOffset > 0) {
             JDBCUtils.scrollResultSet(resultSet, rsOffset, !getConnection().getDataSource().getInfo().supportsResultSetScroll());
@@ -320,11 +334,20 @@ public class JDBCStatementImpl<STATEMENT extends Statement> implements JDBCState
         if (isQMLoggingEnabled()) {
             QMUtils.getDefaultHandler().handleStatementExecuteBegin(this);
         }
+        if (trace == null && isTraceEnabled()) {
+            trace = DBCStatementTrace.create(connection.getDataSource().getContainer());
+        }
+        if (trace != null) {
+            executeStartTime = System.nanoTime();
+        }
         this.startBlock();
     }
 
     protected void afterExecute()
     {
+        if (trace != null) {
+            trace.addPhaseTime(DBCTracePhase.EXECUTE, System.nanoTime() - executeStartTime);
+        }
         this.endBlock();
         if (isQMLoggingEnabled()) {
             QMUtils.getDefaultHandler().handleStatementExecuteEnd(this, this.updateCount, this.executeError);
@@ -506,6 +529,11 @@ public class JDBCStatementImpl<STATEMENT extends Statement> implements JDBCState
             // Handle close
             QMUtils.getDefaultHandler().handleStatementClose(this, updateCount);
         }
+        if (trace != null) {
+            // Result sets are already closed, report trace with all fetch phases
+            trace.finish();
+            trace = null;
+        }
 
         // Close statement
         try {
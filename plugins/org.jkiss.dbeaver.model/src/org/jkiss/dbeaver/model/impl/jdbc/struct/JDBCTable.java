@@ -28,10 +28,13 @@ import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
+import org.jkiss.dbeaver.model.exec.trace.DBCTrace;
+import org.jkiss.dbeaver.model.exec.trace.DBCTracePhase;
 import org.jkiss.dbeaver.model.impl.DBObjectNameCaseTransformer;
 import org.jkiss.dbeaver.model.impl.data.ExecuteBatchImpl;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCSQLDialect;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructCache;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCResultSetImpl;
 import org.jkiss.dbeaver.model.impl.struct.AbstractTable;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.meta.Property;
@@ -193,6 +196,7 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
                 if (dbResult != null && !monitor.isCanceled()) {
                     try {
                         dataReceiver.fetchStart(session, dbResult, firstRow, maxRows);
+                        DBCTrace trace = dbResult instanceof DBCResultSetTrace ? ((DBCResultSetTrace) dbResult).getExecutionTrace() : null;
 
                         startTime = System.currentTimeMillis();
                         long rowCount = 0;
@@ -201,7 +205,13 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
                                 // Fetch not more than max rows
                                 break;
                             }
-                            dataReceiver.fetchRow(session, dbResult);
+                            if (trace == null) {
+                                dataReceiver.fetchRow(session, dbResult);
+                            } else {
+                                long receiveStartTime = System.nanoTime();
+                                dataReceiver.fetchRow(session, dbResult);
+                                trace.addPhaseTime(DBCTracePhase.RECEIVE, System.nanoTime() - receiveStartTime);
+                            }
                             rowCount++;
                             if (rowCount % 100 == 0) {
                                 monitor.subTask(rowCount + ModelMessages.model_jdbc__rows_fetched);
@@ -210,6 +220,9 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
                         }
                         statistics.setFetchTime(System.currentTimeMillis() - startTime);
                         statistics.setRowsFetched(rowCount);
+                        if (dbResult instanceof JDBCResultSetImpl) {
+                            ((JDBCResultSetImpl) dbResult).collectFetchStatistics(statistics);
+                        }
                     } finally {
                         // First - close cursor
                         try {
@@ -402,7 +415,8 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
 
         DBSAttributeBase[] attributes = ArrayUtils.concatArrays(updateAttributes, keyAttributes);
 
-        return new ExecuteBatchImpl(attributes, keysReceiver, false) {
+        // Update query depends only on key nulls so statement may be reused (unless we need to read keys after each row)
+        return new ExecuteBatchImpl(attributes, keysReceiver, keysReceiver == null) {
             @NotNull
             @Override
             protected DBCStatement prepareStatement(@NotNull DBCSession session, Object[] attributeValues) throws DBCException {
@@ -471,7 +485,7 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     {
         readRequiredMeta(session.getProgressMonitor());
 
-        return new ExecuteBatchImpl(keyAttributes, null, false) {
+        return new ExecuteBatchImpl(keyAttributes, null, true) {
             @NotNull
             @Override
             protected DBCStatement prepareStatement(@NotNull DBCSession session, Object[] attributeValues) throws DBCException {
@@ -63,6 +63,10 @@ public class SQLQueryTransformerCount implements SQLQueryTransformer {
     }
 
     private SQLQuery tryInjectCount(SQLDataSource dataSource, SQLQuery query) throws DBException {
+        if (query.getType() != SQLQueryType.SELECT) {
+            // Do not parse queries which can't be modified anyway
+            throw new DBException("Query [" + query.getText() + "] can't be modified");
+        }
         try {
             Statement statement = CCJSqlParserUtil.parse(query.getText());
             if (statement instanceof Select && ((Select) statement).getSelectBody() instanceof PlainSelect) {
@@ -17,10 +17,13 @@
 package org.jkiss.dbeaver.model.navigator;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
@@ -49,6 +52,12 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
 
     private volatile boolean locked;
     protected volatile DBNDatabaseNode[] childNodes;
+    // Children objects which were read but have no nodes yet. Their nodes go after childNodes
+    private List<DBSObject> lazyChildren;
+    private DBXTreeItem lazyChildrenMeta;
+    // Order of children objects. Applied to the whole list before it is split into created nodes and lazy children
+    private volatile Comparator<DBSObject> lazyChildrenOrder;
+    private final Object childrenLoadLock = new Object();
     private boolean filtered;
 
     protected DBNDatabaseNode(DBNNode parentNode)
@@ -197,24 +206,89 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
     }
 
     @Override
-    public synchronized DBNDatabaseNode[] getChildren(DBRProgressMonitor monitor)
+    public DBNDatabaseNode[] getChildren(DBRProgressMonitor monitor)
         throws DBException
     {
-        if (childNodes == null && hasChildren(false)) {
-            if (this.initializeNode(monitor, null)) {
+        readChildren(monitor, -1);
+        if (getLazyChildrenCount() > 0) {
+            materializeChildren(Integer.MAX_VALUE);
+        }
+        return childNodes;
+    }
+
+    /**
+     * Reads children but creates nodes only for the first {@code maxNodes} of them.
+     * Other children are kept as plain objects until {@link #materializeChildren(int)}
+     * or {@link #getChildren(DBRProgressMonitor)} is called.
+     * @param order if not null then all children are sorted with it before the first page is taken,
+     *              so pages follow each other in this order
+     */
+    public DBNDatabaseNode[] getChildren(DBRProgressMonitor monitor, int maxNodes, @Nullable Comparator<DBSObject> order)
+        throws DBException
+    {
+        this.lazyChildrenOrder = order;
+        readChildren(monitor, maxNodes);
+        return childNodes;
+    }
+
+    private void readChildren(DBRProgressMonitor monitor, int maxNodes)
+        throws DBException
+    {
+        if (childNodes != null || !hasChildren(false)) {
+            return;
+        }
+        // Do not lock the node itself: reading may take a long time
+        synchronized (childrenLoadLock) {
+            if (childNodes == null && this.initializeNode(monitor, null)) {
                 final List<DBNDatabaseNode> tmpList = new ArrayList<>();
-                loadChildren(monitor, getMeta(), null, tmpList, this, true);
+                final List<DBSObject> lazyList = maxNodes < 0 ? null : new ArrayList<>();
+                loadChildren(monitor, getMeta(), null, tmpList, lazyList, maxNodes, this, true);
                 if (!monitor.isCanceled()) {
-                    if (tmpList.isEmpty()) {
-                        this.childNodes = EMPTY_NODES;
-                    } else {
-                        this.childNodes = tmpList.toArray(new DBNDatabaseNode[tmpList.size()]);
+                    synchronized (this) {
+                        this.lazyChildren = CommonUtils.isEmpty(lazyList) ? null : lazyList;
+                        if (tmpList.isEmpty()) {
+                            this.childNodes = EMPTY_NODES;
+                        } else {
+                            this.childNodes = tmpList.toArray(new DBNDatabaseNode[tmpList.size()]);
+                        }
                     }
                     this.afterChildRead();
                 }
             }
         }
-        return childNodes;
+    }
+
+    /**
+     * Number of children which were read but have no nodes yet
+     */
+    public synchronized int getLazyChildrenCount()
+    {
+        return lazyChildren == null ? 0 : lazyChildren.size();
+    }
+
+    /**
+     * Creates nodes for the next {@code count} lazy children and appends them to the children list.
+     * @return new nodes
+     */
+    public DBNDatabaseNode[] materializeChildren(int count)
+    {
+        DBNDatabaseNode[] newNodes;
+        synchronized (this) {
+            if (lazyChildren == null || childNodes == null) {
+                return EMPTY_NODES;
+            }
+            final List<DBSObject> page = lazyChildren.subList(0, Math.min(count, lazyChildren.size()));
+            newNodes = new DBNDatabaseNode[page.size()];
+            for (int i = 0; i < newNodes.length; i++) {
+                newNodes[i] = new DBNDatabaseItem(this, lazyChildrenMeta, page.get(i), false);
+            }
+            page.clear();
+            if (lazyChildren.isEmpty()) {
+                lazyChildren = null;
+            }
+            childNodes = ArrayUtils.concatArrays(childNodes, newNodes);
+        }
+        return newNodes;
     }
 
     protected void afterChildRead()
@@ -227,7 +301,7 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         return childNodes;
     }
 
-    boolean hasChildItem(DBSObject object)
+    synchronized boolean hasChildItem(DBSObject object)
     {
         if (childNodes != null) {
             for (DBNDatabaseNode child : childNodes) {
@@ -236,6 +310,13 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
                 }
             }
         }
+        if (lazyChildren != null) {
+            for (DBSObject child : lazyChildren) {
+                if (child == object) {
+                    return true;
+                }
+            }
+        }
         return false;
     }
 
@@ -267,6 +348,14 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
                     }
                 }
             }
+            if (childNode == null && lazyChildren != null) {
+                for (Iterator<DBSObject> iter = lazyChildren.iterator(); iter.hasNext(); ) {
+                    if (iter.next() == object) {
+                        iter.remove();
+                        break;
+                    }
+                }
+            }
         }
         if (childNode != null) {
             childNode.dispose(true);
@@ -378,6 +467,7 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         synchronized (this) {
             childrenCopy = childNodes == null ? null : Arrays.copyOf(childNodes, childNodes.length);
             childNodes = null;
+            lazyChildren = null;
         }
         if (childrenCopy != null) {
             for (DBNNode child : childrenCopy) {
@@ -391,6 +481,8 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         final DBXTreeNode meta,
         final DBNDatabaseNode[] oldList,
         final List<DBNDatabaseNode> toList,
+        @Nullable final List<DBSObject> lazyList,
+        int maxNodes,
         Object source,
         boolean reflect)
         throws DBException
@@ -404,6 +496,9 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         if (CommonUtils.isEmpty(childMetas)) {
             return;
         }
+        // Nodes creation may be deferred only if all children have the same type
+        final List<DBSObject> itemsLazyList = childMetas.size() == 1 ? lazyList : null;
+        final List<DBNDatabaseNode> foldersToReload = new ArrayList<>();
         monitor.beginTask(ModelMessages.model_navigator_load_items_, childMetas.size());
 
         for (DBXTreeNode child : childMetas) {
@@ -413,11 +508,11 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
             monitor.subTask(ModelMessages.model_navigator_load_ + " " + child.getChildrenType(getObject().getDataSource()));
             if (child instanceof DBXTreeItem) {
                 final DBXTreeItem item = (DBXTreeItem) child;
-                boolean isLoaded = loadTreeItems(monitor, item, oldList, toList, source, reflect);
+                boolean isLoaded = loadTreeItems(monitor, item, oldList, toList, itemsLazyList, maxNodes, source, reflect);
                 if (!isLoaded && item.isOptional() && item.getRecursiveLink() == null) {
                     // This may occur only if no child nodes was read
                     // Then we try to go on next DBX level
-                    loadChildren(monitor, item, oldList, toList, source, reflect);
+                    loadChildren(monitor, item, oldList, toList, itemsLazyList, maxNodes, source, reflect);
                 }
             } else if (child instanceof DBXTreeFolder) {
                 if (oldList == null) {
@@ -427,7 +522,7 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
                 } else {
                     for (DBNDatabaseNode oldFolder : oldList) {
                         if (oldFolder.getMeta() == child) {
-                            oldFolder.reloadChildren(monitor, source, reflect);
+                            foldersToReload.add(oldFolder);
                             toList.add(oldFolder);
                             break;
                         }
@@ -441,7 +536,7 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
                 } else {
                     for (DBNDatabaseNode oldObject : oldList) {
                         if (oldObject.getMeta() == child) {
-                            oldObject.reloadChildren(monitor, source, reflect);
+                            foldersToReload.add(oldObject);
                             toList.add(oldObject);
                             break;
                         }
@@ -452,6 +547,7 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
             }
             monitor.worked(1);
         }
+        reloadFolders(monitor, foldersToReload, source, reflect);
         monitor.done();
 
         if (reflect && filtered) {
@@ -460,12 +556,90 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
     }
 
 
+    /**
+     * Reloads already read folders.
+     * Folders are reloaded serially unless data source preferences say that different folders are read from
+     * different object caches (e.g. tables and views often share the same cache). Then each folder is reloaded
+     * in its own job with its own progress.
+     */
+    private void reloadFolders(DBRProgressMonitor monitor, List<DBNDatabaseNode> folders, Object source, boolean reflect)
+        throws DBException
+    {
+        // Folders which weren't expanded have nothing to reload
+        folders.removeIf(folder -> folder.getChildNodes() == null);
+        if (folders.size() < 2 || !getDataSourceContainer().getPreferenceStore().getBoolean(ModelPreferences.NAVIGATOR_PARALLEL_FOLDERS_LOAD)) {
+            for (DBNDatabaseNode folder : folders) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                folder.reloadChildren(monitor, source, reflect);
+            }
+            return;
+        }
+        final List<FolderReloadJob> jobs = new ArrayList<>(folders.size());
+        for (DBNDatabaseNode folder : folders) {
+            FolderReloadJob job = new FolderReloadJob(folder, source, reflect);
+            job.schedule();
+            jobs.add(job);
+        }
+        try {
+            for (FolderReloadJob job : jobs) {
+                monitor.subTask(job.getName());
+                job.join(0, monitor.getNestedMonitor());
+            }
+        } catch (OperationCanceledException | InterruptedException e) {
+            for (FolderReloadJob job : jobs) {
+                job.cancel();
+            }
+            for (FolderReloadJob job : jobs) {
+                try {
+                    job.join();
+                } catch (InterruptedException e1) {
+                    break;
+                }
+            }
+        }
+        for (FolderReloadJob job : jobs) {
+            if (job.error != null) {
+                throw job.error;
+            }
+        }
+    }
+
+    private static class FolderReloadJob extends AbstractJob {
+        private final DBNDatabaseNode folder;
+        private final Object source;
+        private final boolean reflect;
+        private DBException error;
+
+        FolderReloadJob(DBNDatabaseNode folder, Object source, boolean reflect)
+        {
+            super(ModelMessages.model_navigator_load_ + " " + folder.getNodeName());
+            this.folder = folder;
+            this.source = source;
+            this.reflect = reflect;
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor)
+        {
+            try {
+                folder.reloadChildren(monitor, source, reflect);
+            } catch (DBException e) {
+                error = e;
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
     /**
      * Extract items using reflect api
      * @param monitor progress monitor
      * @param meta items meta info
      * @param oldList previous child items
      * @param toList list ot add new items   @return true on success
+     * @param lazyList list for objects which nodes creation is deferred (if null then all nodes are created)
+     * @param maxNodes maximum number of new nodes when deferring is on
      * @param source
      *@param reflect  @return true on success
      * @throws DBException on any DB error
@@ -475,6 +649,8 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         DBXTreeItem meta,
         final DBNDatabaseNode[] oldList,
         final List<DBNDatabaseNode> toList,
+        @Nullable final List<DBSObject> lazyList,
+        int maxNodes,
         Object source, boolean reflect)
         throws DBException
     {
@@ -503,16 +679,41 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         final DBSObjectFilter filter = getNodeFilter(meta, false);
         this.filtered = filter != null && !filter.isNotApplicable();
 
-        final Collection<?> itemList = (Collection<?>) propertyValue;
+        Collection<?> itemList = (Collection<?>) propertyValue;
         if (itemList.isEmpty()) {
             return false;
         }
+        final Comparator<DBSObject> order = lazyChildrenOrder;
+        if (lazyList != null && order != null && itemList.size() > maxNodes) {
+            // Sort all objects before splitting them into pages. Sorting of each page wouldn't give the right order
+            List<DBSObject> sortedList = new ArrayList<>(itemList.size());
+            for (Object childItem : itemList) {
+                if (childItem instanceof DBSObject) {
+                    sortedList.add((DBSObject) childItem);
+                }
+            }
+            sortedList.sort(order);
+            itemList = sortedList;
+        }
         if (this.isDisposed()) {
             // Property reading can take really long time so this node can be disposed at this moment -
             // check it
             return false;
         }
 
+        // Match old and new objects by keys. Lists may be huge so we can't compare each with each
+        Map<String, DBNDatabaseNode> oldChildren = null;
+        Set<DBNDatabaseNode> reusedChildren = null;
+        if (oldList != null) {
+            oldChildren = new HashMap<>();
+            for (DBNDatabaseNode oldChild : oldList) {
+                if (oldChild.getMeta() == meta && oldChild.getObject() != null) {
+                    oldChildren.putIfAbsent(getObjectKey(oldChild.getObject()), oldChild);
+                }
+            }
+            reusedChildren = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+
         final DBPDataSourceContainer dataSourceContainer = getDataSourceContainer();
         final boolean showSystem = dataSourceContainer == null || dataSourceContainer.isShowSystemObjects();
         for (Object childItem : itemList) {
@@ -537,48 +738,51 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
             }
             DBSObject object = (DBSObject)childItem;
             boolean added = false;
-            if (oldList != null) {
+            if (oldChildren != null) {
                 // Check that new object is a replacement of old one
-                for (DBNDatabaseNode oldChild : oldList) {
-                    if (oldChild.getMeta() == meta && equalObjects(oldChild.getObject(), object)) {
-                        oldChild.reloadObject(monitor, object);
-
-                        if (oldChild.hasChildren(false) && !oldChild.needsInitialization()) {
-                            // Refresh children recursive
-                            oldChild.reloadChildren(monitor, source, reflect);
-                        }
-                        if (reflect) {
-                            getModel().fireNodeUpdate(source, oldChild, DBNEvent.NodeChange.REFRESH);
-                        }
-
-                        toList.add(oldChild);
-                        added = true;
-                        break;
+                final String objectKey = getObjectKey(object);
+                DBNDatabaseNode oldChild = oldChildren.get(objectKey);
+                if (oldChild != null && equalObjects(oldChild.getObject(), object)) {
+                    // Each old node replaces only one object
+                    oldChildren.remove(objectKey);
+                    reusedChildren.add(oldChild);
+                    oldChild.reloadObject(monitor, object);
+
+                    if (oldChild.hasChildren(false) && !oldChild.needsInitialization()) {
+                        // Refresh children recursive
+                        oldChild.reloadChildren(monitor, source, reflect);
+                    }
+                    if (reflect) {
+                        getModel().fireNodeUpdate(source, oldChild, DBNEvent.NodeChange.REFRESH);
                     }
+
+                    toList.add(oldChild);
+                    added = true;
                 }
             }
             if (!added) {
-                // Simply add new item
-                DBNDatabaseItem treeItem = new DBNDatabaseItem(this, meta, object, oldList != null);
-                toList.add(treeItem);
+                if (lazyList != null && toList.size() >= maxNodes) {
+                    // Node will be created when somebody needs it
+                    lazyList.add(object);
+                } else {
+                    // Simply add new item
+                    DBNDatabaseItem treeItem = new DBNDatabaseItem(this, meta, object, oldList != null);
+                    toList.add(treeItem);
+                }
             }
         }
+        if (lazyList != null && !lazyList.isEmpty()) {
+            this.lazyChildrenMeta = meta;
+        }
 
         if (oldList != null) {
-            // Now remove all non-existing items
+            // Now remove all old items which weren't reused (including old items with duplicate keys)
             for (DBNDatabaseNode oldChild : oldList) {
                 if (oldChild.getMeta() != meta) {
                     // Wrong type
                     continue;
                 }
-                boolean found = false;
-                for (Object childItem : itemList) {
-                    if (childItem instanceof DBSObject && equalObjects(oldChild.getObject(), (DBSObject) childItem)) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
+                if (!reusedChildren.contains(oldChild)) {
                     // Remove old child object
                     oldChild.dispose(true);
                 }
@@ -693,20 +897,29 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         throws DBException
     {
         DBNDatabaseNode[] oldChildren;
+        int maxNodes;
         synchronized (this) {
             if (childNodes == null) {
                 // Nothing to reload
                 return;
             }
             oldChildren = Arrays.copyOf(childNodes, childNodes.length);
+            // Keep lazy children lazy
+            maxNodes = lazyChildren == null ? -1 : childNodes.length;
         }
         List<DBNDatabaseNode> newChildren = new ArrayList<>();
-        loadChildren(monitor, getMeta(), oldChildren, newChildren, source, reflect);
+        List<DBSObject> lazyList = maxNodes < 0 ? null : new ArrayList<>();
+        loadChildren(monitor, getMeta(), oldChildren, newChildren, lazyList, maxNodes, source, reflect);
         synchronized (this) {
             childNodes = newChildren.toArray(new DBNDatabaseNode[newChildren.size()]);
+            lazyChildren = CommonUtils.isEmpty(lazyList) ? null : lazyList;
         }
     }
 
+    private static String getObjectKey(DBSObject object) {
+        return object.getClass().getName() + ":" + DBUtils.getObjectUniqueName(object);
+    }
+
     private static boolean equalObjects(DBSObject object1, DBSObject object2) {
         if (object1 == object2) {
             return true;
@@ -40,9 +40,9 @@ import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * DBNModel.
@@ -75,7 +75,8 @@ public class DBNModel implements IResourceChangeListener {
     private final List<INavigatorListener> listeners = new ArrayList<>();
     private transient INavigatorListener[] listenersCopy = null;
     private final transient List<DBNEvent> eventCache = new ArrayList<>();
-    private final Map<DBSObject, Object> nodeMap = new HashMap<>();
+    // Object -> node or immutable list of nodes. Lookups are lock-free, updates are atomic per object
+    private final Map<DBSObject, Object> nodeMap = new ConcurrentHashMap<>();
 
     public DBNModel(DBPPlatform platform) {
         this.platform = platform;
@@ -106,9 +107,7 @@ public class DBNModel implements IResourceChangeListener {
     {
         platform.getWorkspace().getEclipseWorkspace().removeResourceChangeListener(this);
         this.root.dispose(false);
-        synchronized (nodeMap) {
-            this.nodeMap.clear();
-        }
+        this.nodeMap.clear();
         synchronized (this.listeners) {
             if (!listeners.isEmpty()) {
                 for (INavigatorListener listener : listeners) {
@@ -144,10 +143,7 @@ public class DBNModel implements IResourceChangeListener {
         }
         object = DBUtils.getPublicObjectContainer(object);
 
-        Object obj;
-        synchronized (nodeMap) {
-            obj = nodeMap.get(object);
-        }
+        Object obj = nodeMap.get(object);
         if (obj == null) {
             return null;
         } else if (obj instanceof DBNDatabaseNode) {
@@ -431,24 +427,7 @@ public class DBNModel implements IResourceChangeListener {
 
     void addNode(DBNDatabaseNode node, boolean reflect)
     {
-        synchronized (nodeMap) {
-            Object obj = nodeMap.get(node.getObject());
-            if (obj == null) {
-                // New node
-                nodeMap.put(node.getObject(), node);
-            } else if (obj instanceof DBNNode) {
-                // Second node - make a list
-                List<DBNNode> nodeList = new ArrayList<>(2);
-                nodeList.add((DBNNode)obj);
-                nodeList.add(node);
-                nodeMap.put(node.getObject(), nodeList);
-            } else if (obj instanceof List) {
-                // Multiple nodes
-                @SuppressWarnings("unchecked")
-                List<DBNNode> nodeList = (List<DBNNode>) obj;
-                nodeList.add(node);
-            }
-        }
+        nodeMap.merge(node.getObject(), node, DBNModel::mergeNodes);
         if (reflect) {
             this.fireNodeEvent(new DBNEvent(this, DBNEvent.Action.ADD, DBNEvent.NodeChange.LOAD, node));
         }
@@ -456,30 +435,30 @@ public class DBNModel implements IResourceChangeListener {
 
     void removeNode(DBNDatabaseNode node, boolean reflect)
     {
-        boolean badNode = false;
-        synchronized (nodeMap) {
-            Object obj = nodeMap.get(node.getObject());
-            if (obj == null) {
-                // No found
-                badNode = true;
-            } else if (obj instanceof DBNNode) {
+        final boolean[] found = new boolean[1];
+        nodeMap.computeIfPresent(node.getObject(), (object, obj) -> {
+            if (obj == node) {
                 // Just remove it
-                if (nodeMap.remove(node.getObject()) != node) {
-                    badNode = true;
-                }
+                found[0] = true;
+                return null;
             } else if (obj instanceof List) {
-                // Multiple nodes
+                // Multiple nodes. Lists are never modified in place so readers may iterate them without locks
                 @SuppressWarnings("unchecked")
                 List<DBNNode> nodeList = (List<DBNNode>) obj;
-                if (!nodeList.remove(node)) {
-                    badNode = true;
+                if (!nodeList.contains(node)) {
+                    return obj;
                 }
-                if (nodeList.isEmpty()) {
-                    nodeMap.remove(node.getObject());
+                found[0] = true;
+                if (nodeList.size() == 1) {
+                    return null;
                 }
+                List<DBNNode> newList = new ArrayList<>(nodeList);
+                newList.remove(node);
+                return newList.size() == 1 ? newList.get(0) : newList;
             }
-        }
-        if (badNode) {
+            return obj;
+        });
+        if (!found[0]) {
             log.warn("Remove unregistered meta node object " + node.getNodeName());
         } else {
             if (reflect) {
@@ -488,6 +467,24 @@ public class DBNModel implements IResourceChangeListener {
         }
     }
 
+    private static Object mergeNodes(Object oldValue, Object newNode)
+    {
+        List<DBNNode> nodeList;
+        if (oldValue instanceof List) {
+            // Multiple nodes
+            @SuppressWarnings("unchecked")
+            List<DBNNode> oldList = (List<DBNNode>) oldValue;
+            nodeList = new ArrayList<>(oldList.size() + 1);
+            nodeList.addAll(oldList);
+        } else {
+            // Second node - make a list
+            nodeList = new ArrayList<>(2);
+            nodeList.add((DBNNode) oldValue);
+        }
+        nodeList.add((DBNNode) newNode);
+        return nodeList;
+    }
+
     public void addListener(INavigatorListener listener)
     {
         synchronized (this.listeners) {
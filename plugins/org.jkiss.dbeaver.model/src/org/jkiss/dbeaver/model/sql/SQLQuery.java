@@ -40,6 +40,8 @@ import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
 import org.jkiss.dbeaver.model.exec.DBCEntityMetaData;
+import org.jkiss.dbeaver.model.sql.parser.SQLParserCache;
+import org.jkiss.dbeaver.model.sql.parser.SQLQueryClassifier;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.*;
@@ -71,7 +73,11 @@ public class SQLQuery implements SQLScriptElement {
     private boolean parsed = false;
     @NotNull
     private SQLQueryType type;
+    // Shared statement from parser cache. Read-only.
+    private Statement parsedStatement;
+    // Own statement copy. Callers may modify it.
     private Statement statement;
+    private boolean statementParsed = false;
     private SingleTableMeta singleTableMeta;
     private List<SQLSelectItem> selectItems;
     private String queryTitle;
@@ -125,11 +131,22 @@ public class SQLQuery implements SQLScriptElement {
         parsed = true;
         try {
             if (CommonUtils.isEmpty(text)) {
-                this.statement = null;
+                this.parsedStatement = null;
                 this.parseError = new DBException("Empty query");
                 return;
             }
-            statement = CCJSqlParserUtil.parse(text);
+            // DML and DDL statements are classified by leading tokens.
+            // Huge scripts consist mostly of such statements so we don't parse them at all
+            SQLQueryClassifier classifier = SQLQueryClassifier.classify(text);
+            if (classifier != null) {
+                type = classifier.getType();
+                String[] tableName = classifier.getTableName();
+                if (tableName != null) {
+                    fillSingleSource(tableName[0], tableName[1], tableName[2]);
+                }
+                return;
+            }
+            Statement statement = parsedStatement = SQLParserCache.parseStatement(text);
             if (statement instanceof Select) {
                 type = SQLQueryType.SELECT;
                 // Detect single source table
@@ -190,9 +207,13 @@ public class SQLQuery implements SQLScriptElement {
 
     private void fillSingleSource(Table fromItem) {
         Database database = fromItem.getDatabase();
-        String catalogName = database == null ? null : database.getDatabaseName();
-        String schemaName = fromItem.getSchemaName();
-        String tableName = fromItem.getName();
+        fillSingleSource(
+            database == null ? null : database.getDatabaseName(),
+            fromItem.getSchemaName(),
+            fromItem.getName());
+    }
+
+    private void fillSingleSource(String catalogName, String schemaName, String tableName) {
         singleTableMeta = new SingleTableMeta(
             unquoteIdentifier(catalogName),
             unquoteIdentifier(schemaName),
@@ -212,8 +233,8 @@ public class SQLQuery implements SQLScriptElement {
      */
     public boolean isPlainSelect() {
         parseQuery();
-        if (statement instanceof Select && ((Select) statement).getSelectBody() instanceof PlainSelect) {
-            PlainSelect selectBody = (PlainSelect) ((Select) statement).getSelectBody();
+        if (parsedStatement instanceof Select && ((Select) parsedStatement).getSelectBody() instanceof PlainSelect) {
+            PlainSelect selectBody = (PlainSelect) ((Select) parsedStatement).getSelectBody();
             return selectBody.getFromItem() != null &&
                 CommonUtils.isEmpty(selectBody.getIntoTables()) &&
                 selectBody.getLimit() == null &&
@@ -258,9 +279,21 @@ public class SQLQuery implements SQLScriptElement {
         return queryTitle;
     }
 
+    /**
+     * Returns parsed statement. Each query has its own statement instance so caller may modify it.
+     */
     @Nullable
     public Statement getStatement() {
-        parseQuery();
+        if (!statementParsed) {
+            statementParsed = true;
+            if (!CommonUtils.isEmpty(text)) {
+                try {
+                    statement = CCJSqlParserUtil.parse(text);
+                } catch (Throwable e) {
+                    parseError = e;
+                }
+            }
+        }
         return statement;
     }
 
@@ -349,9 +382,18 @@ public class SQLQuery implements SQLScriptElement {
 
     public boolean isDeleteUpdateDangerous() {
         parseQuery();
-        if (statement == null) {
+        if (type != SQLQueryType.DELETE && type != SQLQueryType.UPDATE) {
             return false;
         }
+        Statement statement = parsedStatement;
+        if (statement == null) {
+            // Statement was classified without parse
+            try {
+                statement = parsedStatement = SQLParserCache.parseStatement(text);
+            } catch (Throwable e) {
+                return false;
+            }
+        }
         if (statement instanceof Delete) {
             if (((Delete) statement).getWhere() == null) {
                 return true;
@@ -0,0 +1,122 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.model.sql.format.tokenized;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Token list used by formatter.
+ * Formatter inserts and removes tokens next to the current position while it walks over the list.
+ * ArrayList shifts the whole tail on each such change which makes formatting of big scripts quadratic.
+ * This list keeps a gap at the last modified position so local changes cost O(1).
+ */
+class FormatterTokenList extends AbstractList<FormatterToken> implements RandomAccess {
+
+    private static final int MIN_GAP_SIZE = 16;
+
+    private FormatterToken[] data;
+    private int gapStart;
+    private int gapEnd;
+
+    FormatterTokenList(Collection<FormatterToken> tokens) {
+        data = tokens.toArray(new FormatterToken[tokens.size() + MIN_GAP_SIZE]);
+        gapStart = tokens.size();
+        gapEnd = data.length;
+    }
+
+    @Override
+    public int size() {
+        return data.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public FormatterToken get(int index) {
+        return data[toArrayIndex(index)];
+    }
+
+    @Override
+    public FormatterToken set(int index, FormatterToken element) {
+        int pos = toArrayIndex(index);
+        FormatterToken oldValue = data[pos];
+        data[pos] = element;
+        return oldValue;
+    }
+
+    @Override
+    public void add(int index, FormatterToken element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (gapStart == gapEnd) {
+            growGap();
+        }
+        moveGap(index);
+        data[gapStart++] = element;
+        modCount++;
+    }
+
+    @Override
+    public FormatterToken remove(int index) {
+        checkIndex(index);
+        moveGap(index);
+        FormatterToken oldValue = data[gapEnd];
+        data[gapEnd++] = null;
+        modCount++;
+        return oldValue;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    private int toArrayIndex(int index) {
+        checkIndex(index);
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(data, index, data, gapEnd - count, count);
+            Arrays.fill(data, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(data, gapEnd, data, gapStart, count);
+            Arrays.fill(data, Math.max(gapStart + count, gapEnd), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    private void growGap() {
+        int tailSize = data.length - gapEnd;
+        FormatterToken[] newData = new FormatterToken[Math.max(data.length * 3 / 2, data.length + MIN_GAP_SIZE)];
+        System.arraycopy(data, 0, newData, 0, gapStart);
+        System.arraycopy(data, gapEnd, newData, newData.length - tailSize, tailSize);
+        gapEnd = newData.length - tailSize;
+        data = newData;
+    }
+
+}
@@ -294,17 +294,20 @@ class IndentFormatter {
         if (functionBracket.contains(Boolean.TRUE))
             return 0;
         try {
-            String s = GeneralUtils.getDefaultLineSeparator();
+            boolean afterLineComment = false;
             if (argIndex > 0) {
                 final FormatterToken prevToken = argList.get(argIndex - 1);
-                if (prevToken.getType() == TokenType.COMMENT &&
-                        SQLUtils.isCommentLine(formatterCfg.getSyntaxManager().getDialect(), prevToken.getString())) {
-                    s = ""; //$NON-NLS-1$
-                }
+                afterLineComment = prevToken.getType() == TokenType.COMMENT &&
+                        SQLUtils.isCommentLine(formatterCfg.getSyntaxManager().getDialect(), prevToken.getString());
+            }
+            StringBuilder indentBuilder = new StringBuilder();
+            if (!afterLineComment) {
+                indentBuilder.append(GeneralUtils.getDefaultLineSeparator());
             }
             for (int index = 0; index < argIndent; index++) {
-                s += formatterCfg.getIndentString();
+                indentBuilder.append(formatterCfg.getIndentString());
             }
+            String s = indentBuilder.toString();
 
             FormatterToken token = argList.get(argIndex);
             if (token.getType() == TokenType.SPACE) {
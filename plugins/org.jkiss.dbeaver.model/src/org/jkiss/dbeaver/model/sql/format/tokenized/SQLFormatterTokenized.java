@@ -59,7 +59,7 @@ public class SQLFormatterTokenized implements SQLFormatter {
             isSqlEndsWithNewLine = true;
         }
 
-        List<FormatterToken> list = fParser.parse(argSql);
+        List<FormatterToken> list = new FormatterTokenList(fParser.parse(argSql));
         list = format(list);
 
         StringBuilder after = new StringBuilder(argSql.length() + 20);
@@ -103,45 +103,52 @@ public class SQLFormatterTokenized implements SQLFormatter {
 
         trimSpacesBetweenBraces(argList);
 
-        insertSpaces(argList);
-
-        return argList;
+        return insertSpaces(argList);
     }
 
-    private void insertSpaces(List<FormatterToken> argList) {
-        FormatterToken token;
-        for (int index = 1; index < argList.size(); index++) {
-            FormatterToken prev = argList.get(index - 1);
-            token = argList.get(index);
+    private List<FormatterToken> insertSpaces(List<FormatterToken> argList) {
+        // Copy tokens into the new list instead of inserting spaces in place
+        List<FormatterToken> result = new ArrayList<>(argList.size() + argList.size() / 2);
+        FormatterToken prev = null;
+        for (FormatterToken token : argList) {
+            if (prev != null && needSpaceBetween(prev, token)) {
+                result.add(new FormatterToken(TokenType.SPACE, " ")); //$NON-NLS-1$
+            }
+            result.add(token);
+            prev = token;
+        }
+        return result;
+    }
 
-            if (prev.getType() != TokenType.SPACE &&
-                    token.getType() != TokenType.SPACE &&
-                    !prev.getString().equals("(") &&
-                    !token.getString().startsWith("(") &&
-                    !prev.getString().equals(")") &&
-                    !token.getString().equals(")")) {
-                if (token.getString().equals(",") || statementDelimiters.contains(token.getString())) { //$NON-NLS-1$
-                    continue;
-                }
-                if (formatterCfg.isFunction(prev.getString()) && token.getString().equals("(")) { //$NON-NLS-1$
-                    continue;
-                }
-                if (token.getType() == TokenType.VALUE && prev.getType() == TokenType.NAME) {
-                    // Do not add space between name and value [JDBC:MSSQL]
-                    continue;
-                }
-                if (token.getType() == TokenType.SYMBOL && isEmbeddedToken(token) ||
-                        prev.getType() == TokenType.SYMBOL && isEmbeddedToken(prev)) {
-                    // Do not insert spaces around colons
-                    continue;
-                }
-                if (token.getType() == TokenType.SYMBOL && prev.getType() == TokenType.SYMBOL) {
-                    // Do not add space between symbols
-                    continue;
-                }
-                argList.add(index, new FormatterToken(TokenType.SPACE, " ")); //$NON-NLS-1$
+    private boolean needSpaceBetween(FormatterToken prev, FormatterToken token) {
+        if (prev.getType() != TokenType.SPACE &&
+                token.getType() != TokenType.SPACE &&
+                !prev.getString().equals("(") &&
+                !token.getString().startsWith("(") &&
+                !prev.getString().equals(")") &&
+                !token.getString().equals(")")) {
+            if (token.getString().equals(",") || statementDelimiters.contains(token.getString())) { //$NON-NLS-1$
+                return false;
+            }
+            if (formatterCfg.isFunction(prev.getString()) && token.getString().equals("(")) { //$NON-NLS-1$
+                return false;
+            }
+            if (token.getType() == TokenType.VALUE && prev.getType() == TokenType.NAME) {
+                // Do not add space between name and value [JDBC:MSSQL]
+                return false;
             }
+            if (token.getType() == TokenType.SYMBOL && isEmbeddedToken(token) ||
+                    prev.getType() == TokenType.SYMBOL && isEmbeddedToken(prev)) {
+                // Do not insert spaces around colons
+                return false;
+            }
+            if (token.getType() == TokenType.SYMBOL && prev.getType() == TokenType.SYMBOL) {
+                // Do not add space between symbols
+                return false;
+            }
+            return true;
         }
+        return false;
     }
 
     private void trimSpacesBetweenBraces(List<FormatterToken> argList) {
@@ -149,7 +149,7 @@ class SQLTokensParser {
             fPos++;
             String commentString = null;
             for (String slc : singleLineComments) {
-                if (fBefore.length() >= start_pos + slc.length() && slc.equals(fBefore.substring(start_pos, start_pos + slc.length()))) {
+                if (fBefore.startsWith(slc, start_pos)) {
                     commentString = slc;
                     break;
                 }
@@ -0,0 +1,93 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.parser;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import org.jkiss.code.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of parsed SQL statements. Keys are normalized statement texts.
+ * Parse errors are cached as well.
+ *
+ * Cached statements are shared between all callers and MUST NOT be modified.
+ * Code which patches statement tree must parse its own copy with CCJSqlParserUtil.
+ */
+public class SQLParserCache {
+
+    private static final int MAX_CACHE_SIZE = 200;
+    private static final int MAX_CACHED_TEXT_LENGTH = 100000;
+
+    private static class ParseResult {
+        final Statement statement;
+        final JSQLParserException error;
+
+        ParseResult(Statement statement, JSQLParserException error) {
+            this.statement = statement;
+            this.error = error;
+        }
+    }
+
+    private static final Map<String, ParseResult> cache = new LinkedHashMap<String, ParseResult>(MAX_CACHE_SIZE, .75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParseResult> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Parses statement or takes it from cache.
+     * @param text statement text
+     * @return shared read-only statement
+     */
+    @NotNull
+    public static Statement parseStatement(@NotNull String text) throws JSQLParserException {
+        if (text.length() > MAX_CACHED_TEXT_LENGTH) {
+            return CCJSqlParserUtil.parse(text);
+        }
+        final String key = SQLQueryClassifier.normalizeText(text);
+        ParseResult result;
+        synchronized (cache) {
+            result = cache.get(key);
+        }
+        if (result == null) {
+            try {
+                result = new ParseResult(CCJSqlParserUtil.parse(text), null);
+            } catch (JSQLParserException e) {
+                result = new ParseResult(null, e);
+            }
+            synchronized (cache) {
+                cache.put(key, result);
+            }
+        }
+        if (result.error != null) {
+            throw result.error;
+        }
+        return result.statement;
+    }
+
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+}
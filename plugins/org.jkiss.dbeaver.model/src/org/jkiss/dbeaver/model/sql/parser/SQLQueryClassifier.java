@@ -0,0 +1,301 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.parser;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.sql.SQLQueryType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Token-level SQL statement classifier.
+ * Detects type and target table of DML/DDL statements by their leading keywords, without building a syntax tree.
+ * Queries (SELECT, WITH, etc) and everything it can't recognize are left for the full parser.
+ */
+public class SQLQueryClassifier {
+
+    private static final int MAX_NAME_PARTS = 3;
+
+    @NotNull
+    private final SQLQueryType type;
+    @Nullable
+    private final String[] tableName;
+
+    private SQLQueryClassifier(@NotNull SQLQueryType type, @Nullable String[] tableName) {
+        this.type = type;
+        this.tableName = tableName;
+    }
+
+    @NotNull
+    public SQLQueryType getType() {
+        return type;
+    }
+
+    /**
+     * Target table name parts (catalog, schema, table) as they are written in query (possibly quoted).
+     * Catalog and schema may be null.
+     * @return name parts or null if statement has no single target table
+     */
+    @Nullable
+    public String[] getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Classifies statement.
+     * @param text statement text
+     * @return classifier or null if statement must be parsed by full parser
+     */
+    @Nullable
+    public static SQLQueryClassifier classify(@NotNull String text) {
+        Tokenizer tokenizer = new Tokenizer(text);
+        String keyword = tokenizer.nextKeyword();
+        if (keyword == null) {
+            return null;
+        }
+        switch (keyword) {
+            case "INSERT": {
+                String token = tokenizer.skipKeywords("LOW_PRIORITY", "DELAYED", "HIGH_PRIORITY", "IGNORE");
+                if ("ALL".equalsIgnoreCase(token) || "FIRST".equalsIgnoreCase(token)) {
+                    // Multi-table insert
+                    return new SQLQueryClassifier(SQLQueryType.INSERT, null);
+                }
+                if ("INTO".equalsIgnoreCase(token)) {
+                    token = tokenizer.nextToken();
+                }
+                return new SQLQueryClassifier(SQLQueryType.INSERT, tokenizer.readTableName(token));
+            }
+            case "UPDATE": {
+                String token = tokenizer.skipKeywords("LOW_PRIORITY", "IGNORE", "ONLY");
+                String[] tableName = tokenizer.readTableName(token);
+                if (tableName != null && isMultiTable(tokenizer)) {
+                    tableName = null;
+                }
+                return new SQLQueryClassifier(SQLQueryType.UPDATE, tableName);
+            }
+            case "DELETE": {
+                String token = tokenizer.skipKeywords("LOW_PRIORITY", "QUICK", "IGNORE");
+                String[] tableName = null;
+                if ("FROM".equalsIgnoreCase(token)) {
+                    token = tokenizer.skipKeywords("ONLY");
+                    tableName = tokenizer.readTableName(token);
+                    if (tableName != null && isMultiTable(tokenizer)) {
+                        tableName = null;
+                    }
+                }
+                return new SQLQueryClassifier(SQLQueryType.DELETE, tableName);
+            }
+            case "ALTER":
+            case "DROP":
+                return new SQLQueryClassifier(SQLQueryType.DDL, null);
+            case "CREATE": {
+                String token = tokenizer.skipKeywords("OR", "REPLACE", "GLOBAL", "LOCAL", "TEMPORARY", "TEMP", "UNIQUE");
+                if ("TABLE".equalsIgnoreCase(token) || "VIEW".equalsIgnoreCase(token) || "INDEX".equalsIgnoreCase(token)) {
+                    return new SQLQueryClassifier(SQLQueryType.DDL, null);
+                }
+                return null;
+            }
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isMultiTable(Tokenizer tokenizer) {
+        String token = tokenizer.nextToken();
+        return ",".equals(token);
+    }
+
+    /**
+     * Normalizes query text for use as cache key.
+     * Collapses whitespaces outside of string literals and quoted identifiers.
+     * Line feeds are preserved because they terminate line comments. Comments are kept as is.
+     * Text with backslashes is returned unchanged: some dialects escape quotes with backslash
+     * so literal bounds can't be found without dialect.
+     */
+    @NotNull
+    public static String normalizeText(@NotNull String text) {
+        if (text.indexOf('\\') != -1) {
+            return text;
+        }
+        final int length = text.length();
+        StringBuilder result = new StringBuilder(length);
+        char endQuote = 0;
+        char space = 0;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (endQuote != 0) {
+                if (c == endQuote) {
+                    endQuote = 0;
+                }
+                result.append(c);
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                if (space != '\n') {
+                    space = c == '\n' ? '\n' : ' ';
+                }
+                continue;
+            }
+            if (space != 0 && result.length() > 0) {
+                result.append(space);
+            }
+            space = 0;
+            if (c == '-' && i + 1 < length && text.charAt(i + 1) == '-') {
+                int end = text.indexOf('\n', i);
+                end = end == -1 ? length : end;
+                result.append(text, i, end);
+                i = end - 1;
+                continue;
+            }
+            if (c == '/' && i + 1 < length && text.charAt(i + 1) == '*') {
+                int end = text.indexOf("*/", i + 2);
+                end = end == -1 ? length : end + 2;
+                result.append(text, i, end);
+                i = end - 1;
+                continue;
+            }
+            if (c == '\'' || c == '"' || c == '`') {
+                endQuote = c;
+            } else if (c == '[') {
+                endQuote = ']';
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+    private static class Tokenizer {
+        private final String text;
+        private final int length;
+        private int pos;
+
+        Tokenizer(String text) {
+            this.text = text;
+            this.length = text.length();
+        }
+
+        /**
+         * Returns next token in upper case if it is a keyword (unquoted word).
+         */
+        @Nullable
+        String nextKeyword() {
+            String token = nextToken();
+            if (token == null || !Character.isLetter(token.charAt(0))) {
+                return null;
+            }
+            return token.toUpperCase();
+        }
+
+        @Nullable
+        String skipKeywords(String ... keywords) {
+            for (;;) {
+                String token = nextToken();
+                if (token == null) {
+                    return null;
+                }
+                boolean skip = false;
+                for (String keyword : keywords) {
+                    if (keyword.equalsIgnoreCase(token)) {
+                        skip = true;
+                        break;
+                    }
+                }
+                if (!skip) {
+                    return token;
+                }
+            }
+        }
+
+        @Nullable
+        String[] readTableName(@Nullable String token) {
+            List<String> parts = new ArrayList<>(MAX_NAME_PARTS);
+            while (token != null && isIdentifier(token)) {
+                parts.add(token);
+                int savedPos = pos;
+                token = nextToken();
+                if (!".".equals(token)) {
+                    pos = savedPos;
+                    break;
+                }
+                token = nextToken();
+            }
+            if (parts.isEmpty() || parts.size() > MAX_NAME_PARTS) {
+                return null;
+            }
+            String[] tableName = new String[MAX_NAME_PARTS];
+            for (int i = 0; i < parts.size(); i++) {
+                tableName[MAX_NAME_PARTS - parts.size() + i] = parts.get(i);
+            }
+            return tableName;
+        }
+
+        @Nullable
+        String nextToken() {
+            skipSpacesAndComments();
+            if (pos >= length) {
+                return null;
+            }
+            final int start = pos;
+            char c = text.charAt(pos);
+            if (isWordChar(c)) {
+                while (pos < length && isWordChar(text.charAt(pos))) {
+                    pos++;
+                }
+            } else if (c == '"' || c == '`' || c == '[') {
+                char endQuote = c == '[' ? ']' : c;
+                pos = text.indexOf(endQuote, pos + 1);
+                if (pos < 0) {
+                    pos = length;
+                    return null;
+                }
+                pos++;
+            } else {
+                pos++;
+            }
+            return text.substring(start, pos);
+        }
+
+        private void skipSpacesAndComments() {
+            while (pos < length) {
+                char c = text.charAt(pos);
+                if (Character.isWhitespace(c)) {
+                    pos++;
+                } else if (c == '-' && pos + 1 < length && text.charAt(pos + 1) == '-') {
+                    int lineEnd = text.indexOf('\n', pos);
+                    pos = lineEnd < 0 ? length : lineEnd + 1;
+                } else if (c == '/' && pos + 1 < length && text.charAt(pos + 1) == '*') {
+                    int commentEnd = text.indexOf("*/", pos + 2);
+                    pos = commentEnd < 0 ? length : commentEnd + 2;
+                } else {
+                    break;
+                }
+            }
+        }
+
+        private static boolean isIdentifier(String token) {
+            char c = token.charAt(0);
+            return isWordChar(c) || c == '"' || c == '`' || c == '[';
+        }
+
+        private static boolean isWordChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#';
+        }
+    }
+
+}
@@ -54,8 +54,12 @@ public class SQLSemanticProcessor {
 
     public static boolean isSelectQuery(String query)
     {
+        if (SQLQueryClassifier.classify(query) != null) {
+            // DML or DDL
+            return false;
+        }
         try {
-            Statement statement = CCJSqlParserUtil.parse(query);
+            Statement statement = SQLParserCache.parseStatement(query);
             return
                 statement instanceof Select &&
                 ((Select) statement).getSelectBody() instanceof PlainSelect &&
@@ -48,6 +48,12 @@ public interface DBSDataManipulator extends DBSDataContainer {
         @NotNull
         void generatePersistActions(@NotNull DBCSession session, @NotNull List<DBEPersistAction> actions) throws DBCException;
 
+        /**
+         * Checks whether batch row was successfully executed by the last {@link #execute(DBCSession)} call.
+         * May be used after execution failure. Rows with unknown state are reported as not executed.
+         */
+        boolean isRowExecuted(int rowIndex);
+
         void close();
     }
 
@@ -37,6 +37,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.text.SimpleDateFormat;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Locale;
 
@@ -153,6 +154,33 @@ public class RuntimeUtils {
         }
     }
 
+    /**
+     * Waits until all jobs are finished.
+     * If monitor is canceled then all jobs are canceled and this method waits for their termination.
+     * @return false if waiting was canceled
+     */
+    public static boolean joinJobs(@NotNull DBRProgressMonitor monitor, @NotNull Collection<? extends Job> jobs) {
+        try {
+            for (Job job : jobs) {
+                job.join(0, monitor.getNestedMonitor());
+            }
+            return true;
+        } catch (OperationCanceledException | InterruptedException e) {
+            for (Job job : jobs) {
+                job.cancel();
+            }
+            for (Job job : jobs) {
+                try {
+                    job.join();
+                } catch (InterruptedException e1) {
+                    log.warn("Jobs join interrupted", e1);
+                    break;
+                }
+            }
+            return false;
+        }
+    }
+
     public static String formatExecutionTime(long ms) {
         if (ms < 1000) {
             // Less than a second, show just ms
@@ -0,0 +1,131 @@
+package org.jkiss.dbeaver.model.sql.format.tokenized;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+
+public class FormatterTokenListTest {
+
+    @Test
+    public void shouldKeepInitialTokens() {
+        //given
+        List<FormatterToken> tokens = createTokens(0, 5);
+
+        //when
+        FormatterTokenList list = new FormatterTokenList(tokens);
+
+        //then
+        assertEquals(tokens, list);
+    }
+
+    @Test
+    public void shouldInsertAndRemoveAroundGap() {
+        //given
+        List<FormatterToken> tokens = createTokens(0, 3);
+        FormatterTokenList list = new FormatterTokenList(tokens);
+        FormatterToken first = new FormatterToken(TokenType.SPACE, "first");
+        FormatterToken middle = new FormatterToken(TokenType.SPACE, "middle");
+        FormatterToken last = new FormatterToken(TokenType.SPACE, "last");
+
+        //when
+        list.add(0, first);
+        list.add(2, middle);
+        list.add(list.size(), last);
+        FormatterToken removed = list.remove(1);
+
+        //then
+        assertSame(tokens.get(0), removed);
+        assertEquals(Arrays.asList(first, middle, tokens.get(1), tokens.get(2), last), list);
+    }
+
+    @Test
+    public void shouldGrowGapWhenItIsFull() {
+        //given
+        FormatterTokenList list = new FormatterTokenList(new ArrayList<FormatterToken>());
+        List<FormatterToken> expected = createTokens(0, 100);
+
+        //when
+        for (int i = 0; i < expected.size(); i++) {
+            list.add(i / 2, expected.get(i));
+        }
+
+        //then
+        List<FormatterToken> reference = new ArrayList<>();
+        for (int i = 0; i < expected.size(); i++) {
+            reference.add(i / 2, expected.get(i));
+        }
+        assertEquals(reference, list);
+    }
+
+    @Test
+    public void shouldBehaveLikeArrayList() {
+        //given
+        Random random = new Random(12345);
+        List<FormatterToken> reference = new ArrayList<>(createTokens(0, 50));
+        FormatterTokenList list = new FormatterTokenList(reference);
+        int tokenNumber = reference.size();
+
+        //when
+        for (int i = 0; i < 10000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || reference.isEmpty()) {
+                int index = random.nextInt(reference.size() + 1);
+                FormatterToken token = createToken(tokenNumber++);
+                reference.add(index, token);
+                list.add(index, token);
+            } else if (operation == 1) {
+                int index = random.nextInt(reference.size());
+                assertSame(reference.remove(index), list.remove(index));
+            } else if (operation == 2) {
+                int index = random.nextInt(reference.size());
+                FormatterToken token = createToken(tokenNumber++);
+                assertSame(reference.set(index, token), list.set(index, token));
+            } else {
+                int index = random.nextInt(reference.size());
+                assertSame(reference.get(index), list.get(index));
+            }
+            assertEquals(reference.size(), list.size());
+        }
+
+        //then
+        assertEquals(reference, list);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailOnGetOutOfRange() {
+        //given
+        FormatterTokenList list = new FormatterTokenList(createTokens(0, 3));
+
+        //when
+        list.get(3);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailOnAddOutOfRange() {
+        //given
+        FormatterTokenList list = new FormatterTokenList(createTokens(0, 3));
+
+        //when
+        list.add(4, createToken(4));
+    }
+
+    private static List<FormatterToken> createTokens(int from, int count) {
+        List<FormatterToken> tokens = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            tokens.add(createToken(i));
+        }
+        return tokens;
+    }
+
+    private static FormatterToken createToken(int number) {
+        return new FormatterToken(TokenType.NAME, "token" + number, number);
+    }
+
+}
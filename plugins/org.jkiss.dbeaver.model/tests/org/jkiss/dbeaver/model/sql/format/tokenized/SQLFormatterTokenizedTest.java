@@ -147,6 +147,79 @@ public class SQLFormatterTokenizedTest {
         assertEquals(expectedString, formattedString);
     }
 
+    @Test
+    public void shouldFormatInsertStatement() {
+        //given
+        String expectedString = "INSERT" + lineBreak + "\tINTO" + lineBreak + "\t\tt1 (a," + lineBreak + "\t\tb," + lineBreak + "\t\tc)" + lineBreak
+            + "\tVALUES (1," + lineBreak + "\t'x'," + lineBreak + "\tNULL)";
+        String inputString = "insert into t1 (a, b, c) values (1, 'x', null)";
+
+        //when
+        String formattedString = formatter.format(inputString, configuration);
+
+        //then
+        assertEquals(expectedString, formattedString);
+    }
+
+    @Test
+    public void shouldAddLineBreakBeforeCommaBySpecialSetting() {
+        //given
+        String expectedString = "SELECT" + lineBreak + "\ta" + lineBreak + "\t, b" + lineBreak + "FROM" + lineBreak + "\tt1";
+        String inputString = "select a, b from t1";
+
+        Mockito.when(preferenceStore.getBoolean(Mockito.eq(ModelPreferences.SQL_FORMAT_LF_BEFORE_COMMA))).thenReturn(true);
+
+        //when
+        String formattedString = formatter.format(inputString, configuration);
+
+        //then
+        assertEquals(expectedString, formattedString);
+    }
+
+    @Test
+    public void shouldFormatGroupByAndHaving() {
+        //given
+        String expectedString = "SELECT" + lineBreak + "\tCOUNT(*)" + lineBreak + "FROM" + lineBreak + "\tt1" + lineBreak
+            + "GROUP BY" + lineBreak + "\ta" + lineBreak + "HAVING" + lineBreak + "\tCOUNT(*) > 1";
+        String inputString = "select count(*) from t1 group by a having count(*) > 1";
+
+        //when
+        String formattedString = formatter.format(inputString, configuration);
+
+        //then
+        assertEquals(expectedString, formattedString);
+    }
+
+    @Test
+    public void shouldFormatLargeGeneratedScript() {
+        //given
+        int statementCount = 1000;
+        String script = "SELECT * FROM TABLE1 t WHERE a > 100 AND b BETWEEN 12 AND 45;  SELECT t.*, j1.x, j2.y FROM TABLE1 t JOIN JT1 j1 ON j1.a = t.a LEFT OUTER JOIN JT2 j2 ON j2.a = t.a AND j2.b = j1.b WHERE t.xxx NOT NULL;  DELETE FROM TABLE1 WHERE a = 1;  UPDATE TABLE1 SET a = 2 WHERE a = 1;  SELECT table1.id, table2.number, SUM(table1.amount) FROM table1 INNER JOIN table2 ON table.id = table2.table1_id WHERE table1.id IN ( SELECT table1_id FROM table3 WHERE table3.name = 'Foo Bar' AND table3.type = 'unknown_type') GROUP BY table1.id, table2.number ORDER BY table1.id;";
+        String formattedScript = getExpectedString();
+        formattedScript = formattedScript.substring(0, formattedScript.length() - lineBreak.length());
+
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < statementCount; i++) {
+            if (i > 0) {
+                input.append("  ");
+                expected.append(lineBreak).append(lineBreak);
+            }
+            input.append(script);
+            expected.append(formattedScript);
+        }
+        input.append("\n");
+        expected.append(lineBreak);
+
+        Mockito.when(preferenceStore.getBoolean(Mockito.eq(ModelPreferences.SQL_FORMAT_LF_BEFORE_COMMA))).thenReturn(false);
+
+        //when
+        String formattedString = formatter.format(input.toString(), configuration);
+
+        //then
+        assertEquals(expected.toString(), formattedString);
+    }
+
     private String getExpectedStringWithLineBreakBeforeBraces() {
         StringBuilder sb = new StringBuilder();
         sb.append("SELECT").append(lineBreak)
@@ -0,0 +1,38 @@
+package org.jkiss.dbeaver.model.sql.parser;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+
+public class SQLQueryClassifierTest {
+
+    @Test
+    public void shouldCollapseWhitespacesOutsideOfLiterals() {
+        assertEquals(
+            "SELECT 'a  b' FROM t\nWHERE x = 1",
+            SQLQueryClassifier.normalizeText("  SELECT   'a  b'\tFROM t \n  WHERE x =  1"));
+    }
+
+    @Test
+    public void shouldNotNormalizeTextWithBackslashes() {
+        String text = "SELECT 'it\\'s  a' FROM t";
+
+        assertEquals(text, SQLQueryClassifier.normalizeText(text));
+        assertNotEquals(
+            SQLQueryClassifier.normalizeText("SELECT 'it\\'s  a' FROM t"),
+            SQLQueryClassifier.normalizeText("SELECT 'it\\'s a' FROM t"));
+    }
+
+    @Test
+    public void shouldKeepQuotesInCommentsAsIs() {
+        assertNotEquals(
+            SQLQueryClassifier.normalizeText("-- don't\nSELECT 'a  b'"),
+            SQLQueryClassifier.normalizeText("-- don't\nSELECT 'a b'"));
+        assertNotEquals(
+            SQLQueryClassifier.normalizeText("/* don't */ SELECT 'a  b'"),
+            SQLQueryClassifier.normalizeText("/* don't */ SELECT 'a b'"));
+    }
+
+}
@@ -40,7 +40,7 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
     private transient volatile Session session;
 
     @Override
-    protected void setupTunnel(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration, String dbHost, String sshHost, String aliveInterval, int sshPortNum, File privKeyFile, int connectTimeout, int dbPort, int localPort) throws DBException, IOException {
+    protected void setupSession(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration, String sshHost, String aliveInterval, int sshPortNum, File privKeyFile, int connectTimeout, boolean compression) throws DBException, IOException {
         try {
             if (jsch == null) {
                 jsch = new JSch();
@@ -54,13 +54,17 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
                 }
             }
 
-            log.debug("Instantiate SSH tunnel");
+            log.debug("Instantiate SSH session");
             session = jsch.getSession(configuration.getUserName(), sshHost, sshPortNum);
             session.setConfig("StrictHostKeyChecking", "no");
             //session.setConfig("PreferredAuthentications", "password,publickey,keyboard-interactive");
             session.setConfig("PreferredAuthentications",
                     privKeyFile != null ? "publickey" : "password,keyboard-interactive");
             session.setConfig("ConnectTimeout", String.valueOf(connectTimeout));
+            if (compression) {
+                session.setConfig("compression.s2c", "zlib@openssh.com,zlib,none");
+                session.setConfig("compression.c2s", "zlib@openssh.com,zlib,none");
+            }
 
             // Use Eclipse standard prompter
             UserInfoCustom ui = new UserInfoCustom(configuration);
@@ -71,19 +75,13 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
             }
             log.debug("Connect to tunnel host");
             session.connect(connectTimeout);
-            try {
-                session.setPortForwardingL(localPort, dbHost, dbPort);
-            } catch (JSchException e) {
-                closeTunnel(monitor);
-                throw e;
-            }
         } catch (JSchException e) {
-            throw new DBException("Cannot establish tunnel", e);
+            throw new DBException("Cannot establish SSH session", e);
         }
     }
 
     @Override
-    public void closeTunnel(DBRProgressMonitor monitor) throws DBException, IOException {
+    protected void releaseSession(DBRProgressMonitor monitor) throws DBException, IOException {
         if (session != null) {
             RuntimeUtils.runTask(monitor1 -> {
                 if (session != null) {
@@ -99,32 +97,53 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
     }
 
     @Override
-    public String getClientVersion() {
-        return session == null ? null : session.getClientVersion();
+    protected void setupPortForward(DBRProgressMonitor monitor, String dbHost, int dbPort, int localPort) throws DBException, IOException {
+        if (session == null) {
+            throw new DBException("SSH session is not opened");
+        }
+        try {
+            session.setPortForwardingL(SSHConstants.LOCALHOST_NAME, localPort, dbHost, dbPort,
+                (port, backlog, bindAddr) -> new SSHForwardServerSocket(port, backlog, bindAddr, getStatistics()));
+        } catch (JSchException e) {
+            throw new DBException("Cannot establish tunnel", e);
+        }
     }
 
     @Override
-    public String getServerVersion() {
-        return session == null ? null : session.getServerVersion();
+    protected void releasePortForward(DBRProgressMonitor monitor, int localPort) throws DBException, IOException {
+        if (session != null) {
+            try {
+                session.delPortForwardingL(SSHConstants.LOCALHOST_NAME, localPort);
+            } catch (JSchException e) {
+                throw new DBException("Cannot close tunnel", e);
+            }
+        }
     }
 
     @Override
-    public void invalidateTunnel(DBRProgressMonitor monitor) throws DBException, IOException {
-        // Do not test - just reopen the tunnel. Otherwise it may take too much time.
-        boolean isAlive = false;//session != null && session.isConnected();
-        if (isAlive) {
-            try {
-                session.sendKeepAliveMsg();
-            } catch (Exception e) {
-                isAlive = false;
-            }
+    public boolean isSessionAlive() {
+        Session curSession = session;
+        if (curSession == null || !curSession.isConnected()) {
+            return false;
         }
-        if (!isAlive) {
-            closeTunnel(monitor);
-            initTunnel(monitor, null, savedConfiguration, savedConnectionInfo);
+        try {
+            curSession.sendKeepAliveMsg();
+            return true;
+        } catch (Exception e) {
+            return false;
         }
     }
 
+    @Override
+    public String getClientVersion() {
+        return session == null ? null : session.getClientVersion();
+    }
+
+    @Override
+    public String getServerVersion() {
+        return session == null ? null : session.getServerVersion();
+    }
+
     private class UIUserInfo implements UserInfo, UIKeyboardInteractive {
         DBWHandlerConfiguration configuration;
 
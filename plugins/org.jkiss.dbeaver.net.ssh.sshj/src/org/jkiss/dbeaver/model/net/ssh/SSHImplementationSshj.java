@@ -35,6 +35,8 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * SSHJ tunnel
@@ -44,16 +46,23 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
     private static final Log log = Log.getLog(SSHImplementationSshj.class);
 
     private transient SSHClient sshClient;
-    private transient LocalPortListener portListener;
+    private final Map<Integer, LocalPortListener> portListeners = new HashMap<>();
 
     @Override
-    protected void setupTunnel(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration, String dbHost, String sshHost, String aliveInterval, int sshPortNum, File privKeyFile, int connectTimeout, int dbPort, int localPort) throws DBException, IOException {
+    protected void setupSession(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration, String sshHost, String aliveInterval, int sshPortNum, File privKeyFile, int connectTimeout, boolean compression) throws DBException, IOException {
         try {
             Config clientConfig = new DefaultConfig();
             clientConfig.setLoggerFactory(LoggerFactory.DEFAULT);
             sshClient = new SSHClient(clientConfig);
             // TODO: make real host verifier
             sshClient.addHostKeyVerifier(new PromiscuousVerifier());
+            if (compression) {
+                try {
+                    sshClient.useCompression();
+                } catch (Throwable e) {
+                    log.warn("SSH compression is not available", e);
+                }
+            }
 
             String sshUser = configuration.getUserName();
             String sshPassword = configuration.getPassword();
@@ -76,24 +85,13 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
             } else {
                 sshClient.authPassword(sshUser, sshPassword);
             }
-
-            log.debug("Instantiate SSH tunnel");
-
-            final LocalPortForwarder.Parameters params
-                = new LocalPortForwarder.Parameters(SSHConstants.LOCALHOST_NAME, localPort, dbHost, dbPort);
-            portListener = new LocalPortListener(params);
-            portListener.start();
-            RuntimeUtils.pause(100);
         } catch (Exception e) {
-            throw new DBException("Cannot establish tunnel", e);
+            throw new DBException("Cannot establish SSH session", e);
         }
     }
 
     @Override
-    public void closeTunnel(DBRProgressMonitor monitor) throws DBException, IOException {
-        if (portListener != null) {
-            portListener.stopServer();
-        }
+    protected void releaseSession(DBRProgressMonitor monitor) throws DBException, IOException {
         if (sshClient != null) {
             RuntimeUtils.runTask(monitor1 -> {
                 try {
@@ -106,6 +104,35 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         }
     }
 
+    @Override
+    protected void setupPortForward(DBRProgressMonitor monitor, String dbHost, int dbPort, int localPort) throws DBException, IOException {
+        if (sshClient == null) {
+            throw new DBException("SSH session is not opened");
+        }
+        log.debug("Instantiate SSH tunnel");
+
+        final LocalPortForwarder.Parameters params
+            = new LocalPortForwarder.Parameters(SSHConstants.LOCALHOST_NAME, localPort, dbHost, dbPort);
+        LocalPortListener portListener = new LocalPortListener(params);
+        portListener.start();
+        portListeners.put(localPort, portListener);
+        RuntimeUtils.pause(100);
+    }
+
+    @Override
+    protected void releasePortForward(DBRProgressMonitor monitor, int localPort) throws DBException, IOException {
+        LocalPortListener portListener = portListeners.remove(localPort);
+        if (portListener != null) {
+            portListener.stopServer();
+        }
+    }
+
+    @Override
+    public boolean isSessionAlive() {
+        SSHClient client = sshClient;
+        return client != null && client.isConnected() && client.isAuthenticated();
+    }
+
     @Override
     public String getClientVersion() {
         return sshClient == null ? null : sshClient.getTransport().getClientVersion();
@@ -116,23 +143,6 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         return sshClient == null ? null : sshClient.getTransport().getServerVersion();
     }
 
-    @Override
-    public void invalidateTunnel(DBRProgressMonitor monitor) throws DBException, IOException {
-        // Do not test - just reopen the tunnel. Otherwise it may take too much time.
-        boolean isAlive = false;//sshClient != null && sshClient.isConnected();
-        if (isAlive) {
-            try {
-                sshClient.isConnected();
-            } catch (Exception e) {
-                isAlive = false;
-            }
-        }
-        if (!isAlive) {
-            closeTunnel(monitor);
-            initTunnel(monitor, null, savedConfiguration, savedConnectionInfo);
-        }
-    }
-
     private class LocalPortListener extends Thread {
         private LocalPortForwarder.Parameters params;
         private LocalPortForwarder portForwarder;
@@ -148,7 +158,7 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
                     this.params.getLocalHost(), this.params.getLocalPort(), this.params.getRemoteHost(), this.params.getRemotePort());
 
             try {
-                ServerSocket serverSocket = new ServerSocket();
+                ServerSocket serverSocket = new SSHForwardServerSocket(getStatistics());
                 serverSocket.setReuseAddress(true);
                 serverSocket.bind(new InetSocketAddress(params.getLocalHost(), params.getLocalPort()));
                 portForwarder = sshClient.newLocalPortForwarder(params, serverSocket);
@@ -0,0 +1,136 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.net.ssh;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+
+/**
+ * Local port forward server socket.
+ * Accepted sockets report their traffic and round trips to the session statistics.
+ */
+public class SSHForwardServerSocket extends ServerSocket {
+
+    private final SSHTunnelStatistics statistics;
+
+    public SSHForwardServerSocket(SSHTunnelStatistics statistics) throws IOException {
+        this.statistics = statistics;
+    }
+
+    public SSHForwardServerSocket(int port, int backlog, InetAddress bindAddr, SSHTunnelStatistics statistics) throws IOException {
+        super(port, backlog, bindAddr);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Socket accept() throws IOException {
+        if (isClosed()) {
+            throw new SocketException("Socket is closed");
+        }
+        if (!isBound()) {
+            throw new SocketException("Socket is not bound yet");
+        }
+        Socket socket = new CountingSocket(statistics);
+        implAccept(socket);
+        statistics.connectionAccepted();
+        return socket;
+    }
+
+    /**
+     * Reads from this socket are requests of the database client (they are sent to the remote side),
+     * writes are responses. Round trip is the time between the last read request chunk and the first response chunk.
+     */
+    private static class CountingSocket extends Socket {
+        private final SSHTunnelStatistics statistics;
+        private InputStream inputStream;
+        private OutputStream outputStream;
+        private volatile long requestTime;
+
+        CountingSocket(SSHTunnelStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        @Override
+        public synchronized InputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new FilterInputStream(super.getInputStream()) {
+                    @Override
+                    public int read() throws IOException {
+                        int b = super.read();
+                        if (b >= 0) {
+                            requestRead(1);
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        int count = super.read(b, off, len);
+                        if (count > 0) {
+                            requestRead(count);
+                        }
+                        return count;
+                    }
+                };
+            }
+            return inputStream;
+        }
+
+        @Override
+        public synchronized OutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new FilterOutputStream(super.getOutputStream()) {
+                    @Override
+                    public void write(int b) throws IOException {
+                        out.write(b);
+                        responseWritten(1);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        // FilterOutputStream writes byte by byte
+                        out.write(b, off, len);
+                        responseWritten(len);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        private void requestRead(int count) {
+            statistics.dataSent(count);
+            requestTime = System.nanoTime();
+        }
+
+        private void responseWritten(int count) {
+            statistics.dataReceived(count);
+            long startTime = requestTime;
+            if (startTime != 0) {
+                requestTime = 0;
+                statistics.roundTripCompleted(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+}
@@ -25,10 +25,30 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import java.io.IOException;
 
 /**
- * SSH tunnel implementation
+ * SSH tunnel implementation.
+ * One implementation instance holds one authenticated SSH session.
+ * Each tunnel is a local port forward opened over this session, so the session may be shared by many tunnels.
  */
 public interface SSHImplementation {
 
+    /**
+     * Connects to SSH server and authenticates
+     */
+    void openSession(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration)
+        throws DBException, IOException;
+
+    boolean isSessionAlive();
+
+    /**
+     * Closes session with all its port forwards
+     */
+    void closeSession(DBRProgressMonitor monitor)
+        throws DBException, IOException;
+
+    /**
+     * Opens local port forward to the database host.
+     * @return connection info which points to the local port
+     */
     DBPConnectionConfiguration initTunnel(DBRProgressMonitor monitor, DBPPlatform platform, DBWHandlerConfiguration configuration, DBPConnectionConfiguration connectionInfo)
         throws DBException, IOException;
 
@@ -36,10 +56,15 @@ public interface SSHImplementation {
 
     String getServerVersion();
 
-    void invalidateTunnel(DBRProgressMonitor monitor)
+    SSHTunnelStatistics getStatistics();
+
+    /**
+     * Reopens port forward. If session is dead then reconnects it and restores all its port forwards.
+     */
+    void invalidateTunnel(DBRProgressMonitor monitor, int localPort)
         throws DBException, IOException;
 
-    void closeTunnel(DBRProgressMonitor monitor)
+    void closeTunnel(DBRProgressMonitor monitor, int localPort)
         throws DBException, IOException;
 
 }
@@ -26,6 +26,8 @@ import org.jkiss.utils.CommonUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -35,31 +37,37 @@ public abstract class SSHImplementationAbstract implements SSHImplementation {
 
     private static final Log log = Log.getLog(SSHImplementationAbstract.class);
 
-    // Saved config - used for tunnel invalidate
-    private transient int savedLocalPort = 0;
+    private static class PortForward {
+        final String dbHost;
+        final int dbPort;
+        final int localPort;
+        // Number of tunnels which use this forward (tunnels with the same fixed local port share it)
+        int refCount = 1;
+
+        PortForward(String dbHost, int dbPort, int localPort) {
+            this.dbHost = dbHost;
+            this.dbPort = dbPort;
+            this.localPort = localPort;
+        }
+    }
+
+    private final SSHTunnelStatistics statistics = new SSHTunnelStatistics();
+    // Port forwards opened over the session. Used to restore them after reconnect.
+    private final Map<Integer, PortForward> portForwards = new LinkedHashMap<>();
+    // Saved config - used for session reconnect
     protected transient DBWHandlerConfiguration savedConfiguration;
-    protected transient DBPConnectionConfiguration savedConnectionInfo;
 
     @Override
-    public DBPConnectionConfiguration initTunnel(DBRProgressMonitor monitor, DBPPlatform platform, DBWHandlerConfiguration configuration, DBPConnectionConfiguration connectionInfo)
+    public synchronized void openSession(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration)
         throws DBException, IOException
     {
-        String dbPortString = connectionInfo.getHostPort();
-        if (CommonUtils.isEmpty(dbPortString)) {
-            dbPortString = configuration.getDriver().getDefaultPort();
-            if (CommonUtils.isEmpty(dbPortString)) {
-                throw new DBException("Database port not specified and no default port number for driver '" + configuration.getDriver().getName() + "'");
-            }
-        }
-        String dbHost = connectionInfo.getHostName();
-
         Map<String,String> properties = configuration.getProperties();
         String sshAuthType = properties.get(SSHConstants.PROP_AUTH_TYPE);
         String sshHost = properties.get(SSHConstants.PROP_HOST);
         String sshPort = properties.get(SSHConstants.PROP_PORT);
-        String sshLocalPort = properties.get(SSHConstants.PROP_LOCAL_PORT);
         String aliveInterval = properties.get(SSHConstants.PROP_ALIVE_INTERVAL);
         String connectTimeoutString = properties.get(SSHConstants.PROP_CONNECT_TIMEOUT);
+        boolean compression = CommonUtils.toBoolean(properties.get(SSHConstants.PROP_COMPRESSION));
         //String aliveCount = properties.get(SSHConstants.PROP_ALIVE_COUNT);
         if (CommonUtils.isEmpty(sshHost)) {
             throw new DBException("SSH host not specified");
@@ -100,15 +108,49 @@ public abstract class SSHImplementationAbstract implements SSHImplementation {
             connectTimeout = SSHConstants.DEFAULT_CONNECT_TIMEOUT;
         }
 
-        monitor.subTask("Initiating tunnel at '" + sshHost + "'");
+        monitor.subTask("Initiating SSH session at '" + sshHost + "'");
+        long startTime = System.currentTimeMillis();
+        setupSession(monitor, configuration, sshHost, aliveInterval, sshPortNum, privKeyFile, connectTimeout, compression);
+        statistics.sessionConnected(System.currentTimeMillis() - startTime);
+        savedConfiguration = configuration;
+    }
+
+    @Override
+    public synchronized void closeSession(DBRProgressMonitor monitor) throws DBException, IOException {
+        for (PortForward forward : portForwards.values()) {
+            try {
+                releasePortForward(monitor, forward.localPort);
+            } catch (Exception e) {
+                log.debug("Error closing port forward " + forward.localPort + ": " + e.getMessage());
+            }
+        }
+        portForwards.clear();
+        releaseSession(monitor);
+    }
+
+    @Override
+    public synchronized DBPConnectionConfiguration initTunnel(DBRProgressMonitor monitor, DBPPlatform platform, DBWHandlerConfiguration configuration, DBPConnectionConfiguration connectionInfo)
+        throws DBException, IOException
+    {
+        String dbPortString = connectionInfo.getHostPort();
+        if (CommonUtils.isEmpty(dbPortString)) {
+            dbPortString = configuration.getDriver().getDefaultPort();
+            if (CommonUtils.isEmpty(dbPortString)) {
+                throw new DBException("Database port not specified and no default port number for driver '" + configuration.getDriver().getName() + "'");
+            }
+        }
+        String dbHost = connectionInfo.getHostName();
+        String sshLocalPort = configuration.getProperties().get(SSHConstants.PROP_LOCAL_PORT);
+
+        monitor.subTask("Initiating tunnel to '" + dbHost + "'");
         int dbPort;
         try {
             dbPort = Integer.parseInt(dbPortString);
         } catch (NumberFormatException e) {
             throw new DBException("Bad database port number: " + dbPortString);
         }
-        int localPort = savedLocalPort;
-        if (localPort == 0 && platform != null) {
+        int localPort = 0;
+        if (platform != null) {
             localPort = SSHUtils.findFreePort(platform);
         }
         if (!CommonUtils.isEmpty(sshLocalPort)) {
@@ -121,11 +163,17 @@ public abstract class SSHImplementationAbstract implements SSHImplementation {
                 log.warn("Bad local port specified", e);
             }
         }
-
-        setupTunnel(monitor, configuration, dbHost, sshHost, aliveInterval, sshPortNum, privKeyFile, connectTimeout, dbPort, localPort);
-        savedLocalPort = localPort;
-        savedConfiguration = configuration;
-        savedConnectionInfo = connectionInfo;
+        PortForward forward = portForwards.get(localPort);
+        if (forward != null) {
+            if (!CommonUtils.equalObjects(forward.dbHost, dbHost) || forward.dbPort != dbPort) {
+                throw new DBException("Local port " + localPort + " is already forwarded to " + forward.dbHost + ":" + forward.dbPort + " by SSH session");
+            }
+            // Same target - reuse existing forward
+            forward.refCount++;
+        } else {
+            setupPortForward(monitor, dbHost, dbPort, localPort);
+            portForwards.put(localPort, new PortForward(dbHost, dbPort, localPort));
+        }
 
         connectionInfo = new DBPConnectionConfiguration(connectionInfo);
         String newPortValue = String.valueOf(localPort);
@@ -139,6 +187,48 @@ public abstract class SSHImplementationAbstract implements SSHImplementation {
         return connectionInfo;
     }
 
-    protected abstract void setupTunnel(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration, String dbHost, String sshHost, String aliveInterval, int sshPortNum, File privKeyFile, int connectTimeout, int dbPort, int localPort) throws DBException, IOException;
+    @Override
+    public synchronized void invalidateTunnel(DBRProgressMonitor monitor, int localPort) throws DBException, IOException {
+        if (isSessionAlive()) {
+            // Session is shared with other tunnels - reopen this port forward only
+            PortForward forward = portForwards.get(localPort);
+            if (forward != null) {
+                releasePortForward(monitor, localPort);
+                setupPortForward(monitor, forward.dbHost, forward.dbPort, forward.localPort);
+            }
+            return;
+        }
+        // Reconnect and restore port forwards (on the same local ports, so connection URLs remain valid)
+        log.debug("SSH session is dead. Reconnect.");
+        ArrayList<PortForward> forwards = new ArrayList<>(portForwards.values());
+        closeSession(monitor);
+        openSession(monitor, savedConfiguration);
+        for (PortForward forward : forwards) {
+            setupPortForward(monitor, forward.dbHost, forward.dbPort, forward.localPort);
+            portForwards.put(forward.localPort, forward);
+        }
+    }
+
+    @Override
+    public synchronized void closeTunnel(DBRProgressMonitor monitor, int localPort) throws DBException, IOException {
+        PortForward forward = portForwards.get(localPort);
+        if (forward != null && --forward.refCount <= 0) {
+            portForwards.remove(localPort);
+            releasePortForward(monitor, localPort);
+        }
+    }
+
+    @Override
+    public SSHTunnelStatistics getStatistics() {
+        return statistics;
+    }
+
+    protected abstract void setupSession(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration, String sshHost, String aliveInterval, int sshPortNum, File privKeyFile, int connectTimeout, boolean compression) throws DBException, IOException;
+
+    protected abstract void releaseSession(DBRProgressMonitor monitor) throws DBException, IOException;
+
+    protected abstract void setupPortForward(DBRProgressMonitor monitor, String dbHost, int dbPort, int localPort) throws DBException, IOException;
+
+    protected abstract void releasePortForward(DBRProgressMonitor monitor, int localPort) throws DBException, IOException;
 
 }
@@ -24,14 +24,11 @@ import org.jkiss.dbeaver.model.app.DBPPlatform;
 import org.jkiss.dbeaver.model.connection.DBPConnectionConfiguration;
 import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
 import org.jkiss.dbeaver.model.net.DBWTunnel;
-import org.jkiss.dbeaver.model.net.ssh.registry.SSHImplementationDescriptor;
-import org.jkiss.dbeaver.model.net.ssh.registry.SSHImplementationRegistry;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.io.IOException;
-import java.util.Map;
 
 /**
  * SSH tunnel
@@ -39,10 +36,10 @@ import java.util.Map;
 public class SSHTunnelImpl implements DBWTunnel {
 
     private static final Log log = Log.getLog(SSHTunnelImpl.class);
-    private static final String DEF_IMPLEMENTATION = "jsch";
 
     private DBWHandlerConfiguration configuration;
     private SSHImplementation implementation;
+    private int localPort;
 
     public SSHImplementation getImplementation() {
         return implementation;
@@ -53,31 +50,30 @@ public class SSHTunnelImpl implements DBWTunnel {
         throws DBException, IOException
     {
         this.configuration = configuration;
-        Map<String,String> properties = configuration.getProperties();
-        String implId = properties.get(SSHConstants.PROP_IMPLEMENTATION);
-        if (CommonUtils.isEmpty(implId)) {
-            // Backward compatibility
-            implId = DEF_IMPLEMENTATION;
-        }
-
+        SSHImplementation session = SSHTunnelManager.getInstance().acquireSession(monitor, configuration);
+        DBPConnectionConfiguration tunnelConnectionInfo;
         try {
-            SSHImplementationDescriptor implDesc = SSHImplementationRegistry.getInstance().getDescriptor(implId);
-            if (implDesc == null) {
-                implDesc = SSHImplementationRegistry.getInstance().getDescriptor(DEF_IMPLEMENTATION);
-            }
-            implementation = implDesc.getImplClass().createInstance(SSHImplementation.class);
-        } catch (Throwable e) {
-            throw new DBException("Can't create SSH tunnel implementation", e);
+            tunnelConnectionInfo = session.initTunnel(monitor, platform, configuration, connectionInfo);
+        } catch (DBException | IOException | RuntimeException e) {
+            SSHTunnelManager.getInstance().releaseSession(monitor, session);
+            throw e;
         }
-        return implementation.initTunnel(monitor, platform, configuration, connectionInfo);
+        implementation = session;
+        localPort = CommonUtils.toInt(tunnelConnectionInfo.getHostPort());
+        return tunnelConnectionInfo;
     }
 
     @Override
     public void closeTunnel(DBRProgressMonitor monitor) throws DBException, IOException
     {
         if (implementation != null) {
-            implementation.closeTunnel(monitor);
+            SSHImplementation session = implementation;
             implementation = null;
+            try {
+                session.closeTunnel(monitor, localPort);
+            } finally {
+                SSHTunnelManager.getInstance().releaseSession(monitor, session);
+            }
         }
     }
 
@@ -121,7 +117,7 @@ public class SSHTunnelImpl implements DBWTunnel {
         if (implementation != null) {
             RuntimeUtils.runTask(monitor1 -> {
                 try {
-                    implementation.invalidateTunnel(monitor1);
+                    implementation.invalidateTunnel(monitor1, localPort);
                 } catch (Exception e) {
                     log.debug("Error invalidating SSH tunnel", e);
                 }
@@ -0,0 +1,220 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.net.ssh;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.net.DBWHandlerConfiguration;
+import org.jkiss.dbeaver.model.net.ssh.registry.SSHImplementationDescriptor;
+import org.jkiss.dbeaver.model.net.ssh.registry.SSHImplementationRegistry;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * SSH tunnel manager.
+ *
+ * Tunnels with the same SSH server, user and credentials share one authenticated session:
+ * each tunnel is just a port forward channel over it. Sessions are reference counted and
+ * closed when the last tunnel releases them.
+ */
+public class SSHTunnelManager {
+
+    private static final Log log = Log.getLog(SSHTunnelManager.class);
+
+    private static final String DEF_IMPLEMENTATION = "jsch";
+
+    private static SSHTunnelManager instance = null;
+
+    public synchronized static SSHTunnelManager getInstance()
+    {
+        if (instance == null) {
+            instance = new SSHTunnelManager();
+        }
+        return instance;
+    }
+
+    private static class SessionKey {
+        private final String implementation;
+        private final String host;
+        private final String port;
+        private final String user;
+        private final String password;
+        private final String authType;
+        private final String keyPath;
+        private final boolean compression;
+
+        SessionKey(String implementation, DBWHandlerConfiguration configuration) {
+            Map<String, String> properties = configuration.getProperties();
+            this.implementation = implementation;
+            this.host = properties.get(SSHConstants.PROP_HOST);
+            this.port = properties.get(SSHConstants.PROP_PORT);
+            this.user = configuration.getUserName();
+            this.password = configuration.getPassword();
+            this.authType = properties.get(SSHConstants.PROP_AUTH_TYPE);
+            this.keyPath = properties.get(SSHConstants.PROP_KEY_PATH);
+            this.compression = CommonUtils.toBoolean(properties.get(SSHConstants.PROP_COMPRESSION));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SessionKey)) {
+                return false;
+            }
+            SessionKey key = (SessionKey) obj;
+            return CommonUtils.equalObjects(implementation, key.implementation) &&
+                CommonUtils.equalObjects(host, key.host) &&
+                CommonUtils.equalObjects(port, key.port) &&
+                CommonUtils.equalObjects(user, key.user) &&
+                CommonUtils.equalObjects(password, key.password) &&
+                CommonUtils.equalObjects(authType, key.authType) &&
+                CommonUtils.equalObjects(keyPath, key.keyPath) &&
+                compression == key.compression;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(implementation, host, port, user, authType, keyPath);
+        }
+
+        @Override
+        public String toString() {
+            return user + "@" + host + ":" + port;
+        }
+    }
+
+    private static class SharedSession {
+        private final SessionKey key;
+        private final SSHImplementation implementation;
+        private int refCount;
+        private boolean opened;
+
+        SharedSession(SessionKey key, SSHImplementation implementation) {
+            this.key = key;
+            this.implementation = implementation;
+        }
+
+        synchronized void open(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration) throws DBException, IOException {
+            if (!opened) {
+                implementation.openSession(monitor, configuration);
+                opened = true;
+                log.debug("SSH session " + key + " opened");
+            }
+        }
+
+        synchronized void close(DBRProgressMonitor monitor) throws DBException, IOException {
+            if (opened) {
+                opened = false;
+                log.debug("SSH session " + key + " closed (" + implementation.getStatistics() + ")");
+                implementation.closeSession(monitor);
+            }
+        }
+    }
+
+    private final Map<SessionKey, SharedSession> sessions = new HashMap<>();
+
+    private SSHTunnelManager() {
+    }
+
+    /**
+     * Returns opened session for specified configuration. Creates new session if there is no such session yet.
+     * Each acquired session must be released with {@link #releaseSession}.
+     */
+    @NotNull
+    public SSHImplementation acquireSession(DBRProgressMonitor monitor, DBWHandlerConfiguration configuration)
+        throws DBException, IOException
+    {
+        String implId = configuration.getProperties().get(SSHConstants.PROP_IMPLEMENTATION);
+        if (CommonUtils.isEmpty(implId)) {
+            // Backward compatibility
+            implId = DEF_IMPLEMENTATION;
+        }
+        SessionKey key = new SessionKey(implId, configuration);
+        SharedSession session;
+        synchronized (sessions) {
+            session = sessions.get(key);
+            if (session == null) {
+                session = new SharedSession(key, createImplementation(implId));
+                sessions.put(key, session);
+            }
+            session.refCount++;
+        }
+        // Connect outside of global lock. Other tunnels to the same server wait for the session lock.
+        try {
+            session.open(monitor, configuration);
+        } catch (DBException | IOException | RuntimeException e) {
+            releaseSession(monitor, session.implementation);
+            throw e;
+        }
+        return session.implementation;
+    }
+
+    /**
+     * Releases session. Session is closed when the last reference is released.
+     */
+    public void releaseSession(DBRProgressMonitor monitor, SSHImplementation implementation)
+        throws DBException, IOException
+    {
+        SharedSession closedSession = null;
+        synchronized (sessions) {
+            for (Iterator<SharedSession> iter = sessions.values().iterator(); iter.hasNext(); ) {
+                SharedSession session = iter.next();
+                if (session.implementation == implementation) {
+                    session.refCount--;
+                    if (session.refCount <= 0) {
+                        iter.remove();
+                        closedSession = session;
+                    }
+                    break;
+                }
+            }
+        }
+        if (closedSession != null) {
+            closedSession.close(monitor);
+        }
+    }
+
+    /**
+     * Statistics of all opened sessions
+     */
+    @NotNull
+    public Map<String, SSHTunnelStatistics> getSessionStatistics() {
+        Map<String, SSHTunnelStatistics> result = new LinkedHashMap<>();
+        synchronized (sessions) {
+            for (SharedSession session : sessions.values()) {
+                result.put(session.key.toString(), session.implementation.getStatistics());
+            }
+        }
+        return result;
+    }
+
+    private static SSHImplementation createImplementation(String implId) throws DBException {
+        try {
+            SSHImplementationDescriptor implDesc = SSHImplementationRegistry.getInstance().getDescriptor(implId);
+            if (implDesc == null) {
+                implDesc = SSHImplementationRegistry.getInstance().getDescriptor(DEF_IMPLEMENTATION);
+            }
+            return implDesc.getImplClass().createInstance(SSHImplementation.class);
+        } catch (Throwable e) {
+            throw new DBException("Can't create SSH tunnel implementation", e);
+        }
+    }
+
+}
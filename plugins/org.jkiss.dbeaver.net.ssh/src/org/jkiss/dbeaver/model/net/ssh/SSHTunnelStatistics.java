@@ -0,0 +1,105 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.net.ssh;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSH session statistics.
+ * Counts traffic and request/response round trips of all port forwards opened over the session.
+ */
+public class SSHTunnelStatistics {
+
+    private volatile long connectTime;
+    private final AtomicLong connectionCount = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong roundTripCount = new AtomicLong();
+    private final AtomicLong roundTripTime = new AtomicLong();
+
+    /**
+     * Time spent on connect, key exchange and authentication (ms)
+     */
+    public long getConnectTime() {
+        return connectTime;
+    }
+
+    /**
+     * Number of connections accepted by all port forwards
+     */
+    public long getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * Bytes sent to the remote side
+     */
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    /**
+     * Bytes received from the remote side
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    public long getRoundTripCount() {
+        return roundTripCount.get();
+    }
+
+    /**
+     * Average time between the end of request and the first byte of response (ms)
+     */
+    public double getAverageRoundTripTime() {
+        long count = roundTripCount.get();
+        return count == 0 ? 0 : (double) roundTripTime.get() / count / 1000000;
+    }
+
+    void sessionConnected(long connectTime) {
+        this.connectTime = connectTime;
+    }
+
+    void connectionAccepted() {
+        connectionCount.incrementAndGet();
+    }
+
+    void dataSent(int count) {
+        bytesSent.addAndGet(count);
+    }
+
+    void dataReceived(int count) {
+        bytesReceived.addAndGet(count);
+    }
+
+    void roundTripCompleted(long nanos) {
+        roundTripCount.incrementAndGet();
+        roundTripTime.addAndGet(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "connect time: " + connectTime + "ms" +
+            ", connections: " + getConnectionCount() +
+            ", sent: " + getBytesSent() +
+            ", received: " + getBytesReceived() +
+            ", round trips: " + getRoundTripCount() +
+            ", average round trip: " + String.format("%.2f", getAverageRoundTripTime()) + "ms";
+    }
+
+}
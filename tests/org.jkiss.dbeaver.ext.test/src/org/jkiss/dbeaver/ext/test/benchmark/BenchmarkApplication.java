@@ -0,0 +1,140 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.swt.widgets.Display;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.core.DBeaverCore;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.DefaultProgressMonitor;
+import org.jkiss.dbeaver.registry.DataSourceDescriptor;
+import org.jkiss.dbeaver.registry.DataSourceRegistry;
+
+import java.io.File;
+
+/**
+ * Runs benchmark suite without workbench (e.g. on CI server).
+ * Usage: -application org.jkiss.dbeaver.ext.test.benchmark -datasource &lt;id or name&gt; [-output &lt;file&gt;]
+ * Data source must be configured in workspace and use embedded driver.
+ * Core still needs SWT display, so on headless machines it must be run in virtual X server (xvfb).
+ */
+public class BenchmarkApplication implements IApplication {
+
+    private static final Log log = Log.getLog(BenchmarkApplication.class);
+
+    private static final String ARG_DATASOURCE = "-datasource";
+    private static final String ARG_OUTPUT = "-output";
+
+    private static final Integer EXIT_ERROR = 1;
+
+    private volatile Integer exitCode = EXIT_ERROR;
+
+    @Override
+    public Object start(IApplicationContext context) throws Exception {
+        String dataSourceId = null;
+        File resultFile = null;
+        String[] args = (String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+        if (args != null) {
+            for (int i = 0; i < args.length - 1; i++) {
+                if (ARG_DATASOURCE.equals(args[i])) {
+                    dataSourceId = args[++i];
+                } else if (ARG_OUTPUT.equals(args[i])) {
+                    resultFile = new File(args[++i]);
+                }
+            }
+        }
+        if (dataSourceId == null) {
+            System.err.println("Usage: " + ARG_DATASOURCE + " <id or name> [" + ARG_OUTPUT + " <file>]");
+            return EXIT_ERROR;
+        }
+        context.applicationRunning();
+
+        // Display must be created in main thread before core initialization.
+        // Core and data transfer use syncExec so events are dispatched until benchmarks finish.
+        final Display display = Display.getDefault();
+        final String benchmarkDataSource = dataSourceId;
+        final File benchmarkResultFile = resultFile;
+        Thread benchmarkThread = new Thread(() -> {
+            try {
+                exitCode = runBenchmarks(benchmarkDataSource, benchmarkResultFile);
+            } finally {
+                display.wake();
+            }
+        }, "Benchmark");
+        benchmarkThread.start();
+        while (benchmarkThread.isAlive()) {
+            try {
+                if (!display.readAndDispatch()) {
+                    display.sleep();
+                }
+            } catch (Throwable e) {
+                // Workbench-only listeners fail without workbench
+                log.debug(e);
+            }
+        }
+        display.dispose();
+        return exitCode;
+    }
+
+    @Override
+    public void stop() {
+    }
+
+    @NotNull
+    private Integer runBenchmarks(@NotNull String dataSourceId, File resultFile) {
+        DBRProgressMonitor monitor = new DefaultProgressMonitor(new NullProgressMonitor());
+        DBeaverCore core = null;
+        try {
+            core = DBeaverCore.getInstance();
+            DataSourceRegistry registry = core.getProjectRegistry().getActiveDataSourceRegistry();
+            DataSourceDescriptor container = registry == null ? null : registry.getDataSource(dataSourceId);
+            if (container == null && registry != null) {
+                container = registry.findDataSourceByName(dataSourceId);
+            }
+            if (container == null) {
+                System.err.println("Data source '" + dataSourceId + "' not found in active project");
+                return EXIT_ERROR;
+            }
+            if (!container.isConnected()) {
+                container.connect(monitor, true, true);
+            }
+            BenchmarkSuite suite = new BenchmarkSuite(container.getDataSource());
+            if (resultFile == null) {
+                resultFile = BenchmarkSuite.getDefaultResultFile();
+            }
+            suite.run(monitor, resultFile);
+            for (BenchmarkResult result : suite.getResults()) {
+                System.out.println(result);
+            }
+            System.out.println("Results saved to " + resultFile.getAbsolutePath());
+            return EXIT_OK;
+        } catch (Throwable e) {
+            log.error("Benchmark failed", e);
+            return EXIT_ERROR;
+        } finally {
+            if (core != null) {
+                // Closes all connections
+                core.dispose();
+            }
+        }
+    }
+
+}
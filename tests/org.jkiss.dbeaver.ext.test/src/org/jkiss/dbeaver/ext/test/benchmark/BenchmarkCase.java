@@ -0,0 +1,51 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+/**
+ * Single benchmark.
+ * Each invocation of {@link #run} is one iteration, throughput is measured in operations (usually rows) per second.
+ */
+public interface BenchmarkCase {
+
+    /**
+     * Benchmark name in JMH format (class.method)
+     */
+    @NotNull
+    String getName();
+
+    void setup(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException;
+
+    /**
+     * Prepares state of the next iteration. Time spent here isn't measured.
+     */
+    default void prepareIteration(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+    }
+
+    /**
+     * Runs one iteration
+     * @return number of processed operations
+     */
+    long run(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException;
+
+    void teardown(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException;
+
+}
@@ -0,0 +1,197 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBPRefreshableObject;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.exec.DBCStatementType;
+import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
+import org.jkiss.dbeaver.model.impl.DBObjectNameCaseTransformer;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
+import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.dbeaver.model.struct.DBSObjectSelector;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+/**
+ * Benchmark environment: embedded data source, isolated execution context and generated test data.
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    private static final Log log = Log.getLog(BenchmarkContext.class);
+
+    public static final String DATA_TABLE = "bench_data";
+    public static final String DATA_TABLE_DDL = "(id INTEGER PRIMARY KEY, name VARCHAR(64), amount DECIMAL(12,2), created TIMESTAMP)";
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final DBPDataSource dataSource;
+    private final DBCExecutionContext executionContext;
+    private final int rowCount;
+    private DBSObjectContainer container;
+    private DBSDataManipulator dataTable;
+
+    public BenchmarkContext(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSource dataSource, int rowCount) throws DBException {
+        this.dataSource = dataSource;
+        this.rowCount = rowCount;
+        this.executionContext = dataSource.getDefaultInstance().openIsolatedContext(monitor, "Benchmark");
+        this.container = findDefaultContainer(dataSource);
+    }
+
+    @NotNull
+    public DBPDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @NotNull
+    public DBSObjectContainer getContainer() {
+        return container;
+    }
+
+    /**
+     * Table with generated data. Created on first access.
+     */
+    @NotNull
+    public DBSDataManipulator getDataTable(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (dataTable == null) {
+            dropTable(monitor, DATA_TABLE);
+            executeSQL(monitor, "CREATE TABLE " + DATA_TABLE + " " + DATA_TABLE_DDL, false);
+            dataTable = findTable(monitor, DATA_TABLE);
+            try (DBCSession session = openSession(monitor, "Generate data")) {
+                insertRows(session, dataTable, 0, rowCount);
+            }
+        }
+        return dataTable;
+    }
+
+    @NotNull
+    public DBCSession openSession(@NotNull DBRProgressMonitor monitor, @NotNull String task) {
+        return executionContext.openSession(monitor, DBCExecutionPurpose.UTIL, task);
+    }
+
+    @NotNull
+    public AbstractExecutionSource makeExecutionSource(@NotNull DBSDataManipulator table) {
+        return new AbstractExecutionSource(table, executionContext, this);
+    }
+
+    public void executeSQL(@NotNull DBRProgressMonitor monitor, @NotNull String sql, boolean ignoreErrors) throws DBCException {
+        try (DBCSession session = openSession(monitor, "Benchmark DDL")) {
+            try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, sql, false, false, false)) {
+                dbStat.executeStatement();
+            }
+        } catch (DBCException e) {
+            if (!ignoreErrors) {
+                throw e;
+            }
+            log.debug("Benchmark statement failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Drops table. Not all embedded databases support DROP TABLE IF EXISTS so errors are ignored.
+     */
+    public void dropTable(@NotNull DBRProgressMonitor monitor, @NotNull String tableName) throws DBCException {
+        executeSQL(monitor, "DROP TABLE " + tableName, true);
+    }
+
+    /**
+     * Refreshes container metadata and looks up table by name.
+     */
+    @NotNull
+    public DBSDataManipulator findTable(@NotNull DBRProgressMonitor monitor, @NotNull String tableName) throws DBException {
+        refreshContainer(monitor);
+        DBSObject table = container.getChild(monitor, DBObjectNameCaseTransformer.transformName(dataSource, tableName));
+        if (!(table instanceof DBSDataManipulator)) {
+            throw new DBException("Table '" + tableName + "' not found in " + DBUtils.getObjectFullName(container, DBPEvaluationContext.UI));
+        }
+        return (DBSDataManipulator) table;
+    }
+
+    public void refreshContainer(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (container instanceof DBPRefreshableObject) {
+            DBSObject refreshed = ((DBPRefreshableObject) container).refreshObject(monitor);
+            if (refreshed instanceof DBSObjectContainer) {
+                container = (DBSObjectContainer) refreshed;
+            }
+        }
+    }
+
+    private static void insertRows(@NotNull DBCSession session, @NotNull DBSDataManipulator table, int firstId, int count) throws DBException {
+        DBSAttributeBase[] attributes = ((DBSEntity) table).getAttributes(session.getProgressMonitor()).toArray(new DBSAttributeBase[0]);
+        long baseTime = System.currentTimeMillis();
+        DBSDataManipulator.ExecuteBatch batch = table.insertData(session, attributes, null, new AbstractExecutionSource(table, session.getExecutionContext(), table));
+        try {
+            for (int i = 0; i < count; i++) {
+                int id = firstId + i;
+                batch.add(new Object[] {
+                    id,
+                    "Row " + id,
+                    BigDecimal.valueOf(id * 7L % 100000, 2),
+                    new Timestamp(baseTime - id * 1000L)
+                });
+                if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                    batch.execute(session);
+                }
+            }
+            batch.execute(session);
+        } finally {
+            batch.close();
+        }
+    }
+
+    @NotNull
+    private static DBSObjectContainer findDefaultContainer(@NotNull DBPDataSource dataSource) throws DBException {
+        DBSObjectContainer container = DBUtils.getAdapter(DBSObjectContainer.class, dataSource);
+        if (container == null) {
+            throw new DBException("Data source '" + dataSource.getContainer().getName() + "' has no object containers");
+        }
+        for (;;) {
+            DBSObjectSelector selector = DBUtils.getAdapter(DBSObjectSelector.class, container);
+            DBSObject defaultObject = selector == null ? null : selector.getDefaultObject();
+            if (defaultObject instanceof DBSObjectContainer && defaultObject != container) {
+                container = (DBSObjectContainer) defaultObject;
+            } else {
+                return container;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executionContext.close();
+    }
+
+}
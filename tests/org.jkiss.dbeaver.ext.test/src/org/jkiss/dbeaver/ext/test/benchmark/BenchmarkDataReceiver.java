@@ -0,0 +1,86 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data receiver which reads all rows.
+ * In conversion mode values are fetched through value handlers, the same way as result set viewer and data transfer do.
+ */
+class BenchmarkDataReceiver implements DBDDataReceiver {
+
+    private final boolean convertValues;
+    protected List<DBDAttributeBinding> bindings;
+    protected Object[] row;
+    private long rowCount;
+
+    BenchmarkDataReceiver(boolean convertValues) {
+        this.convertValues = convertValues;
+    }
+
+    long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void fetchStart(DBCSession session, DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+        bindings = new ArrayList<>();
+        for (DBCAttributeMetaData attribute : resultSet.getMeta().getAttributes()) {
+            bindings.add(DBUtils.getAttributeBinding(session, attribute));
+        }
+        row = new Object[bindings.size()];
+        rowCount = 0;
+    }
+
+    @Override
+    public void fetchRow(DBCSession session, DBCResultSet resultSet) throws DBCException {
+        for (int i = 0; i < row.length; i++) {
+            if (convertValues) {
+                DBDAttributeBinding binding = bindings.get(i);
+                row[i] = binding.getValueHandler().fetchValueObject(session, resultSet, binding.getAttribute(), binding.getOrdinalPosition());
+            } else {
+                row[i] = resultSet.getAttributeValue(i);
+            }
+        }
+        processRow(session, resultSet);
+        rowCount++;
+    }
+
+    protected void processRow(DBCSession session, DBCResultSet resultSet) throws DBCException {
+    }
+
+    @Override
+    public void fetchEnd(DBCSession session, DBCResultSet resultSet) throws DBCException {
+    }
+
+    @Override
+    public void close() {
+        bindings = null;
+        row = null;
+    }
+
+}
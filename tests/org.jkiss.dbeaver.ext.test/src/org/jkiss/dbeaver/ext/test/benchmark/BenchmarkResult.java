@@ -0,0 +1,104 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark measurements. Scores are in operations per second.
+ */
+public class BenchmarkResult {
+
+    // Student's t quantiles for 99.9% confidence interval (as JMH reports), by degrees of freedom
+    private static final double[] T_QUANTILES = {
+        636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587
+    };
+    private static final double T_QUANTILE_LARGE = 3.291;
+
+    private final String benchmark;
+    private final Map<String, String> params;
+    private final int warmupIterations;
+    private final List<Double> scores = new ArrayList<>();
+
+    BenchmarkResult(@NotNull String benchmark, @NotNull Map<String, String> params, int warmupIterations) {
+        this.benchmark = benchmark;
+        this.params = new LinkedHashMap<>(params);
+        this.warmupIterations = warmupIterations;
+    }
+
+    @NotNull
+    public String getBenchmark() {
+        return benchmark;
+    }
+
+    @NotNull
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    @NotNull
+    public List<Double> getScores() {
+        return Collections.unmodifiableList(scores);
+    }
+
+    void addScore(double score) {
+        scores.add(score);
+    }
+
+    public double getScore() {
+        double sum = 0;
+        for (Double score : scores) {
+            sum += score;
+        }
+        return scores.isEmpty() ? Double.NaN : sum / scores.size();
+    }
+
+    /**
+     * Half-width of the 99.9% confidence interval
+     */
+    public double getScoreError() {
+        int count = scores.size();
+        if (count < 2) {
+            return Double.NaN;
+        }
+        double mean = getScore();
+        double variance = 0;
+        for (Double score : scores) {
+            variance += (score - mean) * (score - mean);
+        }
+        variance /= count - 1;
+        int df = count - 1;
+        double t = df <= T_QUANTILES.length ? T_QUANTILES[df - 1] : T_QUANTILE_LARGE;
+        return t * Math.sqrt(variance / count);
+    }
+
+    @Override
+    public String toString() {
+        return benchmark + " " + params + ": " + String.format("%.3f +- %.3f ops/s", getScore(), getScoreError());
+    }
+
+}
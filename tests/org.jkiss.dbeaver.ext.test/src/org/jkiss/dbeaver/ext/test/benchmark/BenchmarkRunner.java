@@ -0,0 +1,172 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.data.json.JSONUtils;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs benchmarks and writes results in JMH JSON format (single fork, single thread, throughput mode),
+ * so they can be compared with standard JMH tooling.
+ */
+public class BenchmarkRunner {
+
+    private static final Log log = Log.getLog(BenchmarkRunner.class);
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final Map<String, String> params = new LinkedHashMap<>();
+    private final List<BenchmarkResult> results = new ArrayList<>();
+
+    public BenchmarkRunner(int warmupIterations, int measurementIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+    }
+
+    /**
+     * Sets parameter reported with each benchmark result
+     */
+    public void setParam(@NotNull String name, @NotNull String value) {
+        params.put(name, value);
+    }
+
+    @NotNull
+    public List<BenchmarkResult> getResults() {
+        return results;
+    }
+
+    public void run(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context, @NotNull List<BenchmarkCase> cases) throws DBException {
+        monitor.beginTask("Run benchmarks", cases.size());
+        try {
+            for (BenchmarkCase benchmark : cases) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                monitor.subTask(benchmark.getName());
+                results.add(runBenchmark(monitor, context, benchmark));
+                monitor.worked(1);
+            }
+        } finally {
+            monitor.done();
+        }
+    }
+
+    private BenchmarkResult runBenchmark(DBRProgressMonitor monitor, BenchmarkContext context, BenchmarkCase benchmark) throws DBException {
+        BenchmarkResult result = new BenchmarkResult(benchmark.getName(), params, warmupIterations);
+        benchmark.setup(monitor, context);
+        try {
+            for (int i = 0; i < warmupIterations + measurementIterations && !monitor.isCanceled(); i++) {
+                benchmark.prepareIteration(monitor, context);
+                long startTime = System.nanoTime();
+                long operations = benchmark.run(monitor, context);
+                long elapsed = System.nanoTime() - startTime;
+                if (i >= warmupIterations) {
+                    result.addScore(operations * 1e9 / Math.max(elapsed, 1));
+                }
+            }
+        } finally {
+            try {
+                benchmark.teardown(monitor, context);
+            } catch (DBException e) {
+                log.warn("Error cleaning up benchmark '" + benchmark.getName() + "'", e);
+            }
+        }
+        log.info(result.toString());
+        return result;
+    }
+
+    public void writeResults(@NotNull File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            writeResults(out);
+        }
+    }
+
+    public void writeResults(@NotNull PrintWriter out) {
+        out.println("[");
+        for (int i = 0; i < results.size(); i++) {
+            BenchmarkResult result = results.get(i);
+            out.println("    {");
+            out.println("        \"jmhVersion\" : \"1.19\",");
+            out.println("        \"benchmark\" : " + quote(result.getBenchmark()) + ",");
+            out.println("        \"mode\" : \"thrpt\",");
+            out.println("        \"threads\" : 1,");
+            out.println("        \"forks\" : 1,");
+            out.println("        \"jvm\" : " + quote(System.getProperty("java.home")) + ",");
+            out.println("        \"jdkVersion\" : " + quote(System.getProperty("java.version")) + ",");
+            out.println("        \"vmName\" : " + quote(System.getProperty("java.vm.name")) + ",");
+            out.println("        \"vmVersion\" : " + quote(System.getProperty("java.vm.version")) + ",");
+            out.println("        \"warmupIterations\" : " + result.getWarmupIterations() + ",");
+            out.println("        \"warmupTime\" : \"single invocation\",");
+            out.println("        \"warmupBatchSize\" : 1,");
+            out.println("        \"measurementIterations\" : " + result.getScores().size() + ",");
+            out.println("        \"measurementTime\" : \"single invocation\",");
+            out.println("        \"measurementBatchSize\" : 1,");
+            out.println("        \"params\" : {");
+            int paramIndex = 0;
+            for (Map.Entry<String, String> param : result.getParams().entrySet()) {
+                out.print("            " + quote(param.getKey()) + " : " + quote(param.getValue()));
+                out.println(++paramIndex < result.getParams().size() ? "," : "");
+            }
+            out.println("        },");
+            double score = result.getScore();
+            double error = result.getScoreError();
+            out.println("        \"primaryMetric\" : {");
+            out.println("            \"score\" : " + number(score) + ",");
+            out.println("            \"scoreError\" : " + number(error) + ",");
+            out.println("            \"scoreConfidence\" : [ " + number(score - error) + ", " + number(score + error) + " ],");
+            out.println("            \"scoreUnit\" : \"ops/s\",");
+            StringBuilder rawData = new StringBuilder();
+            for (Double value : result.getScores()) {
+                if (rawData.length() > 0) {
+                    rawData.append(", ");
+                }
+                rawData.append(number(value));
+            }
+            out.println("            \"rawData\" : [ [ " + rawData + " ] ]");
+            out.println("        },");
+            out.println("        \"secondaryMetrics\" : {");
+            out.println("        }");
+            out.println(i < results.size() - 1 ? "    }," : "    }");
+        }
+        out.println("]");
+    }
+
+    private static String quote(String value) {
+        return value == null ? "null" : "\"" + JSONUtils.escapeJsonString(value) + "\"";
+    }
+
+    private static String number(double value) {
+        // JMH writes NaN for undefined errors
+        return Double.isNaN(value) || Double.isInfinite(value) ? "\"NaN\"" : String.format(Locale.ENGLISH, "%.3f", value);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Standard benchmark suite. Used by benchmark command and by headless benchmark application.
+ */
+public class BenchmarkSuite {
+
+    private static final int DATA_ROW_COUNT = 100000;
+    private static final int METADATA_TABLE_COUNT = 10000;
+    private static final int SCRIPT_STATEMENT_COUNT = 10000;
+    private static final int SORT_ROW_COUNT = 1000000;
+    // Large sort needs big heap, so its row count may be changed with system property
+    private static final String PROP_SORT_LARGE_ROW_COUNT = "dbeaver.benchmark.sort.rows";
+    private static final int DEFAULT_SORT_LARGE_ROW_COUNT = 2000000;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+
+    private final DBPDataSource dataSource;
+    private final BenchmarkRunner runner;
+
+    public BenchmarkSuite(@NotNull DBPDataSource dataSource) throws DBException {
+        if (!dataSource.getContainer().getDriver().isEmbedded()) {
+            throw new DBException("Benchmarks modify database and can be run on embedded databases only");
+        }
+        this.dataSource = dataSource;
+        this.runner = new BenchmarkRunner(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS);
+        this.runner.setParam("database", dataSource.getContainer().getDriver().getName());
+        this.runner.setParam("rows", String.valueOf(DATA_ROW_COUNT));
+    }
+
+    @NotNull
+    public List<BenchmarkResult> getResults() {
+        return runner.getResults();
+    }
+
+    /**
+     * Runs all benchmarks and saves results in JMH JSON format.
+     */
+    public void run(@NotNull DBRProgressMonitor monitor, @NotNull File resultFile) throws DBException, IOException {
+        try (BenchmarkContext context = new BenchmarkContext(monitor, dataSource, DATA_ROW_COUNT)) {
+            try {
+                runner.run(monitor, context, createCases());
+            } finally {
+                context.dropTable(monitor, BenchmarkContext.DATA_TABLE);
+            }
+        }
+        File folder = resultFile.getAbsoluteFile().getParentFile();
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Can't create folder " + folder.getAbsolutePath());
+        }
+        runner.writeResults(resultFile);
+    }
+
+    /**
+     * Default result file in workspace metadata folder
+     */
+    @NotNull
+    public static File getDefaultResultFile() {
+        return new File(new File(GeneralUtils.getMetadataFolder(), "benchmarks"),
+            "benchmark-" + RuntimeUtils.getCurrentTimeStamp() + ".json");
+    }
+
+    @NotNull
+    private static List<BenchmarkCase> createCases() {
+        final List<BenchmarkCase> cases = new ArrayList<>();
+        cases.add(new FetchBenchmark(false));
+        cases.add(new FetchBenchmark(true));
+        cases.add(new ExportBenchmark(ExportBenchmark.Format.CSV));
+        cases.add(new ExportBenchmark(ExportBenchmark.Format.JSON));
+        cases.add(new InsertBenchmark());
+        cases.add(new ScriptSplitBenchmark(SCRIPT_STATEMENT_COUNT));
+        cases.add(new MetadataBenchmark(METADATA_TABLE_COUNT));
+        cases.add(new SortBenchmark(SORT_ROW_COUNT, "id"));
+        cases.add(new SortBenchmark(SORT_ROW_COUNT, "name"));
+        cases.add(new SortBenchmark(SORT_ROW_COUNT, "amount"));
+        cases.add(new SortBenchmark(SORT_ROW_COUNT, "created"));
+        cases.add(new SortBenchmark(Integer.getInteger(PROP_SORT_LARGE_ROW_COUNT, DEFAULT_SORT_LARGE_ROW_COUNT), "id"));
+        return cases;
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPNamedObject;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDContentStorage;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporter;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporterSite;
+import org.jkiss.dbeaver.tools.transfer.stream.exporter.DataExporterCSV;
+import org.jkiss.dbeaver.tools.transfer.stream.exporter.DataExporterJSON;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exports data table with stream exporter. Output is discarded so only formatting is measured.
+ */
+public class ExportBenchmark implements BenchmarkCase {
+
+    public enum Format {
+        CSV,
+        JSON
+    }
+
+    private final Format format;
+    private DBSDataManipulator table;
+
+    public ExportBenchmark(@NotNull Format format) {
+        this.format = format;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return getClass().getName() + ".export" + format.name();
+    }
+
+    @Override
+    public void setup(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        table = context.getDataTable(monitor);
+    }
+
+    @Override
+    public long run(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        IStreamDataExporter exporter = format == Format.CSV ? new DataExporterCSV() : new DataExporterJSON();
+        Map<Object, Object> properties = new HashMap<>();
+        properties.put("delimiter", ",");
+        properties.put("header", "top");
+        properties.put("quoteChar", "\"");
+        ExportReceiver receiver = new ExportReceiver(exporter, properties);
+        try (DBCSession session = context.openSession(monitor, "Export benchmark")) {
+            table.readData(context.makeExecutionSource(table), session, receiver, null, 0, 0, DBSDataContainer.FLAG_NONE);
+            exporter.exportFooter(monitor);
+        } catch (IOException e) {
+            throw new DBException("IO error", e);
+        } finally {
+            receiver.close();
+            exporter.dispose();
+        }
+        return receiver.getRowCount();
+    }
+
+    @Override
+    public void teardown(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) {
+        table = null;
+    }
+
+    private class ExportReceiver extends BenchmarkDataReceiver implements IStreamDataExporterSite {
+
+        private final IStreamDataExporter exporter;
+        private final Map<Object, Object> properties;
+        private final OutputStream outputStream = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(@NotNull byte[] b, int off, int len) {
+            }
+        };
+        private final PrintWriter writer = new PrintWriter(outputStream);
+
+        ExportReceiver(IStreamDataExporter exporter, Map<Object, Object> properties) {
+            super(true);
+            this.exporter = exporter;
+            this.properties = properties;
+        }
+
+        @Override
+        public void fetchStart(DBCSession session, DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+            super.fetchStart(session, resultSet, offset, maxRows);
+            try {
+                exporter.init(this);
+                exporter.exportHeader(session);
+            } catch (DBException | IOException e) {
+                throw new DBCException("Error initializing exporter", e);
+            }
+        }
+
+        @Override
+        protected void processRow(DBCSession session, DBCResultSet resultSet) throws DBCException {
+            try {
+                exporter.exportRow(session, resultSet, row);
+            } catch (DBException | IOException e) {
+                throw new DBCException("Error exporting row", e);
+            }
+        }
+
+        @Override
+        public DBPNamedObject getSource() {
+            return table;
+        }
+
+        @Override
+        public DBDDisplayFormat getExportFormat() {
+            return DBDDisplayFormat.UI;
+        }
+
+        @Override
+        public Map<Object, Object> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public List<DBDAttributeBinding> getAttributes() {
+            return bindings;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return writer;
+        }
+
+        @Override
+        public void flush() {
+            writer.flush();
+        }
+
+        @Override
+        public void writeBinaryData(@NotNull DBDContentStorage cs) {
+        }
+
+        @Override
+        public String getOutputEncoding() {
+            return StandardCharsets.UTF_8.name();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
+
+/**
+ * Reads entire data table with {@link DBSDataContainer#readData}.
+ * Measures raw fetch (driver values) or fetch with value conversion.
+ */
+public class FetchBenchmark implements BenchmarkCase {
+
+    private final boolean convertValues;
+    private DBSDataManipulator table;
+
+    public FetchBenchmark(boolean convertValues) {
+        this.convertValues = convertValues;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return getClass().getName() + (convertValues ? ".fetchConvert" : ".fetchRaw");
+    }
+
+    @Override
+    public void setup(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        table = context.getDataTable(monitor);
+    }
+
+    @Override
+    public long run(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        BenchmarkDataReceiver receiver = new BenchmarkDataReceiver(convertValues);
+        try (DBCSession session = context.openSession(monitor, "Fetch benchmark")) {
+            table.readData(context.makeExecutionSource(table), session, receiver, null, 0, 0, DBSDataContainer.FLAG_NONE);
+        } finally {
+            receiver.close();
+        }
+        return receiver.getRowCount();
+    }
+
+    @Override
+    public void teardown(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) {
+        table = null;
+    }
+
+}
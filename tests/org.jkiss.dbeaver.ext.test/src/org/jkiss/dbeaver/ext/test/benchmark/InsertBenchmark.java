@@ -0,0 +1,83 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
+import org.jkiss.dbeaver.tools.transfer.database.DatabaseConsumerSettings;
+import org.jkiss.dbeaver.tools.transfer.database.DatabaseProducerSettings;
+import org.jkiss.dbeaver.tools.transfer.database.DatabaseTransferConsumer;
+import org.jkiss.dbeaver.tools.transfer.database.DatabaseTransferProducer;
+
+import java.util.HashMap;
+
+/**
+ * Copies data table into another table with {@link DatabaseTransferProducer} and {@link DatabaseTransferConsumer},
+ * the same way data transfer job does. Target table is cleared before each iteration.
+ */
+public class InsertBenchmark implements BenchmarkCase {
+
+    private static final String INSERT_TABLE = "bench_insert";
+
+    private DBSDataManipulator sourceTable;
+    private DBSDataManipulator targetTable;
+
+    @NotNull
+    @Override
+    public String getName() {
+        return getClass().getName() + ".transfer";
+    }
+
+    @Override
+    public void setup(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        sourceTable = context.getDataTable(monitor);
+        context.dropTable(monitor, INSERT_TABLE);
+        context.executeSQL(monitor, "CREATE TABLE " + INSERT_TABLE + " " + BenchmarkContext.DATA_TABLE_DDL, false);
+        targetTable = context.findTable(monitor, INSERT_TABLE);
+    }
+
+    @Override
+    public void prepareIteration(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        context.executeSQL(monitor, "DELETE FROM " + INSERT_TABLE, false);
+    }
+
+    @Override
+    public long run(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        DatabaseProducerSettings producerSettings = new DatabaseProducerSettings();
+        producerSettings.setQueryRowCount(false);
+
+        DatabaseConsumerSettings consumerSettings = new DatabaseConsumerSettings();
+        consumerSettings.setOpenTableOnFinish(false);
+
+        DatabaseTransferConsumer consumer = new DatabaseTransferConsumer(targetTable);
+        consumer.initTransfer(sourceTable, consumerSettings, false, null, new HashMap<>());
+        consumer.startTransfer(monitor);
+        new DatabaseTransferProducer(sourceTable).transferData(monitor, consumer, null, producerSettings);
+        consumer.finishTransfer(monitor, true);
+        return context.getRowCount();
+    }
+
+    @Override
+    public void teardown(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        sourceTable = null;
+        targetTable = null;
+        context.dropTable(monitor, INSERT_TABLE);
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+
+import java.util.Collection;
+
+/**
+ * Loads metadata of a schema with many tables.
+ * Each iteration refreshes schema and reads all tables with their columns.
+ */
+public class MetadataBenchmark implements BenchmarkCase {
+
+    private static final String TABLE_PREFIX = "bench_meta_";
+
+    private final int tableCount;
+
+    public MetadataBenchmark(int tableCount) {
+        this.tableCount = tableCount;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return getClass().getName() + ".loadTables";
+    }
+
+    @Override
+    public void setup(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        monitor.subTask("Create " + tableCount + " tables");
+        for (int i = 0; i < tableCount && !monitor.isCanceled(); i++) {
+            String tableName = TABLE_PREFIX + i;
+            context.dropTable(monitor, tableName);
+            context.executeSQL(monitor, "CREATE TABLE " + tableName + " " + BenchmarkContext.DATA_TABLE_DDL, false);
+        }
+    }
+
+    @Override
+    public long run(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        context.refreshContainer(monitor);
+        DBSObjectContainer container = context.getContainer();
+        container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ENTITIES | DBSObjectContainer.STRUCT_ATTRIBUTES);
+        Collection<? extends DBSObject> children = container.getChildren(monitor);
+        return children == null ? 0 : children.size();
+    }
+
+    @Override
+    public void teardown(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        monitor.subTask("Drop " + tableCount + " tables");
+        for (int i = 0; i < tableCount; i++) {
+            context.dropTable(monitor, TABLE_PREFIX + i);
+        }
+        context.refreshContainer(monitor);
+    }
+
+}
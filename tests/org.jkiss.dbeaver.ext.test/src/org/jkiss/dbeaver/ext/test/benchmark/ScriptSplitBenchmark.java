@@ -0,0 +1,104 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.rules.IToken;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLSyntaxManager;
+import org.jkiss.dbeaver.ui.editors.sql.syntax.SQLRuleManager;
+import org.jkiss.dbeaver.ui.editors.sql.syntax.tokens.SQLToken;
+
+/**
+ * Splits generated SQL script into statements with SQL editor rule scanner.
+ * Script contains comments and string literals with delimiters inside so all scanner rules are involved.
+ */
+public class ScriptSplitBenchmark implements BenchmarkCase {
+
+    private final int statementCount;
+    private SQLRuleManager ruleManager;
+    private Document document;
+
+    public ScriptSplitBenchmark(int statementCount) {
+        this.statementCount = statementCount;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return getClass().getName() + ".splitScript";
+    }
+
+    @Override
+    public void setup(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) {
+        SQLSyntaxManager syntaxManager = new SQLSyntaxManager();
+        syntaxManager.init(context.getDataSource());
+        ruleManager = new SQLRuleManager(syntaxManager);
+        ruleManager.refreshRules(context.getDataSource(), null);
+
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < statementCount; i++) {
+            switch (i % 4) {
+                case 0:
+                    script.append("-- Statement ").append(i).append("; line comment\n");
+                    script.append("INSERT INTO ").append(BenchmarkContext.DATA_TABLE).append(" (id, name) VALUES (").append(i).append(", 'Name; ").append(i).append("');\n");
+                    break;
+                case 1:
+                    script.append("/* Block comment; ").append(i).append(" */\n");
+                    script.append("UPDATE ").append(BenchmarkContext.DATA_TABLE).append(" SET name = 'It''s ").append(i).append("' WHERE id = ").append(i).append(";\n");
+                    break;
+                case 2:
+                    script.append("SELECT id, name, amount FROM ").append(BenchmarkContext.DATA_TABLE).append(" WHERE amount > ").append(i).append(".5 ORDER BY created;\n");
+                    break;
+                default:
+                    script.append("DELETE FROM ").append(BenchmarkContext.DATA_TABLE).append(" WHERE name LIKE '%;").append(i).append("%';\n\n");
+                    break;
+            }
+        }
+        document = new Document(script.toString());
+    }
+
+    @Override
+    public long run(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) {
+        long statements = 0;
+        ruleManager.setRange(document, 0, document.getLength());
+        for (;;) {
+            IToken token = ruleManager.nextToken();
+            if (token.isEOF()) {
+                break;
+            }
+            if (token instanceof SQLToken && ((SQLToken) token).getType() == SQLToken.T_DELIMITER) {
+                statements++;
+            }
+        }
+        if (statements != statementCount) {
+            throw new IllegalStateException("Script split into " + statements + " statements while " + statementCount + " expected");
+        }
+        return statements;
+    }
+
+    @Override
+    public void teardown(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) {
+        if (ruleManager != null) {
+            ruleManager.dispose();
+            ruleManager = null;
+        }
+        document = null;
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.ext.test.benchmark;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDAttributeConstraint;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetModel;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Sorts result set model locally (the same way as result set viewer does on column header click).
+ * Metadata is read from data table, rows are generated in memory in random order.
+ * Only the sorted column is filled: other values are not read by sort and would just waste heap.
+ */
+public class SortBenchmark implements BenchmarkCase {
+
+    private final int rowCount;
+    private final String columnName;
+    private ResultSetModel model;
+
+    public SortBenchmark(int rowCount, @NotNull String columnName) {
+        this.rowCount = rowCount;
+        this.columnName = columnName;
+    }
+
+    @NotNull
+    @Override
+    public String getName() {
+        return getClass().getName() + ".sort_" + columnName + "_" + rowCount;
+    }
+
+    @Override
+    public void setup(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) throws DBException {
+        DBSDataManipulator table = context.getDataTable(monitor);
+        model = new ResultSetModel();
+        MetaDataReceiver receiver = new MetaDataReceiver(model);
+        try (DBCSession session = context.openSession(monitor, "Sort benchmark")) {
+            table.readData(context.makeExecutionSource(table), session, receiver, null, 0, 1, DBSDataContainer.FLAG_NONE);
+        } finally {
+            receiver.close();
+        }
+
+        DBDAttributeBinding sortAttribute = null;
+        for (DBDAttributeBinding binding : model.getAttributes()) {
+            if (binding.getName().equalsIgnoreCase(columnName)) {
+                sortAttribute = binding;
+                break;
+            }
+        }
+        if (sortAttribute == null) {
+            throw new DBException("Column '" + columnName + "' not found in " + BenchmarkContext.DATA_TABLE);
+        }
+
+        Random random = new Random(rowCount);
+        int[] ids = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            ids[i] = random.nextInt();
+        }
+        long baseTime = System.currentTimeMillis();
+        int columnCount = model.getAttributes().length;
+        int sortIndex = sortAttribute.getOrdinalPosition();
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        for (int id : ids) {
+            Object[] row = new Object[columnCount];
+            row[sortIndex] = makeValue(id, baseTime);
+            rows.add(row);
+        }
+        model.setData(rows);
+
+        DBDAttributeConstraint constraint = model.getDataFilter().getConstraint(sortAttribute);
+        if (constraint == null) {
+            throw new DBException("No constraint for column '" + columnName + "'");
+        }
+        constraint.setOrderPosition(1);
+        constraint.setOrderDescending(false);
+    }
+
+    private Object makeValue(int id, long baseTime) {
+        switch (columnName.toLowerCase(Locale.ENGLISH)) {
+            case "name":
+                return "Row " + id;
+            case "amount":
+                return BigDecimal.valueOf(id % 10000000, 2);
+            case "created":
+                return new Timestamp(baseTime - (id & 0xFFFFFFFL) * 1000L);
+            default:
+                return id;
+        }
+    }
+
+    @Override
+    public void prepareIteration(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) {
+        // Restore original (random) order
+        model.getAllRows().sort(Comparator.comparingInt(ResultSetRow::getRowNumber));
+    }
+
+    @Override
+    public long run(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) {
+        model.resetOrdering();
+        return model.getRowCount();
+    }
+
+    @Override
+    public void teardown(@NotNull DBRProgressMonitor monitor, @NotNull BenchmarkContext context) {
+        model = null;
+    }
+
+    private static class MetaDataReceiver extends BenchmarkDataReceiver {
+        private final ResultSetModel model;
+
+        MetaDataReceiver(ResultSetModel model) {
+            super(false);
+            this.model = model;
+        }
+
+        @Override
+        public void fetchStart(DBCSession session, DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+            super.fetchStart(session, resultSet, offset, maxRows);
+            model.setMetaData(resultSet, bindings.toArray(new DBDAttributeBinding[bindings.size()]));
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2017 Serge Rider (serge@jkiss.org)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ext.test.handlers;
+
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.commands.ExecutionException;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.handlers.HandlerUtil;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.ext.test.benchmark.BenchmarkResult;
+import org.jkiss.dbeaver.ext.test.benchmark.BenchmarkSuite;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
+import org.jkiss.dbeaver.runtime.ui.DBUserInterface;
+import org.jkiss.dbeaver.ui.UIUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Runs benchmark suite on selected embedded database (H2, HSQLDB, Derby, SQLite).
+ * Results are saved in JMH JSON format in workspace metadata folder.
+ * The same suite can be run without UI with benchmark application (see {@link org.jkiss.dbeaver.ext.test.benchmark.BenchmarkApplication}).
+ */
+public class HandlerBenchmark extends AbstractHandler {
+
+    @Override
+    public Object execute(ExecutionEvent event) throws ExecutionException {
+        final ISelection selection = HandlerUtil.getCurrentSelection(event);
+        if (selection instanceof IStructuredSelection) {
+            final Object element = ((IStructuredSelection) selection).getFirstElement();
+            if (element instanceof DBNDatabaseNode) {
+                runBenchmarks(HandlerUtil.getActiveShell(event), ((DBNDatabaseNode) element).getDataSource());
+            }
+        }
+        return null;
+    }
+
+    private void runBenchmarks(Shell shell, DBPDataSource dataSource) {
+        if (dataSource == null) {
+            return;
+        }
+        final BenchmarkSuite suite;
+        try {
+            suite = new BenchmarkSuite(dataSource);
+        } catch (DBException e) {
+            UIUtils.showMessageBox(shell, "Benchmark", e.getMessage(), SWT.ICON_WARNING);
+            return;
+        }
+        final File resultFile = BenchmarkSuite.getDefaultResultFile();
+        try {
+            UIUtils.runInProgressService(monitor -> {
+                try {
+                    suite.run(monitor, resultFile);
+                } catch (DBException | IOException e) {
+                    throw new InvocationTargetException(e);
+                }
+            });
+        } catch (InterruptedException e) {
+            // skip
+        } catch (InvocationTargetException e) {
+            DBUserInterface.getInstance().showError("Benchmark failed", null, e.getTargetException());
+            return;
+        }
+        StringBuilder message = new StringBuilder();
+        for (BenchmarkResult result : suite.getResults()) {
+            message.append(result).append("\n");
+        }
+        message.append("\nResults saved to ").append(resultFile.getAbsolutePath());
+        UIUtils.showMessageBox(shell, "Benchmark", message.toString(), SWT.ICON_INFORMATION);
+    }
+
+}